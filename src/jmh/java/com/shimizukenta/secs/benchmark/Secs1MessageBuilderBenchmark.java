@@ -0,0 +1,71 @@
+package com.shimizukenta.secs.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.shimizukenta.secs.secs1.Secs1Message;
+import com.shimizukenta.secs.secs1.Secs1MessageBlock;
+import com.shimizukenta.secs.secs1.impl.AbstractSecs1MessageBuilder;
+import com.shimizukenta.secs.secs2.Secs2;
+
+/**
+ * SECS-I block splitting and joining.
+ * 
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Secs1MessageBuilderBenchmark {
+	
+	@Param({"DEEP_LIST", "FLOAT_ARRAY", "ASCII_ITEMS"})
+	public Secs2Payload payload;
+	
+	private static final byte[] header = new byte[] {
+			(byte)0x80, (byte)0x0A,
+			(byte)0x86, (byte)0x0B,
+			(byte)0x00, (byte)0x00,
+			(byte)0x00, (byte)0x00, (byte)0x00, (byte)0x01
+	};
+	
+	private Secs2 secs2;
+	private List<Secs1MessageBlock> blocks;
+	
+	@Setup
+	public void setup() {
+		this.secs2 = this.payload.build();
+		this.blocks = new ArrayList<>(AbstractSecs1MessageBuilder.buildDataMessage(header, this.secs2).toBlocks());
+	}
+	
+	@Benchmark
+	public int buildBlocks() {
+		
+		/* blocks are built on demand, so iterate all */
+		int sum = 0;
+		for ( Secs1MessageBlock block : AbstractSecs1MessageBuilder.buildDataMessage(header, this.secs2).toBlocks() ) {
+			sum += block.length();
+		}
+		return sum;
+	}
+	
+	@Benchmark
+	public Secs1Message buildFromBlocks() {
+		return AbstractSecs1MessageBuilder.buildFromBlocks(this.blocks);
+	}
+	
+}
@@ -0,0 +1,76 @@
+package com.shimizukenta.secs.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2BytesParseException;
+import com.shimizukenta.secs.secs2.impl.Secs2BytesParser;
+
+/**
+ * SECS-II encode, decode and render.
+ * 
+ * <p>
+ * Run with {@code -prof gc} to report allocation rate.
+ * </p>
+ * 
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Secs2CodecBenchmark {
+	
+	@Param({"DEEP_LIST", "FLOAT_ARRAY", "ASCII_ITEMS"})
+	public Secs2Payload payload;
+	
+	private Secs2 secs2;
+	private List<byte[]> bytes;
+	private Secs2BytesParser parser;
+	
+	@Setup
+	public void setup() {
+		this.secs2 = this.payload.build();
+		this.bytes = this.secs2.getBytesList(1024);
+		this.parser = Secs2BytesParser.getInstance();
+	}
+	
+	@Benchmark
+	public Secs2 parse() throws Secs2BytesParseException {
+		return this.parser.parse(this.bytes);
+	}
+	
+	@Benchmark
+	public List<byte[]> getBytesList() {
+		return this.secs2.getBytesList(1024);
+	}
+	
+	/**
+	 * Parse received bytes, then render, String of received Secs2 is not cached.
+	 * 
+	 */
+	@Benchmark
+	public String parseAndToJson() throws Secs2BytesParseException {
+		return this.parser.parse(this.bytes).toJson();
+	}
+	
+	@Benchmark
+	public String parseAndToString() throws Secs2BytesParseException {
+		return this.parser.parse(this.bytes).toString();
+	}
+	
+}
@@ -0,0 +1,91 @@
+package com.shimizukenta.secs.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.shimizukenta.secs.secs2.Secs2;
+
+/**
+ * Representative SECS-II bodies.
+ * 
+ */
+public enum Secs2Payload {
+	
+	/**
+	 * S6F11 like, nested reports of mixed items.
+	 * 
+	 */
+	DEEP_LIST {
+		@Override
+		public Secs2 build() {
+			
+			final List<Secs2> rpts = new ArrayList<>();
+			
+			for ( int i = 0; i < 50; ++i ) {
+				rpts.add(Secs2.list(
+						Secs2.uint4(i),
+						Secs2.list(
+								Secs2.ascii("LOT" + i),
+								Secs2.list(
+										Secs2.uint2(i, i + 1),
+										Secs2.list(Secs2.bool(true), Secs2.float4(i * 0.5F))
+										),
+								Secs2.int4(-i)
+								)
+						));
+			}
+			
+			return Secs2.list(
+					Secs2.uint4(1L),
+					Secs2.uint4(4000L),
+					Secs2.list(rpts));
+		}
+	},
+	
+	/**
+	 * Trace data, large float array.
+	 * 
+	 */
+	FLOAT_ARRAY {
+		@Override
+		public Secs2 build() {
+			
+			final float[] ff = new float[10000];
+			
+			for ( int i = 0; i < ff.length; ++i ) {
+				ff[i] = i * 0.25F;
+			}
+			
+			return Secs2.list(
+					Secs2.uint4(1L),
+					Secs2.float4(ff));
+		}
+	},
+	
+	/**
+	 * S1F4 like, many small ASCII items.
+	 * 
+	 */
+	ASCII_ITEMS {
+		@Override
+		public Secs2 build() {
+			
+			final List<Secs2> ll = new ArrayList<>();
+			
+			for ( int i = 0; i < 2000; ++i ) {
+				ll.add(Secs2.ascii("SV-VALUE-" + i));
+			}
+			
+			return Secs2.list(ll);
+		}
+	},
+	;
+	
+	/**
+	 * Returns new body.
+	 * 
+	 * @return body
+	 */
+	abstract public Secs2 build();
+	
+}
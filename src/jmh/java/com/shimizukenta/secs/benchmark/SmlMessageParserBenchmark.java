@@ -0,0 +1,50 @@
+package com.shimizukenta.secs.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.shimizukenta.secs.sml.SmlMessage;
+import com.shimizukenta.secs.sml.SmlMessageParser;
+import com.shimizukenta.secs.sml.SmlParseException;
+
+/**
+ * SML message parse.
+ * 
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SmlMessageParserBenchmark {
+	
+	@Param({"DEEP_LIST", "FLOAT_ARRAY", "ASCII_ITEMS"})
+	public Secs2Payload payload;
+	
+	private String sml;
+	private SmlMessageParser parser;
+	
+	@Setup
+	public void setup() {
+		this.sml = "S6F11 W" + System.lineSeparator() + this.payload.build().toString() + ".";
+		this.parser = SmlMessageParser.getInstance();
+	}
+	
+	@Benchmark
+	public SmlMessage parse() throws SmlParseException {
+		return this.parser.parse(this.sml);
+	}
+	
+}
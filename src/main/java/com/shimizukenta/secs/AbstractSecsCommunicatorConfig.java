@@ -1,11 +1,15 @@
 package com.shimizukenta.secs;
 
 import java.io.Serializable;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 import com.shimizukenta.secs.gem.GemConfig;
 import com.shimizukenta.secs.gem.impl.AbstractGemConfig;
 import com.shimizukenta.secs.impl.SecsTimeoutImpl;
 import com.shimizukenta.secs.local.property.BooleanProperty;
+import com.shimizukenta.secs.local.property.IntegerProperty;
+import com.shimizukenta.secs.local.property.ObjectProperty;
 import com.shimizukenta.secs.local.property.StringProperty;
 
 /**
@@ -16,6 +20,9 @@ import com.shimizukenta.secs.local.property.StringProperty;
  * <li>To set timeouts, {@link #timeout()}</li>
  * <li>To set gem config, {@link #gem()}</li>
  * <li>To set log-subject-header, {@link #logSubjectHeader(CharSequence)}</li>
+ * <li>To set listener-notify queue, {@link #observerQueueCapacity(int)}, {@link #observerOverflowPolicy(SecsObserverOverflowPolicy)}</li>
+ * <li>To set receive-listener dispatch mode, {@link #observerDispatchMode(SecsObserverDispatchMode)}</li>
+ * <li>To set parallel parse of received message, {@link #secs2ParallelParseThreshold(int)}, {@link #secs2ParallelParsePool(ForkJoinPool)}</li>
  * </ul>
  * 
  * @author kenta-shimizu
@@ -54,6 +61,36 @@ public abstract class AbstractSecsCommunicatorConfig implements Serializable {
 	 */
 	private final StringProperty logSubjectHeader = StringProperty.newInstance("");
 	
+	/**
+	 * Observer-Queue-Capacity.
+	 */
+	private final IntegerProperty observerQueueCapacity = IntegerProperty.newInstance(8192);
+	
+	/**
+	 * Observer-Overflow-Policy.
+	 */
+	private final ObjectProperty<SecsObserverOverflowPolicy> observerOverflowPolicy = ObjectProperty.newInstance(SecsObserverOverflowPolicy.BLOCK);
+	
+	/**
+	 * Observer-Lane-Overflow-Policy.
+	 */
+	private final ObjectProperty<SecsObserverOverflowPolicy> observerLaneOverflowPolicy = ObjectProperty.newInstance(SecsObserverOverflowPolicy.DROP_NEWEST);
+	
+	/**
+	 * Observer-Dispatch-Mode.
+	 */
+	private final ObjectProperty<SecsObserverDispatchMode> observerDispatchMode = ObjectProperty.newInstance(SecsObserverDispatchMode.SERIAL);
+	
+	/**
+	 * Secs2-Parallel-Parse-Threshold.
+	 */
+	private final IntegerProperty secs2ParallelParseThreshold = IntegerProperty.newInstance(0);
+	
+	/**
+	 * Secs2-Parallel-Parse-Pool.
+	 */
+	private final ObjectProperty<ForkJoinPool> secs2ParallelParsePool = ObjectProperty.newInstance(ForkJoinPool.commonPool());
+	
 	/**
 	 * Constructor.
 	 * 
@@ -134,4 +171,163 @@ public abstract class AbstractSecsCommunicatorConfig implements Serializable {
 		return logSubjectHeader;
 	}
 	
+	/**
+	 * Observer-Queue-Capacity setter.
+	 * 
+	 * <p>
+	 * Capacity of each listener-notify queue, used when communicator instance is created.<br />
+	 * Default is {@code 8192}.
+	 * </p>
+	 * 
+	 * @param capacity capacity is {@code >= 1}
+	 */
+	public void observerQueueCapacity(int capacity) {
+		if ( capacity < 1 ) {
+			throw new IllegalArgumentException("capacity must be >= 1");
+		}
+		this.observerQueueCapacity.set(capacity);
+	}
+	
+	/**
+	 * Returns Observer-Queue-Capacity property.
+	 * 
+	 * @return observer-queue-capacity property
+	 */
+	public IntegerProperty observerQueueCapacity() {
+		return this.observerQueueCapacity;
+	}
+	
+	/**
+	 * Observer-Overflow-Policy setter.
+	 * 
+	 * <p>
+	 * Used when communicator instance is created.<br />
+	 * Default is {@link SecsObserverOverflowPolicy#BLOCK}, received and pass-through messages are not lost,
+	 * full queue blocks receiving thread until listener catches up.<br />
+	 * If DROP_OLDEST or DROP_NEWEST, receiving is never blocked by slow listener,
+	 * dropped values are counted and dropped received message is notified to throwable log
+	 * as {@link SecsReceiveMessageDroppedException}.<br />
+	 * Log queues never block, newest log is dropped if full by default.
+	 * </p>
+	 * 
+	 * @see SecsCommunicator#droppedCount()
+	 * 
+	 * @param policy the Observer-Overflow-Policy
+	 */
+	public void observerOverflowPolicy(SecsObserverOverflowPolicy policy) {
+		this.observerOverflowPolicy.set(Objects.requireNonNull(policy));
+	}
+	
+	/**
+	 * Returns Observer-Overflow-Policy property.
+	 * 
+	 * @return observer-overflow-policy property
+	 */
+	public ObjectProperty<SecsObserverOverflowPolicy> observerOverflowPolicy() {
+		return this.observerOverflowPolicy;
+	}
+	
+	/**
+	 * Observer-Lane-Overflow-Policy setter.
+	 * 
+	 * <p>
+	 * Overflow policy of each listener lane if {@link SecsObserverDispatchMode#PER_LISTENER},
+	 * used when communicator instance is created.<br />
+	 * Lane never blocks receiving, so that full lane does not stall other lanes.<br />
+	 * Default is {@link SecsObserverOverflowPolicy#DROP_NEWEST}.
+	 * </p>
+	 * 
+	 * @param policy the Observer-Lane-Overflow-Policy, DROP_OLDEST or DROP_NEWEST
+	 * @throws IllegalArgumentException if policy is {@link SecsObserverOverflowPolicy#BLOCK}
+	 */
+	public void observerLaneOverflowPolicy(SecsObserverOverflowPolicy policy) {
+		if ( Objects.requireNonNull(policy) == SecsObserverOverflowPolicy.BLOCK ) {
+			throw new IllegalArgumentException("BLOCK is not allowed for lane");
+		}
+		this.observerLaneOverflowPolicy.set(policy);
+	}
+	
+	/**
+	 * Returns Observer-Lane-Overflow-Policy property.
+	 * 
+	 * @return observer-lane-overflow-policy property
+	 */
+	public ObjectProperty<SecsObserverOverflowPolicy> observerLaneOverflowPolicy() {
+		return this.observerLaneOverflowPolicy;
+	}
+	
+	/**
+	 * Observer-Dispatch-Mode setter.
+	 * 
+	 * <p>
+	 * Dispatch mode of receive-message listeners, used when communicator instance is created.<br />
+	 * Default is {@link SecsObserverDispatchMode#SERIAL}.
+	 * </p>
+	 * 
+	 * @param mode the Observer-Dispatch-Mode
+	 */
+	public void observerDispatchMode(SecsObserverDispatchMode mode) {
+		this.observerDispatchMode.set(Objects.requireNonNull(mode));
+	}
+	
+	/**
+	 * Returns Observer-Dispatch-Mode property.
+	 * 
+	 * @return observer-dispatch-mode property
+	 */
+	public ObjectProperty<SecsObserverDispatchMode> observerDispatchMode() {
+		return this.observerDispatchMode;
+	}
+	
+	/**
+	 * Secs2-Parallel-Parse-Threshold setter.
+	 * 
+	 * <p>
+	 * If top-level of received message body is LIST and items count is greater than or equal to threshold,
+	 * children are parsed in parallel on {@link #secs2ParallelParsePool()}.
+	 * Used when communicator instance is created.<br />
+	 * Default is {@code 0}, parsed sequentially.
+	 * </p>
+	 * 
+	 * @param threshold the top-level LIST items count, {@code 0} is disabled
+	 */
+	public void secs2ParallelParseThreshold(int threshold) {
+		if ( threshold < 0 ) {
+			throw new IllegalArgumentException("threshold must be >= 0");
+		}
+		this.secs2ParallelParseThreshold.set(threshold);
+	}
+	
+	/**
+	 * Returns Secs2-Parallel-Parse-Threshold property.
+	 * 
+	 * @return secs2-parallel-parse-threshold property
+	 */
+	public IntegerProperty secs2ParallelParseThreshold() {
+		return this.secs2ParallelParseThreshold;
+	}
+	
+	/**
+	 * Secs2-Parallel-Parse-Pool setter.
+	 * 
+	 * <p>
+	 * Used when communicator instance is created.<br />
+	 * Default is {@link ForkJoinPool#commonPool()}.
+	 * </p>
+	 * 
+	 * @param pool the ForkJoinPool
+	 */
+	public void secs2ParallelParsePool(ForkJoinPool pool) {
+		this.secs2ParallelParsePool.set(Objects.requireNonNull(pool));
+	}
+	
+	/**
+	 * Returns Secs2-Parallel-Parse-Pool property.
+	 * 
+	 * @return secs2-parallel-parse-pool property
+	 */
+	public ObjectProperty<ForkJoinPool> secs2ParallelParsePool() {
+		return this.secs2ParallelParsePool;
+	}
+	
 }
@@ -80,5 +80,17 @@ public interface SecsCommunicator extends OpenAndCloseable, SecsGemAccessor, Sec
 	 */
 	public void openAndWaitUntilCommunicatable(long timeout, TimeUnit unit) throws IOException, InterruptedException, TimeoutException;
 	
+	/**
+	 * Returns count of values dropped by listener-notify queues.
+	 * 
+	 * <p>
+	 * Sum of receive-message, pass-through and log queues.<br />
+	 * Values are dropped when queue is full,
+	 * see {@link AbstractSecsCommunicatorConfig#observerOverflowPolicy(SecsObserverOverflowPolicy)}.
+	 * </p>
+	 * 
+	 * @return count of dropped values
+	 */
+	public long droppedCount();
 	
 }
@@ -0,0 +1,62 @@
+package com.shimizukenta.secs;
+
+/**
+ * This interface is status snapshot of one listener lane.
+ * 
+ * <p>
+ * Lanes exist if {@link SecsObserverDispatchMode#PER_LISTENER}.
+ * </p>
+ * 
+ * @author kenta-shimizu
+ * @see AbstractSecsCommunicatorConfig#observerDispatchMode(SecsObserverDispatchMode)
+ *
+ */
+public interface SecsListenerLaneStatus {
+	
+	/**
+	 * Returns listener of lane.
+	 * 
+	 * @return listener
+	 */
+	public Object listener();
+	
+	/**
+	 * Returns count of values queued in lane and not notified yet.
+	 * 
+	 * <p>
+	 * Includes values taken by drain task and value in notifying.
+	 * </p>
+	 * 
+	 * @return count of queued values
+	 */
+	public int depth();
+	
+	/**
+	 * Returns nanoseconds since oldest value not notified yet was queued, {@code 0} if lane is empty.
+	 * 
+	 * @return lag nanoseconds
+	 */
+	public long lagNanos();
+	
+	/**
+	 * Returns max nanoseconds of value waited in lane before notified.
+	 * 
+	 * @return max lag nanoseconds
+	 */
+	public long maxLagNanos();
+	
+	/**
+	 * Returns count of notified values.
+	 * 
+	 * @return count of notified values
+	 */
+	public long deliveredCount();
+	
+	/**
+	 * Returns count of dropped values by overflow policy.
+	 * 
+	 * @return count of dropped values
+	 */
+	public long droppedCount();
+	
+}
@@ -1,5 +1,6 @@
 package com.shimizukenta.secs;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -56,4 +57,16 @@ public interface SecsLog {
 	 */
 	public Optional<String> optionalValueString();
 	
-}
\ No newline at end of file
+	/**
+	 * Appends String same as {@link #toString()}.
+	 * 
+	 * <p>
+	 * Renders message value in a single pass, e.g. to buffered file Writer.
+	 * </p>
+	 * 
+	 * @param a the Appendable
+	 * @throws IOException if append failed
+	 */
+	public void appendTo(Appendable a) throws IOException;
+	
+}
\ No newline at end of file
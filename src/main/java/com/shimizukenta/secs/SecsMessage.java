@@ -1,5 +1,7 @@
 package com.shimizukenta.secs;
 
+import java.io.IOException;
+
 import com.shimizukenta.secs.secs2.Secs2;
 
 /**
@@ -81,4 +83,16 @@ public interface SecsMessage {
 	 * @return json
 	 */
 	public String toJson();
+	
+	/**
+	 * Appends String same as {@link #toString()}.
+	 * 
+	 * <p>
+	 * Renders SECS-II body in a single pass, e.g. to buffered file Writer.
+	 * </p>
+	 * 
+	 * @param a the Appendable
+	 * @throws IOException if append failed
+	 */
+	public void appendTo(Appendable a) throws IOException;
 }
@@ -1,5 +1,8 @@
 package com.shimizukenta.secs;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * SecsMessage Observer methods.
  * 
@@ -48,5 +51,20 @@ public interface SecsMessageReceiveObservable {
 	 */
 	public boolean removeSecsMessageReceiveBiListener(SecsMessageReceiveBiListener biListener);
 	
+	/**
+	 * Returns status of receive-listener lanes.
+	 * 
+	 * <p>
+	 * Lanes exist if {@link SecsObserverDispatchMode#PER_LISTENER},
+	 * otherwise returns empty list.
+	 * </p>
+	 * 
+	 * @return status of receive-listener lanes
+	 * @see AbstractSecsCommunicatorConfig#observerDispatchMode(SecsObserverDispatchMode)
+	 */
+	default public List<SecsListenerLaneStatus> secsMessageReceiveListenerLanes() {
+		return Collections.emptyList();
+	}
+	
 	
 }
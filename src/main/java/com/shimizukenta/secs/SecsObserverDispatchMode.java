@@ -0,0 +1,30 @@
+package com.shimizukenta.secs;
+
+/**
+ * Dispatch mode of receive-message listeners.
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public enum SecsObserverDispatchMode {
+	
+	/**
+	 * All listeners are notified one after another from one queue.
+	 * 
+	 */
+	SERIAL,
+	
+	/**
+	 * Each listener has own ordered lane (bounded queue), slow listener backs up own lane only.
+	 * 
+	 * <p>
+	 * Lane is bounded by {@link AbstractSecsCommunicatorConfig#observerQueueCapacity(int)}
+	 * and {@link AbstractSecsCommunicatorConfig#observerLaneOverflowPolicy(SecsObserverOverflowPolicy)}.<br />
+	 * Full lane drops values and never blocks receiving, other lanes are not stalled.
+	 * </p>
+	 * 
+	 */
+	PER_LISTENER,
+	;
+	
+}
@@ -0,0 +1,35 @@
+package com.shimizukenta.secs;
+
+/**
+ * Overflow policy of bounded listener-notify queue.
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public enum SecsObserverOverflowPolicy {
+	
+	/**
+	 * Put is blocked until queue has space, offer (logs) drops newest value.
+	 * 
+	 * <p>
+	 * Default policy, received messages are not lost.<br />
+	 * Receiving thread waits for slow listener.
+	 * </p>
+	 * 
+	 */
+	BLOCK,
+	
+	/**
+	 * Oldest queued value is dropped.
+	 * 
+	 */
+	DROP_OLDEST,
+	
+	/**
+	 * Newest value is dropped.
+	 * 
+	 */
+	DROP_NEWEST,
+	;
+	
+}
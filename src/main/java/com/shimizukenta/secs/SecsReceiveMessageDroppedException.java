@@ -0,0 +1,28 @@
+package com.shimizukenta.secs;
+
+/**
+ * This Exception is notified to throwable log if received message is dropped by full listener queue.
+ * 
+ * <p>
+ * Occurs only if Observer-Overflow-Policy is not {@link SecsObserverOverflowPolicy#BLOCK},
+ * or Observer-Dispatch-Mode is {@link SecsObserverDispatchMode#PER_LISTENER}.<br />
+ * To get dropped message, {@link #secsMessage()}
+ * </p>
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public class SecsReceiveMessageDroppedException extends SecsException {
+	
+	private static final long serialVersionUID = 4861902271958803313L;
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param message the dropped message
+	 */
+	public SecsReceiveMessageDroppedException(SecsMessage message) {
+		super(message);
+	}
+	
+}
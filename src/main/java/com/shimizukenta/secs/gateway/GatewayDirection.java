@@ -0,0 +1,24 @@
+package com.shimizukenta.secs.gateway;
+
+/**
+ * Gateway forwarding direction.
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public enum GatewayDirection {
+	
+	/**
+	 * From SECS-I side to HSMS side.
+	 * 
+	 */
+	SECS1_TO_HSMS,
+	
+	/**
+	 * From HSMS side to SECS-I side.
+	 * 
+	 */
+	HSMS_TO_SECS1,
+	;
+	
+}
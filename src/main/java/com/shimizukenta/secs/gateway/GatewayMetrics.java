@@ -0,0 +1,64 @@
+package com.shimizukenta.secs.gateway;
+
+/**
+ * This interface is snapshot of one direction metrics of gateway.
+ * 
+ * <p>
+ * Values are counted from gateway opened, and not changed after snapshot.
+ * </p>
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public interface GatewayMetrics {
+	
+	/**
+	 * Returns direction.
+	 * 
+	 * @return direction
+	 */
+	public GatewayDirection direction();
+	
+	/**
+	 * Returns forwarded messages count, includes replies.
+	 * 
+	 * @return forwarded messages count
+	 */
+	public long forwardedMessages();
+	
+	/**
+	 * Returns forwarded body bytes count, header is not included.
+	 * 
+	 * @return forwarded body bytes count
+	 */
+	public long forwardedBytes();
+	
+	/**
+	 * Returns dropped messages count by queue overflow.
+	 * 
+	 * @return dropped messages count
+	 */
+	public long droppedMessages();
+	
+	/**
+	 * Returns failed messages count, convert or send failed.
+	 * 
+	 * @return failed messages count
+	 */
+	public long failedMessages();
+	
+	/**
+	 * Returns queued messages count at snapshot.
+	 * 
+	 * @return queued messages count
+	 */
+	public int queuedMessages();
+	
+	/**
+	 * Returns max queued messages count.
+	 * 
+	 * @return max queued messages count
+	 */
+	public int maxQueuedMessages();
+	
+}
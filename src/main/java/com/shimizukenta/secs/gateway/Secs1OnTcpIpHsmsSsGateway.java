@@ -0,0 +1,156 @@
+package com.shimizukenta.secs.gateway;
+
+import java.io.IOException;
+
+import com.shimizukenta.secs.OpenAndCloseable;
+import com.shimizukenta.secs.gateway.impl.AbstractSecs1OnTcpIpHsmsSsGateway;
+import com.shimizukenta.secs.hsmsss.HsmsSsCommunicator;
+import com.shimizukenta.secs.hsmsss.HsmsSsCommunicatorConfig;
+import com.shimizukenta.secs.secs1ontcpip.Secs1OnTcpIpCommunicator;
+import com.shimizukenta.secs.secs1ontcpip.Secs1OnTcpIpCommunicatorConfig;
+
+/**
+ * This interface is gateway of SECS-I-on-TCP/IP and HSMS-SS.
+ * 
+ * <p>
+ * This is message-level gateway, not frame-level.<br />
+ * Both communicators parse received messages as usual,
+ * 10-bytes header is rewritten and parsed body is sent by other communicator,
+ * so that body is encoded again on sending.
+ * </p>
+ * <ul>
+ * <li>SECS-I message is sent as HSMS DATA message.</li>
+ * <li>HSMS DATA message is sent as SECS-I message, split to blocks on sending.</li>
+ * <li>Reply of forwarded primary message is forwarded to origin side.</li>
+ * </ul>
+ * <p>
+ * Each direction has bounded queue. If HSMS-to-SECS-I queue is overflow,
+ * or send to SECS-I side failed, HSMS Reject.req is sent
+ * (Reason {@link #REJECT_BY_OVERFLOW} or {@link #REJECT_BY_NOT_CONNECT}).
+ * </p>
+ * 
+ * <ul>
+ * <li>To create new instance, {@link #newInstance(Secs1OnTcpIpCommunicatorConfig, HsmsSsCommunicatorConfig)}</li>
+ * <li>To create new instance and open, {@link #open(Secs1OnTcpIpCommunicatorConfig, HsmsSsCommunicatorConfig)}</li>
+ * <li>To get metrics, {@link #metrics(GatewayDirection)}</li>
+ * </ul>
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public interface Secs1OnTcpIpHsmsSsGateway extends OpenAndCloseable {
+	
+	/**
+	 * HSMS Reject.req reason of queue overflow or too big message.
+	 * 
+	 */
+	public static final byte REJECT_BY_OVERFLOW = (byte)0x80;
+	
+	/**
+	 * HSMS Reject.req reason of send to SECS-I side failed.
+	 * 
+	 */
+	public static final byte REJECT_BY_NOT_CONNECT = (byte)0x81;
+	
+	/**
+	 * Default queue capacity of each direction.
+	 * 
+	 */
+	public static final int DEFAULT_QUEUE_CAPACITY = 64;
+	
+	/**
+	 * Create gateway instance.
+	 * 
+	 * @param secs1Config the SECS-I-on-TCP/IP config
+	 * @param hsmsSsConfig the HSMS-SS config
+	 * @return new gateway instance
+	 */
+	public static Secs1OnTcpIpHsmsSsGateway newInstance(
+			Secs1OnTcpIpCommunicatorConfig secs1Config,
+			HsmsSsCommunicatorConfig hsmsSsConfig) {
+		
+		return newInstance(secs1Config, hsmsSsConfig, DEFAULT_QUEUE_CAPACITY);
+	}
+	
+	/**
+	 * Create gateway instance.
+	 * 
+	 * @param secs1Config the SECS-I-on-TCP/IP config
+	 * @param hsmsSsConfig the HSMS-SS config
+	 * @param queueCapacity the queue capacity of each direction, must be {@code >= 1}
+	 * @return new gateway instance
+	 */
+	public static Secs1OnTcpIpHsmsSsGateway newInstance(
+			Secs1OnTcpIpCommunicatorConfig secs1Config,
+			HsmsSsCommunicatorConfig hsmsSsConfig,
+			int queueCapacity) {
+		
+		return new AbstractSecs1OnTcpIpHsmsSsGateway(
+				Secs1OnTcpIpCommunicator.newInstance(secs1Config),
+				HsmsSsCommunicator.newInstance(hsmsSsConfig),
+				queueCapacity) {};
+	}
+	
+	/**
+	 * Create gateway instance and {@link #open()}.
+	 * 
+	 * @param secs1Config the SECS-I-on-TCP/IP config
+	 * @param hsmsSsConfig the HSMS-SS config
+	 * @return new gateway instance
+	 * @throws IOException if open failed
+	 */
+	public static Secs1OnTcpIpHsmsSsGateway open(
+			Secs1OnTcpIpCommunicatorConfig secs1Config,
+			HsmsSsCommunicatorConfig hsmsSsConfig)
+					throws IOException {
+		
+		final Secs1OnTcpIpHsmsSsGateway inst = newInstance(secs1Config, hsmsSsConfig);
+		
+		try {
+			inst.open();
+		}
+		catch ( IOException e ) {
+			
+			try {
+				inst.close();
+			}
+			catch ( IOException giveup ) {
+			}
+			
+			throw e;
+		}
+		
+		return inst;
+	}
+	
+	/**
+	 * Returns SECS-I side communicator.
+	 * 
+	 * <p>
+	 * To add log listener, or wait until communicatable.
+	 * </p>
+	 * 
+	 * @return SECS-I side communicator
+	 */
+	public Secs1OnTcpIpCommunicator secs1Communicator();
+	
+	/**
+	 * Returns HSMS side communicator.
+	 * 
+	 * <p>
+	 * To add log listener, or wait until communicatable.
+	 * </p>
+	 * 
+	 * @return HSMS side communicator
+	 */
+	public HsmsSsCommunicator hsmsSsCommunicator();
+	
+	/**
+	 * Returns metrics snapshot of direction.
+	 * 
+	 * @param direction the direction
+	 * @return metrics snapshot
+	 */
+	public GatewayMetrics metrics(GatewayDirection direction);
+	
+}
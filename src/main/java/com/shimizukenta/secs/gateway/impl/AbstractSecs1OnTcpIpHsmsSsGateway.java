@@ -0,0 +1,493 @@
+package com.shimizukenta.secs.gateway.impl;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.shimizukenta.secs.SecsException;
+import com.shimizukenta.secs.gateway.GatewayDirection;
+import com.shimizukenta.secs.gateway.GatewayMetrics;
+import com.shimizukenta.secs.gateway.Secs1OnTcpIpHsmsSsGateway;
+import com.shimizukenta.secs.hsms.HsmsMessage;
+import com.shimizukenta.secs.hsms.HsmsMessageType;
+import com.shimizukenta.secs.hsmsss.HsmsSsCommunicator;
+import com.shimizukenta.secs.impl.AbstractBaseCommunicator;
+import com.shimizukenta.secs.secs1.Secs1Message;
+import com.shimizukenta.secs.secs1.Secs1TooBigMessageBodyException;
+import com.shimizukenta.secs.secs1.Secs1TooBigSendMessageException;
+import com.shimizukenta.secs.secs1ontcpip.Secs1OnTcpIpCommunicator;
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.impl.Secs2BytesCursor;
+
+/**
+ * Gateway of SECS-I-on-TCP/IP and HSMS-SS, converted from messages received by each communicator.
+ *
+ * <p>
+ * Message-level gateway, not frame-level.
+ * Received messages are parsed by communicator, header is rewritten and parsed body is forwarded,
+ * sending side encodes body again (to SECS-I, block bodies are read from encoding on building block).
+ * Each direction has bounded queue and one forwarding task.
+ * Primary message with W-Bit is sent on other task, not to block queue while waiting reply.
+ * </p>
+ *
+ */
+public abstract class AbstractSecs1OnTcpIpHsmsSsGateway extends AbstractBaseCommunicator implements Secs1OnTcpIpHsmsSsGateway {
+
+	private static final int SECS1_BLOCK_BODY_SIZE = 244;
+
+	private final class Lane<T> {
+
+		private final GatewayDirection direction;
+		private final BlockingQueue<T> queue;
+		private final AtomicLong forwardedMessages = new AtomicLong(0L);
+		private final AtomicLong forwardedBytes = new AtomicLong(0L);
+		private final AtomicLong droppedMessages = new AtomicLong(0L);
+		private final AtomicLong failedMessages = new AtomicLong(0L);
+		private final AtomicInteger maxQueuedMessages = new AtomicInteger(0);
+
+		public Lane(GatewayDirection direction, int capacity) {
+			this.direction = direction;
+			this.queue = new LinkedBlockingQueue<>(capacity);
+		}
+
+		public boolean offer(T msg) {
+
+			if (this.queue.offer(msg)) {
+
+				final int n = this.queue.size();
+				this.maxQueuedMessages.accumulateAndGet(n, Math::max);
+				return true;
+
+			} else {
+
+				this.droppedMessages.incrementAndGet();
+				return false;
+			}
+		}
+
+		public T take() throws InterruptedException {
+			return this.queue.take();
+		}
+
+		public void forwarded(long bodyBytes) {
+			this.forwardedMessages.incrementAndGet();
+			this.forwardedBytes.addAndGet(bodyBytes);
+		}
+
+		public void failed() {
+			this.failedMessages.incrementAndGet();
+		}
+
+		public GatewayMetrics snapshot() {
+
+			final GatewayDirection d = this.direction;
+			final long fm = this.forwardedMessages.get();
+			final long fb = this.forwardedBytes.get();
+			final long dm = this.droppedMessages.get();
+			final long xm = this.failedMessages.get();
+			final int qm = this.queue.size();
+			final int mq = this.maxQueuedMessages.get();
+
+			return new GatewayMetrics() {
+
+				@Override
+				public GatewayDirection direction() {
+					return d;
+				}
+
+				@Override
+				public long forwardedMessages() {
+					return fm;
+				}
+
+				@Override
+				public long forwardedBytes() {
+					return fb;
+				}
+
+				@Override
+				public long droppedMessages() {
+					return dm;
+				}
+
+				@Override
+				public long failedMessages() {
+					return xm;
+				}
+
+				@Override
+				public int queuedMessages() {
+					return qm;
+				}
+
+				@Override
+				public int maxQueuedMessages() {
+					return mq;
+				}
+
+				@Override
+				public String toString() {
+					return "{\"direction\":\"" + d.name()
+					+ "\",\"forwardedMessages\":" + fm
+					+ ",\"forwardedBytes\":" + fb
+					+ ",\"droppedMessages\":" + dm
+					+ ",\"failedMessages\":" + xm
+					+ ",\"queuedMessages\":" + qm
+					+ ",\"maxQueuedMessages\":" + mq
+					+ "}";
+				}
+			};
+		}
+	}
+
+	/**
+	 * Rewritten header and parsed body of other side.
+	 *
+	 */
+	static final class Converted {
+
+		public final byte[] header;
+		public final Secs2 body;
+		public final long bodyBytes;
+
+		public Converted(byte[] header, Secs2 body) {
+			this.header = header;
+			this.body = body;
+			this.bodyBytes = (long)(Secs2BytesCursor.encodedLength(body));
+		}
+	}
+
+	private final Secs1OnTcpIpCommunicator secs1Comm;
+	private final HsmsSsCommunicator hsmsSsComm;
+	private final Lane<Secs1Message> toHsms;
+	private final Lane<HsmsMessage> toSecs1;
+
+	public AbstractSecs1OnTcpIpHsmsSsGateway(
+			Secs1OnTcpIpCommunicator secs1Communicator,
+			HsmsSsCommunicator hsmsSsCommunicator,
+			int queueCapacity) {
+
+		super();
+
+		if (queueCapacity < 1) {
+			throw new IllegalArgumentException("queueCapacity must be >= 1");
+		}
+
+		this.secs1Comm = Objects.requireNonNull(secs1Communicator);
+		this.hsmsSsComm = Objects.requireNonNull(hsmsSsCommunicator);
+		this.toHsms = new Lane<>(GatewayDirection.SECS1_TO_HSMS, queueCapacity);
+		this.toSecs1 = new Lane<>(GatewayDirection.HSMS_TO_SECS1, queueCapacity);
+
+		this.secs1Comm.addSecs1MessageReceiveListener(msg -> {
+			this.toHsms.offer(msg);
+		});
+
+		this.hsmsSsComm.addHsmsMessageReceiveListener(msg -> {
+
+			if (! this.toSecs1.offer(msg)) {
+
+				try {
+					this.sendHsmsReject(msg, REJECT_BY_OVERFLOW);
+				}
+				catch (InterruptedException ignore) {
+				}
+			}
+		});
+	}
+
+	@Override
+	public Secs1OnTcpIpCommunicator secs1Communicator() {
+		return this.secs1Comm;
+	}
+
+	@Override
+	public HsmsSsCommunicator hsmsSsCommunicator() {
+		return this.hsmsSsComm;
+	}
+
+	@Override
+	public GatewayMetrics metrics(GatewayDirection direction) {
+
+		switch (Objects.requireNonNull(direction)) {
+		case SECS1_TO_HSMS: {
+			return this.toHsms.snapshot();
+		}
+		case HSMS_TO_SECS1:
+		default: {
+			return this.toSecs1.snapshot();
+		}
+		}
+	}
+
+	@Override
+	public void open() throws IOException {
+
+		super.open();
+
+		this.executeLoopTask(() -> {
+			this.forwardToHsms(this.toHsms.take());
+		});
+
+		this.executeLoopTask(() -> {
+			this.forwardToSecs1(this.toSecs1.take());
+		});
+
+		this.secs1Comm.open();
+		this.hsmsSsComm.open();
+	}
+
+	@Override
+	public void close() throws IOException {
+
+		if (this.isClosed()) {
+			return;
+		}
+
+		IOException ioExcept = null;
+
+		try {
+			super.close();
+		}
+		catch (IOException e) {
+			ioExcept = e;
+		}
+
+		try {
+			this.secs1Comm.close();
+		}
+		catch (IOException e) {
+			ioExcept = e;
+		}
+
+		try {
+			this.hsmsSsComm.close();
+		}
+		catch (IOException e) {
+			ioExcept = e;
+		}
+
+		if (ioExcept != null) {
+			throw ioExcept;
+		}
+	}
+
+	private void forwardToHsms(Secs1Message primaryMsg) throws InterruptedException {
+
+		final Converted conv = toHsms(primaryMsg);
+
+		if (primaryMsg.wbit()) {
+
+			this.executorService().execute(() -> {
+				try {
+					this.sendToHsms(conv).ifPresent(reply -> {
+						try {
+							this.sendReplyToSecs1(reply);
+						}
+						catch (InterruptedException ignore) {
+						}
+					});
+				}
+				catch (InterruptedException ignore) {
+				}
+			});
+
+		} else {
+
+			this.sendToHsms(conv);
+		}
+	}
+
+	private void forwardToSecs1(HsmsMessage primaryMsg) throws InterruptedException {
+
+		final Converted conv;
+
+		try {
+			conv = toSecs1(primaryMsg, this.secs1Comm.isEquip());
+		}
+		catch (Secs1TooBigMessageBodyException e) {
+			this.toSecs1.failed();
+			this.sendHsmsReject(primaryMsg, REJECT_BY_OVERFLOW);
+			return;
+		}
+
+		if (primaryMsg.wbit()) {
+
+			this.executorService().execute(() -> {
+				try {
+					this.sendToSecs1(primaryMsg, conv).ifPresent(reply -> {
+						try {
+							this.sendReplyToHsms(reply);
+						}
+						catch (InterruptedException ignore) {
+						}
+					});
+				}
+				catch (InterruptedException ignore) {
+				}
+			});
+
+		} else {
+
+			this.sendToSecs1(primaryMsg, conv);
+		}
+	}
+
+	private Optional<HsmsMessage> sendToHsms(Converted conv) throws InterruptedException {
+
+		try {
+			final Optional<HsmsMessage> r = this.hsmsSsComm.send(HsmsMessage.of(conv.header, conv.body));
+			this.toHsms.forwarded(conv.bodyBytes);
+			return r.filter(HsmsMessage::isDataMessage);
+		}
+		catch (SecsException e) {
+			this.toHsms.failed();
+			return Optional.empty();
+		}
+	}
+
+	private Optional<Secs1Message> sendToSecs1(HsmsMessage primaryMsg, Converted conv) throws InterruptedException {
+
+		try {
+			final Optional<Secs1Message> r = this.secs1Comm.send(Secs1Message.of(conv.header, conv.body));
+			this.toSecs1.forwarded(conv.bodyBytes);
+			return r;
+		}
+		catch (Secs1TooBigSendMessageException | Secs1TooBigMessageBodyException e) {
+			this.toSecs1.failed();
+			this.sendHsmsReject(primaryMsg, REJECT_BY_OVERFLOW);
+		}
+		catch (SecsException e) {
+			this.toSecs1.failed();
+			this.sendHsmsReject(primaryMsg, REJECT_BY_NOT_CONNECT);
+		}
+
+		return Optional.empty();
+	}
+
+	private void sendReplyToSecs1(HsmsMessage reply) throws InterruptedException {
+
+		try {
+			final Converted conv = toSecs1(reply, this.secs1Comm.isEquip());
+			this.secs1Comm.send(Secs1Message.of(conv.header, conv.body));
+			this.toSecs1.forwarded(conv.bodyBytes);
+		}
+		catch (Secs1TooBigMessageBodyException | SecsException e) {
+			this.toSecs1.failed();
+		}
+	}
+
+	private void sendReplyToHsms(Secs1Message reply) throws InterruptedException {
+
+		try {
+			final Converted conv = toHsms(reply);
+			this.hsmsSsComm.send(HsmsMessage.of(conv.header, conv.body));
+			this.toHsms.forwarded(conv.bodyBytes);
+		}
+		catch (SecsException e) {
+			this.toHsms.failed();
+		}
+	}
+
+	private void sendHsmsReject(HsmsMessage ref, byte reason) throws InterruptedException {
+
+		final byte[] bs = ref.header10Bytes();
+
+		final byte[] header = new byte[] {
+				bs[0],
+				bs[1],
+				(byte)0x0,
+				reason,
+				HsmsMessageType.REJECT_REQ.pType(),
+				HsmsMessageType.REJECT_REQ.sType(),
+				bs[6],
+				bs[7],
+				bs[8],
+				bs[9]
+		};
+
+		try {
+			this.hsmsSsComm.send(HsmsMessage.of(header));
+		}
+		catch (SecsException giveup) {
+		}
+	}
+
+	/**
+	 * Rewrite header to HSMS DATA message, body is forwarded as parsed.
+	 *
+	 * <p>
+	 * R-Bit, E-Bit and block number are cleared, PType and SType are DATA message.
+	 * </p>
+	 *
+	 * @param msg the SECS-I message
+	 * @return HSMS header and body
+	 */
+	static Converted toHsms(Secs1Message msg) {
+
+		final byte[] bs = msg.header10Bytes();
+
+		final byte[] header = new byte[] {
+				(byte)((int)(bs[0]) & 0x7F),
+				bs[1],
+				bs[2],
+				bs[3],
+				(byte)0,
+				(byte)0,
+				bs[6],
+				bs[7],
+				bs[8],
+				bs[9]
+		};
+
+		return new Converted(header, msg.secs2());
+	}
+
+	/**
+	 * Rewrite header to SECS-I, body is forwarded as parsed.
+	 *
+	 * <p>
+	 * R-Bit is set if equip, PType and SType bytes are cleared to E-Bit and block number.
+	 * </p>
+	 *
+	 * @param msg the HSMS message
+	 * @param equip true if SECS-I side is equipment
+	 * @return SECS-I header and body
+	 * @throws Secs1TooBigMessageBodyException if body is too big
+	 */
+	static Converted toSecs1(HsmsMessage msg, boolean equip) {
+
+		final byte[] bs = msg.header10Bytes();
+
+		final byte[] header = new byte[] {
+				bs[0],
+				bs[1],
+				bs[2],
+				bs[3],
+				(byte)0,
+				(byte)0,
+				bs[6],
+				bs[7],
+				bs[8],
+				bs[9]
+		};
+
+		if (equip) {
+			header[0] |= (byte)0x80;
+		} else {
+			header[0] &= (byte)0x7F;
+		}
+
+		final Converted conv = new Converted(header, msg.secs2());
+
+		if (((conv.bodyBytes + SECS1_BLOCK_BODY_SIZE - 1) / SECS1_BLOCK_BODY_SIZE) > 0x7FFE) {
+			throw new Secs1TooBigMessageBodyException();
+		}
+
+		return conv;
+	}
+
+}
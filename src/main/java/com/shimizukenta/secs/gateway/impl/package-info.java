@@ -0,0 +1,6 @@
+/**
+ * Gateway implementation.
+ * 
+ * @author kenta-shimizu
+ */
+package com.shimizukenta.secs.gateway.impl;
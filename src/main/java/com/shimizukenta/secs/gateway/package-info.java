@@ -0,0 +1,7 @@
+/**
+ * Gateway package providing SECS-I(SEMI-E4)-on-TCP/IP and HSMS-SS(SEMI-E37.1) message conversion.
+ * 
+ * @author kenta-shimizu
+ *
+ */
+package com.shimizukenta.secs.gateway;
@@ -42,6 +42,8 @@ import com.shimizukenta.secs.local.property.ChangeListener;
 import com.shimizukenta.secs.local.property.TimeoutAndUnit;
 import com.shimizukenta.secs.local.property.TimeoutGettable;
 import com.shimizukenta.secs.secs2.Secs2BytesParseException;
+import com.shimizukenta.secs.secs2.impl.Secs2BytesParser;
+import com.shimizukenta.secs.secs2.impl.Secs2BytesParsers;
 
 public abstract class AbstractHsmsAsynchronousSocketChannelFacade implements Closeable {
 
@@ -55,6 +57,7 @@ public abstract class AbstractHsmsAsynchronousSocketChannelFacade implements Clo
 	
 	private final AbstractHsmsCommunicatorConfig config;
 	private final AsynchronousSocketChannel channel;
+	private final Secs2BytesParser secs2Parser;
 	
 	public AbstractHsmsAsynchronousSocketChannelFacade(
 			AbstractHsmsCommunicatorConfig config,
@@ -62,6 +65,9 @@ public abstract class AbstractHsmsAsynchronousSocketChannelFacade implements Clo
 		
 		this.config = config;
 		this.channel = channel;
+		this.secs2Parser = Secs2BytesParsers.of(
+				config.secs2ParallelParsePool().get(),
+				config.secs2ParallelParseThreshold().intValue());
 		
 		this.executorService.execute(() -> {
 			try {
@@ -567,7 +573,7 @@ public abstract class AbstractHsmsAsynchronousSocketChannelFacade implements Clo
 							.collect(Collectors.toList());
 					
 					try {
-						AbstractHsmsMessage msg = AbstractHsmsMessageBuilder.buildFromBytes(header10Bytes, bodyBytesList);
+						AbstractHsmsMessage msg = AbstractHsmsMessageBuilder.buildFromBytes(header10Bytes, bodyBytesList, this.secs2Parser);
 						
 						{
 							HsmsMessageType type = msg.messageType();
@@ -3,6 +3,7 @@ package com.shimizukenta.secs.hsms.impl;
 import java.net.SocketAddress;
 import java.util.concurrent.Executor;
 
+import com.shimizukenta.secs.AbstractSecsCommunicatorConfig;
 import com.shimizukenta.secs.SecsLogListener;
 import com.shimizukenta.secs.hsms.AbstractHsmsCommunicatorConfig;
 import com.shimizukenta.secs.hsms.HsmsChannelConnectionLog;
@@ -18,8 +19,8 @@ public abstract class AbstractHsmsLogObserverFacade extends AbstractSecsLogObser
 	
 	private class HsmsMessagePassThroghLogObserver extends AbstractQueueObserver<SecsLogListener<? super HsmsMessagePassThroughLog>, HsmsMessagePassThroughLog> {
 		
-		public HsmsMessagePassThroghLogObserver(Executor executor) {
-			super(executor);
+		public HsmsMessagePassThroghLogObserver(Executor executor, AbstractSecsCommunicatorConfig config) {
+			super(executor, config);
 		}
 		
 		@Override
@@ -30,8 +31,8 @@ public abstract class AbstractHsmsLogObserverFacade extends AbstractSecsLogObser
 	
 	private class HsmsChannelConnectionLogObserver extends AbstractQueueObserver<SecsLogListener<? super HsmsChannelConnectionLog>, HsmsChannelConnectionLog> {
 		
-		public HsmsChannelConnectionLogObserver(Executor executor) {
-			super(executor);
+		public HsmsChannelConnectionLogObserver(Executor executor, AbstractSecsCommunicatorConfig config) {
+			super(executor, config);
 		}
 		
 		@Override
@@ -42,8 +43,8 @@ public abstract class AbstractHsmsLogObserverFacade extends AbstractSecsLogObser
 	
 	private class HsmsSessionCommunicateStateLogObserver extends AbstractQueueObserver<SecsLogListener<? super HsmsSessionCommunicateStateLog>, HsmsSessionCommunicateStateLog> {
 		
-		public HsmsSessionCommunicateStateLogObserver(Executor executor) {
-			super(executor);
+		public HsmsSessionCommunicateStateLogObserver(Executor executor, AbstractSecsCommunicatorConfig config) {
+			super(executor, config);
 		}
 		
 		@Override
@@ -68,13 +69,13 @@ public abstract class AbstractHsmsLogObserverFacade extends AbstractSecsLogObser
 		
 		this.config = config;
 		
-		this.trySendHsmsMsgPassThroughLogObserver = new HsmsMessagePassThroghLogObserver(executor);
-		this.sendedHsmsMsgPassThroughLogObserver = new HsmsMessagePassThroghLogObserver(executor);
-		this.recvHsmsMsgPassThroughLogObserver = new HsmsMessagePassThroghLogObserver(executor);
+		this.trySendHsmsMsgPassThroughLogObserver = new HsmsMessagePassThroghLogObserver(executor, config);
+		this.sendedHsmsMsgPassThroughLogObserver = new HsmsMessagePassThroghLogObserver(executor, config);
+		this.recvHsmsMsgPassThroughLogObserver = new HsmsMessagePassThroghLogObserver(executor, config);
 		
-		this.channelConnectionLogObserver = new HsmsChannelConnectionLogObserver(executor);
+		this.channelConnectionLogObserver = new HsmsChannelConnectionLogObserver(executor, config);
 		
-		this.hsmsSessionCommunicateStateLogObserver = new HsmsSessionCommunicateStateLogObserver(executor);
+		this.hsmsSessionCommunicateStateLogObserver = new HsmsSessionCommunicateStateLogObserver(executor, config);
 	}
 	
 	@Override
@@ -225,4 +226,14 @@ public abstract class AbstractHsmsLogObserverFacade extends AbstractSecsLogObser
 		return f;
 	}
 	
+	@Override
+	public long droppedCount() {
+		return super.droppedCount()
+				+ this.trySendHsmsMsgPassThroughLogObserver.droppedCount()
+				+ this.sendedHsmsMsgPassThroughLogObserver.droppedCount()
+				+ this.recvHsmsMsgPassThroughLogObserver.droppedCount()
+				+ this.channelConnectionLogObserver.droppedCount()
+				+ this.hsmsSessionCommunicateStateLogObserver.droppedCount();
+	}
+	
 }
@@ -1,5 +1,7 @@
 package com.shimizukenta.secs.hsms.impl;
 
+import java.io.IOException;
+import java.io.ObjectStreamException;
 import java.util.Arrays;
 
 import com.shimizukenta.secs.hsms.HsmsMessage;
@@ -7,6 +9,7 @@ import com.shimizukenta.secs.hsms.HsmsMessageHeaderByteLengthIllegalArgumentExce
 import com.shimizukenta.secs.hsms.HsmsMessageType;
 import com.shimizukenta.secs.impl.AbstractSecsMessage;
 import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2Item;
 
 public abstract class AbstractHsmsMessage extends AbstractSecsMessage implements HsmsMessage {
 	
@@ -161,29 +164,59 @@ public abstract class AbstractHsmsMessage extends AbstractSecsMessage implements
 	
 	protected String toDataMessageStringProxy() {
 		
-		StringBuilder sb = new StringBuilder(toHeaderBytesString());
+		final StringBuilder sb = new StringBuilder();
 		
-		sb.append(BR)
-		.append("S").append(getStream())
-		.append("F").append(getFunction());
+		try {
+			this.appendDataMessageTo(sb);
+		}
+		catch ( IOException notHappen ) {
+		}
 		
-		if (wbit()) {
-			sb.append(" W");
+		return sb.toString();
+	}
+	
+	@Override
+	protected void appendToProxy(Appendable a) throws IOException {
+		if ( this.isDataMsg ) {
+			this.appendDataMessageTo(a);
+		} else {
+			a.append(this.toControlMessageStringProxy());
 		}
+	}
+	
+	protected void appendDataMessageTo(Appendable a) throws IOException {
 		
-		String body = secs2().toString();
+		a.append(toHeaderBytesString())
+		.append(BR)
+		.append("S").append(String.valueOf(getStream()))
+		.append("F").append(String.valueOf(getFunction()));
 		
-		if ( ! body.isEmpty() ) {
-			sb.append(BR).append(body);
+		if (wbit()) {
+			a.append(" W");
 		}
 		
-		sb.append(".");
+		final Secs2 body = secs2();
 		
-		return sb.toString();
+		if ( body.secs2Item() != Secs2Item.UNDEFINED ) {
+			a.append(BR);
+			body.appendTo(a);
+		}
+		
+		a.append(".");
 	}
 	
 	protected String toControlMessageStringProxy() {
 		return toHeaderBytesString();
 	}
 	
+	/**
+	 * Serialized as header 10 bytes and SECS-II encoded bytes.
+	 * 
+	 * @return HsmsMessageSerializationProxy
+	 * @throws ObjectStreamException never
+	 */
+	protected Object writeReplace() throws ObjectStreamException {
+		return new HsmsMessageSerializationProxy(this);
+	}
+	
 }
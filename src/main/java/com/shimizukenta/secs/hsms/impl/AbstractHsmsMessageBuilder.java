@@ -12,6 +12,7 @@ import com.shimizukenta.secs.hsms.HsmsSession;
 import com.shimizukenta.secs.impl.AbstractSecsMessageBuilder;
 import com.shimizukenta.secs.secs2.Secs2;
 import com.shimizukenta.secs.secs2.Secs2BytesParseException;
+import com.shimizukenta.secs.secs2.impl.Secs2BytesParser;
 import com.shimizukenta.secs.secs2.impl.Secs2BytesParsers;
 
 public abstract class AbstractHsmsMessageBuilder extends AbstractSecsMessageBuilder<AbstractHsmsMessage, HsmsSession> implements HsmsMessageBuilder {
@@ -211,7 +212,20 @@ public abstract class AbstractHsmsMessageBuilder extends AbstractSecsMessageBuil
 	 * @throws Secs2BytesParseException the SECS-II parse failed
 	 */
 	public static AbstractHsmsMessage buildFromBytes(byte[] header, List<byte[]> bodies) throws Secs2BytesParseException {
-		return buildMessage(header, Secs2BytesParsers.parse(bodies));
+		return buildFromBytes(header, bodies, Secs2BytesParsers.getInstance());
+	}
+	
+	/**
+	 * Build from List of bytes by parser.
+	 * 
+	 * @param header the header-10-bytes
+	 * @param bodies the List of bytes
+	 * @param parser the SECS-II parser
+	 * @return instance
+	 * @throws Secs2BytesParseException the SECS-II parse failed
+	 */
+	public static AbstractHsmsMessage buildFromBytes(byte[] header, List<byte[]> bodies, Secs2BytesParser parser) throws Secs2BytesParseException {
+		return buildMessage(header, parser.parse(bodies));
 	}
 	
 }
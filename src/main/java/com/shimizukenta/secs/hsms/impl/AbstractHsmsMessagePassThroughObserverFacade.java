@@ -2,6 +2,7 @@ package com.shimizukenta.secs.hsms.impl;
 
 import java.util.concurrent.Executor;
 
+import com.shimizukenta.secs.AbstractSecsCommunicatorConfig;
 import com.shimizukenta.secs.SecsMessagePassThroughListener;
 import com.shimizukenta.secs.hsms.HsmsMessage;
 import com.shimizukenta.secs.hsms.HsmsMessagePassThroughObservable;
@@ -12,8 +13,8 @@ public abstract class AbstractHsmsMessagePassThroughObserverFacade extends Abstr
 	
 	private class HsmsMessagePassThroughObserver extends AbstractQueueObserver<SecsMessagePassThroughListener<? super HsmsMessage>, HsmsMessage> {
 		
-		public HsmsMessagePassThroughObserver(Executor executor) {
-			super(executor);
+		public HsmsMessagePassThroughObserver(Executor executor, AbstractSecsCommunicatorConfig config) {
+			super(executor, config);
 		}
 		
 		@Override
@@ -26,12 +27,12 @@ public abstract class AbstractHsmsMessagePassThroughObserverFacade extends Abstr
 	private final HsmsMessagePassThroughObserver sendedHsmsMsg;
 	private final HsmsMessagePassThroughObserver recvHsmsMsg;
 	
-	public AbstractHsmsMessagePassThroughObserverFacade(Executor executor) {
-		super(executor);
+	public AbstractHsmsMessagePassThroughObserverFacade(AbstractSecsCommunicatorConfig config, Executor executor) {
+		super(config, executor);
 		
-		this.trySendHsmsMsg = new HsmsMessagePassThroughObserver(executor);
-		this.sendedHsmsMsg = new HsmsMessagePassThroughObserver(executor);
-		this.recvHsmsMsg = new HsmsMessagePassThroughObserver(executor);
+		this.trySendHsmsMsg = new HsmsMessagePassThroughObserver(executor, config);
+		this.sendedHsmsMsg = new HsmsMessagePassThroughObserver(executor, config);
+		this.recvHsmsMsg = new HsmsMessagePassThroughObserver(executor, config);
 	}
 
 	@Override
@@ -85,4 +86,12 @@ public abstract class AbstractHsmsMessagePassThroughObserverFacade extends Abstr
 		this.recvHsmsMsg.put(message);
 	}
 	
+	@Override
+	public long droppedCount() {
+		return super.droppedCount()
+				+ this.trySendHsmsMsg.droppedCount()
+				+ this.sendedHsmsMsg.droppedCount()
+				+ this.recvHsmsMsg.droppedCount();
+	}
+	
 }
@@ -1,7 +1,12 @@
 package com.shimizukenta.secs.hsms.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.Executor;
 
+import com.shimizukenta.secs.AbstractSecsCommunicatorConfig;
+import com.shimizukenta.secs.SecsListenerLaneStatus;
 import com.shimizukenta.secs.hsms.HsmsGemAccessor;
 import com.shimizukenta.secs.hsms.HsmsMessage;
 import com.shimizukenta.secs.hsms.HsmsMessageReceiveBiListener;
@@ -15,8 +20,8 @@ public abstract class AbstractHsmsMessageReceiveObserverFacade extends AbstractS
 	
 	private class HsmsMsgRecvQueueBiObserver extends AbstractQueueBiObserver<HsmsGemAccessor, HsmsMessageReceiveListener, HsmsMessageReceiveBiListener, HsmsMessage> {
 
-		public HsmsMsgRecvQueueBiObserver(Executor executor, HsmsGemAccessor accessor) {
-			super(executor, accessor);
+		public HsmsMsgRecvQueueBiObserver(Executor executor, AbstractSecsCommunicatorConfig config, HsmsGemAccessor accessor) {
+			super(executor, config, accessor);
 		}
 		
 		@Override
@@ -32,13 +37,18 @@ public abstract class AbstractHsmsMessageReceiveObserverFacade extends AbstractS
 			
 			biListener.received(value, accessor);
 		}
+		
+		@Override
+		protected void notifyDropped(HsmsMessage value) {
+			notifyDroppedMessage(value);
+		}
 	}
 	
 	private final HsmsMsgRecvQueueBiObserver hsmsMsgRecvObserver;
 	
-	public AbstractHsmsMessageReceiveObserverFacade(Executor executor, HsmsGemAccessor accessor) {
-		super(executor, accessor);
-		this.hsmsMsgRecvObserver = new HsmsMsgRecvQueueBiObserver(executor, accessor);
+	public AbstractHsmsMessageReceiveObserverFacade(AbstractSecsCommunicatorConfig config, Executor executor, HsmsGemAccessor accessor) {
+		super(config, executor, accessor);
+		this.hsmsMsgRecvObserver = new HsmsMsgRecvQueueBiObserver(executor, config, accessor);
 	}
 
 	@Override
@@ -61,6 +71,13 @@ public abstract class AbstractHsmsMessageReceiveObserverFacade extends AbstractS
 		return this.hsmsMsgRecvObserver.removeBiListener(biListener);
 	}
 	
+	@Override
+	public List<SecsListenerLaneStatus> secsMessageReceiveListenerLanes() {
+		final List<SecsListenerLaneStatus> ll = new ArrayList<>(super.secsMessageReceiveListenerLanes());
+		ll.addAll(this.hsmsMsgRecvObserver.laneStatuses());
+		return Collections.unmodifiableList(ll);
+	}
+	
 	public void putHsmsMessage(HsmsMessage message) throws InterruptedException {
 		if (message.isDataMessage()) {
 			this.putSecsMessage(message);
@@ -68,4 +85,9 @@ public abstract class AbstractHsmsMessageReceiveObserverFacade extends AbstractS
 		this.hsmsMsgRecvObserver.put(message);
 	}
 	
+	@Override
+	public long droppedCount() {
+		return super.droppedCount() + this.hsmsMsgRecvObserver.droppedCount();
+	}
+	
 }
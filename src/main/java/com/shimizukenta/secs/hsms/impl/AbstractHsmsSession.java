@@ -3,8 +3,9 @@ package com.shimizukenta.secs.hsms.impl;
 import java.util.Optional;
 import java.util.concurrent.Executor;
 
+import com.shimizukenta.secs.AbstractSecsCommunicatorConfig;
+import com.shimizukenta.secs.SecsMessage;
 import com.shimizukenta.secs.gem.Gem;
-import com.shimizukenta.secs.gem.GemConfig;
 import com.shimizukenta.secs.gem.impl.AbstractGem;
 import com.shimizukenta.secs.hsms.HsmsCommunicateState;
 import com.shimizukenta.secs.hsms.HsmsException;
@@ -29,11 +30,17 @@ public abstract class AbstractHsmsSession
 	
 	private final ObjectProperty<AbstractHsmsAsynchronousSocketChannelFacade> channelProp;
 	
-	public AbstractHsmsSession(Executor executor, GemConfig gemConfig) {
+	public AbstractHsmsSession(Executor executor, AbstractSecsCommunicatorConfig config) {
 		
-		this.gem = new AbstractGem(this, gemConfig) {};
+		this.gem = new AbstractGem(this, config.gem()) {};
 		
-		this.hsmsMsgRecvObserver = new AbstractHsmsMessageReceiveObserverFacade(executor, this) {};
+		this.hsmsMsgRecvObserver = new AbstractHsmsMessageReceiveObserverFacade(config, executor, this) {
+			
+			@Override
+			protected void notifyDroppedMessage(SecsMessage message) {
+				AbstractHsmsSession.this.notifyDroppedMessage(message);
+			}
+		};
 		this.hsmsCommStateObserver = new AbstractHsmsCommunicateStateObserverFacade(this) {};
 		
 		this.channelProp = ObjectProperty.newInstance(null);
@@ -48,6 +55,15 @@ public abstract class AbstractHsmsSession
 		
 	}
 	
+	/**
+	 * Called on receiving thread when received message is dropped by full queue.
+	 * 
+	 * @param message the dropped message
+	 */
+	protected void notifyDroppedMessage(SecsMessage message) {
+		/* Nothing */
+	}
+	
 	@Override
 	public Gem gem() {
 		return this.gem;
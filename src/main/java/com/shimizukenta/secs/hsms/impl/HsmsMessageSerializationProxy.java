@@ -0,0 +1,51 @@
+package com.shimizukenta.secs.hsms.impl;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+
+import com.shimizukenta.secs.hsms.HsmsMessage;
+import com.shimizukenta.secs.secs2.impl.Secs2SerializationProxy;
+
+/**
+ * Serialized form of HSMS-Message, header 10 bytes and SECS-II encoded bytes.
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public final class HsmsMessageSerializationProxy implements Externalizable {
+	
+	private static final long serialVersionUID = 4730218561839045127L;
+	
+	private static final int HEADER_SIZE = 10;
+	
+	private transient HsmsMessage msg;
+	
+	public HsmsMessageSerializationProxy() {
+		this.msg = null;
+	}
+	
+	public HsmsMessageSerializationProxy(HsmsMessage msg) {
+		this.msg = msg;
+	}
+	
+	@Override
+	public void writeExternal(ObjectOutput out) throws IOException {
+		out.write(this.msg.header10Bytes(), 0, HEADER_SIZE);
+		Secs2SerializationProxy.write(out, this.msg.secs2());
+	}
+	
+	@Override
+	public void readExternal(ObjectInput in) throws IOException {
+		final byte[] header = new byte[HEADER_SIZE];
+		in.readFully(header);
+		this.msg = AbstractHsmsMessageBuilder.buildMessage(header, Secs2SerializationProxy.read(in));
+	}
+	
+	private Object readResolve() throws ObjectStreamException {
+		return this.msg;
+	}
+	
+}
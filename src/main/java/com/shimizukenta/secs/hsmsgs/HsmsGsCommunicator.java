@@ -4,12 +4,14 @@ import java.io.IOException;
 import java.util.Optional;
 import java.util.Set;
 
+import com.shimizukenta.secs.AbstractSecsCommunicatorConfig;
 import com.shimizukenta.secs.OpenAndCloseable;
 import com.shimizukenta.secs.SecsCommunicatableStateChangeBiListener;
 import com.shimizukenta.secs.SecsException;
 import com.shimizukenta.secs.SecsLogListener;
 import com.shimizukenta.secs.SecsMessage;
 import com.shimizukenta.secs.SecsMessageReceiveBiListener;
+import com.shimizukenta.secs.SecsObserverOverflowPolicy;
 import com.shimizukenta.secs.SecsSendMessageException;
 import com.shimizukenta.secs.SecsWaitReplyMessageException;
 import com.shimizukenta.secs.hsms.HsmsCommunicateStateChangeBiListener;
@@ -137,6 +139,19 @@ public interface HsmsGsCommunicator extends OpenAndCloseable, HsmsMessagePassThr
 	 */
 	public HsmsSession getHsmsSession(int sessionId) throws HsmsGsUnknownSessionIdException;
 	
+	/**
+	 * Returns count of values dropped by listener-notify queues.
+	 * 
+	 * <p>
+	 * Sum of receive-message queues of all sessions, pass-through and log queues.<br />
+	 * Values are dropped when queue is full,
+	 * see {@link AbstractSecsCommunicatorConfig#observerOverflowPolicy(SecsObserverOverflowPolicy)}.
+	 * </p>
+	 * 
+	 * @return count of dropped values
+	 */
+	public long droppedCount();
+	
 	/**
 	 * Returns true if exist.
 	 * 
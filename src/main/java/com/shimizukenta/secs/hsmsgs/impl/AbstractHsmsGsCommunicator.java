@@ -77,7 +77,7 @@ public abstract class AbstractHsmsGsCommunicator extends AbstractBaseCommunicato
 		this.msgBuilder = new AbstractHsmsGsMessageBuilder(this.config) {};
 		
 		this.logObserver = new AbstractHsmsLogObserverFacade(config, this.executorService()) {};
-		this.msgPassThroughObserver = new AbstractHsmsMessagePassThroughObserverFacade(this.executorService()) {};
+		this.msgPassThroughObserver = new AbstractHsmsMessagePassThroughObserverFacade(config, this.executorService()) {};
 	}
 	
 	public HsmsGsMessageBuilder getHsmsGsMessageBuilder() {
@@ -554,6 +554,18 @@ public abstract class AbstractHsmsGsCommunicator extends AbstractBaseCommunicato
 		return this.logObserver;
 	}
 	
+	@Override
+	public long droppedCount() {
+		
+		long n = this.logObserver.droppedCount() + this.msgPassThroughObserver.droppedCount();
+		
+		for (AbstractHsmsGsSession session : this.getAbstractHsmsGsSessions()) {
+			n += session.hsmsMessageReceiveObserver().droppedCount();
+		}
+		
+		return n;
+	}
+	
 	
 	public void notifyTrySendHsmsMessagePassThrough(HsmsMessage message) throws InterruptedException {
 		this.msgPassThroughObserver.putToTrySendHsmsMessage(message);
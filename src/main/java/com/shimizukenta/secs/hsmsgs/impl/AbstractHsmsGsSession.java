@@ -4,6 +4,7 @@ import java.util.Optional;
 
 import com.shimizukenta.secs.SecsException;
 import com.shimizukenta.secs.SecsMessage;
+import com.shimizukenta.secs.SecsReceiveMessageDroppedException;
 import com.shimizukenta.secs.SecsSendMessageException;
 import com.shimizukenta.secs.SecsWaitReplyMessageException;
 import com.shimizukenta.secs.hsms.HsmsException;
@@ -28,13 +29,18 @@ public abstract class AbstractHsmsGsSession extends AbstractHsmsSession {
 			HsmsGsCommunicatorConfig config,
 			int sessionId) {
 		
-		super(communicator.executorService(), config.gem());
+		super(communicator.executorService(), config);
 		
 		this.communicator = communicator;
 		this.config = config;
 		this.sessionId = sessionId;
 	}
 	
+	@Override
+	protected void notifyDroppedMessage(SecsMessage message) {
+		this.communicator.offerThrowableToLog(new SecsReceiveMessageDroppedException(message));
+	}
+	
 	@Override
 	public boolean isEquip() {
 		return this.config.isEquip().booleanValue();
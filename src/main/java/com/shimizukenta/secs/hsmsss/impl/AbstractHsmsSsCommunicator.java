@@ -1,6 +1,7 @@
 package com.shimizukenta.secs.hsmsss.impl;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -9,6 +10,7 @@ import java.util.concurrent.TimeoutException;
 import com.shimizukenta.secs.SecsCommunicatableStateChangeBiListener;
 import com.shimizukenta.secs.SecsCommunicatableStateChangeListener;
 import com.shimizukenta.secs.SecsException;
+import com.shimizukenta.secs.SecsListenerLaneStatus;
 import com.shimizukenta.secs.SecsMessage;
 import com.shimizukenta.secs.SecsMessageReceiveBiListener;
 import com.shimizukenta.secs.SecsMessageReceiveListener;
@@ -55,7 +57,7 @@ public abstract class AbstractHsmsSsCommunicator extends AbstractSecsCommunicato
 		this.session = new AbstractHsmsSsSession(this, config) {};
 		
 		this.logObserver = new AbstractHsmsLogObserverFacade(config, this.executorService()) {};
-		this.msgPassThroughObserver = new AbstractHsmsMessagePassThroughObserverFacade(this.executorService()) {};
+		this.msgPassThroughObserver = new AbstractHsmsMessagePassThroughObserverFacade(config, this.executorService()) {};
 	}
 	
 	public AbstractHsmsSsSession getSession() {
@@ -172,6 +174,16 @@ public abstract class AbstractHsmsSsCommunicator extends AbstractSecsCommunicato
 		return this.getSession().removeSecsMessageReceiveBiListener(biListener);
 	}
 	
+	@Override
+	public List<SecsListenerLaneStatus> secsMessageReceiveListenerLanes() {
+		return this.getSession().secsMessageReceiveListenerLanes();
+	}
+	
+	@Override
+	public long droppedCount() {
+		return super.droppedCount() + this.getSession().hsmsMessageReceiveObserver().droppedCount();
+	}
+	
 	@Override
 	public boolean addHsmsMessageReceiveListener(HsmsMessageReceiveListener listener) {
 		return this.getSession().addHsmsMessageReceiveListener(listener);
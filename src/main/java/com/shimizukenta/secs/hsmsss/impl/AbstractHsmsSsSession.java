@@ -4,6 +4,7 @@ import java.util.Optional;
 
 import com.shimizukenta.secs.SecsException;
 import com.shimizukenta.secs.SecsMessage;
+import com.shimizukenta.secs.SecsReceiveMessageDroppedException;
 import com.shimizukenta.secs.SecsSendMessageException;
 import com.shimizukenta.secs.SecsWaitReplyMessageException;
 import com.shimizukenta.secs.hsms.HsmsException;
@@ -25,7 +26,7 @@ public abstract class AbstractHsmsSsSession extends AbstractHsmsSession {
 			AbstractHsmsSsCommunicator communicator,
 			HsmsSsCommunicatorConfig config) {
 		
-		super(communicator.executorService(), config.gem());
+		super(communicator.executorService(), config);
 		
 		this.communicator = communicator;
 		this.config = config;
@@ -33,6 +34,11 @@ public abstract class AbstractHsmsSsSession extends AbstractHsmsSession {
 		
 	}
 	
+	@Override
+	protected void notifyDroppedMessage(SecsMessage message) {
+		this.communicator.offerThrowableToLog(new SecsReceiveMessageDroppedException(message));
+	}
+	
 	@Override
 	public boolean isEquip() {
 		return this.config.isEquip().booleanValue();
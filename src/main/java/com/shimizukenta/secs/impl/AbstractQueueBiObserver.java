@@ -2,97 +2,178 @@ package com.shimizukenta.secs.impl;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EventListener;
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
+import com.shimizukenta.secs.AbstractSecsCommunicatorConfig;
 import com.shimizukenta.secs.SecsGemAccessor;
+import com.shimizukenta.secs.SecsListenerLaneStatus;
+import com.shimizukenta.secs.SecsObserverDispatchMode;
 
 public abstract class AbstractQueueBiObserver<C extends SecsGemAccessor, M extends EventListener, B extends EventListener, V> {
 	
-	private final BlockingQueue<V> queue = new LinkedBlockingQueue<>();
-	private final Collection<M> lstnrs = new ArrayList<>();
-	private final Collection<B> biLstnrs = new ArrayList<>();
+	private final Executor executor;
+	private final AbstractSecsCommunicatorConfig config;
+	private final boolean perListener;
+	
+	private final ObserverDispatchQueue<V> queue;
+	private final Collection<M> lstnrs = new CopyOnWriteArrayList<>();
+	private final Collection<B> biLstnrs = new CopyOnWriteArrayList<>();
+	private final List<ListenerLane<V>> lanes = new CopyOnWriteArrayList<>();
 	
 	private final Object sync = new Object();
 	
 	private final C accessor;
 	
+	/**
+	 * Constructor of default config, queue is bounded and put is blocked if full.
+	 * 
+	 * @param executor the executor
+	 * @param accessor the accessor
+	 */
 	public AbstractQueueBiObserver(Executor executor, C accessor) {
+		this(executor, new AbstractSecsCommunicatorConfig() {
+			private static final long serialVersionUID = 1L;
+		}, accessor);
+	}
+	
+	public AbstractQueueBiObserver(Executor executor, AbstractSecsCommunicatorConfig config, C accessor) {
 		
+		this.executor = executor;
+		this.config = config;
+		this.perListener = config.observerDispatchMode().get() == SecsObserverDispatchMode.PER_LISTENER;
 		this.accessor = accessor;
 		
-		executor.execute(() -> {
-			
-			try {
-				for ( ;; ) {
-					final V v = this.queue.take();
-					this.notifyValue(v);
-				}
-			}
-			catch ( InterruptedException ignore ) {
-			}
-			
-			try {
-				for ( ;; ) {
-					final V v = this.queue.poll(100L, TimeUnit.MILLISECONDS);
-					if (v == null) {
-						break;
-					}
-					this.notifyValue(v);
-				}
-			}
-			catch ( InterruptedException ignore ) {
-			}
-		});
+		this.queue = new ObserverDispatchQueue<>(
+				executor,
+				config.observerQueueCapacity().intValue(),
+				config.observerOverflowPolicy().get(),
+				this::notifyValue,
+				this::notifyDropped);
 	}
 	
 	private void notifyValue(V value) {
 		
-		synchronized ( this.sync ) {
-			
-			for (M listener : this.lstnrs) {
-				this.notifyValueToListener(listener, value);
-			}
-			
-			for (B biListener : this.biLstnrs) {
-				this.notifyValueToBiListener(biListener, value, this.accessor);
-			}
+		for (M listener : this.lstnrs) {
+			this.notifyValueToListener(listener, value);
+		}
+		
+		for (B biListener : this.biLstnrs) {
+			this.notifyValueToBiListener(biListener, value, this.accessor);
 		}
 	}
 	
 	abstract protected void notifyValueToListener(M listener, V value);
 	abstract protected void notifyValueToBiListener(B biListener, V value, C accessor);
 	
+	/**
+	 * Called on putting thread when value is dropped by full queue or full lane.
+	 * 
+	 * @param value the dropped value
+	 */
+	protected void notifyDropped(V value) {
+		/* Nothing */
+	}
+	
+	private void addLane(Object listener, Consumer<V> consumer) {
+		this.lanes.add(new ListenerLane<>(listener, consumer, this::notifyDropped, this.executor, this.config));
+	}
+	
+	private void removeLane(Object listener) {
+		for (ListenerLane<V> lane : this.lanes) {
+			if (lane.listener() == listener) {
+				lane.remove();
+				this.lanes.remove(lane);
+				return;
+			}
+		}
+	}
+	
 	public boolean addListener(M listener) {
 		synchronized ( this.sync ) {
-			return this.lstnrs.add(Objects.requireNonNull(listener));
+			final boolean f = this.lstnrs.add(Objects.requireNonNull(listener));
+			if ( this.perListener ) {
+				this.addLane(listener, v -> this.notifyValueToListener(listener, v));
+			}
+			return f;
 		}
 	}
 	
 	public boolean removeListener(M listener) {
 		synchronized ( this.sync ) {
-			return this.lstnrs.remove(Objects.requireNonNull(listener));
+			final boolean f = this.lstnrs.remove(Objects.requireNonNull(listener));
+			if ( f && this.perListener ) {
+				this.removeLane(listener);
+			}
+			return f;
 		}
 	}
 	
 	public boolean addBiListener(B biListener) {
 		synchronized ( this.sync ) {
-			return this.biLstnrs.add(Objects.requireNonNull(biListener));
+			final boolean f = this.biLstnrs.add(Objects.requireNonNull(biListener));
+			if ( this.perListener ) {
+				this.addLane(biListener, v -> this.notifyValueToBiListener(biListener, v, this.accessor));
+			}
+			return f;
 		}
 	}
 	
 	public boolean removeBiListener(B biListener) {
 		synchronized ( this.sync ) {
-			return this.biLstnrs.remove(Objects.requireNonNull(biListener));
+			final boolean f = this.biLstnrs.remove(Objects.requireNonNull(biListener));
+			if ( f && this.perListener ) {
+				this.removeLane(biListener);
+			}
+			return f;
 		}
 	}
 	
 	public void put(V value) throws InterruptedException {
-		this.queue.put(value);
+		
+		if ( this.perListener ) {
+			
+			/* offer, one full lane must not stall others */
+			for (ListenerLane<V> lane : this.lanes) {
+				lane.offer(value);
+			}
+			
+		} else {
+			
+			this.queue.put(value);
+		}
+	}
+	
+	public long droppedCount() {
+		
+		long n = this.queue.droppedCount();
+		
+		for (ListenerLane<V> lane : this.lanes) {
+			n += lane.status().droppedCount();
+		}
+		
+		return n;
+	}
+	
+	/**
+	 * Returns status of lanes, empty if not {@link SecsObserverDispatchMode#PER_LISTENER}.
+	 *
+	 * @return status of lanes
+	 */
+	public List<SecsListenerLaneStatus> laneStatuses() {
+		
+		final List<SecsListenerLaneStatus> ll = new ArrayList<>();
+		
+		for (ListenerLane<V> lane : this.lanes) {
+			ll.add(lane.status());
+		}
+		
+		return Collections.unmodifiableList(ll);
 	}
 	
 }
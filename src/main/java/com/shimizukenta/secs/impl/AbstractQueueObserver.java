@@ -3,46 +3,48 @@ package com.shimizukenta.secs.impl;
 import java.util.Collection;
 import java.util.EventListener;
 import java.util.Objects;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
+
+import com.shimizukenta.secs.AbstractSecsCommunicatorConfig;
 
 public abstract class AbstractQueueObserver<L extends EventListener, V> {
 	
 	private final Collection<L> lstnrs = new CopyOnWriteArrayList<>();
-	private final BlockingQueue<V> queue = new LinkedBlockingQueue<>();
+	private final ObserverDispatchQueue<V> queue;
 	
+	/**
+	 * Constructor of default config, queue is bounded and put is blocked if full.
+	 * 
+	 * @param executor the executor
+	 */
 	public AbstractQueueObserver(Executor executor) {
-		
-		executor.execute(() -> {
-			
-			try {
-				for ( ;; ) {
-					final V v = this.queue.take();
-					this.notifyValue(v);
-				}
-			}
-			catch ( InterruptedException ignore ) {
-			}
-			
-			try {
-				for ( ;; ) {
-					final V v = this.queue.poll(100L, TimeUnit.MILLISECONDS);
-					if ( v == null ) {
-						break;
-					}
-					this.notifyValue(v);
-				}
-			}
-			catch ( InterruptedException ignore ) {
-			}
+		this(executor, new AbstractSecsCommunicatorConfig() {
+			private static final long serialVersionUID = 1L;
 		});
 	}
 	
+	public AbstractQueueObserver(Executor executor, AbstractSecsCommunicatorConfig config) {
+		
+		this.queue = new ObserverDispatchQueue<>(
+				executor,
+				config.observerQueueCapacity().intValue(),
+				config.observerOverflowPolicy().get(),
+				this::notifyValue,
+				this::notifyDropped);
+	}
+	
 	abstract protected void notifyValueToListener(L listener, V value);
 	
+	/**
+	 * Called on putting thread when value is dropped by full queue.
+	 * 
+	 * @param value the dropped value
+	 */
+	protected void notifyDropped(V value) {
+		/* Nothing */
+	}
+	
 	private void notifyValue(V value) {
 		for ( L l : this.lstnrs ) {
 			this.notifyValueToListener(l, value);
@@ -65,4 +67,8 @@ public abstract class AbstractQueueObserver<L extends EventListener, V> {
 		return this.queue.offer(value);
 	}
 	
+	public long droppedCount() {
+		return this.queue.droppedCount();
+	}
+	
 }
@@ -76,6 +76,12 @@ public abstract class AbstractSecsCommunicator extends AbstractBaseCommunicator
 	}
 	
 	
+	@Override
+	public long droppedCount() {
+		return this.secsLogObserver().droppedCount() + this.secsPassThroughObserver().droppedCount();
+	}
+	
+	
 	/* Logger */
 	public boolean offerThrowableToLog(Throwable t) {
 		return this.secsLogObserver().offerThrowable(t);
@@ -1,5 +1,6 @@
 package com.shimizukenta.secs.impl;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -79,7 +80,7 @@ public abstract class AbstractSecsLog implements SecsLog, Serializable {
 	}
 	
 	
-	private static final String BR = System.lineSeparator();
+	protected static final String BR = System.lineSeparator();
 	private static final String SPACE = "  ";
 	private static DateTimeFormatter DATETIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
 	
@@ -106,6 +107,44 @@ public abstract class AbstractSecsLog implements SecsLog, Serializable {
 		}
 	}
 	
+	@Override
+	public void appendTo(Appendable a) throws IOException {
+		
+		final String cache;
+		final String header;
+		synchronized (this.sync) {
+			cache = this.cacheToString;
+			header = this.subjectHeader;
+		}
+		
+		if ( cache != null ) {
+			a.append(cache);
+			return;
+		}
+		
+		a.append(toTimestampString())
+		.append(SPACE)
+		.append(header)
+		.append(subject());
+		
+		this.appendValueTo(a);
+	}
+	
+	/**
+	 * Appends line-separator and value-String if exist.
+	 * 
+	 * @param a the Appendable
+	 * @throws IOException if append failed
+	 */
+	protected void appendValueTo(Appendable a) throws IOException {
+		
+		final Optional<String> v = optionalValueString();
+		
+		if ( v.isPresent() ) {
+			a.append(BR).append(v.get());
+		}
+	}
+	
 	protected String toTimestampString() {
 		return timestamp.format(DATETIME);
 	}
@@ -13,8 +13,8 @@ public abstract class AbstractSecsLogObserverFacade implements SecsLogObservable
 	
 	private class AllLogObserver extends AbstractQueueObserver<SecsLogListener<? super SecsLog>, SecsLog> {
 		
-		public AllLogObserver(Executor executor) {
-			super(executor);
+		public AllLogObserver(Executor executor, AbstractSecsCommunicatorConfig config) {
+			super(executor, config);
 		}
 		
 		@Override
@@ -25,8 +25,8 @@ public abstract class AbstractSecsLogObserverFacade implements SecsLogObservable
 	
 	private class ThrowableLogObserver extends AbstractQueueObserver<SecsLogListener<? super SecsThrowableLog>, SecsThrowableLog> {
 		
-		public ThrowableLogObserver(Executor executor) {
-			super(executor);
+		public ThrowableLogObserver(Executor executor, AbstractSecsCommunicatorConfig config) {
+			super(executor, config);
 		}
 		
 		@Override
@@ -37,8 +37,8 @@ public abstract class AbstractSecsLogObserverFacade implements SecsLogObservable
 	
 	private class SecsMessagePassThroghLogObserver extends AbstractQueueObserver<SecsLogListener<? super SecsMessagePassThroughLog>, SecsMessagePassThroughLog> {
 		
-		public SecsMessagePassThroghLogObserver(Executor executor) {
-			super(executor);
+		public SecsMessagePassThroghLogObserver(Executor executor, AbstractSecsCommunicatorConfig config) {
+			super(executor, config);
 		}
 		
 		@Override
@@ -59,11 +59,11 @@ public abstract class AbstractSecsLogObserverFacade implements SecsLogObservable
 	public AbstractSecsLogObserverFacade(AbstractSecsCommunicatorConfig config, Executor executor) {
 		this.config = config;
 		
-		this.allLogObserver = new AllLogObserver(executor);
-		this.throwableLogObserver = new ThrowableLogObserver(executor);
-		this.trySendSecsMsgPassThroughLogObserver = new SecsMessagePassThroghLogObserver(executor);
-		this.sendedSecsMsgPassThroughLogObserver = new SecsMessagePassThroghLogObserver(executor);
-		this.recvSecsMsgPassThroughLogObserver = new SecsMessagePassThroghLogObserver(executor);
+		this.allLogObserver = new AllLogObserver(executor, config);
+		this.throwableLogObserver = new ThrowableLogObserver(executor, config);
+		this.trySendSecsMsgPassThroughLogObserver = new SecsMessagePassThroghLogObserver(executor, config);
+		this.sendedSecsMsgPassThroughLogObserver = new SecsMessagePassThroghLogObserver(executor, config);
+		this.recvSecsMsgPassThroughLogObserver = new SecsMessagePassThroghLogObserver(executor, config);
 	}
 	
 	@Override
@@ -148,4 +148,12 @@ public abstract class AbstractSecsLogObserverFacade implements SecsLogObservable
 		return this.recvSecsMsgPassThroughLogObserver.offer(log);
 	}
 	
+	public long droppedCount() {
+		return this.allLogObserver.droppedCount()
+				+ this.throwableLogObserver.droppedCount()
+				+ this.trySendSecsMsgPassThroughLogObserver.droppedCount()
+				+ this.sendedSecsMsgPassThroughLogObserver.droppedCount()
+				+ this.recvSecsMsgPassThroughLogObserver.droppedCount();
+	}
+	
 }
@@ -1,5 +1,6 @@
 package com.shimizukenta.secs.impl;
 
+import java.io.IOException;
 import java.io.Serializable;
 
 import com.shimizukenta.secs.SecsMessage;
@@ -76,6 +77,31 @@ public abstract class AbstractSecsMessage implements SecsMessage, Serializable {
 		}
 	}
 	
+	@Override
+	public void appendTo(Appendable a) throws IOException {
+		
+		final String cache;
+		synchronized ( this.sync ) {
+			cache = this.cacheToString;
+		}
+		
+		if ( cache == null ) {
+			this.appendToProxy(a);
+		} else {
+			a.append(cache);
+		}
+	}
+	
+	/**
+	 * Appends String without cache, same as {@link #toStringProxy()}.
+	 * 
+	 * @param a the Appendable
+	 * @throws IOException if append failed
+	 */
+	protected void appendToProxy(Appendable a) throws IOException {
+		a.append(this.toStringProxy());
+	}
+	
 	protected Integer systemBytesKey() {
 		
 		synchronized ( this.sync ) {
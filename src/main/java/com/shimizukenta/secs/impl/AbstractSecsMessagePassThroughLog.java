@@ -1,5 +1,6 @@
 package com.shimizukenta.secs.impl;
 
+import java.io.IOException;
 import java.util.Objects;
 
 import com.shimizukenta.secs.SecsMessage;
@@ -20,5 +21,11 @@ public abstract class AbstractSecsMessagePassThroughLog extends AbstractSecsLog
 	public SecsMessage getSecsMessage() {
 		return this.msg;
 	}
+	
+	@Override
+	protected void appendValueTo(Appendable a) throws IOException {
+		a.append(BR);
+		this.msg.appendTo(a);
+	}
 
 }
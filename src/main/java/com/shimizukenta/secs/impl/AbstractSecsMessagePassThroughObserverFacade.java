@@ -2,6 +2,7 @@ package com.shimizukenta.secs.impl;
 
 import java.util.concurrent.Executor;
 
+import com.shimizukenta.secs.AbstractSecsCommunicatorConfig;
 import com.shimizukenta.secs.SecsMessage;
 import com.shimizukenta.secs.SecsMessagePassThroughListener;
 import com.shimizukenta.secs.SecsMessagePassThroughObservable;
@@ -10,8 +11,8 @@ public abstract class AbstractSecsMessagePassThroughObserverFacade implements Se
 	
 	private class SecsMessagePassThroughObserver extends AbstractQueueObserver<SecsMessagePassThroughListener<? super SecsMessage>, SecsMessage> {
 		
-		public SecsMessagePassThroughObserver(Executor executor) {
-			super(executor);
+		public SecsMessagePassThroughObserver(Executor executor, AbstractSecsCommunicatorConfig config) {
+			super(executor, config);
 		}
 		
 		@Override
@@ -25,10 +26,10 @@ public abstract class AbstractSecsMessagePassThroughObserverFacade implements Se
 	private final SecsMessagePassThroughObserver sendedSecsMsg;
 	private final SecsMessagePassThroughObserver recvSecsMsg;
 	
-	public AbstractSecsMessagePassThroughObserverFacade(Executor executor) {
-		this.trySendSecsMsg = new SecsMessagePassThroughObserver(executor);
-		this.sendedSecsMsg = new SecsMessagePassThroughObserver(executor);
-		this.recvSecsMsg = new SecsMessagePassThroughObserver(executor);
+	public AbstractSecsMessagePassThroughObserverFacade(AbstractSecsCommunicatorConfig config, Executor executor) {
+		this.trySendSecsMsg = new SecsMessagePassThroughObserver(executor, config);
+		this.sendedSecsMsg = new SecsMessagePassThroughObserver(executor, config);
+		this.recvSecsMsg = new SecsMessagePassThroughObserver(executor, config);
 	}
 
 	@Override
@@ -72,5 +73,11 @@ public abstract class AbstractSecsMessagePassThroughObserverFacade implements Se
 	protected void putToReceiveSecsMessage(SecsMessage message) throws InterruptedException {
 		this.recvSecsMsg.put(message);
 	}
+	
+	public long droppedCount() {
+		return this.trySendSecsMsg.droppedCount()
+				+ this.sendedSecsMsg.droppedCount()
+				+ this.recvSecsMsg.droppedCount();
+	}
 
 }
@@ -1,8 +1,11 @@
 package com.shimizukenta.secs.impl;
 
+import java.util.List;
 import java.util.concurrent.Executor;
 
+import com.shimizukenta.secs.AbstractSecsCommunicatorConfig;
 import com.shimizukenta.secs.SecsGemAccessor;
+import com.shimizukenta.secs.SecsListenerLaneStatus;
 import com.shimizukenta.secs.SecsMessage;
 import com.shimizukenta.secs.SecsMessageReceiveBiListener;
 import com.shimizukenta.secs.SecsMessageReceiveListener;
@@ -12,8 +15,8 @@ public abstract class AbstractSecsMessageReceiveObserverFacade implements SecsMe
 	
 	private class SecsMsgRecvQueueBiObserver extends AbstractQueueBiObserver<SecsGemAccessor, SecsMessageReceiveListener, SecsMessageReceiveBiListener, SecsMessage> {
 
-		public SecsMsgRecvQueueBiObserver(Executor executor, SecsGemAccessor accessor) {
-			super(executor, accessor);
+		public SecsMsgRecvQueueBiObserver(Executor executor, AbstractSecsCommunicatorConfig config, SecsGemAccessor accessor) {
+			super(executor, config, accessor);
 		}
 
 		@Override
@@ -29,12 +32,17 @@ public abstract class AbstractSecsMessageReceiveObserverFacade implements SecsMe
 			biListener.received(value, accessor);
 		}
 		
+		@Override
+		protected void notifyDropped(SecsMessage value) {
+			notifyDroppedMessage(value);
+		}
+		
 	}
 	
 	private final SecsMsgRecvQueueBiObserver secsMsgRecvObserver;
 	
-	public AbstractSecsMessageReceiveObserverFacade(Executor executor, SecsGemAccessor accessor) {
-		this.secsMsgRecvObserver = new SecsMsgRecvQueueBiObserver(executor, accessor);
+	public AbstractSecsMessageReceiveObserverFacade(AbstractSecsCommunicatorConfig config, Executor executor, SecsGemAccessor accessor) {
+		this.secsMsgRecvObserver = new SecsMsgRecvQueueBiObserver(executor, config, accessor);
 	}
 
 	@Override
@@ -57,8 +65,26 @@ public abstract class AbstractSecsMessageReceiveObserverFacade implements SecsMe
 		return this.secsMsgRecvObserver.removeBiListener(biListener);
 	}
 	
+	@Override
+	public List<SecsListenerLaneStatus> secsMessageReceiveListenerLanes() {
+		return this.secsMsgRecvObserver.laneStatuses();
+	}
+	
 	public void putSecsMessage(SecsMessage message) throws InterruptedException {
 		this.secsMsgRecvObserver.put(message);
 	}
+	
+	public long droppedCount() {
+		return this.secsMsgRecvObserver.droppedCount();
+	}
+	
+	/**
+	 * Called on receiving thread when received message is dropped by full queue.
+	 * 
+	 * @param message the dropped message
+	 */
+	protected void notifyDroppedMessage(SecsMessage message) {
+		/* Nothing */
+	}
 
 }
@@ -0,0 +1,147 @@
+package com.shimizukenta.secs.impl;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import com.shimizukenta.secs.AbstractSecsCommunicatorConfig;
+import com.shimizukenta.secs.SecsListenerLaneStatus;
+
+/**
+ * Ordered lane of one listener, bounded queue drained on shared executor.
+ *
+ * <p>
+ * Values are offered, lane never blocks caller.
+ * </p>
+ *
+ * @param <V> Value type
+ */
+final class ListenerLane<V> {
+	
+	private static final class Entry<V> {
+		
+		private final V value;
+		private final long nanos;
+		
+		private Entry(V value) {
+			this.value = value;
+			this.nanos = System.nanoTime();
+		}
+	}
+	
+	private final Object listener;
+	private final Consumer<V> consumer;
+	private final ObserverDispatchQueue<Entry<V>> queue;
+	
+	private final LongAdder delivered = new LongAdder();
+	private final AtomicLong maxLag = new AtomicLong(0L);
+	private volatile boolean removed;
+	
+	ListenerLane(Object listener, Consumer<V> consumer, Executor executor, AbstractSecsCommunicatorConfig config) {
+		this(listener, consumer, v -> { /* Nothing */ }, executor, config);
+	}
+	
+	ListenerLane(Object listener, Consumer<V> consumer, Consumer<V> droppedConsumer, Executor executor, AbstractSecsCommunicatorConfig config) {
+		this.listener = listener;
+		this.consumer = consumer;
+		this.queue = new ObserverDispatchQueue<>(
+				executor,
+				config.observerQueueCapacity().intValue(),
+				config.observerLaneOverflowPolicy().get(),
+				this::deliver,
+				e -> droppedConsumer.accept(e.value));
+		this.removed = false;
+	}
+	
+	public Object listener() {
+		return this.listener;
+	}
+	
+	public boolean offer(V value) {
+		if ( this.removed ) {
+			return false;
+		}
+		return this.queue.offer(new Entry<>(value));
+	}
+	
+	/**
+	 * Queued values are discarded, not notified.
+	 *
+	 */
+	public void remove() {
+		this.removed = true;
+	}
+	
+	private void deliver(Entry<V> e) {
+		
+		if ( this.removed ) {
+			return;
+		}
+		
+		final long lag = System.nanoTime() - e.nanos;
+		
+		if ( lag > this.maxLag.get() ) {
+			this.maxLag.accumulateAndGet(lag, Math::max);
+		}
+		
+		this.delivered.increment();
+		this.consumer.accept(e.value);
+	}
+	
+	public SecsListenerLaneStatus status() {
+		
+		final Entry<V> head = this.queue.oldest();
+		final long lag = head == null ? 0L : Math.max(0L, System.nanoTime() - head.nanos);
+		final int depth = this.queue.size();
+		final long maxLg = Math.max(lag, this.maxLag.get());
+		final long dlvrd = this.delivered.sum();
+		final long drpd = this.queue.droppedCount();
+		final Object l = this.listener;
+		
+		return new SecsListenerLaneStatus() {
+			
+			@Override
+			public Object listener() {
+				return l;
+			}
+			
+			@Override
+			public int depth() {
+				return depth;
+			}
+			
+			@Override
+			public long lagNanos() {
+				return lag;
+			}
+			
+			@Override
+			public long maxLagNanos() {
+				return maxLg;
+			}
+			
+			@Override
+			public long deliveredCount() {
+				return dlvrd;
+			}
+			
+			@Override
+			public long droppedCount() {
+				return drpd;
+			}
+			
+			@Override
+			public String toString() {
+				return "{listener: " + l
+						+ ", depth: " + depth
+						+ ", lagNanos: " + lag
+						+ ", maxLagNanos: " + maxLg
+						+ ", delivered: " + dlvrd
+						+ ", dropped: " + drpd
+						+ "}";
+			}
+		};
+	}
+	
+}
@@ -0,0 +1,212 @@
+package com.shimizukenta.secs.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import com.shimizukenta.secs.SecsObserverOverflowPolicy;
+
+/**
+ * Bounded queue of listener-notify, drained in batch on shared executor.
+ *
+ * <p>
+ * Drain task is executed only while queue has values, no thread is kept by idle observer.<br />
+ * Values are notified in queued order, one drain task per queue at a time.<br />
+ * Values taken in drain batch are counted as pending until notified.
+ * </p>
+ *
+ * @param <V> Value type
+ */
+final class ObserverDispatchQueue<V> {
+	
+	private static final int BATCH_SIZE = 256;
+	
+	private final Executor executor;
+	private final BlockingQueue<V> queue;
+	private final SecsObserverOverflowPolicy policy;
+	private final Consumer<V> consumer;
+	private final Consumer<V> droppedConsumer;
+	
+	private final AtomicBoolean scheduled = new AtomicBoolean(false);
+	private final LongAdder dropped = new LongAdder();
+	private final AtomicInteger pending = new AtomicInteger(0);
+	private volatile V inFlight;
+	private volatile boolean rejected;
+	
+	ObserverDispatchQueue(Executor executor, int capacity, SecsObserverOverflowPolicy policy, Consumer<V> consumer) {
+		this(executor, capacity, policy, consumer, v -> { /* Nothing */ });
+	}
+	
+	/**
+	 * Constructor.
+	 *
+	 * @param executor the executor of drain task
+	 * @param capacity the queue capacity
+	 * @param policy the overflow policy
+	 * @param consumer the consumer of queued value
+	 * @param droppedConsumer the consumer of dropped value, called on putting thread
+	 */
+	ObserverDispatchQueue(Executor executor, int capacity, SecsObserverOverflowPolicy policy, Consumer<V> consumer, Consumer<V> droppedConsumer) {
+		this.executor = executor;
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.policy = policy;
+		this.consumer = consumer;
+		this.droppedConsumer = droppedConsumer;
+		this.inFlight = null;
+		this.rejected = false;
+	}
+	
+	public void put(V value) throws InterruptedException {
+		
+		if ( this.policy == SecsObserverOverflowPolicy.BLOCK ) {
+			
+			this.pending.incrementAndGet();
+			
+			while ( ! this.queue.offer(value, 100L, TimeUnit.MILLISECONDS) ) {
+				
+				/* executor shutdown, nobody drains */
+				if ( this.rejected ) {
+					this.pending.decrementAndGet();
+					this.drop(value);
+					return;
+				}
+			}
+			
+			this.schedule();
+		
+		} else {
+			
+			this.offer(value);
+		}
+	}
+	
+	public boolean offer(V value) {
+		
+		final boolean f;
+		
+		this.pending.incrementAndGet();
+		
+		if ( this.policy == SecsObserverOverflowPolicy.DROP_OLDEST ) {
+			
+			while ( ! this.queue.offer(value) ) {
+				final V v = this.queue.poll();
+				if ( v != null ) {
+					this.pending.decrementAndGet();
+					this.drop(v);
+				}
+			}
+			
+			f = true;
+		
+		} else {
+			
+			f = this.queue.offer(value);
+			
+			if ( ! f ) {
+				this.pending.decrementAndGet();
+				this.drop(value);
+			}
+		}
+		
+		this.schedule();
+		
+		return f;
+	}
+	
+	private void drop(V value) {
+		
+		this.dropped.increment();
+		
+		try {
+			this.droppedConsumer.accept(value);
+		}
+		catch ( RuntimeException ignore ) {
+			/* must not fail putting */
+		}
+	}
+	
+	public long droppedCount() {
+		return this.dropped.sum();
+	}
+	
+	/**
+	 * Returns count of values not notified yet, includes values taken in drain batch.
+	 *
+	 * @return count of pending values
+	 */
+	public int size() {
+		return this.pending.get();
+	}
+	
+	/**
+	 * Returns oldest value not notified yet, value in notifying is included.
+	 *
+	 * @return oldest pending value, {@code null} if no value
+	 */
+	public V oldest() {
+		final V v = this.inFlight;
+		return v == null ? this.queue.peek() : v;
+	}
+	
+	private void schedule() {
+		
+		if ( this.scheduled.compareAndSet(false, true) ) {
+			
+			try {
+				this.executor.execute(this::drain);
+			}
+			catch ( RejectedExecutionException e ) {
+				this.rejected = true;
+				this.scheduled.set(false);
+			}
+		}
+	}
+	
+	private void drain() {
+		
+		final List<V> batch = new ArrayList<>(BATCH_SIZE);
+		
+		for ( ;; ) {
+			
+			this.queue.drainTo(batch, BATCH_SIZE);
+			
+			if ( batch.isEmpty() ) {
+				
+				this.scheduled.set(false);
+				
+				/* value may be queued after drainTo and before set(false) */
+				if ( this.queue.isEmpty() || ! this.scheduled.compareAndSet(false, true) ) {
+					return;
+				}
+				
+				continue;
+			}
+			
+			for ( V v : batch ) {
+				
+				this.inFlight = v;
+				
+				try {
+					this.consumer.accept(v);
+				}
+				catch ( RuntimeException ignore ) {
+					/* listener failure must not stop dispatch */
+				}
+				
+				this.pending.decrementAndGet();
+			}
+			
+			this.inFlight = null;
+			batch.clear();
+		}
+	}
+	
+}
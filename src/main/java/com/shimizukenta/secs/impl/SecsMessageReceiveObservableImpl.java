@@ -1,5 +1,8 @@
 package com.shimizukenta.secs.impl;
 
+import java.util.List;
+
+import com.shimizukenta.secs.SecsListenerLaneStatus;
 import com.shimizukenta.secs.SecsMessageReceiveBiListener;
 import com.shimizukenta.secs.SecsMessageReceiveListener;
 import com.shimizukenta.secs.SecsMessageReceiveObservable;
@@ -26,6 +29,11 @@ public interface SecsMessageReceiveObservableImpl extends SecsMessageReceiveObse
 		return this.secsMessageReceiveObserver().removeSecsMessageReceiveBiListener(biListener);
 	}
 	
+	@Override
+	default public List<SecsListenerLaneStatus> secsMessageReceiveListenerLanes() {
+		return this.secsMessageReceiveObserver().secsMessageReceiveListenerLanes();
+	}
+	
 	
 	public AbstractSecsMessageReceiveObserverFacade secsMessageReceiveObserver();
 	
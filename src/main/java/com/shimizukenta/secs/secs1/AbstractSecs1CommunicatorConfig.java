@@ -1,8 +1,11 @@
 package com.shimizukenta.secs.secs1;
 
+import java.util.Objects;
+
 import com.shimizukenta.secs.AbstractSecsCommunicatorConfig;
 import com.shimizukenta.secs.local.property.BooleanProperty;
 import com.shimizukenta.secs.local.property.IntegerProperty;
+import com.shimizukenta.secs.local.property.ObjectProperty;
 
 /**
  * This class is config of SECS-I-Communicator.
@@ -11,6 +14,7 @@ import com.shimizukenta.secs.local.property.IntegerProperty;
  * <li>To set Device-ID, {@link #deviceId(int)}</li>
  * <li>To set Master-Mode, {@link #isMaster(boolean)}</li>
  * <li>To set Retry, {@link #retry(int)}</li>
+ * <li>To set Send-Order-Policy, {@link #sendOrderPolicy(Secs1SendOrderPolicy)}</li>
  * </ul>
  * 
  * @author kenta-shimizu
@@ -44,6 +48,18 @@ public abstract class AbstractSecs1CommunicatorConfig extends AbstractSecsCommun
 	 */
 	private final BooleanProperty isCheckMessageBlockDeviceId = BooleanProperty.newInstance(true);
 	
+	/**
+	 * Send-Order-Policy.
+	 * 
+	 */
+	private final ObjectProperty<Secs1SendOrderPolicy> sendOrderPolicy = ObjectProperty.newInstance(Secs1SendOrderPolicy.FIFO);
+	
+	/**
+	 * Reply-First Fairness.
+	 * 
+	 */
+	private final IntegerProperty replyFirstFairness = IntegerProperty.newInstance(4);
+	
 	/**
 	 * Constructor.
 	 * 
@@ -130,4 +146,52 @@ public abstract class AbstractSecs1CommunicatorConfig extends AbstractSecsCommun
 		return this.isCheckMessageBlockDeviceId;
 	}
 	
+	/**
+	 * Send-Order-Policy setter.
+	 * 
+	 * <p>
+	 * Default is {@link Secs1SendOrderPolicy#FIFO}.
+	 * </p>
+	 * 
+	 * @param policy the Send-Order-Policy
+	 */
+	public void sendOrderPolicy(Secs1SendOrderPolicy policy) {
+		this.sendOrderPolicy.set(Objects.requireNonNull(policy));
+	}
+	
+	/**
+	 * Returns Send-Order-Policy property.
+	 * 
+	 * @return send-order-policy property
+	 */
+	public ObjectProperty<Secs1SendOrderPolicy> sendOrderPolicy() {
+		return this.sendOrderPolicy;
+	}
+	
+	/**
+	 * Reply-First Fairness setter.
+	 * 
+	 * <p>
+	 * Max count of messages sent in a row before waiting multi-block primary message,
+	 * used if {@link Secs1SendOrderPolicy#REPLY_FIRST}.
+	 * </p>
+	 * 
+	 * @param fairness fairness-value is {@code >= 1}
+	 */
+	public void replyFirstFairness(int fairness) {
+		if ( fairness < 1 ) {
+			throw new ReplyFirstFairnessIllegalArgumentException(fairness);
+		}
+		this.replyFirstFairness.set(fairness);
+	}
+	
+	/**
+	 * Returns Reply-First Fairness property.
+	 * 
+	 * @return reply-first-fairness property
+	 */
+	public IntegerProperty replyFirstFairness() {
+		return this.replyFirstFairness;
+	}
+	
 }
@@ -0,0 +1,22 @@
+package com.shimizukenta.secs.secs1;
+
+/**
+ * Reply-First Fairness Illegal Argument Exception.
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public class ReplyFirstFairnessIllegalArgumentException extends IllegalArgumentException {
+	
+	private static final long serialVersionUID = -6329071741513688412L;
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param fairness the SECS-I config Reply-First Fairness
+	 */
+	public ReplyFirstFairnessIllegalArgumentException(int fairness) {
+		super("fairness must be greater than = 1, fairness=" + fairness);
+	}
+	
+}
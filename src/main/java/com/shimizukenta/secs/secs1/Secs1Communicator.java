@@ -10,4 +10,15 @@ import com.shimizukenta.secs.SecsCommunicator;
  */
 public interface Secs1Communicator extends SecsCommunicator, Secs1GemAccessor, Secs1MessageReceiveObservable, Secs1MessagePassThroughObservable, Secs1LogObservable {
 	
+	/**
+	 * Returns snapshot of link quality and timing metrics.
+	 * 
+	 * <p>
+	 * Counters are lock-free, snapshot does not block circuit.
+	 * </p>
+	 * 
+	 * @return snapshot of link metrics
+	 */
+	public Secs1LinkMetrics linkMetrics();
+	
 }
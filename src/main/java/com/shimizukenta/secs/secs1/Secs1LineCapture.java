@@ -0,0 +1,68 @@
+package com.shimizukenta.secs.secs1;
+
+import java.io.Closeable;
+import java.io.OutputStream;
+
+import com.shimizukenta.secs.secs1.impl.AbstractSecs1LineCapture;
+
+/**
+ * This interface is timestamped text capture of {@link Secs1LineEvent}.
+ * 
+ * <p>
+ * Events are queued and written by own thread, {@link #received(Secs1LineEvent)} does not block.<br />
+ * If queue is full, event is dropped and counted.
+ * </p>
+ * 
+ * <ul>
+ * <li>To create new instance, {@link #newInstance(OutputStream)}</li>
+ * <li>To get dropped count, {@link #droppedEvents()}</li>
+ * </ul>
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public interface Secs1LineCapture extends Secs1LineEventListener, Closeable {
+	
+	/**
+	 * Default queue capacity.
+	 * 
+	 */
+	public static final int DEFAULT_QUEUE_CAPACITY = 8192;
+	
+	/**
+	 * Create capture instance, written UTF-8.
+	 * 
+	 * <p>
+	 * OutputStream is closed when capture closed.
+	 * </p>
+	 * 
+	 * @param out the OutputStream
+	 * @return new capture instance
+	 */
+	public static Secs1LineCapture newInstance(OutputStream out) {
+		return newInstance(out, DEFAULT_QUEUE_CAPACITY);
+	}
+	
+	/**
+	 * Create capture instance, written UTF-8.
+	 * 
+	 * <p>
+	 * OutputStream is closed when capture closed.
+	 * </p>
+	 * 
+	 * @param out the OutputStream
+	 * @param queueCapacity the queue capacity, must be {@code >= 1}
+	 * @return new capture instance
+	 */
+	public static Secs1LineCapture newInstance(OutputStream out, int queueCapacity) {
+		return new AbstractSecs1LineCapture(out, queueCapacity) {};
+	}
+	
+	/**
+	 * Returns count of dropped events by queue overflow.
+	 * 
+	 * @return count of dropped events
+	 */
+	public long droppedEvents();
+	
+}
@@ -0,0 +1,43 @@
+package com.shimizukenta.secs.secs1;
+
+/**
+ * Direction of monitored SECS-I line.
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public enum Secs1LineDirection {
+	
+	/**
+	 * From HOST to EQUIP.
+	 * 
+	 */
+	HOST_TO_EQUIP("H -> E"),
+	
+	/**
+	 * From EQUIP to HOST.
+	 * 
+	 */
+	EQUIP_TO_HOST("E -> H"),
+	;
+	
+	private final String arrow;
+	
+	private Secs1LineDirection(String arrow) {
+		this.arrow = arrow;
+	}
+	
+	/**
+	 * Returns opposite direction.
+	 * 
+	 * @return opposite direction
+	 */
+	public Secs1LineDirection opposite() {
+		return this == HOST_TO_EQUIP ? EQUIP_TO_HOST : HOST_TO_EQUIP;
+	}
+	
+	@Override
+	public String toString() {
+		return this.arrow;
+	}
+}
@@ -0,0 +1,69 @@
+package com.shimizukenta.secs.secs1;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Event of monitored SECS-I line.
+ * 
+ * <ul>
+ * <li>{@link Secs1LineEventType#BLOCK} and {@link Secs1LineEventType#SUM_CHECK_ERROR} has {@link #block()}</li>
+ * <li>{@link Secs1LineEventType#MESSAGE} has {@link #message()}</li>
+ * <li>{@link Secs1LineEventType#ILLEGAL_LENGTH_BYTE} and {@link Secs1LineEventType#GARBAGE} has {@link #value()}</li>
+ * </ul>
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public interface Secs1LineEvent {
+	
+	/**
+	 * Returns line name.
+	 * 
+	 * @return line name
+	 */
+	public String lineName();
+	
+	/**
+	 * Returns timestamp of bytes received.
+	 * 
+	 * @return timestamp
+	 */
+	public LocalDateTime timestamp();
+	
+	/**
+	 * Returns direction.
+	 * 
+	 * @return direction
+	 */
+	public Secs1LineDirection direction();
+	
+	/**
+	 * Returns event type.
+	 * 
+	 * @return event type
+	 */
+	public Secs1LineEventType type();
+	
+	/**
+	 * Returns block if exist.
+	 * 
+	 * @return block if exist
+	 */
+	public Optional<Secs1MessageBlock> block();
+	
+	/**
+	 * Returns message if exist.
+	 * 
+	 * @return message if exist
+	 */
+	public Optional<Secs1Message> message();
+	
+	/**
+	 * Returns byte value of length byte or garbage byte, otherwise {@code -1}.
+	 * 
+	 * @return byte value
+	 */
+	public int value();
+	
+}
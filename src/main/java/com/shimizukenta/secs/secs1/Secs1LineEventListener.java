@@ -0,0 +1,24 @@
+package com.shimizukenta.secs.secs1;
+
+import java.util.EventListener;
+
+/**
+ * Secs1LineEvent listener.
+ * 
+ * <p>
+ * Called on I/O thread after bytes are forwarded, must not block.
+ * </p>
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public interface Secs1LineEventListener extends EventListener {
+	
+	/**
+	 * Putter Secs1LineEvent.
+	 * 
+	 * @param event the event
+	 */
+	public void received(Secs1LineEvent event);
+	
+}
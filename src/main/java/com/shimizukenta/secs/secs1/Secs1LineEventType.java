@@ -0,0 +1,78 @@
+package com.shimizukenta.secs.secs1;
+
+/**
+ * Type of monitored SECS-I line event.
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public enum Secs1LineEventType {
+	
+	/**
+	 * ENQ byte.
+	 * 
+	 */
+	ENQ,
+	
+	/**
+	 * EOT byte.
+	 * 
+	 */
+	EOT,
+	
+	/**
+	 * ACK byte.
+	 * 
+	 */
+	ACK,
+	
+	/**
+	 * NAK byte.
+	 * 
+	 */
+	NAK,
+	
+	/**
+	 * Block received, sum-check passed.
+	 * 
+	 */
+	BLOCK,
+	
+	/**
+	 * Block received, sum-check failed.
+	 * 
+	 */
+	SUM_CHECK_ERROR,
+	
+	/**
+	 * Length byte is not in 10 to 254.
+	 * 
+	 */
+	ILLEGAL_LENGTH_BYTE,
+	
+	/**
+	 * Byte out of handshake or block.
+	 * 
+	 */
+	GARBAGE,
+	
+	/**
+	 * Message reassembled from ACKed blocks.
+	 * 
+	 */
+	MESSAGE,
+	
+	/**
+	 * TCP/IP connected.
+	 * 
+	 */
+	CONNECTED,
+	
+	/**
+	 * TCP/IP disconnected.
+	 * 
+	 */
+	DISCONNECTED,
+	;
+	
+}
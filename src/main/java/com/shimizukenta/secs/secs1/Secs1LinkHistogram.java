@@ -0,0 +1,81 @@
+package com.shimizukenta.secs.secs1;
+
+/**
+ * This interface is snapshot of histogram of {@link Secs1LinkMetrics}.
+ * 
+ * <p>
+ * Values are counted in power-of-2 buckets, bucket {@code i} counts values of {@code [2^(i-1), 2^i)},
+ * bucket {@code 0} counts value {@code 0}.<br />
+ * Latency values are nanoseconds.
+ * </p>
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public interface Secs1LinkHistogram {
+	
+	/**
+	 * Buckets count.
+	 * 
+	 */
+	public static final int BUCKETS = 64;
+	
+	/**
+	 * Returns count of recorded values.
+	 * 
+	 * @return count of recorded values
+	 */
+	public long count();
+	
+	/**
+	 * Returns sum of recorded values.
+	 * 
+	 * @return sum of recorded values
+	 */
+	public long sum();
+	
+	/**
+	 * Returns min of recorded values, {@code 0} if not recorded.
+	 * 
+	 * @return min of recorded values
+	 */
+	public long min();
+	
+	/**
+	 * Returns max of recorded values, {@code 0} if not recorded.
+	 * 
+	 * @return max of recorded values
+	 */
+	public long max();
+	
+	/**
+	 * Returns mean of recorded values, {@code 0.0} if not recorded.
+	 * 
+	 * @return mean of recorded values
+	 */
+	default public double mean() {
+		final long n = this.count();
+		return n > 0L ? ((double)(this.sum()) / (double)n) : 0.0D;
+	}
+	
+	/**
+	 * Returns count of bucket.
+	 * 
+	 * @param bucket the bucket index, {@code 0} to {@code BUCKETS - 1}
+	 * @return count of bucket
+	 */
+	public long bucketCount(int bucket);
+	
+	/**
+	 * Returns upper bound of value at percentile, {@code 0} if not recorded.
+	 * 
+	 * <p>
+	 * Result is upper bound of bucket, and not over {@link #max()}.
+	 * </p>
+	 * 
+	 * @param percentile the percentile, {@code 0.0} to {@code 100.0}
+	 * @return upper bound of value at percentile
+	 */
+	public long valueAtPercentile(double percentile);
+	
+}
@@ -0,0 +1,155 @@
+package com.shimizukenta.secs.secs1;
+
+/**
+ * This interface is snapshot of SECS-I link quality and timing metrics of circuit.
+ * 
+ * <p>
+ * Values are counted from communicator created, and not changed after snapshot.
+ * </p>
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public interface Secs1LinkMetrics {
+	
+	/**
+	 * Returns sent messages count.
+	 * 
+	 * @return sent messages count
+	 */
+	public long sentMessages();
+	
+	/**
+	 * Returns received messages count.
+	 * 
+	 * @return received messages count
+	 */
+	public long receivedMessages();
+	
+	/**
+	 * Returns ACKed sent blocks count.
+	 * 
+	 * @return ACKed sent blocks count
+	 */
+	public long sentBlocks();
+	
+	/**
+	 * Returns ACKed received blocks count.
+	 * 
+	 * @return ACKed received blocks count
+	 */
+	public long receivedBlocks();
+	
+	/**
+	 * Returns retry count-up count.
+	 * 
+	 * @return retry count-up count
+	 */
+	public long retries();
+	
+	/**
+	 * Returns retry-over messages count.
+	 * 
+	 * @return retry-over messages count
+	 */
+	public long retryOvers();
+	
+	/**
+	 * Returns NAK or other byte received count, instead of ACK.
+	 * 
+	 * @return NAK received count
+	 */
+	public long naksReceived();
+	
+	/**
+	 * Returns NAK sent count.
+	 * 
+	 * @return NAK sent count
+	 */
+	public long naksSent();
+	
+	/**
+	 * Returns sum-check mismatch count.
+	 * 
+	 * @return sum-check mismatch count
+	 */
+	public long sumCheckErrors();
+	
+	/**
+	 * Returns illegal length byte count.
+	 * 
+	 * @return illegal length byte count
+	 */
+	public long illegalLengthBytes();
+	
+	/**
+	 * Returns T1-Timeout count.
+	 * 
+	 * @return T1-Timeout count
+	 */
+	public long t1Timeouts();
+	
+	/**
+	 * Returns T2-Timeout count.
+	 * 
+	 * @return T2-Timeout count
+	 */
+	public long t2Timeouts();
+	
+	/**
+	 * Returns T3-Timeout count.
+	 * 
+	 * @return T3-Timeout count
+	 */
+	public long t3Timeouts();
+	
+	/**
+	 * Returns T4-Timeout count.
+	 * 
+	 * @return T4-Timeout count
+	 */
+	public long t4Timeouts();
+	
+	/**
+	 * Returns ENQ received count while waiting EOT.
+	 * 
+	 * @return contention count
+	 */
+	public long contentions();
+	
+	/**
+	 * Returns contention lost count, sending is yielded as slave.
+	 * 
+	 * @return contention lost count
+	 */
+	public long contentionLosses();
+	
+	/**
+	 * Returns histogram of ENQ sent to EOT received, nanoseconds.
+	 * 
+	 * @return histogram of ENQ to EOT
+	 */
+	public Secs1LinkHistogram enqToEot();
+	
+	/**
+	 * Returns histogram of block sent to ACK received, nanoseconds.
+	 * 
+	 * @return histogram of block to ACK
+	 */
+	public Secs1LinkHistogram blockToAck();
+	
+	/**
+	 * Returns histogram of ACK sent to next block ENQ received, nanoseconds.
+	 * 
+	 * @return histogram of inter-block gap
+	 */
+	public Secs1LinkHistogram interBlockGap();
+	
+	/**
+	 * Returns histogram of retries per sent or retry-over message.
+	 * 
+	 * @return histogram of retries per message
+	 */
+	public Secs1LinkHistogram retriesPerMessage();
+	
+}
@@ -0,0 +1,28 @@
+package com.shimizukenta.secs.secs1;
+
+/**
+ * SECS-I send order policy of queued messages.
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public enum Secs1SendOrderPolicy {
+	
+	/**
+	 * Send in queued order.
+	 * 
+	 */
+	FIFO,
+	
+	/**
+	 * Send secondary messages and single-block messages before queued multi-block primary messages.
+	 * 
+	 * <p>
+	 * Count of messages sent before waiting primary is limited by
+	 * {@link AbstractSecs1CommunicatorConfig#replyFirstFairness(int)}.
+	 * </p>
+	 */
+	REPLY_FIRST,
+	;
+	
+}
@@ -1,17 +1,14 @@
 package com.shimizukenta.secs.secs1.impl;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Queue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import com.shimizukenta.secs.SecsException;
+import com.shimizukenta.secs.local.property.TimeoutAndUnit;
 import com.shimizukenta.secs.local.property.TimeoutGettable;
 import com.shimizukenta.secs.local.property.TimeoutProperty;
 import com.shimizukenta.secs.secs1.Secs1Exception;
@@ -30,6 +27,8 @@ import com.shimizukenta.secs.secs1.Secs1TimeoutT2Exception;
 import com.shimizukenta.secs.secs1.Secs1TimeoutT3Exception;
 import com.shimizukenta.secs.secs1.Secs1TimeoutT4Exception;
 import com.shimizukenta.secs.secs1.Secs1WaitReplyMessageException;
+import com.shimizukenta.secs.secs2.impl.Secs2BytesParser;
+import com.shimizukenta.secs.secs2.impl.Secs2BytesParsers;
 
 public abstract class AbstractSecs1CircuitFacade implements Runnable {
 	
@@ -71,65 +70,101 @@ public abstract class AbstractSecs1CircuitFacade implements Runnable {
 		}
 	}
 	
-	private final class Secs1MessageBlockPack {
-		
-		public final Secs1Message message;
-		private final List<Secs1MessageBlock> blocks;
-		private int present;
-		
-		public Secs1MessageBlockPack(Secs1Message message) {
-			this.message = message;
-			this.blocks = new ArrayList<>(message.toBlocks());
-			this.present = 0;
-		}
-		
-		public Secs1MessageBlock present() {
-			return this.blocks.get(present);
-		}
-		
-		public void reset() {
-			this.present = 0;
-		}
-		
-		public void next() {
-			++ this.present;
-		}
-		
-		public boolean ebit() {
-			return this.blocks.get(this.present).ebit();
-		}
-	}
-	
 	private final class ByteAndSecs1MessageQueue {
 		
 		private final Object sync = new Object();
-		private final BlockingQueue<Byte> bb = new LinkedBlockingQueue<>();
-		private final Queue<Secs1MessageBlockPack> mm = new LinkedList<>();
+		private final Secs1SendMessageQueue<Secs1MessageBlockPack> messages = new Secs1SendMessageQueue<>(p -> p.message);
+		
+		/* input bytes, guarded by sync */
+		private final Secs1ByteRingBuffer bytes = new Secs1ByteRingBuffer();
 		
 		public ByteAndSecs1MessageQueue() {
 			/* Nothing */
 		}
 		
 		public void putBytes(byte[] bs) throws InterruptedException {
+			this.put(bs, 0, bs.length);
+		}
+		
+		/**
+		 * Put bytes to ring buffer at once.
+		 * 
+		 * @param bs the bytes
+		 * @param off start position of bs
+		 * @param len length to put
+		 */
+		public void put(byte[] bs, int off, int len) {
 			synchronized (this.sync) {
-				for (byte b : bs) {
-					this.bb.add(Byte.valueOf(b));
+				
+				if (len <= 0) {
+					return;
 				}
+				
+				this.bytes.put(bs, off, len);
 				this.sync.notifyAll();
 			}
 		}
 		
+		/**
+		 * Wait until bytes available or deadline.
+		 * 
+		 * <p>
+		 * Must be called in synchronized sync.
+		 * </p>
+		 * 
+		 * @param deadline the deadline of System#nanoTime
+		 * @return true if bytes available
+		 * @throws InterruptedException
+		 */
+		private boolean awaitBytes(long deadline) throws InterruptedException {
+			
+			while (this.bytes.isEmpty()) {
+				
+				final long remaining = deadline - System.nanoTime();
+				
+				if (remaining <= 0L) {
+					return false;
+				}
+				
+				TimeUnit.NANOSECONDS.timedWait(this.sync, remaining);
+			}
+			
+			return true;
+		}
+		
+		private long deadline(TimeoutGettable timeout) {
+			final TimeoutAndUnit a = timeout.get();
+			return System.nanoTime() + a.unit().toNanos(a.timeout());
+		}
+		
 		public void putSecs1Message(Secs1Message message) throws InterruptedException {
+			
+			final Secs1MessageBlockPack pack = new Secs1MessageBlockPack(message);
+			
 			synchronized (this.sync) {
-				this.mm.add(new Secs1MessageBlockPack(message));
+				
+				this.messages.add(pack, AbstractSecs1CircuitFacade.this.comm.config().sendOrderPolicy().get());
 				this.sync.notifyAll();
 			}
 		}
 		
+		/**
+		 * Poll message by Send-Order-Policy.
+		 * 
+		 * <p>
+		 * Must be called in synchronized sync.
+		 * </p>
+		 * 
+		 * @return message pack if exist, otherwise null
+		 */
+		private Secs1MessageBlockPack pollSecs1Message() {
+			return this.messages.poll(AbstractSecs1CircuitFacade.this.comm.config().replyFirstFairness().intValue());
+		}
+		
 		public ByteOrSecs1Message takeByteOrSecs1Message() throws InterruptedException {
 			synchronized (this.sync) {
 				for ( ;; ) {
-					Secs1MessageBlockPack msgPack = this.mm.poll();
+					Secs1MessageBlockPack msgPack = this.pollSecs1Message();
 					if (msgPack != null) {
 						return new ByteOrSecs1Message(null, msgPack);
 					}
@@ -145,48 +180,72 @@ public abstract class AbstractSecs1CircuitFacade implements Runnable {
 		}
 		
 		public Byte pollByte() {
-			return this.bb.poll();
+			synchronized (this.sync) {
+				
+				final int b = this.bytes.poll();
+				return (b < 0) ? null : Byte.valueOf((byte)b);
+			}
 		}
 		
 		public Byte pollByte(TimeoutGettable timeout) throws InterruptedException {
-			return timeout.blockingQueuePoll(this.bb);
+			final long deadline = this.deadline(timeout);
+			synchronized (this.sync) {
+				
+				if (this.awaitBytes(deadline)) {
+					return Byte.valueOf((byte)(this.bytes.poll()));
+				}
+				
+				return null;
+			}
 		}
 		
 		/**
-		 * input to bytes.
+		 * Read available bytes at once.
+		 * 
+		 * <p>
+		 * Blocking until at least one byte available or deadline.
+		 * </p>
 		 * 
-		 * @param bs
-		 * @param pos start position
-		 * @param len size of limit
-		 * @param timeout ReadOnlyTimeProperty
-		 * @return size of inputs
+		 * @param bs the buffer
+		 * @param off start position of bs
+		 * @param len max length to read
+		 * @param deadline the deadline of System#nanoTime
+		 * @return size of read, 0 if deadline
 		 * @throws InterruptedException
 		 */
-		public int pollBytes(byte[] bs, int pos, int len, TimeoutGettable timeout) throws InterruptedException {
-			
-			int r = 0;
-			
-			for (int i = pos; i < len; ++i) {
-				Byte b = timeout.blockingQueuePoll(this.bb);
+		public int read(byte[] bs, int off, int len, long deadline) throws InterruptedException {
+			synchronized (this.sync) {
 				
-				if (b == null) {
-					break;
-				} else {
-					bs[i] = b.byteValue();
+				if (len <= 0 || ! this.awaitBytes(deadline)) {
+					return 0;
 				}
 				
-				++ r;
+				return this.bytes.read(bs, off, len);
 			}
-			
-			return r;
+		}
+		
+		/**
+		 * Read available bytes at once, timeout is interval of characters.
+		 * 
+		 * @param bs the buffer
+		 * @param off start position of bs
+		 * @param len max length to read
+		 * @param timeout the inter-character timeout
+		 * @return size of read, 0 if timeout
+		 * @throws InterruptedException
+		 */
+		public int read(byte[] bs, int off, int len, TimeoutGettable timeout) throws InterruptedException {
+			return this.read(bs, off, len, this.deadline(timeout));
 		}
 		
 		public void garbageBytes(TimeoutGettable timeout) throws InterruptedException {
-			this.bb.clear();
-			for ( ;; ) {
-				Byte b = timeout.blockingQueuePoll(this.bb);
-				if (b == null) {
-					return;
+			synchronized (this.sync) {
+				for ( ;; ) {
+					this.bytes.clear();
+					
+					if (! this.awaitBytes(this.deadline(timeout))) {
+						return;
+					}
 				}
 			}
 		}
@@ -431,11 +490,17 @@ public abstract class AbstractSecs1CircuitFacade implements Runnable {
 	private final ByteAndSecs1MessageQueue queue = new ByteAndSecs1MessageQueue();
 	private final Secs1SendMessageManager sendMgr = new Secs1SendMessageManager();
 	private final Secs1TransactionManager transMgr = new Secs1TransactionManager();
+	private final Secs1LinkMetricsRecorder metrics = new Secs1LinkMetricsRecorder();
 	
 	private final AbstractSecs1Communicator comm;
+	private final Secs2BytesParser secs2Parser;
 	
 	public AbstractSecs1CircuitFacade(AbstractSecs1Communicator communicator) {
 		this.comm = communicator;
+		this.secs2Parser = Secs2BytesParsers.of(
+				communicator.config().secs2ParallelParsePool().get(),
+				communicator.config().secs2ParallelParseThreshold().intValue());
+		this.ackNanos = 0L;
 	}
 
 	@Override
@@ -453,6 +518,10 @@ public abstract class AbstractSecs1CircuitFacade implements Runnable {
 		this.queue.putBytes(bs);
 	}
 	
+	public Secs1LinkMetricsRecorder metrics() {
+		return this.metrics;
+	}
+	
 	private void sendBytes(byte[] bs) throws Secs1SendByteException, InterruptedException {
 		this.comm.sendBytes(bs);
 	}
@@ -486,6 +555,7 @@ public abstract class AbstractSecs1CircuitFacade implements Runnable {
 					
 					if (r == null) {
 						
+						this.metrics.t3Timeout();
 						throw new Secs1TimeoutT3Exception(msg);
 						
 					} else {
@@ -540,24 +610,34 @@ public abstract class AbstractSecs1CircuitFacade implements Runnable {
 			
 		} else {
 			
+			/* retries of all blocks, for metrics */
+			int retries = 0;
+			
 			try {
 				
 				for (int retry = 0; retry <= this.comm.config().retry().intValue();) {
 					
 					this.sendByte(ENQ);
 					
+					final long enqNanos = System.nanoTime();
+					
 					for ( ;; ) {
 						
 						Byte b = this.queue.pollByte(this.comm.config().timeout().t2());
 						
 						if (b == null) {
 							
+							this.metrics.t2Timeout();
+							this.metrics.retry();
 							this.comm.offerThrowableToLog(new Secs1RetryCountUpException(retry));
 							retry += 1;
+							retries += 1;
 							break;
 							
 						} else if (b.byteValue() == ENQ && ! this.comm.config().isMaster().booleanValue()) {
-								
+							
+							this.metrics.contention(true);
+							
 							try {
 								this.receiving();
 							}
@@ -569,12 +649,21 @@ public abstract class AbstractSecs1CircuitFacade implements Runnable {
 							pack.reset();
 							break;
 							
+						} else if (b.byteValue() == ENQ) {
+							
+							/* master ignores ENQ */
+							this.metrics.contention(false);
+							
 						} else if (b.byteValue() == EOT) {
 							
+							this.metrics.eotReceived(enqNanos);
+							
 							if (this.sending(pack.present())) {
 								
 								if (pack.ebit()) {
 									
+									this.metrics.sentMessage(retries);
+									
 									this.sendMgr.putSended(pack.message);
 									
 									this.comm.notifySendedSecs1MessagePassThrough(pack.message);
@@ -590,14 +679,18 @@ public abstract class AbstractSecs1CircuitFacade implements Runnable {
 								
 							} else {
 								
+								this.metrics.retry();
 								this.comm.offerThrowableToLog(new Secs1RetryCountUpException(retry));
 								retry += 1;
+								retries += 1;
 								break;
 							}
 						}
 					}
 				}
 				
+				this.metrics.retryOver(retries);
+				
 				this.sendMgr.putException(
 						pack.message,
 						new Secs1RetryOverException());
@@ -616,40 +709,243 @@ public abstract class AbstractSecs1CircuitFacade implements Runnable {
 		
 		this.sendBytes(block.getBytes());
 		
+		final long sendNanos = System.nanoTime();
+		
 		Byte b = this.queue.pollByte(this.comm.config().timeout().t2());
 		
 		if (b == null) {
 			
+			this.metrics.t2Timeout();
 			this.comm.offerThrowableToLog(new Secs1TimeoutT2Exception("ACK"));
 			return false;
 			
 		} else if (b.byteValue() == ACK) {
 			
+			this.metrics.sentBlock(sendNanos);
 			this.comm.secs1LogObserver().offerSendedSecs1MessageBlockPassThrough(block);
 			return true;
 			
 		} else {
 			
+			this.metrics.nakReceived();
 			this.comm.offerThrowableToLog(new Secs1NotReceiveAckException(block,b));
 			return false;
 		}
 	}
 	
-	private final LinkedList<AbstractSecs1MessageBlock> cacheBlocks = new LinkedList<>();
+	/**
+	 * Keeps 10 bytes header of each block and joined body, blocks are not kept.
+	 * 
+	 */
+	private final class ReceiveBlockCache {
+		
+		private static final int INITIAL_BLOCK_CAPACITY = 8;
+		private static final int INITIAL_BODY_CAPACITY = 1024;
+		
+		private byte[] heads = new byte[Secs1ReceivedBlockList.HEAD_SIZE * INITIAL_BLOCK_CAPACITY];
+		private int[] offsets = new int[INITIAL_BLOCK_CAPACITY + 1];
+		private byte[] body = new byte[INITIAL_BODY_CAPACITY];
+		private int count;
+		private Secs1MessageBlock last;
+		
+		public ReceiveBlockCache() {
+			this.count = 0;
+			this.last = null;
+		}
+		
+		public boolean isEmpty() {
+			return this.count == 0;
+		}
+		
+		public Secs1MessageBlock last() {
+			return this.last;
+		}
+		
+		/**
+		 * Add header and append body of block.
+		 * 
+		 * @param block the block
+		 * @param bs the block bytes
+		 * @param len the length byte of block
+		 */
+		public void add(Secs1MessageBlock block, byte[] bs, int len) {
+			
+			final int headSize = Secs1ReceivedBlockList.HEAD_SIZE;
+			
+			if (((this.count + 1) * headSize) > this.heads.length) {
+				this.heads = Arrays.copyOf(this.heads, this.heads.length * 2);
+				this.offsets = Arrays.copyOf(this.offsets, (this.offsets.length - 1) * 2 + 1);
+			}
+			
+			final int bodyLength = this.offsets[this.count];
+			final int n = len - headSize;
+			final int required = bodyLength + n;
+			
+			if (required > this.body.length) {
+				this.body = Arrays.copyOf(this.body, Math.max(required, this.body.length * 2));
+			}
+			
+			System.arraycopy(bs, 1, this.heads, (this.count * headSize), headSize);
+			System.arraycopy(bs, 11, this.body, bodyLength, n);
+			
+			this.count += 1;
+			this.offsets[this.count] = required;
+			this.last = block;
+		}
+		
+		/**
+		 * Build message, buffers are handed over to message and renewed.
+		 * 
+		 * @return message
+		 */
+		public AbstractSecs1Message build() {
+			
+			final AbstractSecs1Message msg = AbstractSecs1MessageBuilder.buildFromBlockHeads(
+					this.heads,
+					this.count,
+					this.body,
+					this.offsets,
+					AbstractSecs1CircuitFacade.this.secs2Parser);
+			
+			this.heads = new byte[Secs1ReceivedBlockList.HEAD_SIZE * INITIAL_BLOCK_CAPACITY];
+			this.offsets = new int[INITIAL_BLOCK_CAPACITY + 1];
+			this.body = new byte[INITIAL_BODY_CAPACITY];
+			this.count = 0;
+			this.last = null;
+			
+			return msg;
+		}
+		
+		public void clear() {
+			this.count = 0;
+			this.last = null;
+			
+			if (this.heads.length > (Secs1ReceivedBlockList.HEAD_SIZE * INITIAL_BLOCK_CAPACITY)) {
+				this.heads = new byte[Secs1ReceivedBlockList.HEAD_SIZE * INITIAL_BLOCK_CAPACITY];
+				this.offsets = new int[INITIAL_BLOCK_CAPACITY + 1];
+			}
+			
+			if (this.body.length > INITIAL_BODY_CAPACITY) {
+				this.body = new byte[INITIAL_BODY_CAPACITY];
+			}
+		}
+	}
+	
+	private final ReceiveBlockCache cacheBlocks = new ReceiveBlockCache();
+	private final byte[] receiveBuffer = new byte[257];
 	
+	/* last ACK sent, for inter-block gap */
+	private long ackNanos;
+	
+	/**
+	 * Receive blocks until E-Bit, next block is received in loop.
+	 * 
+	 * @throws Secs1Exception
+	 * @throws InterruptedException
+	 */
 	private void receiving() throws Secs1Exception, InterruptedException {
 		
+		for ( ;; ) {
+			
+			final AbstractSecs1MessageBlock block = this.receiveBlock();
+			
+			if (block == null) {
+				return;
+			}
+			
+			this.comm.secs1LogObserver().offerReceiveSecs1MessageBlockPassThrough(block);
+			
+			if (this.comm.config().isCheckMessageBlockDeviceId().booleanValue()) {
+				if (block.deviceId() != this.comm.config().deviceId().intValue()) {
+					return;
+				}
+			}
+			
+			if (this.cacheBlocks.isEmpty()) {
+				
+				this.cacheBlocks.add(block, this.receiveBuffer, block.length());
+				
+			} else {
+				
+				Secs1MessageBlock prev = this.cacheBlocks.last();
+				
+				if (prev.equalsSystemBytes(block)) {
+					
+					if (prev.isNextBlock(block)) {
+						this.cacheBlocks.add(block, this.receiveBuffer, block.length());
+					}
+					
+				} else {
+					
+					this.cacheBlocks.clear();
+					this.cacheBlocks.add(block, this.receiveBuffer, block.length());
+				}
+			}
+			
+			if (block.ebit()) {
+				
+				try {
+					AbstractSecs1Message s1msg = this.cacheBlocks.build();
+					
+					this.metrics.receivedMessage();
+					
+					Secs1Message m = this.transMgr.put(s1msg);
+					
+					if (m != null) {
+						this.comm.secs1MessageReceiveObserver().putSecs1Message(m);
+					}
+					
+					this.comm.notifyReceiveSecs1MessagePassThrough(s1msg);
+				}
+				finally {
+					this.cacheBlocks.clear();
+				}
+				
+				return;
+			}
+			
+			this.transMgr.resetTimer(block);
+			
+			Byte b = this.queue.pollByte(this.comm.config().timeout().t4());
+			
+			if (b == null) {
+				
+				this.metrics.t4Timeout();
+				this.comm.offerThrowableToLog(new Secs1TimeoutT4Exception(block));
+				return;
+				
+			} else if (b.byteValue() != ENQ) {
+				
+				this.comm.offerThrowableToLog(new Secs1NotReceiveNextBlockEnqException(block, b));
+				return;
+			}
+			
+			this.metrics.nextBlockEnqReceived(this.ackNanos);
+		}
+	}
+	
+	/**
+	 * Send EOT and receive one block to receiveBuffer.
+	 * 
+	 * @return block if ACK sended, otherwise null
+	 * @throws Secs1Exception
+	 * @throws InterruptedException
+	 */
+	private AbstractSecs1MessageBlock receiveBlock() throws Secs1Exception, InterruptedException {
+		
 		this.sendByte(EOT);
 		
-		byte[] bs = new byte[257];
+		final byte[] bs = this.receiveBuffer;
 		
 		{
-			int r = this.queue.pollBytes(bs, 0, 1, this.comm.config().timeout().t2());
+			int r = this.queue.read(bs, 0, 1, this.comm.config().timeout().t2());
 			
 			if (r <= 0) {
 				this.sendByte(NAK);
+				this.metrics.t2Timeout();
+				this.metrics.nakSent();
 				this.comm.offerThrowableToLog(new Secs1TimeoutT2Exception("LengthByte"));
-				return;
+				return null;
 			}
 		}
 		
@@ -659,18 +955,22 @@ public abstract class AbstractSecs1CircuitFacade implements Runnable {
 			if (len < 10 || len > 254) {
 				this.queue.garbageBytes(this.comm.config().timeout().t1());
 				this.sendByte(NAK);
+				this.metrics.illegalLengthByte();
+				this.metrics.nakSent();
 				this.comm.offerThrowableToLog(new Secs1IllegalLengthByteException(len));
-				return;
+				return null;
 			}
 			
 			for (int pos = 1, m = (len + 3); pos < m;) {
 				
-				int r = this.queue.pollBytes(bs, pos, m, this.comm.config().timeout().t1());
+				int r = this.queue.read(bs, pos, (m - pos), this.comm.config().timeout().t1());
 				
 				if (r <= 0) {
 					this.sendByte(NAK);
+					this.metrics.t1Timeout();
+					this.metrics.nakSent();
 					this.comm.offerThrowableToLog(new Secs1TimeoutT1Exception(pos));
-					return;
+					return null;
 				}
 				
 				pos += r;
@@ -685,79 +985,18 @@ public abstract class AbstractSecs1CircuitFacade implements Runnable {
 		if (block.checkSum()) {
 			
 			this.sendByte(ACK);
+			this.ackNanos = System.nanoTime();
+			this.metrics.receivedBlock();
+			return block;
 			
 		} else {
 			
 			this.queue.garbageBytes(this.comm.config().timeout().t1());
 			this.sendByte(NAK);
+			this.metrics.sumCheckError();
+			this.metrics.nakSent();
 			this.comm.offerThrowableToLog(new Secs1SumCheckMismatchException());
-			return;
-		}
-		
-		this.comm.secs1LogObserver().offerReceiveSecs1MessageBlockPassThrough(block);
-		
-		if (this.comm.config().isCheckMessageBlockDeviceId().booleanValue()) {
-			if (block.deviceId() != this.comm.config().deviceId().intValue()) {
-				return;
-			}
-		}
-		
-		if (this.cacheBlocks.isEmpty()) {
-			
-			this.cacheBlocks.add(block);
-			
-		} else {
-			
-			AbstractSecs1MessageBlock prev = this.cacheBlocks.getLast();
-			
-			if (prev.equalsSystemBytes(block)) {
-				
-				if (prev.isNextBlock(block)) {
-					this.cacheBlocks.add(block);
-				}
-				
-			} else {
-				
-				this.cacheBlocks.clear();
-				this.cacheBlocks.add(block);
-			}
-		}
-		
-		if (block.ebit()) {
-			
-			try {
-				AbstractSecs1Message s1msg = Secs1MessageBuilder.buildFromBlocks(cacheBlocks);
-				
-				Secs1Message m = this.transMgr.put(s1msg);
-				
-				if (m != null) {
-					this.comm.secs1MessageReceiveObserver().putSecs1Message(m);
-				}
-				
-				this.comm.notifyReceiveSecs1MessagePassThrough(s1msg);
-			}
-			finally {
-				this.cacheBlocks.clear();
-			}
-			
-		} else {
-			
-			this.transMgr.resetTimer(block);
-			
-			Byte b = this.queue.pollByte(this.comm.config().timeout().t4());
-			
-			if (b == null) {
-				
-				this.comm.offerThrowableToLog(new Secs1TimeoutT4Exception(block));
-				
-			} else if (b.byteValue() == ENQ) {
-				
-				this.receiving();
-				
-			} else {
-				
-				this.comm.offerThrowableToLog(new Secs1NotReceiveNextBlockEnqException(block, b));
-			}
+			return null;
 		}
 	}
 	
@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import com.shimizukenta.secs.SecsException;
 import com.shimizukenta.secs.SecsMessage;
+import com.shimizukenta.secs.SecsReceiveMessageDroppedException;
 import com.shimizukenta.secs.SecsSendMessageException;
 import com.shimizukenta.secs.SecsWaitReplyMessageException;
 import com.shimizukenta.secs.impl.AbstractSecsCommunicateStateObserverFacade;
@@ -13,6 +14,7 @@ import com.shimizukenta.secs.impl.SecsCommunicateStateDetectableImpl;
 import com.shimizukenta.secs.secs1.AbstractSecs1CommunicatorConfig;
 import com.shimizukenta.secs.secs1.Secs1Communicator;
 import com.shimizukenta.secs.secs1.Secs1Exception;
+import com.shimizukenta.secs.secs1.Secs1LinkMetrics;
 import com.shimizukenta.secs.secs1.Secs1Message;
 import com.shimizukenta.secs.secs1.Secs1SendByteException;
 import com.shimizukenta.secs.secs1.Secs1SendMessageException;
@@ -49,9 +51,15 @@ public abstract class AbstractSecs1Communicator extends AbstractSecsCommunicator
 		this.msgBuilder = new AbstractSecs1MessageBuilder() {};
 		this.circuit = new AbstractSecs1CircuitFacade(this) {};
 		
-		this.secs1MsgRecvObserver = new AbstractSecs1MessageReceiveObserverFacade(this.executorService(), this) {};
+		this.secs1MsgRecvObserver = new AbstractSecs1MessageReceiveObserverFacade(config, this.executorService(), this) {
+			
+			@Override
+			protected void notifyDroppedMessage(SecsMessage message) {
+				AbstractSecs1Communicator.this.offerThrowableToLog(new SecsReceiveMessageDroppedException(message));
+			}
+		};
 		this.secsCommunicateStateObserver = new AbstractSecsCommunicateStateObserverFacade(this) {};
-		this.msgPassThroughObserver = new AbstractSecs1MessagePassThroughObserverFacade(this.executorService()) {};
+		this.msgPassThroughObserver = new AbstractSecs1MessagePassThroughObserverFacade(config, this.executorService()) {};
 	}
 	
 	public AbstractSecs1CommunicatorConfig config() {
@@ -123,6 +131,11 @@ public abstract class AbstractSecs1Communicator extends AbstractSecsCommunicator
 		this.circuit.putBytes(bs);
 	}
 	
+	@Override
+	public Secs1LinkMetrics linkMetrics() {
+		return this.circuit.metrics().snapshot();
+	}
+	
 	abstract public void sendBytes(byte[] bs) throws Secs1SendByteException, InterruptedException;
 	
 	
@@ -133,6 +146,11 @@ public abstract class AbstractSecs1Communicator extends AbstractSecsCommunicator
 		return this.secs1MsgRecvObserver;
 	}
 	
+	@Override
+	public long droppedCount() {
+		return super.droppedCount() + this.secs1MsgRecvObserver.droppedCount();
+	}
+	
 	
 	/* Communicate state detect */
 	
@@ -0,0 +1,740 @@
+package com.shimizukenta.secs.secs1.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.shimizukenta.secs.local.property.TimeoutAndUnit;
+import com.shimizukenta.secs.local.property.TimeoutGettable;
+import com.shimizukenta.secs.secs1.AbstractSecs1CommunicatorConfig;
+import com.shimizukenta.secs.secs1.Secs1IllegalLengthByteException;
+import com.shimizukenta.secs.secs1.Secs1LinkMetrics;
+import com.shimizukenta.secs.secs1.Secs1Message;
+import com.shimizukenta.secs.secs1.Secs1MessageBlock;
+import com.shimizukenta.secs.secs1.Secs1NotReceiveAckException;
+import com.shimizukenta.secs.secs1.Secs1NotReceiveNextBlockEnqException;
+import com.shimizukenta.secs.secs1.Secs1RetryCountUpException;
+import com.shimizukenta.secs.secs1.Secs1RetryOverException;
+import com.shimizukenta.secs.secs1.Secs1SendMessageException;
+import com.shimizukenta.secs.secs1.Secs1SumCheckMismatchException;
+import com.shimizukenta.secs.secs1.Secs1TimeoutT1Exception;
+import com.shimizukenta.secs.secs1.Secs1TimeoutT2Exception;
+import com.shimizukenta.secs.secs1.Secs1TimeoutT3Exception;
+import com.shimizukenta.secs.secs1.Secs1TimeoutT4Exception;
+import com.shimizukenta.secs.secs2.impl.Secs2BytesParser;
+import com.shimizukenta.secs.secs2.impl.Secs2BytesParsers;
+
+/**
+ * SECS-I circuit as state machine, driven by byte arrival and timer events.
+ *
+ * <p>
+ * All events run on one event-loop, no thread is blocked while waiting bytes or timeout.
+ * Same protocol as {@link AbstractSecs1CircuitFacade}, sending messages are ordered by Send-Order-Policy.
+ * </p>
+ *
+ */
+public abstract class AbstractSecs1EventDrivenCircuit {
+
+	private static final byte ENQ = (byte)0x05;
+	private static final byte EOT = (byte)0x04;
+	private static final byte ACK = (byte)0x06;
+	private static final byte NAK = (byte)0x15;
+
+	private enum State {
+		IDLE,
+		SEND_WAIT_EOT,
+		SEND_WAIT_ACK,
+		RECV_WAIT_LENGTH,
+		RECV_BLOCK,
+		RECV_WAIT_ENQ,
+		RECV_GARBAGE,
+	}
+
+	private static Integer systemBytesKey(byte[] bs, int pos) {
+		int i = (((int)(bs[pos    ]) << 24) & 0xFF000000)
+				| (((int)(bs[pos + 1]) << 16) & 0x00FF0000)
+				| (((int)(bs[pos + 2]) <<  8) & 0x0000FF00)
+				| (((int)(bs[pos + 3])      ) & 0x000000FF);
+		return Integer.valueOf(i);
+	}
+
+	private static final class SendPack {
+
+		public final Secs1Message message;
+		public final CompletableFuture<Optional<Secs1Message>> future;
+		private final List<Secs1MessageBlock> blocks;
+		private int present;
+		private Secs1MessageBlock presentBlock;
+		public int retry;
+		public int retries;
+
+		public SendPack(Secs1Message message, CompletableFuture<Optional<Secs1Message>> future) {
+			this.message = message;
+			this.future = future;
+			this.blocks = message.toBlocks();
+			this.present = 0;
+			this.presentBlock = null;
+			this.retry = 0;
+			this.retries = 0;
+		}
+
+		public Secs1MessageBlock present() {
+			if (this.presentBlock == null) {
+				this.presentBlock = this.blocks.get(this.present);
+			}
+			return this.presentBlock;
+		}
+
+		public void reset() {
+			this.present = 0;
+			this.presentBlock = null;
+			this.retry = 0;
+		}
+
+		public void next() {
+			++ this.present;
+			this.presentBlock = null;
+			this.retry = 0;
+		}
+	}
+
+	private static final class Transaction {
+
+		public final Secs1Message primaryMessage;
+		public final CompletableFuture<Optional<Secs1Message>> future;
+		public ScheduledFuture<?> t3;
+
+		public Transaction(Secs1Message primaryMessage, CompletableFuture<Optional<Secs1Message>> future) {
+			this.primaryMessage = primaryMessage;
+			this.future = future;
+			this.t3 = null;
+		}
+	}
+
+	private final AbstractSecs1CommunicatorConfig config;
+	private final ScheduledExecutorService loop;
+	private final Secs2BytesParser secs2Parser;
+
+	private final Secs1SendMessageQueue<SendPack> sendQueue = new Secs1SendMessageQueue<>(p -> p.message);
+	private final Map<Integer, Transaction> transactions = new HashMap<>();
+	private SendPack sending;
+
+	private State state;
+	private ScheduledFuture<?> timer;
+	private int timerSeq;
+
+	private final byte[] block = new byte[257];
+	private int blockPos;
+	private int blockSize;
+
+	private final List<Secs1MessageBlock> recvBlocks = new ArrayList<>();
+	private byte[] recvBody = new byte[1024];
+	private int recvBodyLength;
+
+	private boolean connected;
+
+	private final Secs1LinkMetricsRecorder metrics = new Secs1LinkMetricsRecorder();
+	private long enqNanos;
+	private long blockNanos;
+	private long ackNanos;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param config the SECS-I config
+	 * @param loop the event-loop, must be single thread
+	 */
+	protected AbstractSecs1EventDrivenCircuit(AbstractSecs1CommunicatorConfig config, ScheduledExecutorService loop) {
+		this.config = config;
+		this.loop = loop;
+		this.secs2Parser = Secs2BytesParsers.of(
+				config.secs2ParallelParsePool().get(),
+				config.secs2ParallelParseThreshold().intValue());
+		this.sending = null;
+		this.state = State.IDLE;
+		this.timer = null;
+		this.timerSeq = 0;
+		this.blockPos = 0;
+		this.blockSize = 0;
+		this.recvBodyLength = 0;
+		this.connected = false;
+		this.enqNanos = 0L;
+		this.blockNanos = 0L;
+		this.ackNanos = 0L;
+	}
+
+	/**
+	 * Returns snapshot of link metrics, may be called from any thread.
+	 *
+	 * @return snapshot of link metrics
+	 */
+	public Secs1LinkMetrics linkMetrics() {
+		return this.metrics.snapshot();
+	}
+
+	/**
+	 * Write bytes to line, must not block.
+	 *
+	 * @param bs the bytes
+	 */
+	protected abstract void sendBytes(byte[] bs);
+
+	/**
+	 * Called on event-loop if primary message received.
+	 *
+	 * @param message the received message
+	 */
+	protected abstract void notifyReceiveMessage(Secs1Message message);
+
+	/**
+	 * Called on event-loop if protocol error or timeout.
+	 *
+	 * @param t the Throwable
+	 */
+	protected abstract void notifyThrowable(Throwable t);
+
+	/**
+	 * Returns exception of not connected.
+	 *
+	 * @param message the message failed to send
+	 * @return exception
+	 */
+	protected abstract Throwable notConnectedException(Secs1Message message);
+
+	/**
+	 * Put received bytes, may be called from any thread.
+	 *
+	 * @param bs the bytes, not copied
+	 * @param len the length
+	 */
+	public void putBytes(byte[] bs, int len) {
+		this.loop.execute(() -> this.onBytes(bs, len));
+	}
+
+	/**
+	 * Line connected, may be called from any thread.
+	 *
+	 */
+	public void connected() {
+		this.loop.execute(() -> {
+			this.connected = true;
+			this.toIdle();
+		});
+	}
+
+	/**
+	 * Line disconnected, may be called from any thread.
+	 *
+	 * <p>
+	 * Sending and queued messages are failed.
+	 * </p>
+	 */
+	public void disconnected() {
+		this.loop.execute(() -> {
+
+			this.connected = false;
+			this.cancelTimer();
+			this.state = State.IDLE;
+			this.clearRecvBlocks();
+
+			if (this.sending != null) {
+				this.failSending(this.notConnectedException(this.sending.message));
+			}
+
+			for ( ;; ) {
+				final SendPack p = this.pollSendPack();
+				if (p == null) {
+					break;
+				}
+				this.fail(p, this.notConnectedException(p.message));
+			}
+
+			for (Transaction t : this.transactions.values()) {
+				if (t.t3 != null) {
+					t.t3.cancel(false);
+				}
+				t.future.completeExceptionally(new Secs1SendMessageException(t.primaryMessage, this.notConnectedException(t.primaryMessage)));
+			}
+			this.transactions.clear();
+		});
+	}
+
+	/**
+	 * Send message, may be called from any thread.
+	 *
+	 * <p>
+	 * Future is completed when sended if not W-Bit, or when reply received if W-Bit.
+	 * </p>
+	 *
+	 * @param message the message
+	 * @return future of reply message
+	 */
+	public CompletableFuture<Optional<Secs1Message>> send(Secs1Message message) {
+
+		final CompletableFuture<Optional<Secs1Message>> f = new CompletableFuture<>();
+
+		this.loop.execute(() -> {
+
+			if (! this.connected) {
+				f.completeExceptionally(this.notConnectedException(message));
+				return;
+			}
+
+			if (message.wbit() && message.isValidBlocks()) {
+				this.transactions.put(systemBytesKey(message.header10Bytes(), 6), new Transaction(message, f));
+			}
+
+			this.sendQueue.add(new SendPack(message, f), this.config.sendOrderPolicy().get());
+
+			if (this.state == State.IDLE) {
+				this.toIdle();
+			}
+		});
+
+		return f;
+	}
+
+	private long nanos(TimeoutGettable timeout) {
+		final TimeoutAndUnit a = timeout.get();
+		return a.unit().toNanos(a.timeout());
+	}
+
+	private void startTimer(TimeoutGettable timeout) {
+
+		this.cancelTimer();
+
+		final int seq = this.timerSeq;
+
+		this.timer = this.loop.schedule(() -> {
+			if (seq == this.timerSeq) {
+				this.timer = null;
+				this.onTimeout();
+			}
+		}, this.nanos(timeout), TimeUnit.NANOSECONDS);
+	}
+
+	private void cancelTimer() {
+
+		++ this.timerSeq;
+
+		if (this.timer != null) {
+			this.timer.cancel(false);
+			this.timer = null;
+		}
+	}
+
+	private void toIdle() {
+
+		this.cancelTimer();
+		this.state = State.IDLE;
+
+		if (! this.connected) {
+			return;
+		}
+
+		if (this.sending == null) {
+			this.sending = this.pollSendPack();
+		}
+
+		if (this.sending != null) {
+			this.sendEnq();
+		}
+	}
+
+	private SendPack pollSendPack() {
+		return this.sendQueue.poll(this.config.replyFirstFairness().intValue());
+	}
+
+	private void sendEnq() {
+		this.state = State.SEND_WAIT_EOT;
+		this.sendBytes(new byte[] {ENQ});
+		this.enqNanos = System.nanoTime();
+		this.startTimer(this.config.timeout().t2());
+	}
+
+	private void sendByte(byte b) {
+		this.sendBytes(new byte[] {b});
+	}
+
+	private void onBytes(byte[] bs, int len) {
+
+		int pos = 0;
+
+		while (pos < len) {
+
+			switch (this.state) {
+			case RECV_BLOCK: {
+
+				final int n = Math.min(len - pos, this.blockSize - this.blockPos);
+				System.arraycopy(bs, pos, this.block, this.blockPos, n);
+				this.blockPos += n;
+				pos += n;
+
+				if (this.blockPos == this.blockSize) {
+					this.completeBlock();
+				} else {
+					this.startTimer(this.config.timeout().t1());
+				}
+				break;
+			}
+			case RECV_GARBAGE: {
+
+				pos = len;
+				this.startTimer(this.config.timeout().t1());
+				break;
+			}
+			default: {
+				this.onByte(bs[pos]);
+				++ pos;
+			}
+			}
+		}
+	}
+
+	private void onByte(byte b) {
+
+		switch (this.state) {
+		case IDLE: {
+
+			if (b == ENQ) {
+				this.startReceive();
+			}
+			break;
+		}
+		case SEND_WAIT_EOT: {
+
+			if (b == EOT) {
+
+				this.metrics.eotReceived(this.enqNanos);
+				this.state = State.SEND_WAIT_ACK;
+				this.sendBytes(this.sending.present().getBytes());
+				this.blockNanos = System.nanoTime();
+				this.startTimer(this.config.timeout().t2());
+
+			} else if (b == ENQ && ! this.config.isMaster().booleanValue()) {
+
+				/* contention, slave receives first */
+				this.metrics.contention(true);
+				this.sending.reset();
+				this.startReceive();
+
+			} else if (b == ENQ) {
+
+				/* master ignores ENQ */
+				this.metrics.contention(false);
+			}
+			break;
+		}
+		case SEND_WAIT_ACK: {
+
+			if (b == ACK) {
+				this.metrics.sentBlock(this.blockNanos);
+				this.blockAcked();
+			} else {
+				this.metrics.nakReceived();
+				this.notifyThrowable(new Secs1NotReceiveAckException(this.sending.present(), b));
+				this.retryUp();
+			}
+			break;
+		}
+		case RECV_WAIT_LENGTH: {
+
+			final int len = (int)(b) & 0x000000FF;
+
+			if (len < 10 || len > 254) {
+
+				this.metrics.illegalLengthByte();
+				this.notifyThrowable(new Secs1IllegalLengthByteException(len));
+				this.state = State.RECV_GARBAGE;
+				this.startTimer(this.config.timeout().t1());
+
+			} else {
+
+				this.block[0] = b;
+				this.blockPos = 1;
+				this.blockSize = len + 3;
+				this.state = State.RECV_BLOCK;
+				this.startTimer(this.config.timeout().t1());
+			}
+			break;
+		}
+		case RECV_WAIT_ENQ: {
+
+			if (b == ENQ) {
+				this.metrics.nextBlockEnqReceived(this.ackNanos);
+				this.startReceive();
+			} else {
+				this.notifyThrowable(new Secs1NotReceiveNextBlockEnqException(this.lastRecvBlock(), b));
+				this.clearRecvBlocks();
+				this.toIdle();
+			}
+			break;
+		}
+		default: {
+			/* Nothing */
+		}
+		}
+	}
+
+	private void onTimeout() {
+
+		switch (this.state) {
+		case SEND_WAIT_EOT: {
+			this.metrics.t2Timeout();
+			this.retryUp();
+			break;
+		}
+		case SEND_WAIT_ACK: {
+			this.metrics.t2Timeout();
+			this.notifyThrowable(new Secs1TimeoutT2Exception("ACK"));
+			this.retryUp();
+			break;
+		}
+		case RECV_WAIT_LENGTH: {
+			this.sendByte(NAK);
+			this.metrics.t2Timeout();
+			this.metrics.nakSent();
+			this.notifyThrowable(new Secs1TimeoutT2Exception("LengthByte"));
+			this.toIdle();
+			break;
+		}
+		case RECV_BLOCK: {
+			this.sendByte(NAK);
+			this.metrics.t1Timeout();
+			this.metrics.nakSent();
+			this.notifyThrowable(new Secs1TimeoutT1Exception(this.blockPos));
+			this.toIdle();
+			break;
+		}
+		case RECV_GARBAGE: {
+			this.sendByte(NAK);
+			this.metrics.nakSent();
+			this.toIdle();
+			break;
+		}
+		case RECV_WAIT_ENQ: {
+			this.metrics.t4Timeout();
+			this.notifyThrowable(new Secs1TimeoutT4Exception(this.lastRecvBlock()));
+			this.clearRecvBlocks();
+			this.toIdle();
+			break;
+		}
+		default: {
+			/* Nothing */
+		}
+		}
+	}
+
+	private void startReceive() {
+		this.sendByte(EOT);
+		this.state = State.RECV_WAIT_LENGTH;
+		this.startTimer(this.config.timeout().t2());
+	}
+
+	private void retryUp() {
+
+		final SendPack p = this.sending;
+
+		this.notifyThrowable(new Secs1RetryCountUpException(p.retry));
+		p.retry += 1;
+		p.retries += 1;
+		this.metrics.retry();
+
+		if (p.retry > this.config.retry().intValue()) {
+			this.metrics.retryOver(p.retries);
+			this.failSending(new Secs1RetryOverException());
+			this.toIdle();
+		} else {
+			this.sendEnq();
+		}
+	}
+
+	private void blockAcked() {
+
+		final SendPack p = this.sending;
+
+		if (p.present().ebit()) {
+
+			this.sending = null;
+			this.metrics.sentMessage(p.retries);
+
+			final Transaction t = this.transactions.get(systemBytesKey(p.message.header10Bytes(), 6));
+
+			if (t != null && t.future == p.future) {
+				this.startT3(t);
+			} else {
+				p.future.complete(Optional.empty());
+			}
+
+		} else {
+
+			p.next();
+		}
+
+		this.toIdle();
+	}
+
+	private void startT3(Transaction t) {
+
+		if (t.t3 != null) {
+			t.t3.cancel(false);
+		}
+
+		final Integer key = systemBytesKey(t.primaryMessage.header10Bytes(), 6);
+
+		t.t3 = this.loop.schedule(() -> {
+			if (this.transactions.get(key) == t) {
+				this.transactions.remove(key);
+				this.metrics.t3Timeout();
+				t.future.completeExceptionally(new Secs1TimeoutT3Exception(t.primaryMessage));
+			}
+		}, this.nanos(this.config.timeout().t3()), TimeUnit.NANOSECONDS);
+	}
+
+	private void fail(SendPack p, Throwable t) {
+
+		final Integer key = systemBytesKey(p.message.header10Bytes(), 6);
+		final Transaction tx = this.transactions.get(key);
+
+		if (tx != null && tx.future == p.future) {
+			this.transactions.remove(key);
+		}
+
+		p.future.completeExceptionally(
+				(t instanceof Secs1SendMessageException) ? t : new Secs1SendMessageException(p.message, t));
+	}
+
+	private void failSending(Throwable t) {
+		final SendPack p = this.sending;
+		this.sending = null;
+		this.fail(p, t);
+	}
+
+	private void completeBlock() {
+
+		final AbstractSecs1MessageBlock b = new AbstractSecs1MessageBlock(Arrays.copyOf(this.block, this.blockSize)) {
+
+			private static final long serialVersionUID = 6085931306283428421L;
+		};
+
+		if (! b.checkSum()) {
+			this.metrics.sumCheckError();
+			this.notifyThrowable(new Secs1SumCheckMismatchException());
+			this.state = State.RECV_GARBAGE;
+			this.startTimer(this.config.timeout().t1());
+			return;
+		}
+
+		this.sendByte(ACK);
+		this.ackNanos = System.nanoTime();
+		this.metrics.receivedBlock();
+
+		if (this.config.isCheckMessageBlockDeviceId().booleanValue()) {
+			if (b.deviceId() != this.config.deviceId().intValue()) {
+				this.toIdle();
+				return;
+			}
+		}
+
+		if (this.recvBlocks.isEmpty()) {
+
+			this.addRecvBlock(b);
+
+		} else {
+
+			final Secs1MessageBlock prev = this.lastRecvBlock();
+
+			if (prev.equalsSystemBytes(b)) {
+
+				if (prev.isNextBlock(b)) {
+					this.addRecvBlock(b);
+				}
+
+			} else {
+
+				this.clearRecvBlocks();
+				this.addRecvBlock(b);
+			}
+		}
+
+		if (b.ebit()) {
+
+			final AbstractSecs1Message msg = AbstractSecs1MessageBuilder.buildFromBlocks(
+					new ArrayList<>(this.recvBlocks),
+					this.recvBody,
+					this.recvBodyLength,
+					this.secs2Parser);
+
+			this.clearRecvBlocks();
+			this.toIdle();
+			this.receiveMessage(msg);
+
+		} else {
+
+			final Transaction t = this.transactions.get(systemBytesKey(this.block, 7));
+
+			if (t != null && t.t3 != null) {
+				this.startT3(t);
+			}
+
+			this.state = State.RECV_WAIT_ENQ;
+			this.startTimer(this.config.timeout().t4());
+		}
+	}
+
+	private void receiveMessage(Secs1Message msg) {
+
+		this.metrics.receivedMessage();
+
+		if (msg.isValidBlocks() && ! msg.wbit()) {
+
+			final Integer key = systemBytesKey(msg.header10Bytes(), 6);
+			final Transaction t = this.transactions.get(key);
+
+			if (t != null && t.t3 != null) {
+				this.transactions.remove(key);
+				t.t3.cancel(false);
+				t.future.complete(Optional.of(msg));
+				return;
+			}
+		}
+
+		this.notifyReceiveMessage(msg);
+	}
+
+	private Secs1MessageBlock lastRecvBlock() {
+		return this.recvBlocks.get(this.recvBlocks.size() - 1);
+	}
+
+	private void addRecvBlock(Secs1MessageBlock b) {
+
+		final int n = this.blockSize - 13;
+		final int required = this.recvBodyLength + n;
+
+		if (required > this.recvBody.length) {
+			this.recvBody = Arrays.copyOf(this.recvBody, Math.max(required, this.recvBody.length * 2));
+		}
+
+		System.arraycopy(this.block, 11, this.recvBody, this.recvBodyLength, n);
+		this.recvBodyLength = required;
+		this.recvBlocks.add(b);
+	}
+
+	private void clearRecvBlocks() {
+
+		this.recvBlocks.clear();
+		this.recvBodyLength = 0;
+
+		if (this.recvBody.length > 1024) {
+			this.recvBody = new byte[1024];
+		}
+	}
+
+}
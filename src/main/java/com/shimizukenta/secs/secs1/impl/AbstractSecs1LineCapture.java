@@ -0,0 +1,118 @@
+package com.shimizukenta.secs.secs1.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.shimizukenta.secs.secs1.Secs1LineCapture;
+import com.shimizukenta.secs.secs1.Secs1LineEvent;
+
+/**
+ * Capture writer, queued events are drained and written by batch, flushed per batch.
+ *
+ */
+public abstract class AbstractSecs1LineCapture implements Secs1LineCapture {
+	
+	private static final int BATCH_SIZE = 256;
+	
+	private final Writer writer;
+	private final BlockingQueue<Secs1LineEvent> queue;
+	private final AtomicLong dropped = new AtomicLong(0L);
+	private final Thread thread;
+	private volatile boolean closed;
+	
+	public AbstractSecs1LineCapture(OutputStream out, int queueCapacity) {
+		
+		if (queueCapacity < 1) {
+			throw new IllegalArgumentException("queueCapacity must be >= 1");
+		}
+		
+		this.writer = new BufferedWriter(new OutputStreamWriter(Objects.requireNonNull(out), StandardCharsets.UTF_8));
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.closed = false;
+		
+		this.thread = new Thread(this::writing);
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+	
+	@Override
+	public void received(Secs1LineEvent event) {
+		if (this.closed || ! this.queue.offer(event)) {
+			this.dropped.incrementAndGet();
+		}
+	}
+	
+	@Override
+	public long droppedEvents() {
+		return this.dropped.get();
+	}
+	
+	private void writing() {
+		
+		final List<Secs1LineEvent> batch = new ArrayList<>(BATCH_SIZE);
+		final String br = System.lineSeparator();
+		
+		try {
+			for ( ;; ) {
+				
+				final Secs1LineEvent first = this.queue.poll(100L, TimeUnit.MILLISECONDS);
+				
+				if (first == null) {
+					if (this.closed) {
+						return;
+					}
+					continue;
+				}
+				
+				batch.add(first);
+				this.queue.drainTo(batch, BATCH_SIZE - 1);
+				
+				try {
+					for (Secs1LineEvent ev : batch) {
+						this.writer.write(Secs1LineCaptureFormat.format(ev));
+						this.writer.write(br);
+					}
+					
+					this.writer.flush();
+				}
+				catch (IOException e) {
+					this.dropped.addAndGet(batch.size());
+				}
+				
+				batch.clear();
+			}
+		}
+		catch (InterruptedException ignore) {
+		}
+	}
+	
+	@Override
+	public void close() throws IOException {
+		
+		if (this.closed) {
+			return;
+		}
+		
+		this.closed = true;
+		
+		try {
+			this.thread.join();
+		}
+		catch (InterruptedException ignore) {
+		}
+		
+		this.writer.close();
+	}
+	
+}
@@ -0,0 +1,369 @@
+package com.shimizukenta.secs.secs1.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.shimizukenta.secs.secs1.Secs1LineDirection;
+import com.shimizukenta.secs.secs1.Secs1LineEvent;
+import com.shimizukenta.secs.secs1.Secs1LineEventType;
+import com.shimizukenta.secs.secs1.Secs1Message;
+import com.shimizukenta.secs.secs1.Secs1MessageBlock;
+
+/**
+ * Passive SECS-I decoder of both directions of one line.
+ *
+ * <p>
+ * Bytes are decoded incrementally, handshake is followed by bytes of other direction.
+ * Messages are reassembled from ACKed blocks only, retried blocks are not duplicated.<br />
+ * Not thread-safe, caller must not put concurrently.
+ * </p>
+ *
+ */
+public abstract class AbstractSecs1LineDecoder {
+
+	private static final byte ENQ = (byte)0x05;
+	private static final byte EOT = (byte)0x04;
+	private static final byte ACK = (byte)0x06;
+	private static final byte NAK = (byte)0x15;
+
+	private static final int BODY_BUFFER_SIZE = 1024;
+
+	private enum State {
+		IDLE,
+		WAIT_LENGTH,
+		BLOCK,
+		DISCARD,
+	}
+
+	private final class Side {
+
+		private final Secs1LineDirection direction;
+
+		private State state;
+		private boolean enq;
+
+		private final byte[] block = new byte[257];
+		private int pos;
+		private int size;
+		private Secs1MessageBlock pending;
+
+		private final List<Secs1MessageBlock> blocks = new ArrayList<>();
+		private byte[] body = new byte[BODY_BUFFER_SIZE];
+		private int bodyLength;
+
+		private Side(Secs1LineDirection direction) {
+			this.direction = direction;
+			this.reset();
+		}
+
+		private void reset() {
+			this.state = State.IDLE;
+			this.enq = false;
+			this.pos = 0;
+			this.size = 0;
+			this.pending = null;
+			this.clearBlocks();
+		}
+
+		private void clearBlocks() {
+
+			this.blocks.clear();
+			this.bodyLength = 0;
+
+			if (this.body.length > BODY_BUFFER_SIZE) {
+				this.body = new byte[BODY_BUFFER_SIZE];
+			}
+		}
+
+		private void addBlock(Secs1MessageBlock b) {
+
+			final byte[] bs = b.getBytes();
+			final int n = bs.length - 13;
+			final int required = this.bodyLength + n;
+
+			if (required > this.body.length) {
+				this.body = Arrays.copyOf(this.body, Math.max(required, this.body.length * 2));
+			}
+
+			System.arraycopy(bs, 11, this.body, this.bodyLength, n);
+			this.bodyLength = required;
+			this.blocks.add(b);
+		}
+	}
+
+	private final String lineName;
+	private final Side hostSide;
+	private final Side equipSide;
+
+	public AbstractSecs1LineDecoder(CharSequence lineName) {
+		this.lineName = Objects.requireNonNull(lineName).toString();
+		this.hostSide = new Side(Secs1LineDirection.HOST_TO_EQUIP);
+		this.equipSide = new Side(Secs1LineDirection.EQUIP_TO_HOST);
+	}
+
+	/**
+	 * Notify decoded event.
+	 *
+	 * @param event the event
+	 */
+	protected abstract void notifyEvent(Secs1LineEvent event);
+
+	public String lineName() {
+		return this.lineName;
+	}
+
+	private Side side(Secs1LineDirection direction) {
+		return direction == Secs1LineDirection.HOST_TO_EQUIP ? this.hostSide : this.equipSide;
+	}
+
+	/**
+	 * Line connected, state is reset.
+	 *
+	 * @param timestamp the timestamp
+	 */
+	public void connected(LocalDateTime timestamp) {
+		this.hostSide.reset();
+		this.equipSide.reset();
+		this.notifyEvent(timestamp, Secs1LineDirection.HOST_TO_EQUIP, Secs1LineEventType.CONNECTED, null, null, -1);
+	}
+
+	/**
+	 * Line disconnected, state is reset.
+	 *
+	 * @param timestamp the timestamp
+	 */
+	public void disconnected(LocalDateTime timestamp) {
+		this.hostSide.reset();
+		this.equipSide.reset();
+		this.notifyEvent(timestamp, Secs1LineDirection.HOST_TO_EQUIP, Secs1LineEventType.DISCONNECTED, null, null, -1);
+	}
+
+	/**
+	 * Put bytes of direction.
+	 *
+	 * @param direction the direction
+	 * @param bs the bytes
+	 * @param offset the offset
+	 * @param length the length
+	 * @param timestamp the timestamp of bytes received
+	 */
+	public void put(Secs1LineDirection direction, byte[] bs, int offset, int length, LocalDateTime timestamp) {
+
+		final Side s = this.side(direction);
+		final Side o = this.side(direction.opposite());
+
+		final int end = offset + length;
+		int i = offset;
+
+		while (i < end) {
+
+			switch (s.state) {
+			case BLOCK: {
+
+				final int n = Math.min(end - i, s.size - s.pos);
+				System.arraycopy(bs, i, s.block, s.pos, n);
+				s.pos += n;
+				i += n;
+
+				if (s.pos == s.size) {
+					this.completeBlock(s, timestamp);
+				}
+				break;
+			}
+			case DISCARD: {
+
+				/* until other side NAK */
+				i = end;
+				break;
+			}
+			case WAIT_LENGTH: {
+
+				final int len = (int)(bs[i]) & 0x000000FF;
+				++ i;
+
+				if (len < 10 || len > 254) {
+
+					s.state = State.DISCARD;
+					this.notifyEvent(timestamp, s.direction, Secs1LineEventType.ILLEGAL_LENGTH_BYTE, null, null, len);
+
+				} else {
+
+					s.block[0] = (byte)len;
+					s.pos = 1;
+					s.size = len + 3;
+					s.state = State.BLOCK;
+				}
+				break;
+			}
+			default: {
+
+				this.handshake(s, o, bs[i], timestamp);
+				++ i;
+			}
+			}
+		}
+	}
+
+	private void handshake(Side s, Side o, byte b, LocalDateTime timestamp) {
+
+		switch (b) {
+		case ENQ: {
+
+			s.enq = true;
+			this.notifyEvent(timestamp, s.direction, Secs1LineEventType.ENQ, null, null, -1);
+			break;
+		}
+		case EOT: {
+
+			/* other side sends block, and this side yields if contention */
+			o.enq = false;
+			o.state = State.WAIT_LENGTH;
+			s.enq = false;
+			this.notifyEvent(timestamp, s.direction, Secs1LineEventType.EOT, null, null, -1);
+			break;
+		}
+		case ACK: {
+
+			final Secs1MessageBlock p = o.pending;
+			o.pending = null;
+			o.state = State.IDLE;
+
+			this.notifyEvent(timestamp, s.direction, Secs1LineEventType.ACK, null, null, -1);
+
+			if (p != null) {
+				this.acked(o, p, timestamp);
+			}
+			break;
+		}
+		case NAK: {
+
+			o.pending = null;
+			o.state = State.IDLE;
+			this.notifyEvent(timestamp, s.direction, Secs1LineEventType.NAK, null, null, -1);
+			break;
+		}
+		default: {
+			this.notifyEvent(timestamp, s.direction, Secs1LineEventType.GARBAGE, null, null, ((int)b & 0x000000FF));
+		}
+		}
+	}
+
+	private void completeBlock(Side s, LocalDateTime timestamp) {
+
+		final AbstractSecs1MessageBlock b = new AbstractSecs1MessageBlock(Arrays.copyOf(s.block, s.size)) {
+
+			private static final long serialVersionUID = -4183702155409176226L;
+		};
+
+		s.state = State.IDLE;
+
+		if (b.checkSum()) {
+
+			s.pending = b;
+			this.notifyEvent(timestamp, s.direction, Secs1LineEventType.BLOCK, b, null, -1);
+
+		} else {
+
+			s.pending = null;
+			this.notifyEvent(timestamp, s.direction, Secs1LineEventType.SUM_CHECK_ERROR, b, null, -1);
+		}
+	}
+
+	private void acked(Side s, Secs1MessageBlock b, LocalDateTime timestamp) {
+
+		if (s.blocks.isEmpty()) {
+
+			s.addBlock(b);
+
+		} else {
+
+			final Secs1MessageBlock prev = s.blocks.get(s.blocks.size() - 1);
+
+			if (prev.equalsSystemBytes(b)) {
+
+				if (prev.isNextBlock(b)) {
+					s.addBlock(b);
+				} else {
+					/* retried block */
+					return;
+				}
+
+			} else {
+
+				s.clearBlocks();
+				s.addBlock(b);
+			}
+		}
+
+		if (b.ebit()) {
+
+			final Secs1Message msg = AbstractSecs1MessageBuilder.buildFromBlocks(
+					new ArrayList<>(s.blocks),
+					s.body,
+					s.bodyLength);
+
+			s.clearBlocks();
+
+			this.notifyEvent(timestamp, s.direction, Secs1LineEventType.MESSAGE, null, msg, -1);
+		}
+	}
+
+	private void notifyEvent(
+			LocalDateTime timestamp,
+			Secs1LineDirection direction,
+			Secs1LineEventType type,
+			Secs1MessageBlock block,
+			Secs1Message message,
+			int value) {
+
+		final String name = this.lineName;
+
+		this.notifyEvent(new Secs1LineEvent() {
+
+			@Override
+			public String lineName() {
+				return name;
+			}
+
+			@Override
+			public LocalDateTime timestamp() {
+				return timestamp;
+			}
+
+			@Override
+			public Secs1LineDirection direction() {
+				return direction;
+			}
+
+			@Override
+			public Secs1LineEventType type() {
+				return type;
+			}
+
+			@Override
+			public Optional<Secs1MessageBlock> block() {
+				return Optional.ofNullable(block);
+			}
+
+			@Override
+			public Optional<Secs1Message> message() {
+				return Optional.ofNullable(message);
+			}
+
+			@Override
+			public int value() {
+				return value;
+			}
+
+			@Override
+			public String toString() {
+				return Secs1LineCaptureFormat.format(this);
+			}
+		});
+	}
+
+}
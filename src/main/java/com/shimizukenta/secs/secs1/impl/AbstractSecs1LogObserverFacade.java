@@ -2,6 +2,7 @@ package com.shimizukenta.secs.secs1.impl;
 
 import java.util.concurrent.Executor;
 
+import com.shimizukenta.secs.AbstractSecsCommunicatorConfig;
 import com.shimizukenta.secs.SecsLogListener;
 import com.shimizukenta.secs.impl.AbstractQueueObserver;
 import com.shimizukenta.secs.impl.AbstractSecsLogObserverFacade;
@@ -16,8 +17,8 @@ public abstract class AbstractSecs1LogObserverFacade extends AbstractSecsLogObse
 	
 	private class Secs1MessagePassThroghLogObserver extends AbstractQueueObserver<SecsLogListener<? super Secs1MessagePassThroughLog>, Secs1MessagePassThroughLog> {
 		
-		public Secs1MessagePassThroghLogObserver(Executor executor) {
-			super(executor);
+		public Secs1MessagePassThroghLogObserver(Executor executor, AbstractSecsCommunicatorConfig config) {
+			super(executor, config);
 		}
 		
 		@Override
@@ -28,8 +29,8 @@ public abstract class AbstractSecs1LogObserverFacade extends AbstractSecsLogObse
 	
 	private class Secs1MessageBlockPassThroghLogObserver extends AbstractQueueObserver<SecsLogListener<? super Secs1MessageBlockPassThroughLog>, Secs1MessageBlockPassThroughLog> {
 
-		public Secs1MessageBlockPassThroghLogObserver(Executor executor) {
-			super(executor);
+		public Secs1MessageBlockPassThroghLogObserver(Executor executor, AbstractSecsCommunicatorConfig config) {
+			super(executor, config);
 		}
 
 		@Override
@@ -54,13 +55,13 @@ public abstract class AbstractSecs1LogObserverFacade extends AbstractSecsLogObse
 		
 		this.config = config;
 		
-		this.trySendSecs1MsgPassThroughLogObserver = new Secs1MessagePassThroghLogObserver(executor);
-		this.sendedSecs1MsgPassThroughLogObserver = new Secs1MessagePassThroghLogObserver(executor);
-		this.recvSecs1MsgPassThroughLogObserver = new Secs1MessagePassThroghLogObserver(executor);
+		this.trySendSecs1MsgPassThroughLogObserver = new Secs1MessagePassThroghLogObserver(executor, config);
+		this.sendedSecs1MsgPassThroughLogObserver = new Secs1MessagePassThroghLogObserver(executor, config);
+		this.recvSecs1MsgPassThroughLogObserver = new Secs1MessagePassThroghLogObserver(executor, config);
 		 
-		this.trySendSecs1MsgBlockPassThroughLogObserver = new Secs1MessageBlockPassThroghLogObserver(executor);
-		this.sendedSecs1MsgBlockPassThroughLogObserver = new Secs1MessageBlockPassThroghLogObserver(executor);
-		this.recvSecs1MsgBlockPassThroughLogObserver = new Secs1MessageBlockPassThroghLogObserver(executor);
+		this.trySendSecs1MsgBlockPassThroughLogObserver = new Secs1MessageBlockPassThroghLogObserver(executor, config);
+		this.sendedSecs1MsgBlockPassThroughLogObserver = new Secs1MessageBlockPassThroghLogObserver(executor, config);
+		this.recvSecs1MsgBlockPassThroughLogObserver = new Secs1MessageBlockPassThroghLogObserver(executor, config);
 	}
 
 	@Override
@@ -196,4 +197,15 @@ public abstract class AbstractSecs1LogObserverFacade extends AbstractSecsLogObse
 		return f;
 	}
 	
+	@Override
+	public long droppedCount() {
+		return super.droppedCount()
+				+ this.trySendSecs1MsgPassThroughLogObserver.droppedCount()
+				+ this.sendedSecs1MsgPassThroughLogObserver.droppedCount()
+				+ this.recvSecs1MsgPassThroughLogObserver.droppedCount()
+				+ this.trySendSecs1MsgBlockPassThroughLogObserver.droppedCount()
+				+ this.sendedSecs1MsgBlockPassThroughLogObserver.droppedCount()
+				+ this.recvSecs1MsgBlockPassThroughLogObserver.droppedCount();
+	}
+	
 }
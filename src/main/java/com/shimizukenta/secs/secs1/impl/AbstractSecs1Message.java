@@ -1,5 +1,7 @@
 package com.shimizukenta.secs.secs1.impl;
 
+import java.io.ObjectStreamException;
+
 import com.shimizukenta.secs.impl.AbstractSecsMessage;
 import com.shimizukenta.secs.secs1.Secs1Message;
 
@@ -16,4 +18,14 @@ public abstract class AbstractSecs1Message extends AbstractSecsMessage implement
 		return this.deviceId();
 	}
 	
+	/**
+	 * Serialized as SECS-I blocks.
+	 * 
+	 * @return Secs1MessageSerializationProxy
+	 * @throws ObjectStreamException never
+	 */
+	protected Object writeReplace() throws ObjectStreamException {
+		return new Secs1MessageSerializationProxy(this);
+	}
+	
 }
@@ -11,7 +11,10 @@ import com.shimizukenta.secs.secs1.Secs1MessageBlock;
 import com.shimizukenta.secs.secs1.Secs1TooBigMessageBodyException;
 import com.shimizukenta.secs.secs2.Secs2;
 import com.shimizukenta.secs.secs2.Secs2BytesParseException;
+import com.shimizukenta.secs.secs2.impl.Secs2BytesCursor;
+import com.shimizukenta.secs.secs2.impl.Secs2BytesParser;
 import com.shimizukenta.secs.secs2.impl.Secs2BytesParsers;
+import com.shimizukenta.secs.secs2.impl.Secs2EncodedBytes;
 
 public abstract class AbstractSecs1MessageBuilder extends AbstractSecsMessageBuilder<AbstractSecs1Message, Secs1Communicator> implements Secs1MessageBuilder {
 	
@@ -105,112 +108,264 @@ public abstract class AbstractSecs1MessageBuilder extends AbstractSecsMessageBui
 	
 	public static AbstractSecs1Message buildDataMessage(byte[] header, Secs2 body) {
 		
-		final List<Secs1MessageBlock> blocks = new ArrayList<>();
+		final int bodyLength = Secs2BytesCursor.encodedLength(body);
 		
-		final List<byte[]> ll = body.getBytesList(244);
-		
-		if ( ll.size() > 0x7FFE) {
+		if ( Secs1MessageBlockList.blockCount(bodyLength) > 0x7FFE) {
 			throw new Secs1TooBigMessageBodyException();
 		}
 		
-		int blockNum = AbstractSecs1MessageBlock.ONE;
-		int m = ll.size() - 1;
+		/* blocks are built on demand, body is encoded when block is built */
+		return new Secs1ValidMessage(header, body, new Secs1MessageBlockList(header, body, bodyLength));
+	}
+	
+	public static AbstractSecs1Message buildFromBlocks(List<? extends Secs1MessageBlock> blocks) {
+		return buildFromBlocks(blocks, Secs2BytesParsers.getInstance());
+	}
+	
+	/**
+	 * Build from blocks by parser.
+	 * 
+	 * @param blocks the blocks
+	 * @param parser the SECS-II parser
+	 * @return Secs1Message
+	 */
+	public static AbstractSecs1Message buildFromBlocks(List<? extends Secs1MessageBlock> blocks, Secs2BytesParser parser) {
 		
-		for ( int i = 0; i < m; ++i ) {
-			blocks.add(buildBlock(header, ll.get(i), false, blockNum));
-			++ blockNum;
+		if (isValidBlocks(blocks)) {
+			
+			try {
+				final Secs2 body = parser.parse(bodyBytesList(blocks));
+				
+				return new Secs1ValidMessage(
+						Arrays.copyOfRange(blocks.get(blocks.size() - 1).getBytes(), 1, 11),
+						body,
+						blocks);
+			}
+			catch (Secs2BytesParseException parseFailed) {
+				/* failed */
+			}
 		}
 		
-		blocks.add(buildBlock(header, ll.get(m), true, blockNum));
-		
-		return new Secs1ValidMessage(header, body, blocks);
+		return new Secs1InvalidMessage(blocks);
 	}
 	
-	private static Secs1MessageBlock buildBlock(byte[] header, byte[] body, boolean ebit, int blockNumber) {
+	/**
+	 * Build from blocks, body is kept as encoded bytes and parsed when read.
+	 * 
+	 * <p>
+	 * Only top-level item-header of body is checked.
+	 * Used to restore message which was valid when written.
+	 * </p>
+	 * 
+	 * @param header the header 10 bytes
+	 * @param blocks the blocks
+	 * @return Secs1Message
+	 */
+	public static AbstractSecs1Message buildEncodedFromBlocks(byte[] header, List<? extends Secs1MessageBlock> blocks) {
 		
-		int len = header.length + body.length;
+		if (isValidBlocks(blocks)) {
+			
+			try {
+				return new Secs1ValidMessage(header, Secs2EncodedBytes.of(bodyBytesList(blocks)), blocks);
+			}
+			catch (Secs2BytesParseException parseFailed) {
+				/* failed */
+			}
+		}
 		
-		int sum = 0;
+		return new Secs1InvalidMessage(blocks);
+	}
+	
+	private static List<byte[]> bodyBytesList(List<? extends Secs1MessageBlock> blocks) {
 		
-		byte[] bs = new byte[len + 3];
+		final List<byte[]> bss = new ArrayList<>();
 		
-		bs[0] = (byte)len;
-		bs[1] = header[0];
-		bs[2] = header[1];
-		bs[3] = header[2];
-		bs[4] = header[3];
+		Secs1MessageBlock bufBlock = blocks.get(0);
 		
-		bs[5] = (byte)(blockNumber >> 8);
-		if ( ebit ) {
-			bs[5] |= (byte)0x80;
+		{
+			byte[] bs = bufBlock.getBytes();
+			bss.add(Arrays.copyOfRange(bs, 11, (bs.length - 2)));
 		}
 		
-		bs[6] = (byte)blockNumber;
+		final int m = blocks.size();
 		
-		bs[7] = header[6];
-		bs[8] = header[7];
-		bs[9] = header[8];
-		bs[10] = header[9];
+		for (int i = 1; i < m; ++i) {
+			
+			final Secs1MessageBlock block = blocks.get(i);
+			
+			if (bufBlock.isNextBlock(block)) {
+				
+				byte[] bs = block.getBytes();
+				bss.add(Arrays.copyOfRange(bs, 11, (bs.length - 2)));
+				
+				bufBlock = block;
+			}
+		}
 		
-		int pos = 1;
-		for (; pos < 11; ++pos) {
-			sum += (int)(bs[pos]) & 0xFF;
+		return bss;
+	}
+	
+	/**
+	 * Build from blocks and body bytes already joined.
+	 * 
+	 * <p>
+	 * blocks must be without re-sended same block number, body is parsed without copy.<br />
+	 * If bodyLength is not equal to sum of blocks body length, returns invalid message.
+	 * </p>
+	 * 
+	 * @param blocks the blocks
+	 * @param body the joined bytes of blocks body
+	 * @param bodyLength the length of body
+	 * @return Secs1Message
+	 */
+	static AbstractSecs1Message buildFromBlocks(List<? extends Secs1MessageBlock> blocks, byte[] body, int bodyLength) {
+		return buildFromBlocks(blocks, body, bodyLength, Secs2BytesParsers.getInstance());
+	}
+	
+	/**
+	 * Build from blocks and body bytes already joined, by parser.
+	 * 
+	 * @param blocks the blocks
+	 * @param body the joined bytes of blocks body
+	 * @param bodyLength the length of body
+	 * @param parser the SECS-II parser
+	 * @return Secs1Message
+	 */
+	static AbstractSecs1Message buildFromBlocks(List<? extends Secs1MessageBlock> blocks, byte[] body, int bodyLength, Secs2BytesParser parser) {
+		
+		if (isValidBlocks(blocks) && isJoinedBody(blocks, body, bodyLength)) {
+			
+			try {
+				final Secs2 secs2 = parser.parse(body, 0, bodyLength);
+				
+				return new Secs1ValidMessage(
+						Arrays.copyOfRange(blocks.get(blocks.size() - 1).getBytes(), 1, 11),
+						secs2,
+						blocks);
+			}
+			catch (Secs2BytesParseException parseFailed) {
+				/* failed */
+			}
 		}
 		
-		for (int i = 0, m = body.length; i < m; ++pos, ++i) {
-			byte b = body[i];
-			bs[pos] = b;
-			sum += ((int)b) & 0xFF;
+		return new Secs1InvalidMessage(blocks);
+	}
+	
+	private static boolean isJoinedBody(List<? extends Secs1MessageBlock> blocks, byte[] body, int bodyLength) {
+		
+		if (bodyLength < 0 || bodyLength > body.length) {
+			return false;
 		}
 		
-		bs[pos] = (byte)(sum >> 8);
-		bs[pos + 1] = (byte)sum;
+		int sum = 0;
+		
+		for (Secs1MessageBlock block : blocks) {
+			sum += block.length() - Secs1ReceivedBlockList.HEAD_SIZE;
+		}
 		
-		return Secs1MessageBlock.of(bs);
+		return sum == bodyLength;
 	}
 	
-	public static AbstractSecs1Message buildFromBlocks(List<? extends Secs1MessageBlock> blocks) {
-		
-		if (isValidBlocks(blocks)) {
-			
-			final List<byte[]> bss = new ArrayList<>();
+	/**
+	 * Build from 10 bytes header of each block and body bytes already joined, by parser.
+	 * 
+	 * <p>
+	 * heads, body and offsets are not copied and owned by message, caller must not reuse them.<br />
+	 * Blocks of message are built on demand.
+	 * </p>
+	 * 
+	 * @param heads the 10 bytes header of each block
+	 * @param count the count of blocks
+	 * @param body the joined bytes of blocks body
+	 * @param offsets the body offset of each block and body length at {@code offsets[count]}
+	 * @param parser the SECS-II parser
+	 * @return Secs1Message
+	 */
+	static AbstractSecs1Message buildFromBlockHeads(byte[] heads, int count, byte[] body, int[] offsets, Secs2BytesParser parser) {
+		
+		final int bodyLength = offsets[count];
+		
+		final List<Secs1MessageBlock> blocks = new Secs1ReceivedBlockList(heads, count, body, offsets);
+		
+		if (isValidBlockHeads(heads, count)) {
 			
-			Secs1MessageBlock bufBlock = blocks.get(0);
-			
-			{
-				byte[] bs = bufBlock.getBytes();
-				bss.add(Arrays.copyOfRange(bs, 11, (bs.length - 2)));
+			try {
+				final Secs2 secs2 = parser.parse(body, 0, bodyLength);
+				
+				final int last = (count - 1) * Secs1ReceivedBlockList.HEAD_SIZE;
+				
+				return new Secs1ValidMessage(
+						Arrays.copyOfRange(heads, last, (last + Secs1ReceivedBlockList.HEAD_SIZE)),
+						secs2,
+						blocks);
 			}
+			catch (Secs2BytesParseException parseFailed) {
+				/* failed */
+			}
+		}
+		
+		return new Secs1InvalidMessage(blocks);
+	}
+	
+	private static int blockNumber(byte[] heads, int pos) {
+		return (((int)(heads[pos + 4]) << 8) & 0x00007F00) | ((int)(heads[pos + 5]) & 0x000000FF);
+	}
+	
+	private static boolean ebit(byte[] heads, int pos) {
+		return ((int)(heads[pos + 4]) & 0x80) == 0x80;
+	}
+	
+	private static boolean isValidBlockHeads(byte[] heads, int count) {
+		
+		if (count <= 0) {
+			return false;
+		}
+		
+		final int first = blockNumber(heads, 0);
+		if (first != AbstractSecs1MessageBlock.ZERO && first != AbstractSecs1MessageBlock.ONE) {
+			return false;
+		}
+		
+		final int size = Secs1ReceivedBlockList.HEAD_SIZE;
+		
+		if (! ebit(heads, ((count - 1) * size))) {
+			return false;
+		}
+		
+		int eBitCount = ebit(heads, 0) ? 1 : 0;
+		
+		for (int i = 1; i < count; ++i) {
 			
-			final int m = blocks.size();
+			final int prev = (i - 1) * size;
+			final int pos = i * size;
 			
-			for (int i = 1; i < m; ++i) {
+			for (int j = 0; j < size; ++j) {
 				
-				final Secs1MessageBlock block = blocks.get(i);
+				if (j == 4 || j == 5) {
+					continue;
+				}
 				
-				if (bufBlock.isNextBlock(block)) {
-					
-					byte[] bs = block.getBytes();
-					bss.add(Arrays.copyOfRange(bs, 11, (bs.length - 2)));
-					
-					bufBlock = block;
+				if (heads[prev + j] != heads[pos + j]) {
+					return false;
 				}
 			}
 			
-			try {
-				final Secs2 body = Secs2BytesParsers.parse(bss);
-				
-				return new Secs1ValidMessage(
-						Arrays.copyOfRange(blocks.get(m - 1).getBytes(), 1, 11),
-						body,
-						blocks);
+			final int prevNumber = blockNumber(heads, prev);
+			final int number = blockNumber(heads, pos);
+			
+			if (number != (prevNumber + 1) && number != prevNumber) {
+				return false;
 			}
-			catch (Secs2BytesParseException parseFailed) {
-				/* failed */
+			
+			if (ebit(heads, pos)) {
+				++ eBitCount;
+				if (eBitCount > 1) {
+					return false;
+				}
 			}
 		}
 		
-		return new Secs1InvalidMessage(blocks);
+		return true;
 	}
 	
 	private static boolean isValidBlocks(List<? extends Secs1MessageBlock> blocks) {
@@ -2,6 +2,7 @@ package com.shimizukenta.secs.secs1.impl;
 
 import java.util.concurrent.Executor;
 
+import com.shimizukenta.secs.AbstractSecsCommunicatorConfig;
 import com.shimizukenta.secs.SecsMessagePassThroughListener;
 import com.shimizukenta.secs.impl.AbstractQueueObserver;
 import com.shimizukenta.secs.impl.AbstractSecsMessagePassThroughObserverFacade;
@@ -12,8 +13,8 @@ public abstract class AbstractSecs1MessagePassThroughObserverFacade extends Abst
 	
 	private class Secs1MessagePassThroughObserver extends AbstractQueueObserver<SecsMessagePassThroughListener<? super Secs1Message>, Secs1Message> {
 		
-		public Secs1MessagePassThroughObserver(Executor executor) {
-			super(executor);
+		public Secs1MessagePassThroughObserver(Executor executor, AbstractSecsCommunicatorConfig config) {
+			super(executor, config);
 		}
 		
 		@Override
@@ -26,12 +27,12 @@ public abstract class AbstractSecs1MessagePassThroughObserverFacade extends Abst
 	private final Secs1MessagePassThroughObserver sendedSecs1Msg;
 	private final Secs1MessagePassThroughObserver recvSecs1Msg;
 	
-	public AbstractSecs1MessagePassThroughObserverFacade(Executor executor) {
-		super(executor);
+	public AbstractSecs1MessagePassThroughObserverFacade(AbstractSecsCommunicatorConfig config, Executor executor) {
+		super(config, executor);
 		
-		this.trySendSecs1Msg = new Secs1MessagePassThroughObserver(executor);
-		this.sendedSecs1Msg = new Secs1MessagePassThroughObserver(executor);
-		this.recvSecs1Msg = new Secs1MessagePassThroughObserver(executor);
+		this.trySendSecs1Msg = new Secs1MessagePassThroughObserver(executor, config);
+		this.sendedSecs1Msg = new Secs1MessagePassThroughObserver(executor, config);
+		this.recvSecs1Msg = new Secs1MessagePassThroughObserver(executor, config);
 	}
 
 	@Override
@@ -79,4 +80,12 @@ public abstract class AbstractSecs1MessagePassThroughObserverFacade extends Abst
 		this.recvSecs1Msg.put(message);
 	}
 	
+	@Override
+	public long droppedCount() {
+		return super.droppedCount()
+				+ this.trySendSecs1Msg.droppedCount()
+				+ this.sendedSecs1Msg.droppedCount()
+				+ this.recvSecs1Msg.droppedCount();
+	}
+	
 }
@@ -1,7 +1,12 @@
 package com.shimizukenta.secs.secs1.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.Executor;
 
+import com.shimizukenta.secs.AbstractSecsCommunicatorConfig;
+import com.shimizukenta.secs.SecsListenerLaneStatus;
 import com.shimizukenta.secs.impl.AbstractQueueBiObserver;
 import com.shimizukenta.secs.impl.AbstractSecsMessageReceiveObserverFacade;
 import com.shimizukenta.secs.secs1.Secs1GemAccessor;
@@ -15,8 +20,8 @@ public abstract class AbstractSecs1MessageReceiveObserverFacade extends Abstract
 	
 	private class Secs1MsgRecvQueueBiObserver extends AbstractQueueBiObserver<Secs1GemAccessor, Secs1MessageReceiveListener, Secs1MessageReceiveBiListener, Secs1Message> {
 
-		public Secs1MsgRecvQueueBiObserver(Executor executor, Secs1GemAccessor accessor) {
-			super(executor, accessor);
+		public Secs1MsgRecvQueueBiObserver(Executor executor, AbstractSecsCommunicatorConfig config, Secs1GemAccessor accessor) {
+			super(executor, config, accessor);
 		}
 
 		@Override
@@ -32,13 +37,18 @@ public abstract class AbstractSecs1MessageReceiveObserverFacade extends Abstract
 			biListener.received(value, accessor);
 		}
 		
+		@Override
+		protected void notifyDropped(Secs1Message value) {
+			notifyDroppedMessage(value);
+		}
+		
 	}
 	
 	private final Secs1MsgRecvQueueBiObserver secs1MsgRecvObserver;
 	
-	public AbstractSecs1MessageReceiveObserverFacade(Executor executor, Secs1GemAccessor accessor) {
-		super(executor, accessor);
-		this.secs1MsgRecvObserver = new Secs1MsgRecvQueueBiObserver(executor, accessor);
+	public AbstractSecs1MessageReceiveObserverFacade(AbstractSecsCommunicatorConfig config, Executor executor, Secs1GemAccessor accessor) {
+		super(config, executor, accessor);
+		this.secs1MsgRecvObserver = new Secs1MsgRecvQueueBiObserver(executor, config, accessor);
 	}
 
 	@Override
@@ -61,9 +71,21 @@ public abstract class AbstractSecs1MessageReceiveObserverFacade extends Abstract
 		return this.secs1MsgRecvObserver.removeBiListener(biListener);
 	}
 	
+	@Override
+	public List<SecsListenerLaneStatus> secsMessageReceiveListenerLanes() {
+		final List<SecsListenerLaneStatus> ll = new ArrayList<>(super.secsMessageReceiveListenerLanes());
+		ll.addAll(this.secs1MsgRecvObserver.laneStatuses());
+		return Collections.unmodifiableList(ll);
+	}
+	
 	public void putSecs1Message(Secs1Message message) throws InterruptedException {
 		this.putSecsMessage(message);
 		this.secs1MsgRecvObserver.put(message);
 	}
 	
+	@Override
+	public long droppedCount() {
+		return super.droppedCount() + this.secs1MsgRecvObserver.droppedCount();
+	}
+	
 }
@@ -0,0 +1,150 @@
+package com.shimizukenta.secs.secs1.impl;
+
+/**
+ * Primitive ring buffer of received bytes.
+ *
+ * <p>
+ * Grows to power-of-two multiple of initial capacity if full.<br />
+ * Not synchronized, must be guarded by caller.
+ * </p>
+ *
+ */
+final class Secs1ByteRingBuffer {
+	
+	static final int DEFAULT_CAPACITY = 1024;
+	
+	private byte[] ring;
+	private int head;
+	private int count;
+	
+	public Secs1ByteRingBuffer() {
+		this(DEFAULT_CAPACITY);
+	}
+	
+	public Secs1ByteRingBuffer(int initialCapacity) {
+		if (initialCapacity < 1) {
+			throw new IllegalArgumentException("initialCapacity must be >= 1");
+		}
+		this.ring = new byte[initialCapacity];
+		this.head = 0;
+		this.count = 0;
+	}
+	
+	public int size() {
+		return this.count;
+	}
+	
+	public boolean isEmpty() {
+		return this.count == 0;
+	}
+	
+	public int capacity() {
+		return this.ring.length;
+	}
+	
+	public void clear() {
+		this.head = 0;
+		this.count = 0;
+	}
+	
+	/**
+	 * Put bytes at once, grows if full.
+	 *
+	 * @param bs the bytes
+	 * @param off start position of bs
+	 * @param len length to put
+	 */
+	public void put(byte[] bs, int off, int len) {
+		
+		if (len <= 0) {
+			return;
+		}
+		
+		this.ensureCapacity(this.count + len);
+		
+		final int cap = this.ring.length;
+		final int tail = (this.head + this.count) % cap;
+		final int n = Math.min(len, cap - tail);
+		
+		System.arraycopy(bs, off, this.ring, tail, n);
+		
+		if (n < len) {
+			System.arraycopy(bs, off + n, this.ring, 0, len - n);
+		}
+		
+		this.count += len;
+	}
+	
+	private void ensureCapacity(int required) {
+		
+		final int cap = this.ring.length;
+		
+		if (required <= cap) {
+			return;
+		}
+		
+		int newCap = cap;
+		while (newCap < required) {
+			newCap *= 2;
+		}
+		
+		final byte[] nr = new byte[newCap];
+		final int n = Math.min(this.count, cap - this.head);
+		
+		System.arraycopy(this.ring, this.head, nr, 0, n);
+		System.arraycopy(this.ring, 0, nr, n, this.count - n);
+		
+		this.ring = nr;
+		this.head = 0;
+	}
+	
+	/**
+	 * Returns oldest byte and removes it.
+	 *
+	 * @return unsigned byte value, {@code -1} if empty
+	 */
+	public int poll() {
+		
+		if (this.count == 0) {
+			return -1;
+		}
+		
+		final int b = (int)(this.ring[this.head]) & 0xFF;
+		
+		-- this.count;
+		this.head = (this.count == 0) ? 0 : ((this.head + 1) % this.ring.length);
+		
+		return b;
+	}
+	
+	/**
+	 * Copy available bytes to bs and removes them, at most len.
+	 *
+	 * @param bs the buffer
+	 * @param off start position of bs
+	 * @param len max length to read
+	 * @return size of read
+	 */
+	public int read(byte[] bs, int off, int len) {
+		
+		final int r = Math.min(Math.max(len, 0), this.count);
+		final int cap = this.ring.length;
+		final int n = Math.min(r, cap - this.head);
+		
+		System.arraycopy(this.ring, this.head, bs, off, n);
+		
+		if (n < r) {
+			System.arraycopy(this.ring, 0, bs, off + n, r - n);
+		}
+		
+		this.head = (this.head + r) % cap;
+		this.count -= r;
+		
+		if (this.count == 0) {
+			this.head = 0;
+		}
+		
+		return r;
+	}
+	
+}
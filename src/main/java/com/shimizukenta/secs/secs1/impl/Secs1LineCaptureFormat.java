@@ -0,0 +1,46 @@
+package com.shimizukenta.secs.secs1.impl;
+
+import java.time.format.DateTimeFormatter;
+
+import com.shimizukenta.secs.secs1.Secs1LineEvent;
+
+final class Secs1LineCaptureFormat {
+	
+	private static final DateTimeFormatter DATETIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS");
+	
+	private Secs1LineCaptureFormat() {
+		/* Nothing */
+	}
+	
+	public static String format(Secs1LineEvent event) {
+		
+		final StringBuilder sb = new StringBuilder()
+				.append(DATETIME.format(event.timestamp()))
+				.append(" ").append(event.lineName())
+				.append(" ").append(event.direction())
+				.append(" ").append(event.type());
+		
+		switch (event.type()) {
+		case BLOCK:
+		case SUM_CHECK_ERROR: {
+			event.block().ifPresent(b -> sb.append(" ").append(b));
+			break;
+		}
+		case MESSAGE: {
+			event.message().ifPresent(m -> sb.append(System.lineSeparator()).append(m));
+			break;
+		}
+		case ILLEGAL_LENGTH_BYTE:
+		case GARBAGE: {
+			sb.append(" ").append(String.format("%02X", event.value()));
+			break;
+		}
+		default: {
+			/* Nothing */
+		}
+		}
+		
+		return sb.toString();
+	}
+	
+}
@@ -0,0 +1,131 @@
+package com.shimizukenta.secs.secs1.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.shimizukenta.secs.secs1.Secs1LinkHistogram;
+
+/**
+ * Lock-free power-of-2 buckets histogram.
+ *
+ */
+final class Secs1LinkHistogramRecorder {
+	
+	private final AtomicLongArray buckets = new AtomicLongArray(Secs1LinkHistogram.BUCKETS);
+	private final LongAdder sum = new LongAdder();
+	private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+	private final AtomicLong max = new AtomicLong(0L);
+	
+	Secs1LinkHistogramRecorder() {
+		/* Nothing */
+	}
+	
+	private static int bucket(long value) {
+		return value <= 0L ? 0 : (64 - Long.numberOfLeadingZeros(value));
+	}
+	
+	private static long upperBound(int bucket) {
+		if (bucket <= 0) {
+			return 0L;
+		}
+		if (bucket >= 63) {
+			return Long.MAX_VALUE;
+		}
+		return (1L << bucket) - 1L;
+	}
+	
+	public void record(long value) {
+		
+		final long v = value < 0L ? 0L : value;
+		
+		this.buckets.incrementAndGet(bucket(v));
+		this.sum.add(v);
+		
+		if (v < this.min.get()) {
+			this.min.accumulateAndGet(v, Math::min);
+		}
+		
+		if (v > this.max.get()) {
+			this.max.accumulateAndGet(v, Math::max);
+		}
+	}
+	
+	public Secs1LinkHistogram snapshot() {
+		
+		final long[] bb = new long[Secs1LinkHistogram.BUCKETS];
+		long n = 0L;
+		
+		for (int i = 0; i < bb.length; ++i) {
+			bb[i] = this.buckets.get(i);
+			n += bb[i];
+		}
+		
+		final long count = n;
+		final long s = this.sum.sum();
+		final long mn = count > 0L ? this.min.get() : 0L;
+		final long mx = this.max.get();
+		
+		return new Secs1LinkHistogram() {
+			
+			@Override
+			public long count() {
+				return count;
+			}
+			
+			@Override
+			public long sum() {
+				return s;
+			}
+			
+			@Override
+			public long min() {
+				return mn;
+			}
+			
+			@Override
+			public long max() {
+				return mx;
+			}
+			
+			@Override
+			public long bucketCount(int bucket) {
+				return bb[bucket];
+			}
+			
+			@Override
+			public long valueAtPercentile(double percentile) {
+				
+				if (count == 0L) {
+					return 0L;
+				}
+				
+				final double p = Math.min(Math.max(percentile, 0.0D), 100.0D);
+				final long rank = Math.max(1L, (long)(Math.ceil(p / 100.0D * count)));
+				
+				long c = 0L;
+				
+				for (int i = 0; i < bb.length; ++i) {
+					c += bb[i];
+					if (c >= rank) {
+						return Math.min(upperBound(i), mx);
+					}
+				}
+				
+				return mx;
+			}
+			
+			@Override
+			public String toString() {
+				return "{count: " + count
+						+ ", min: " + mn
+						+ ", mean: " + String.format("%.1f", this.mean())
+						+ ", p50: " + this.valueAtPercentile(50.0D)
+						+ ", p99: " + this.valueAtPercentile(99.0D)
+						+ ", max: " + mx
+						+ "}";
+			}
+		};
+	}
+	
+}
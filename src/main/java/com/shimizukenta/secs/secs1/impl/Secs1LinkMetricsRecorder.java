@@ -0,0 +1,266 @@
+package com.shimizukenta.secs.secs1.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import com.shimizukenta.secs.secs1.Secs1LinkHistogram;
+import com.shimizukenta.secs.secs1.Secs1LinkMetrics;
+
+/**
+ * Lock-free recorder of SECS-I link metrics, one instance per circuit.
+ *
+ */
+public final class Secs1LinkMetricsRecorder {
+	
+	private final LongAdder sentMessages = new LongAdder();
+	private final LongAdder receivedMessages = new LongAdder();
+	private final LongAdder sentBlocks = new LongAdder();
+	private final LongAdder receivedBlocks = new LongAdder();
+	private final LongAdder retries = new LongAdder();
+	private final LongAdder retryOvers = new LongAdder();
+	private final LongAdder naksReceived = new LongAdder();
+	private final LongAdder naksSent = new LongAdder();
+	private final LongAdder sumCheckErrors = new LongAdder();
+	private final LongAdder illegalLengthBytes = new LongAdder();
+	private final LongAdder t1Timeouts = new LongAdder();
+	private final LongAdder t2Timeouts = new LongAdder();
+	private final LongAdder t3Timeouts = new LongAdder();
+	private final LongAdder t4Timeouts = new LongAdder();
+	private final LongAdder contentions = new LongAdder();
+	private final LongAdder contentionLosses = new LongAdder();
+	
+	private final Secs1LinkHistogramRecorder enqToEot = new Secs1LinkHistogramRecorder();
+	private final Secs1LinkHistogramRecorder blockToAck = new Secs1LinkHistogramRecorder();
+	private final Secs1LinkHistogramRecorder interBlockGap = new Secs1LinkHistogramRecorder();
+	private final Secs1LinkHistogramRecorder retriesPerMessage = new Secs1LinkHistogramRecorder();
+	
+	public Secs1LinkMetricsRecorder() {
+		/* Nothing */
+	}
+	
+	public void sentMessage(int retryCount) {
+		this.sentMessages.increment();
+		this.retriesPerMessage.record(retryCount);
+	}
+	
+	public void retryOver(int retryCount) {
+		this.retryOvers.increment();
+		this.retriesPerMessage.record(retryCount);
+	}
+	
+	public void receivedMessage() {
+		this.receivedMessages.increment();
+	}
+	
+	public void sentBlock(long sendNanos) {
+		this.sentBlocks.increment();
+		this.blockToAck.record(System.nanoTime() - sendNanos);
+	}
+	
+	public void receivedBlock() {
+		this.receivedBlocks.increment();
+	}
+	
+	public void retry() {
+		this.retries.increment();
+	}
+	
+	public void nakReceived() {
+		this.naksReceived.increment();
+	}
+	
+	public void nakSent() {
+		this.naksSent.increment();
+	}
+	
+	public void sumCheckError() {
+		this.sumCheckErrors.increment();
+	}
+	
+	public void illegalLengthByte() {
+		this.illegalLengthBytes.increment();
+	}
+	
+	public void t1Timeout() {
+		this.t1Timeouts.increment();
+	}
+	
+	public void t2Timeout() {
+		this.t2Timeouts.increment();
+	}
+	
+	public void t3Timeout() {
+		this.t3Timeouts.increment();
+	}
+	
+	public void t4Timeout() {
+		this.t4Timeouts.increment();
+	}
+	
+	public void contention(boolean lost) {
+		this.contentions.increment();
+		if (lost) {
+			this.contentionLosses.increment();
+		}
+	}
+	
+	public void eotReceived(long enqNanos) {
+		this.enqToEot.record(System.nanoTime() - enqNanos);
+	}
+	
+	public void nextBlockEnqReceived(long ackNanos) {
+		this.interBlockGap.record(System.nanoTime() - ackNanos);
+	}
+	
+	public Secs1LinkMetrics snapshot() {
+		
+		final long sm = this.sentMessages.sum();
+		final long rm = this.receivedMessages.sum();
+		final long sb = this.sentBlocks.sum();
+		final long rb = this.receivedBlocks.sum();
+		final long rt = this.retries.sum();
+		final long ro = this.retryOvers.sum();
+		final long nr = this.naksReceived.sum();
+		final long ns = this.naksSent.sum();
+		final long sc = this.sumCheckErrors.sum();
+		final long il = this.illegalLengthBytes.sum();
+		final long t1 = this.t1Timeouts.sum();
+		final long t2 = this.t2Timeouts.sum();
+		final long t3 = this.t3Timeouts.sum();
+		final long t4 = this.t4Timeouts.sum();
+		final long ct = this.contentions.sum();
+		final long cl = this.contentionLosses.sum();
+		final Secs1LinkHistogram he = this.enqToEot.snapshot();
+		final Secs1LinkHistogram hb = this.blockToAck.snapshot();
+		final Secs1LinkHistogram hg = this.interBlockGap.snapshot();
+		final Secs1LinkHistogram hr = this.retriesPerMessage.snapshot();
+		
+		return new Secs1LinkMetrics() {
+			
+			@Override
+			public long sentMessages() {
+				return sm;
+			}
+			
+			@Override
+			public long receivedMessages() {
+				return rm;
+			}
+			
+			@Override
+			public long sentBlocks() {
+				return sb;
+			}
+			
+			@Override
+			public long receivedBlocks() {
+				return rb;
+			}
+			
+			@Override
+			public long retries() {
+				return rt;
+			}
+			
+			@Override
+			public long retryOvers() {
+				return ro;
+			}
+			
+			@Override
+			public long naksReceived() {
+				return nr;
+			}
+			
+			@Override
+			public long naksSent() {
+				return ns;
+			}
+			
+			@Override
+			public long sumCheckErrors() {
+				return sc;
+			}
+			
+			@Override
+			public long illegalLengthBytes() {
+				return il;
+			}
+			
+			@Override
+			public long t1Timeouts() {
+				return t1;
+			}
+			
+			@Override
+			public long t2Timeouts() {
+				return t2;
+			}
+			
+			@Override
+			public long t3Timeouts() {
+				return t3;
+			}
+			
+			@Override
+			public long t4Timeouts() {
+				return t4;
+			}
+			
+			@Override
+			public long contentions() {
+				return ct;
+			}
+			
+			@Override
+			public long contentionLosses() {
+				return cl;
+			}
+			
+			@Override
+			public Secs1LinkHistogram enqToEot() {
+				return he;
+			}
+			
+			@Override
+			public Secs1LinkHistogram blockToAck() {
+				return hb;
+			}
+			
+			@Override
+			public Secs1LinkHistogram interBlockGap() {
+				return hg;
+			}
+			
+			@Override
+			public Secs1LinkHistogram retriesPerMessage() {
+				return hr;
+			}
+			
+			@Override
+			public String toString() {
+				return "{sentMessages: " + sm
+						+ ", receivedMessages: " + rm
+						+ ", sentBlocks: " + sb
+						+ ", receivedBlocks: " + rb
+						+ ", retries: " + rt
+						+ ", retryOvers: " + ro
+						+ ", naksReceived: " + nr
+						+ ", naksSent: " + ns
+						+ ", sumCheckErrors: " + sc
+						+ ", illegalLengthBytes: " + il
+						+ ", t1Timeouts: " + t1
+						+ ", t2Timeouts: " + t2
+						+ ", t3Timeouts: " + t3
+						+ ", t4Timeouts: " + t4
+						+ ", contentions: " + ct
+						+ ", contentionLosses: " + cl
+						+ ", enqToEot: " + he
+						+ ", blockToAck: " + hb
+						+ ", interBlockGap: " + hg
+						+ ", retriesPerMessage: " + hr
+						+ "}";
+			}
+		};
+	}
+	
+}
@@ -0,0 +1,150 @@
+package com.shimizukenta.secs.secs1.impl;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+import com.shimizukenta.secs.secs1.Secs1MessageBlock;
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.impl.Secs2BytesCursor;
+
+/**
+ * Blocks of sending message, each block is built on {@link #get(int)}.
+ * 
+ * <p>
+ * Keeps only header and cursor of SECS-II encoded bytes, body of block is read from cursor
+ * and checksum is computed when block is built.<br />
+ * Blocks are expected to be read in order, cursor is rewound if earlier block is read.
+ * </p>
+ * 
+ */
+final class Secs1MessageBlockList extends AbstractList<Secs1MessageBlock> implements RandomAccess {
+	
+	static final int BODY_SIZE = 244;
+	
+	private final byte[] header;
+	private final int bodyLength;
+	private final int size;
+	private final Secs2BytesCursor cursor;
+	private int cursorIndex;
+	private int lastIndex;
+	private byte[] lastBody;
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param header the header 10 bytes
+	 * @param body the SECS-II body, encoded on building block
+	 * @param bodyLength the length of encoded body
+	 */
+	Secs1MessageBlockList(byte[] header, Secs2 body, int bodyLength) {
+		this.header = Arrays.copyOf(header, header.length);
+		this.bodyLength = bodyLength;
+		this.size = blockCount(bodyLength);
+		this.cursor = new Secs2BytesCursor(body);
+		this.cursorIndex = 0;
+		this.lastIndex = -1;
+		this.lastBody = null;
+	}
+	
+	/**
+	 * Returns count of blocks.
+	 * 
+	 * @param bodyLength the length of encoded body
+	 * @return count of blocks, 1 if empty body
+	 */
+	static int blockCount(int bodyLength) {
+		return Math.max(1, ((bodyLength + BODY_SIZE - 1) / BODY_SIZE));
+	}
+	
+	@Override
+	public Secs1MessageBlock get(int index) {
+		
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException("index: " + index);
+		}
+		
+		return buildBlock(
+				this.header,
+				this.body(index),
+				(index == (this.size - 1)),
+				(AbstractSecs1MessageBlock.ONE + index));
+	}
+	
+	private synchronized byte[] body(int index) {
+		
+		/* re-sended block */
+		if (index == this.lastIndex) {
+			return this.lastBody;
+		}
+		
+		if (index < this.cursorIndex) {
+			this.cursor.rewind();
+			this.cursorIndex = 0;
+		}
+		
+		if (index > this.cursorIndex) {
+			this.cursor.skip((index - this.cursorIndex) * BODY_SIZE);
+			this.cursorIndex = index;
+		}
+		
+		final int from = index * BODY_SIZE;
+		final byte[] bs = new byte[Math.min(BODY_SIZE, (this.bodyLength - from))];
+		
+		this.cursor.read(bs, 0, bs.length);
+		this.cursorIndex = index + 1;
+		this.lastIndex = index;
+		this.lastBody = bs;
+		
+		return bs;
+	}
+	
+	@Override
+	public int size() {
+		return this.size;
+	}
+	
+	private static Secs1MessageBlock buildBlock(byte[] header, byte[] body, boolean ebit, int blockNumber) {
+		
+		int len = header.length + body.length;
+		
+		int sum = 0;
+		
+		byte[] bs = new byte[len + 3];
+		
+		bs[0] = (byte)len;
+		bs[1] = header[0];
+		bs[2] = header[1];
+		bs[3] = header[2];
+		bs[4] = header[3];
+		
+		bs[5] = (byte)(blockNumber >> 8);
+		if ( ebit ) {
+			bs[5] |= (byte)0x80;
+		}
+		
+		bs[6] = (byte)blockNumber;
+		
+		bs[7] = header[6];
+		bs[8] = header[7];
+		bs[9] = header[8];
+		bs[10] = header[9];
+		
+		int pos = 1;
+		for (; pos < 11; ++pos) {
+			sum += (int)(bs[pos]) & 0xFF;
+		}
+		
+		for (int i = 0, m = body.length; i < m; ++pos, ++i) {
+			byte b = body[i];
+			bs[pos] = b;
+			sum += ((int)b) & 0xFF;
+		}
+		
+		bs[pos] = (byte)(sum >> 8);
+		bs[pos + 1] = (byte)sum;
+		
+		return Secs1MessageBlock.of(bs);
+	}
+	
+}
@@ -0,0 +1,56 @@
+package com.shimizukenta.secs.secs1.impl;
+
+import java.util.List;
+
+import com.shimizukenta.secs.secs1.Secs1Message;
+import com.shimizukenta.secs.secs1.Secs1MessageBlock;
+
+/**
+ * Sending position of message blocks.
+ * 
+ * <p>
+ * Only present block is kept, {@link #reset()} restarts from first block on retry.
+ * </p>
+ * 
+ */
+final class Secs1MessageBlockPack {
+	
+	public final Secs1Message message;
+	private final List<Secs1MessageBlock> blocks;
+	private int present;
+	private Secs1MessageBlock presentBlock;
+	
+	public Secs1MessageBlockPack(Secs1Message message) {
+		this.message = message;
+		this.blocks = message.toBlocks();
+		this.present = 0;
+		this.presentBlock = null;
+	}
+	
+	/**
+	 * Returns present block, block is built on first call of each position.
+	 * 
+	 * @return present block
+	 */
+	public Secs1MessageBlock present() {
+		if (this.presentBlock == null) {
+			this.presentBlock = this.blocks.get(present);
+		}
+		return this.presentBlock;
+	}
+	
+	public void reset() {
+		this.present = 0;
+		this.presentBlock = null;
+	}
+	
+	public void next() {
+		++ this.present;
+		this.presentBlock = null;
+	}
+	
+	public boolean ebit() {
+		return this.present().ebit();
+	}
+	
+}
@@ -6,6 +6,7 @@ import com.shimizukenta.secs.impl.SecsMessageBuilder;
 import com.shimizukenta.secs.secs1.Secs1Communicator;
 import com.shimizukenta.secs.secs1.Secs1MessageBlock;
 import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.impl.Secs2BytesParser;
 
 /**
  * SECS-I-Message builder.
@@ -27,4 +28,8 @@ public interface Secs1MessageBuilder extends SecsMessageBuilder<AbstractSecs1Mes
 		return AbstractSecs1MessageBuilder.buildFromBlocks(blocks);
 	}
 	
+	public static AbstractSecs1Message buildFromBlocks(List<? extends Secs1MessageBlock> blocks, Secs2BytesParser parser) {
+		return AbstractSecs1MessageBuilder.buildFromBlocks(blocks, parser);
+	}
+	
 }
@@ -0,0 +1,87 @@
+package com.shimizukenta.secs.secs1.impl;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.shimizukenta.secs.secs1.Secs1Message;
+import com.shimizukenta.secs.secs1.Secs1MessageBlock;
+
+/**
+ * Serialized form of SECS-I-Message, header 10 bytes and blocks as sent on the line.
+ * 
+ * <p>
+ * Format: header 10 bytes, 2 bytes block count,
+ * and each block (2 bytes length, Length-byte, Header, Body, Checksum).
+ * Restored by {@link AbstractSecs1MessageBuilder#buildEncodedFromBlocks(byte[], List)},
+ * body is kept as encoded bytes and parsed when values are read.
+ * </p>
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public final class Secs1MessageSerializationProxy implements Externalizable {
+	
+	private static final long serialVersionUID = -2947015837706102298L;
+	
+	private static final int HEADER_SIZE = 10;
+	
+	private transient Secs1Message msg;
+	
+	public Secs1MessageSerializationProxy() {
+		this.msg = null;
+	}
+	
+	public Secs1MessageSerializationProxy(Secs1Message msg) {
+		this.msg = msg;
+	}
+	
+	@Override
+	public void writeExternal(ObjectOutput out) throws IOException {
+		
+		final List<Secs1MessageBlock> blocks = this.msg.toBlocks();
+		
+		out.write(this.msg.header10Bytes(), 0, HEADER_SIZE);
+		out.writeShort(blocks.size());
+		
+		for ( Secs1MessageBlock block : blocks ) {
+			byte[] bs = block.getBytes();
+			out.writeShort(bs.length);
+			out.write(bs);
+		}
+	}
+	
+	@Override
+	public void readExternal(ObjectInput in) throws IOException {
+		
+		final byte[] header = new byte[HEADER_SIZE];
+		in.readFully(header);
+		
+		final int m = in.readUnsignedShort();
+		
+		if ( m == 0 ) {
+			throw new InvalidObjectException("blocks is empty");
+		}
+		
+		final List<Secs1MessageBlock> blocks = new ArrayList<>(m);
+		
+		for ( int i = 0; i < m; ++i ) {
+			byte[] bs = new byte[in.readUnsignedShort()];
+			in.readFully(bs);
+			blocks.add(Secs1MessageBlock.of(bs));
+		}
+		
+		/* keep header of sender, not of last block */
+		this.msg = AbstractSecs1MessageBuilder.buildEncodedFromBlocks(header, blocks);
+	}
+	
+	private Object readResolve() throws ObjectStreamException {
+		return this.msg;
+	}
+	
+}
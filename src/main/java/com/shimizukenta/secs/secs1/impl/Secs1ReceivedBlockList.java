@@ -0,0 +1,73 @@
+package com.shimizukenta.secs.secs1.impl;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import com.shimizukenta.secs.secs1.Secs1MessageBlock;
+
+/**
+ * Blocks of received message, each block is built on {@link #get(int)}.
+ *
+ * <p>
+ * Keeps only 10 bytes header of each block and joined body, checksum is computed when block is built.
+ * </p>
+ *
+ */
+final class Secs1ReceivedBlockList extends AbstractList<Secs1MessageBlock> implements RandomAccess {
+	
+	static final int HEAD_SIZE = 10;
+	
+	private final byte[] heads;
+	private final int count;
+	private final byte[] body;
+	private final int[] offsets;
+	
+	/**
+	 * Constructor.
+	 *
+	 * @param heads the 10 bytes header of each block, not copied
+	 * @param count the count of blocks
+	 * @param body the joined body of blocks, not copied
+	 * @param offsets the body offset of each block and body length at {@code offsets[count]}, not copied
+	 */
+	Secs1ReceivedBlockList(byte[] heads, int count, byte[] body, int[] offsets) {
+		this.heads = heads;
+		this.count = count;
+		this.body = body;
+		this.offsets = offsets;
+	}
+	
+	@Override
+	public Secs1MessageBlock get(int index) {
+		
+		if (index < 0 || index >= this.size()) {
+			throw new IndexOutOfBoundsException("index: " + index);
+		}
+		
+		final int from = this.offsets[index];
+		final int n = this.offsets[index + 1] - from;
+		final int len = HEAD_SIZE + n;
+		
+		byte[] bs = new byte[len + 3];
+		
+		bs[0] = (byte)len;
+		System.arraycopy(this.heads, (index * HEAD_SIZE), bs, 1, HEAD_SIZE);
+		System.arraycopy(this.body, from, bs, (HEAD_SIZE + 1), n);
+		
+		int sum = 0;
+		for (int i = 1; i <= len; ++i) {
+			sum += (int)(bs[i]) & 0xFF;
+		}
+		
+		bs[len + 1] = (byte)(sum >> 8);
+		bs[len + 2] = (byte)sum;
+		
+		return Secs1MessageBlock.of(bs);
+	}
+	
+	@Override
+	public int size() {
+		return this.count;
+	}
+	
+}
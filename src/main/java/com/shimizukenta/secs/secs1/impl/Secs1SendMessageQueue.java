@@ -0,0 +1,90 @@
+package com.shimizukenta.secs.secs1.impl;
+
+import java.util.LinkedList;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.function.Function;
+
+import com.shimizukenta.secs.secs1.Secs1Message;
+import com.shimizukenta.secs.secs1.Secs1SendOrderPolicy;
+
+/**
+ * Queue of sending messages by Send-Order-Policy.
+ * 
+ * <p>
+ * If {@link Secs1SendOrderPolicy#REPLY_FIRST}, secondary or single-block messages are polled first,
+ * waiting multi-block primary message is passed up to fairness count.<br />
+ * Not synchronized, must be guarded by caller.
+ * </p>
+ * 
+ * @param <T> the type of sending message pack
+ */
+final class Secs1SendMessageQueue<T> {
+	
+	private final Function<? super T, ? extends Secs1Message> toMessage;
+	private final Queue<T> mm = new LinkedList<>();
+	
+	/* secondary or single-block messages if REPLY_FIRST */
+	private final Queue<T> pp = new LinkedList<>();
+	private int passedCount;
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param toMessage returns message of pack
+	 */
+	public Secs1SendMessageQueue(Function<? super T, ? extends Secs1Message> toMessage) {
+		this.toMessage = Objects.requireNonNull(toMessage);
+		this.passedCount = 0;
+	}
+	
+	public void add(T pack, Secs1SendOrderPolicy policy) {
+		if (isReplyFirst(this.toMessage.apply(pack), policy)) {
+			this.pp.add(pack);
+		} else {
+			this.mm.add(pack);
+		}
+	}
+	
+	private static boolean isReplyFirst(Secs1Message message, Secs1SendOrderPolicy policy) {
+		
+		if (policy != Secs1SendOrderPolicy.REPLY_FIRST) {
+			return false;
+		}
+		
+		/* secondary message is even function */
+		if ((message.getFunction() % 2) == 0) {
+			return true;
+		}
+		
+		return message.toBlocks().size() == 1;
+	}
+	
+	/**
+	 * Poll REPLY_FIRST message first, waiting message is passed up to fairness count.
+	 * 
+	 * @param fairness the Reply-First Fairness
+	 * @return message pack if exist, otherwise null
+	 */
+	public T poll(int fairness) {
+		
+		if (this.pp.isEmpty()) {
+			this.passedCount = 0;
+			return this.mm.poll();
+		}
+		
+		if (this.mm.isEmpty()) {
+			this.passedCount = 0;
+			return this.pp.poll();
+		}
+		
+		if (this.passedCount >= fairness) {
+			this.passedCount = 0;
+			return this.mm.poll();
+		}
+		
+		++ this.passedCount;
+		return this.pp.poll();
+	}
+	
+}
@@ -1,5 +1,6 @@
 package com.shimizukenta.secs.secs1.impl;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -7,6 +8,7 @@ import java.util.Objects;
 
 import com.shimizukenta.secs.secs1.Secs1MessageBlock;
 import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2Item;
 
 public final class Secs1ValidMessage extends AbstractSecs1Message {
 	
@@ -111,22 +113,37 @@ public final class Secs1ValidMessage extends AbstractSecs1Message {
 	@Override
 	protected String toStringProxy() {
 		
-		final StringBuilder sb = new StringBuilder(toHeaderBytesString())
-				.append(BR)
-				.append("S").append(this.getStream())
-				.append("F").append(this.getFunction());
+		final StringBuilder sb = new StringBuilder();
+		
+		try {
+			this.appendToProxy(sb);
+		}
+		catch ( IOException notHappen ) {
+		}
+		
+		return sb.toString();
+	}
+	
+	@Override
+	protected void appendToProxy(Appendable a) throws IOException {
+		
+		a.append(toHeaderBytesString())
+		.append(BR)
+		.append("S").append(String.valueOf(this.getStream()))
+		.append("F").append(String.valueOf(this.getFunction()));
 		
 		if ( this.wbit() ) {
-			sb.append(" W");
+			a.append(" W");
 		}
 		
-		final String ss = this.secs2().toString();
+		final Secs2 body = this.secs2();
 		
-		if ( ss.length() > 0 ) {
-			sb.append(BR).append(ss);
+		if ( body.secs2Item() != Secs2Item.UNDEFINED ) {
+			a.append(BR);
+			body.appendTo(a);
 		}
 		
-		return sb.append(".").toString();
+		a.append(".");
 	}
 	
 }
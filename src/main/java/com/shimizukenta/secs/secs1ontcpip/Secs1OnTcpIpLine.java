@@ -0,0 +1,99 @@
+package com.shimizukenta.secs.secs1ontcpip;
+
+import java.net.SocketAddress;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import com.shimizukenta.secs.SecsLog;
+import com.shimizukenta.secs.SecsLogListener;
+import com.shimizukenta.secs.secs1.Secs1LinkMetrics;
+import com.shimizukenta.secs.secs1.Secs1Message;
+import com.shimizukenta.secs.secs1.Secs1MessageReceiveListener;
+
+/**
+ * This interface is one SECS-I-on-TCP/IP line of {@link Secs1OnTcpIpLineManager}.
+ *
+ * <p>
+ * Line has no own thread, all events are run on event-loop of manager.<br />
+ * Listeners are called on event-loop, must not block.
+ * </p>
+ *
+ * <ul>
+ * <li>To send message, {@link #send(Secs1Message)}</li>
+ * <li>To receive primary message, {@link #addSecs1MessageReceiveListener(Secs1MessageReceiveListener)}</li>
+ * <li>To receive protocol error logs, {@link #addSecsLogListener(SecsLogListener)}</li>
+ * </ul>
+ *
+ * @author kenta-shimizu
+ *
+ */
+public interface Secs1OnTcpIpLine {
+
+	/**
+	 * Returns connect or bind socket address.
+	 *
+	 * @return socket address
+	 */
+	public Optional<SocketAddress> socketAddress();
+
+	/**
+	 * Returns {@code true} if TCP/IP connected.
+	 *
+	 * @return {@code true} if TCP/IP connected
+	 */
+	public boolean isCommunicatable();
+
+	/**
+	 * Send message.
+	 *
+	 * <p>
+	 * Future is completed when sended if not W-Bit, or completed with reply message if W-Bit.<br />
+	 * Future is completed exceptionally if retry-over, T3-timeout or not connected.<br />
+	 * Not blocking.
+	 * </p>
+	 *
+	 * @param message the message
+	 * @return future of reply message
+	 */
+	public CompletableFuture<Optional<Secs1Message>> send(Secs1Message message);
+
+	/**
+	 * Returns snapshot of link quality and timing metrics.
+	 *
+	 * @return snapshot of link metrics
+	 */
+	public Secs1LinkMetrics linkMetrics();
+
+	/**
+	 * Add listener to receive primary message, reply messages are not passed.
+	 *
+	 * @param listener the listener
+	 * @return {@code true} if add success
+	 */
+	public boolean addSecs1MessageReceiveListener(Secs1MessageReceiveListener listener);
+
+	/**
+	 * Remove listener.
+	 *
+	 * @param listener the listener
+	 * @return {@code true} if remove success
+	 */
+	public boolean removeSecs1MessageReceiveListener(Secs1MessageReceiveListener listener);
+
+	/**
+	 * Add listener to receive protocol error and connection error logs.
+	 *
+	 * @param listener the listener
+	 * @return {@code true} if add success
+	 */
+	public boolean addSecsLogListener(SecsLogListener<? super SecsLog> listener);
+
+	/**
+	 * Remove listener.
+	 *
+	 * @param listener the listener
+	 * @return {@code true} if remove success
+	 */
+	public boolean removeSecsLogListener(SecsLogListener<? super SecsLog> listener);
+
+}
@@ -0,0 +1,107 @@
+package com.shimizukenta.secs.secs1ontcpip;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.shimizukenta.secs.OpenAndCloseable;
+import com.shimizukenta.secs.secs1ontcpip.impl.AbstractSecs1OnTcpIpLineManager;
+
+/**
+ * This interface is manager of many SECS-I-on-TCP/IP lines, for terminal-server.
+ *
+ * <p>
+ * Lines share small fixed event-loop threads and TCP/IP channel group,
+ * threads are not increased by lines.<br />
+ * Each line is state machine of SECS-I circuit, driven by bytes arrival and timer,
+ * no thread is blocked while waiting ENQ, EOT, ACK or timeout.
+ * </p>
+ *
+ * <ul>
+ * <li>To create new instance, {@link #newInstance(int)}</li>
+ * <li>To add line of connecting to terminal-server, {@link #addLine(Secs1OnTcpIpCommunicatorConfig)}</li>
+ * <li>To add line of accepting from terminal-server, {@link #addReceiverLine(Secs1OnTcpIpReceiverCommunicatorConfig)}</li>
+ * </ul>
+ *
+ * @author kenta-shimizu
+ *
+ */
+public interface Secs1OnTcpIpLineManager extends OpenAndCloseable {
+
+	/**
+	 * Create manager instance.
+	 *
+	 * @param eventLoopThreads the event-loop threads, must be {@code >= 1}
+	 * @return new manager instance
+	 */
+	public static Secs1OnTcpIpLineManager newInstance(int eventLoopThreads) {
+		return new AbstractSecs1OnTcpIpLineManager(eventLoopThreads) {};
+	}
+
+	/**
+	 * Create manager instance and {@link #open()}.
+	 *
+	 * @param eventLoopThreads the event-loop threads, must be {@code >= 1}
+	 * @return new manager instance
+	 * @throws IOException if open failed
+	 */
+	public static Secs1OnTcpIpLineManager open(int eventLoopThreads) throws IOException {
+
+		final Secs1OnTcpIpLineManager inst = newInstance(eventLoopThreads);
+
+		try {
+			inst.open();
+		}
+		catch ( IOException e ) {
+
+			try {
+				inst.close();
+			}
+			catch ( IOException giveup ) {
+			}
+
+			throw e;
+		}
+
+		return inst;
+	}
+
+	/**
+	 * Add line of connecting, reconnect if disconnected.
+	 *
+	 * <p>
+	 * Line is started when manager opened.
+	 * </p>
+	 *
+	 * @param config the SECS-I-on-TCP/IP config
+	 * @return added line
+	 */
+	public Secs1OnTcpIpLine addLine(Secs1OnTcpIpCommunicatorConfig config);
+
+	/**
+	 * Add line of accepting, rebind if bind failed.
+	 *
+	 * <p>
+	 * Line is started when manager opened.
+	 * </p>
+	 *
+	 * @param config the SECS-I-on-TCP/IP receiver config
+	 * @return added line
+	 */
+	public Secs1OnTcpIpLine addReceiverLine(Secs1OnTcpIpReceiverCommunicatorConfig config);
+
+	/**
+	 * Remove and close line.
+	 *
+	 * @param line the line
+	 * @return {@code true} if remove success
+	 */
+	public boolean removeLine(Secs1OnTcpIpLine line);
+
+	/**
+	 * Returns lines.
+	 *
+	 * @return unmodifiable list of lines
+	 */
+	public List<Secs1OnTcpIpLine> lines();
+
+}
@@ -0,0 +1,111 @@
+package com.shimizukenta.secs.secs1ontcpip;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+
+import com.shimizukenta.secs.OpenAndCloseable;
+import com.shimizukenta.secs.secs1.Secs1LineCapture;
+import com.shimizukenta.secs.secs1.Secs1LineEventListener;
+import com.shimizukenta.secs.secs1ontcpip.impl.AbstractSecs1OnTcpIpLineMonitor;
+
+/**
+ * This interface is passive monitor of many SECS-I-on-TCP/IP lines.
+ * 
+ * <p>
+ * Each line is TCP/IP relay, HOST connects to monitor, and monitor connects to EQUIP (or terminal-server).<br />
+ * Bytes are forwarded as is, and decoded without copy before forwarding,
+ * monitor never sends own bytes.
+ * </p>
+ * <p>
+ * Handshake bytes, blocks and reassembled messages of both directions are passed to
+ * {@link Secs1LineEventListener}, to write timestamped capture, {@link Secs1LineCapture}.
+ * </p>
+ * 
+ * <ul>
+ * <li>To create new instance, {@link #newInstance(int)}</li>
+ * <li>To add line, {@link #addLine(CharSequence, SocketAddress, SocketAddress)}</li>
+ * <li>To add listener, {@link #addSecs1LineEventListener(Secs1LineEventListener)}</li>
+ * </ul>
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public interface Secs1OnTcpIpLineMonitor extends OpenAndCloseable {
+	
+	/**
+	 * Create monitor instance.
+	 * 
+	 * @param ioThreads the I/O threads shared by lines, must be {@code >= 1}
+	 * @return new monitor instance
+	 */
+	public static Secs1OnTcpIpLineMonitor newInstance(int ioThreads) {
+		return new AbstractSecs1OnTcpIpLineMonitor(ioThreads) {};
+	}
+	
+	/**
+	 * Create monitor instance and {@link #open()}.
+	 * 
+	 * @param ioThreads the I/O threads shared by lines, must be {@code >= 1}
+	 * @return new monitor instance
+	 * @throws IOException if open failed
+	 */
+	public static Secs1OnTcpIpLineMonitor open(int ioThreads) throws IOException {
+		
+		final Secs1OnTcpIpLineMonitor inst = newInstance(ioThreads);
+		
+		try {
+			inst.open();
+		}
+		catch ( IOException e ) {
+			
+			try {
+				inst.close();
+			}
+			catch ( IOException giveup ) {
+			}
+			
+			throw e;
+		}
+		
+		return inst;
+	}
+	
+	/**
+	 * Add line.
+	 * 
+	 * <p>
+	 * If monitor is opened, bind immediately, otherwise bind when monitor opened.
+	 * </p>
+	 * 
+	 * @param lineName the line name
+	 * @param hostSideAddress the bind address, HOST connects to
+	 * @param equipSideAddress the connect address of EQUIP
+	 * @throws IOException if bind failed
+	 */
+	public void addLine(CharSequence lineName, SocketAddress hostSideAddress, SocketAddress equipSideAddress) throws IOException;
+	
+	/**
+	 * Remove line, and close connections.
+	 * 
+	 * @param lineName the line name
+	 * @return {@code true} if remove success
+	 */
+	public boolean removeLine(CharSequence lineName);
+	
+	/**
+	 * Add listener of all lines.
+	 * 
+	 * @param listener the listener
+	 * @return {@code true} if add success
+	 */
+	public boolean addSecs1LineEventListener(Secs1LineEventListener listener);
+	
+	/**
+	 * Remove listener.
+	 * 
+	 * @param listener the listener
+	 * @return {@code true} if remove success
+	 */
+	public boolean removeSecs1LineEventListener(Secs1LineEventListener listener);
+	
+}
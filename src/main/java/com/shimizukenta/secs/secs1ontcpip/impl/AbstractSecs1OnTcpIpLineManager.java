@@ -0,0 +1,636 @@
+package com.shimizukenta.secs.secs1ontcpip.impl;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousChannelGroup;
+import java.nio.channels.AsynchronousServerSocketChannel;
+import java.nio.channels.AsynchronousSocketChannel;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.CompletionHandler;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.shimizukenta.secs.SecsLog;
+import com.shimizukenta.secs.SecsLogListener;
+import com.shimizukenta.secs.UnsetSocketAddressException;
+import com.shimizukenta.secs.impl.AbstractBaseCommunicator;
+import com.shimizukenta.secs.impl.AbstractSecsThrowableLog;
+import com.shimizukenta.secs.local.property.TimeoutAndUnit;
+import com.shimizukenta.secs.local.property.TimeoutGettable;
+import com.shimizukenta.secs.secs1.AbstractSecs1CommunicatorConfig;
+import com.shimizukenta.secs.secs1.Secs1LinkMetrics;
+import com.shimizukenta.secs.secs1.Secs1Message;
+import com.shimizukenta.secs.secs1.Secs1MessageReceiveListener;
+import com.shimizukenta.secs.secs1.impl.AbstractSecs1EventDrivenCircuit;
+import com.shimizukenta.secs.secs1ontcpip.Secs1OnTcpIpCommunicatorConfig;
+import com.shimizukenta.secs.secs1ontcpip.Secs1OnTcpIpLine;
+import com.shimizukenta.secs.secs1ontcpip.Secs1OnTcpIpLineManager;
+import com.shimizukenta.secs.secs1ontcpip.Secs1OnTcpIpNotConnectedException;
+import com.shimizukenta.secs.secs1ontcpip.Secs1OnTcpIpReceiverCommunicatorConfig;
+
+/**
+ * This abstract class is implementation of SECS-I-on-TCP/IP line manager.
+ *
+ * <p>
+ * Lines are assigned to event-loop by round-robin.
+ * TCP/IP I/O is completed on shared channel group, and bytes are passed to event-loop of line.
+ * </p>
+ *
+ * @author kenta-shimizu
+ *
+ */
+public abstract class AbstractSecs1OnTcpIpLineManager extends AbstractBaseCommunicator implements Secs1OnTcpIpLineManager {
+
+	private static final int READ_BUFFER_SIZE = 1024;
+
+	private static ThreadFactory daemonThreadFactory() {
+		return r -> {
+			Thread th = new Thread(r);
+			th.setDaemon(true);
+			return th;
+		};
+	}
+
+	private final ScheduledExecutorService[] loops;
+	private final AtomicInteger nextLoop = new AtomicInteger(0);
+	private final List<Line> lines = new CopyOnWriteArrayList<>();
+	private AsynchronousChannelGroup group;
+
+	public AbstractSecs1OnTcpIpLineManager(int eventLoopThreads) {
+		super();
+
+		if (eventLoopThreads < 1) {
+			throw new IllegalArgumentException("eventLoopThreads must be >= 1");
+		}
+
+		this.loops = new ScheduledExecutorService[eventLoopThreads];
+
+		for (int i = 0; i < eventLoopThreads; ++i) {
+			this.loops[i] = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory());
+		}
+
+		this.group = null;
+	}
+
+	@Override
+	public void open() throws IOException {
+		super.open();
+
+		synchronized (this.lines) {
+
+			this.group = AsynchronousChannelGroup.withFixedThreadPool(this.loops.length, daemonThreadFactory());
+
+			for (Line line : this.lines) {
+				line.start();
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+
+		if (this.isClosed()) {
+			return;
+		}
+
+		super.close();
+
+		synchronized (this.lines) {
+
+			for (Line line : this.lines) {
+				line.close();
+			}
+
+			if (this.group != null) {
+				this.group.shutdownNow();
+			}
+		}
+
+		for (ScheduledExecutorService loop : this.loops) {
+			loop.shutdownNow();
+		}
+	}
+
+	@Override
+	public Secs1OnTcpIpLine addLine(Secs1OnTcpIpCommunicatorConfig config) {
+		return this.addLine(new Line(config, config.socketAddress().optional(), config.reconnectSeconds(), false));
+	}
+
+	@Override
+	public Secs1OnTcpIpLine addReceiverLine(Secs1OnTcpIpReceiverCommunicatorConfig config) {
+		return this.addLine(new Line(config, config.socketAddress().optional(), config.rebindSeconds(), true));
+	}
+
+	private Line addLine(Line line) {
+
+		synchronized (this.lines) {
+
+			if (this.isClosed()) {
+				throw new IllegalStateException("Already closed");
+			}
+
+			this.lines.add(line);
+
+			if (this.isOpen()) {
+				line.start();
+			}
+		}
+
+		return line;
+	}
+
+	@Override
+	public boolean removeLine(Secs1OnTcpIpLine line) {
+
+		synchronized (this.lines) {
+
+			if (this.lines.remove(line)) {
+				((Line)line).close();
+				return true;
+			}
+
+			return false;
+		}
+	}
+
+	@Override
+	public List<Secs1OnTcpIpLine> lines() {
+		return Collections.unmodifiableList(this.lines);
+	}
+
+	private ScheduledExecutorService nextLoop() {
+		final int i = this.nextLoop.getAndIncrement() & 0x7FFFFFFF;
+		return this.loops[i % this.loops.length];
+	}
+
+	private final class Line implements Secs1OnTcpIpLine {
+
+		private final Optional<SocketAddress> socketAddr;
+		private final TimeoutGettable retryTimeout;
+		private final boolean receiver;
+		private final ScheduledExecutorService loop;
+		private final AbstractSecs1EventDrivenCircuit circuit;
+
+		private final List<Secs1MessageReceiveListener> recvListeners = new CopyOnWriteArrayList<>();
+		private final List<SecsLogListener<? super SecsLog>> logListeners = new CopyOnWriteArrayList<>();
+
+		private volatile AsynchronousSocketChannel channel;
+		private volatile ChannelWriter writer;
+		private AsynchronousServerSocketChannel server;
+		private volatile boolean closed;
+
+		public Line(
+				AbstractSecs1CommunicatorConfig config,
+				Optional<SocketAddress> socketAddr,
+				TimeoutGettable retryTimeout,
+				boolean receiver) {
+
+			this.socketAddr = socketAddr;
+			this.retryTimeout = retryTimeout;
+			this.receiver = receiver;
+			this.loop = AbstractSecs1OnTcpIpLineManager.this.nextLoop();
+			this.channel = null;
+			this.writer = null;
+			this.server = null;
+			this.closed = false;
+
+			this.circuit = new AbstractSecs1EventDrivenCircuit(config, this.loop) {
+
+				@Override
+				protected void sendBytes(byte[] bs) {
+					Line.this.write(bs);
+				}
+
+				@Override
+				protected void notifyReceiveMessage(Secs1Message message) {
+					for (Secs1MessageReceiveListener l : Line.this.recvListeners) {
+						l.received(message);
+					}
+				}
+
+				@Override
+				protected void notifyThrowable(Throwable t) {
+					Line.this.offerThrowable(t);
+				}
+
+				@Override
+				protected Throwable notConnectedException(Secs1Message message) {
+					return new Secs1OnTcpIpNotConnectedException();
+				}
+			};
+		}
+
+		@Override
+		public Optional<SocketAddress> socketAddress() {
+			return this.socketAddr;
+		}
+
+		@Override
+		public boolean isCommunicatable() {
+			return this.channel != null;
+		}
+
+		@Override
+		public CompletableFuture<Optional<Secs1Message>> send(Secs1Message message) {
+			return this.circuit.send(message);
+		}
+
+		@Override
+		public Secs1LinkMetrics linkMetrics() {
+			return this.circuit.linkMetrics();
+		}
+
+		@Override
+		public boolean addSecs1MessageReceiveListener(Secs1MessageReceiveListener listener) {
+			return this.recvListeners.add(listener);
+		}
+
+		@Override
+		public boolean removeSecs1MessageReceiveListener(Secs1MessageReceiveListener listener) {
+			return this.recvListeners.remove(listener);
+		}
+
+		@Override
+		public boolean addSecsLogListener(SecsLogListener<? super SecsLog> listener) {
+			return this.logListeners.add(listener);
+		}
+
+		@Override
+		public boolean removeSecsLogListener(SecsLogListener<? super SecsLog> listener) {
+			return this.logListeners.remove(listener);
+		}
+
+		private void offerThrowable(Throwable t) {
+
+			if (this.logListeners.isEmpty()) {
+				return;
+			}
+
+			final SecsLog log = new AbstractSecsThrowableLog(t) {
+
+				private static final long serialVersionUID = -3512930874590315742L;
+			};
+
+			for (SecsLogListener<? super SecsLog> l : this.logListeners) {
+				l.received(log);
+			}
+		}
+
+		private void offerThrowableOnLoop(Throwable t) {
+			if (! (t instanceof ClosedChannelException)) {
+				this.loop.execute(() -> this.offerThrowable(t));
+			}
+		}
+
+		public void start() {
+
+			if (this.closed) {
+				return;
+			}
+
+			try {
+				if (this.receiver) {
+					this.bind();
+				} else {
+					this.connect();
+				}
+			}
+			catch (IOException e) {
+				this.offerThrowableOnLoop(e);
+				this.retryLater();
+			}
+		}
+
+		private void retryLater() {
+
+			if (this.closed) {
+				return;
+			}
+
+			final TimeoutAndUnit a = this.retryTimeout.get();
+			this.loop.schedule(this::start, a.timeout(), a.unit());
+		}
+
+		private void connect() throws IOException {
+
+			final SocketAddress addr = this.socketAddr.orElseThrow(UnsetSocketAddressException::new);
+			final AsynchronousSocketChannel ch = AsynchronousSocketChannel.open(AbstractSecs1OnTcpIpLineManager.this.group);
+
+			ch.connect(addr, null, new CompletionHandler<Void, Void>() {
+
+				@Override
+				public void completed(Void none, Void attachment) {
+					Line.this.attach(ch);
+				}
+
+				@Override
+				public void failed(Throwable t, Void attachment) {
+
+					try {
+						ch.close();
+					}
+					catch (IOException giveup) {
+					}
+
+					Line.this.offerThrowableOnLoop(t);
+					Line.this.retryLater();
+				}
+			});
+		}
+
+		private void bind() throws IOException {
+
+			final SocketAddress addr = this.socketAddr.orElseThrow(UnsetSocketAddressException::new);
+			final AsynchronousServerSocketChannel sv = AsynchronousServerSocketChannel.open(AbstractSecs1OnTcpIpLineManager.this.group);
+
+			try {
+				sv.bind(addr);
+			}
+			catch (IOException e) {
+
+				try {
+					sv.close();
+				}
+				catch (IOException giveup) {
+				}
+
+				throw e;
+			}
+
+			synchronized (this) {
+
+				if (this.closed) {
+
+					try {
+						sv.close();
+					}
+					catch (IOException giveup) {
+					}
+
+					return;
+				}
+
+				this.server = sv;
+			}
+
+			this.accept(sv);
+		}
+
+		private void accept(AsynchronousServerSocketChannel sv) {
+
+			sv.accept(null, new CompletionHandler<AsynchronousSocketChannel, Void>() {
+
+				@Override
+				public void completed(AsynchronousSocketChannel ch, Void attachment) {
+
+					/* one channel per line */
+					if (Line.this.channel == null) {
+						Line.this.attach(ch);
+					} else {
+						try {
+							ch.close();
+						}
+						catch (IOException giveup) {
+						}
+					}
+
+					Line.this.accept(sv);
+				}
+
+				@Override
+				public void failed(Throwable t, Void attachment) {
+
+					Line.this.offerThrowableOnLoop(t);
+
+					try {
+						sv.close();
+					}
+					catch (IOException giveup) {
+					}
+
+					Line.this.retryLater();
+				}
+			});
+		}
+
+		private void attach(AsynchronousSocketChannel ch) {
+
+			synchronized (this) {
+
+				if (this.closed) {
+
+					try {
+						ch.close();
+					}
+					catch (IOException giveup) {
+					}
+
+					return;
+				}
+
+				this.channel = ch;
+				this.writer = new ChannelWriter(ch);
+			}
+
+			this.circuit.connected();
+			this.read(ch, ByteBuffer.allocate(READ_BUFFER_SIZE));
+		}
+
+		private void detach(AsynchronousSocketChannel ch) {
+
+			final ChannelWriter w;
+
+			synchronized (this) {
+
+				if (this.channel != ch) {
+					return;
+				}
+
+				this.channel = null;
+				w = this.writer;
+				this.writer = null;
+			}
+
+			if (w != null) {
+				w.close();
+			}
+
+			try {
+				ch.close();
+			}
+			catch (IOException giveup) {
+			}
+
+			this.circuit.disconnected();
+
+			if (! this.receiver) {
+				this.retryLater();
+			}
+		}
+
+		private void read(AsynchronousSocketChannel ch, ByteBuffer buffer) {
+
+			ch.read(buffer, null, new CompletionHandler<Integer, Void>() {
+
+				@Override
+				public void completed(Integer result, Void attachment) {
+
+					final int r = result.intValue();
+
+					if (r < 0) {
+						Line.this.detach(ch);
+						return;
+					}
+
+					final byte[] bs = new byte[r];
+					((Buffer)buffer).flip();
+					buffer.get(bs);
+					((Buffer)buffer).clear();
+
+					Line.this.circuit.putBytes(bs, r);
+					Line.this.read(ch, buffer);
+				}
+
+				@Override
+				public void failed(Throwable t, Void attachment) {
+					Line.this.offerThrowableOnLoop(t);
+					Line.this.detach(ch);
+				}
+			});
+		}
+
+		private void write(byte[] bs) {
+
+			final ChannelWriter w = this.writer;
+
+			if (w != null) {
+				w.write(bs);
+			}
+		}
+
+		/**
+		 * Write queue of one channel.
+		 *
+		 * <p>
+		 * Closed on detach, completion of previous channel does not write queue of next channel.
+		 * </p>
+		 *
+		 */
+		private final class ChannelWriter {
+
+			private final AsynchronousSocketChannel ch;
+			private final Queue<ByteBuffer> queue = new ArrayDeque<>();
+			private boolean writing;
+			private boolean closed;
+
+			public ChannelWriter(AsynchronousSocketChannel ch) {
+				this.ch = ch;
+				this.writing = false;
+				this.closed = false;
+			}
+
+			public void write(byte[] bs) {
+
+				synchronized (this.queue) {
+
+					if (this.closed) {
+						return;
+					}
+
+					if (this.writing) {
+						this.queue.add(ByteBuffer.wrap(bs));
+						return;
+					}
+
+					this.writing = true;
+				}
+
+				this.write(ByteBuffer.wrap(bs));
+			}
+
+			private void write(ByteBuffer buffer) {
+
+				this.ch.write(buffer, null, new CompletionHandler<Integer, Void>() {
+
+					@Override
+					public void completed(Integer result, Void attachment) {
+
+						final ByteBuffer next;
+
+						synchronized (ChannelWriter.this.queue) {
+
+							if (ChannelWriter.this.closed) {
+								ChannelWriter.this.writing = false;
+								return;
+							}
+
+							if (buffer.hasRemaining()) {
+								next = buffer;
+							} else {
+								next = ChannelWriter.this.queue.poll();
+							}
+
+							if (next == null) {
+								ChannelWriter.this.writing = false;
+								return;
+							}
+						}
+
+						ChannelWriter.this.write(next);
+					}
+
+					@Override
+					public void failed(Throwable t, Void attachment) {
+						Line.this.offerThrowableOnLoop(t);
+						Line.this.detach(ChannelWriter.this.ch);
+					}
+				});
+			}
+
+			public void close() {
+				synchronized (this.queue) {
+					this.closed = true;
+					this.queue.clear();
+					this.writing = false;
+				}
+			}
+		}
+
+		public void close() {
+
+			final AsynchronousSocketChannel ch;
+			final AsynchronousServerSocketChannel sv;
+
+			synchronized (this) {
+				this.closed = true;
+				ch = this.channel;
+				sv = this.server;
+				this.server = null;
+			}
+
+			if (sv != null) {
+				try {
+					sv.close();
+				}
+				catch (IOException giveup) {
+				}
+			}
+
+			if (ch != null) {
+				this.detach(ch);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,446 @@
+package com.shimizukenta.secs.secs1ontcpip.impl;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousChannelGroup;
+import java.nio.channels.AsynchronousServerSocketChannel;
+import java.nio.channels.AsynchronousSocketChannel;
+import java.nio.channels.CompletionHandler;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.shimizukenta.secs.impl.AbstractBaseCommunicator;
+import com.shimizukenta.secs.secs1.Secs1LineDirection;
+import com.shimizukenta.secs.secs1.Secs1LineEvent;
+import com.shimizukenta.secs.secs1.Secs1LineEventListener;
+import com.shimizukenta.secs.secs1.impl.AbstractSecs1LineDecoder;
+import com.shimizukenta.secs.secs1ontcpip.Secs1OnTcpIpLineMonitor;
+
+/**
+ * This abstract class is implementation of SECS-I-on-TCP/IP passive line monitor.
+ *
+ * <p>
+ * Each direction reads, and writes to other side as is.
+ * Copy of read bytes is decoded on executor in read order, message assembly and listeners do not delay forwarding.
+ * Next read is started after write completed, not to buffer without bound.
+ * </p>
+ *
+ * @author kenta-shimizu
+ *
+ */
+public abstract class AbstractSecs1OnTcpIpLineMonitor extends AbstractBaseCommunicator implements Secs1OnTcpIpLineMonitor {
+
+	private static final int RELAY_BUFFER_SIZE = 4096;
+
+	private final int ioThreads;
+	private final Map<String, Line> lines = new ConcurrentHashMap<>();
+	private final Collection<Secs1LineEventListener> listeners = new CopyOnWriteArrayList<>();
+	private AsynchronousChannelGroup group;
+
+	public AbstractSecs1OnTcpIpLineMonitor(int ioThreads) {
+		super();
+
+		if (ioThreads < 1) {
+			throw new IllegalArgumentException("ioThreads must be >= 1");
+		}
+
+		this.ioThreads = ioThreads;
+		this.group = null;
+	}
+
+	@Override
+	public void open() throws IOException {
+		super.open();
+
+		synchronized (this.lines) {
+
+			this.group = AsynchronousChannelGroup.withFixedThreadPool(this.ioThreads, r -> {
+				Thread th = new Thread(r);
+				th.setDaemon(true);
+				return th;
+			});
+
+			for (Line line : this.lines.values()) {
+				line.bind();
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+
+		if (this.isClosed()) {
+			return;
+		}
+
+		super.close();
+
+		synchronized (this.lines) {
+
+			for (Line line : this.lines.values()) {
+				line.close();
+			}
+
+			if (this.group != null) {
+				this.group.shutdownNow();
+			}
+		}
+	}
+
+	@Override
+	public void addLine(CharSequence lineName, SocketAddress hostSideAddress, SocketAddress equipSideAddress) throws IOException {
+
+		final String name = Objects.requireNonNull(lineName).toString();
+		final Line line = new Line(name, Objects.requireNonNull(hostSideAddress), Objects.requireNonNull(equipSideAddress));
+
+		synchronized (this.lines) {
+
+			if (this.isClosed()) {
+				throw new IllegalStateException("Already closed");
+			}
+
+			if (this.lines.containsKey(name)) {
+				throw new IllegalArgumentException("Already added: " + name);
+			}
+
+			if (this.isOpen()) {
+				line.bind();
+			}
+
+			this.lines.put(name, line);
+		}
+	}
+
+	@Override
+	public boolean removeLine(CharSequence lineName) {
+
+		synchronized (this.lines) {
+
+			final Line line = this.lines.remove(lineName.toString());
+
+			if (line == null) {
+				return false;
+			}
+
+			line.close();
+			return true;
+		}
+	}
+
+	@Override
+	public boolean addSecs1LineEventListener(Secs1LineEventListener listener) {
+		return this.listeners.add(Objects.requireNonNull(listener));
+	}
+
+	@Override
+	public boolean removeSecs1LineEventListener(Secs1LineEventListener listener) {
+		return this.listeners.remove(listener);
+	}
+
+	private void notifyEvent(Secs1LineEvent event) {
+		for (Secs1LineEventListener l : this.listeners) {
+			l.received(event);
+		}
+	}
+
+	private final class Line {
+
+		private final SocketAddress hostSideAddr;
+		private final SocketAddress equipSideAddr;
+		private final AbstractSecs1LineDecoder decoder;
+
+		/* decoder is called only in drain task */
+		private final Queue<Runnable> decodeTasks = new ConcurrentLinkedQueue<>();
+		private final AtomicBoolean decoding = new AtomicBoolean(false);
+
+		private AsynchronousServerSocketChannel server;
+		private AsynchronousSocketChannel hostChannel;
+		private AsynchronousSocketChannel equipChannel;
+		private boolean closed;
+
+		private Line(String name, SocketAddress hostSideAddr, SocketAddress equipSideAddr) {
+
+			this.hostSideAddr = hostSideAddr;
+			this.equipSideAddr = equipSideAddr;
+
+			this.decoder = new AbstractSecs1LineDecoder(name) {
+
+				@Override
+				protected void notifyEvent(Secs1LineEvent event) {
+					AbstractSecs1OnTcpIpLineMonitor.this.notifyEvent(event);
+				}
+			};
+
+			this.server = null;
+			this.hostChannel = null;
+			this.equipChannel = null;
+			this.closed = false;
+		}
+
+		private void bind() throws IOException {
+
+			final AsynchronousServerSocketChannel sv = AsynchronousServerSocketChannel.open(AbstractSecs1OnTcpIpLineMonitor.this.group);
+
+			try {
+				sv.bind(this.hostSideAddr);
+			}
+			catch (IOException e) {
+
+				try {
+					sv.close();
+				}
+				catch (IOException giveup) {
+				}
+
+				throw e;
+			}
+
+			synchronized (this) {
+				this.server = sv;
+			}
+
+			this.accept(sv);
+		}
+
+		private void accept(AsynchronousServerSocketChannel sv) {
+
+			sv.accept(null, new CompletionHandler<AsynchronousSocketChannel, Void>() {
+
+				@Override
+				public void completed(AsynchronousSocketChannel host, Void attachment) {
+					Line.this.accepted(host);
+					Line.this.accept(sv);
+				}
+
+				@Override
+				public void failed(Throwable t, Void attachment) {
+					/* server closed */
+				}
+			});
+		}
+
+		private void accepted(AsynchronousSocketChannel host) {
+
+			synchronized (this) {
+
+				/* one connection per line */
+				if (this.closed || this.hostChannel != null) {
+					closeQuietly(host);
+					return;
+				}
+
+				this.hostChannel = host;
+			}
+
+			final AsynchronousSocketChannel equip;
+
+			try {
+				equip = AsynchronousSocketChannel.open(AbstractSecs1OnTcpIpLineMonitor.this.group);
+			}
+			catch (IOException e) {
+				this.disconnect();
+				return;
+			}
+
+			synchronized (this) {
+				this.equipChannel = equip;
+			}
+
+			equip.connect(this.equipSideAddr, null, new CompletionHandler<Void, Void>() {
+
+				@Override
+				public void completed(Void none, Void attachment) {
+
+					final LocalDateTime now = LocalDateTime.now();
+					Line.this.decode(() -> Line.this.decoder.connected(now));
+
+					Line.this.relay(host, equip, Secs1LineDirection.HOST_TO_EQUIP, ByteBuffer.allocate(RELAY_BUFFER_SIZE));
+					Line.this.relay(equip, host, Secs1LineDirection.EQUIP_TO_HOST, ByteBuffer.allocate(RELAY_BUFFER_SIZE));
+				}
+
+				@Override
+				public void failed(Throwable t, Void attachment) {
+					Line.this.disconnect();
+				}
+			});
+		}
+
+		private void relay(
+				AsynchronousSocketChannel from,
+				AsynchronousSocketChannel to,
+				Secs1LineDirection direction,
+				ByteBuffer buffer) {
+
+			((Buffer)buffer).clear();
+
+			from.read(buffer, null, new CompletionHandler<Integer, Void>() {
+
+				@Override
+				public void completed(Integer result, Void attachment) {
+
+					final int r = result.intValue();
+
+					if (r < 0) {
+						Line.this.disconnect();
+						return;
+					}
+
+					final LocalDateTime now = LocalDateTime.now();
+					final byte[] bs = Arrays.copyOf(buffer.array(), r);
+
+					/* queued before forward, to keep order of handshake between directions */
+					Line.this.decode(() -> Line.this.decoder.put(direction, bs, 0, r, now));
+
+					((Buffer)buffer).flip();
+					Line.this.write(from, to, direction, buffer);
+				}
+
+				@Override
+				public void failed(Throwable t, Void attachment) {
+					Line.this.disconnect();
+				}
+			});
+		}
+
+		private void write(
+				AsynchronousSocketChannel from,
+				AsynchronousSocketChannel to,
+				Secs1LineDirection direction,
+				ByteBuffer buffer) {
+
+			to.write(buffer, null, new CompletionHandler<Integer, Void>() {
+
+				@Override
+				public void completed(Integer result, Void attachment) {
+
+					if (buffer.hasRemaining()) {
+						Line.this.write(from, to, direction, buffer);
+					} else {
+						Line.this.relay(from, to, direction, buffer);
+					}
+				}
+
+				@Override
+				public void failed(Throwable t, Void attachment) {
+					Line.this.disconnect();
+				}
+			});
+		}
+
+		private void disconnect() {
+
+			final AsynchronousSocketChannel host;
+			final AsynchronousSocketChannel equip;
+
+			synchronized (this) {
+				host = this.hostChannel;
+				equip = this.equipChannel;
+				this.hostChannel = null;
+				this.equipChannel = null;
+			}
+
+			if (host == null && equip == null) {
+				return;
+			}
+
+			closeQuietly(host);
+			closeQuietly(equip);
+
+			final LocalDateTime now = LocalDateTime.now();
+			this.decode(() -> this.decoder.disconnected(now));
+		}
+
+		/**
+		 * Queue decoder task, tasks are run in queued order, one drain task at a time.
+		 *
+		 * @param task the decoder task
+		 */
+		private void decode(Runnable task) {
+
+			this.decodeTasks.add(task);
+
+			if (this.decoding.compareAndSet(false, true)) {
+
+				try {
+					AbstractSecs1OnTcpIpLineMonitor.this.executorService().execute(this::drainDecode);
+				}
+				catch (RejectedExecutionException e) {
+					/* closed */
+					this.decodeTasks.clear();
+					this.decoding.set(false);
+				}
+			}
+		}
+
+		private void drainDecode() {
+
+			for ( ;; ) {
+
+				final Runnable task = this.decodeTasks.poll();
+
+				if (task == null) {
+
+					this.decoding.set(false);
+
+					/* task may be queued after poll and before set(false) */
+					if (this.decodeTasks.isEmpty() || ! this.decoding.compareAndSet(false, true)) {
+						return;
+					}
+
+					continue;
+				}
+
+				try {
+					task.run();
+				}
+				catch (RuntimeException ignore) {
+					/* listener failure must not stop decoding */
+				}
+			}
+		}
+
+		private void close() {
+
+			final AsynchronousServerSocketChannel sv;
+
+			synchronized (this) {
+				this.closed = true;
+				sv = this.server;
+				this.server = null;
+			}
+
+			if (sv != null) {
+				try {
+					sv.close();
+				}
+				catch (IOException giveup) {
+				}
+			}
+
+			this.disconnect();
+		}
+	}
+
+	private static void closeQuietly(AsynchronousSocketChannel ch) {
+
+		if (ch != null) {
+			try {
+				ch.close();
+			}
+			catch (IOException giveup) {
+			}
+		}
+	}
+
+}
@@ -3,6 +3,7 @@ package com.shimizukenta.secs.secs1ontcpip.impl;
 import java.net.SocketAddress;
 import java.util.concurrent.Executor;
 
+import com.shimizukenta.secs.AbstractSecsCommunicatorConfig;
 import com.shimizukenta.secs.SecsLogListener;
 import com.shimizukenta.secs.impl.AbstractQueueObserver;
 import com.shimizukenta.secs.secs1.AbstractSecs1CommunicatorConfig;
@@ -15,8 +16,8 @@ public abstract class AbstractSecs1OnTcpIpLogObserverFacade extends AbstractSecs
 	
 	private class Secs1OnTcpIpChannelConnectionLogObserver extends AbstractQueueObserver<SecsLogListener<? super Secs1OnTcpIpChannelConnectionLog>, Secs1OnTcpIpChannelConnectionLog> {
 		
-		public Secs1OnTcpIpChannelConnectionLogObserver(Executor executor) {
-			super(executor);
+		public Secs1OnTcpIpChannelConnectionLogObserver(Executor executor, AbstractSecsCommunicatorConfig config) {
+			super(executor, config);
 		}
 		
 		@Override
@@ -34,7 +35,7 @@ public abstract class AbstractSecs1OnTcpIpLogObserverFacade extends AbstractSecs
 		
 		this.config = config;
 		
-		this.channelConnectionLogObserver = new Secs1OnTcpIpChannelConnectionLogObserver(executor);
+		this.channelConnectionLogObserver = new Secs1OnTcpIpChannelConnectionLogObserver(executor, config);
 	}
 	
 	@Override
@@ -85,5 +86,10 @@ public abstract class AbstractSecs1OnTcpIpLogObserverFacade extends AbstractSecs
 	public boolean offerSecs1OnTcpIpChannelConnectionConnectClosed(SocketAddress local, SocketAddress remote) {
 		return this.offerSecs1OnTcpIpChannelConnection(AbstractSecs1OnTcpIpChannelConnectionLog.connectClosed(local, remote));
 	}
+	
+	@Override
+	public long droppedCount() {
+		return super.droppedCount() + this.channelConnectionLogObserver.droppedCount();
+	}
 
 }
@@ -1,5 +1,6 @@
 package com.shimizukenta.secs.secs2;
 
+import java.io.IOException;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Optional;
@@ -61,6 +62,43 @@ public interface Secs2 extends Iterable<Secs2> {
 	 */
 	public String toJson();
 	
+	/**
+	 * Appends String same as {@link #toString()}.
+	 * 
+	 * <p>
+	 * Renders in a single pass, without building whole String.
+	 * </p>
+	 * 
+	 * @param a the Appendable, e.g. Writer, StringBuilder
+	 * @throws IOException if append failed
+	 */
+	public void appendTo(Appendable a) throws IOException;
+	
+	/**
+	 * Appends JSON-String same as {@link #toJson()}.
+	 * 
+	 * <p>
+	 * Renders in a single pass, without building whole String.
+	 * </p>
+	 * 
+	 * @param a the Appendable, e.g. Writer, StringBuilder
+	 * @throws IOException if append failed
+	 */
+	public void appendJsonTo(Appendable a) throws IOException;
+	
+	/**
+	 * Returns 64-bit hash of content, cached.
+	 * 
+	 * <p>
+	 * Computed from item-type and encoded body bytes, LIST combines hashes of items.
+	 * Equal Secs2 have same content-hash.
+	 * Used for fast "value changed" check, compare by {@link #equals(Object)} if hash is same.
+	 * </p>
+	 * 
+	 * @return 64-bit hash
+	 */
+	public long contentHash();
+	
 	/**
 	 * return this
 	 * 
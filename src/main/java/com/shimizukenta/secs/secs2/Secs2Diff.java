@@ -0,0 +1,69 @@
+package com.shimizukenta.secs.secs2;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.shimizukenta.secs.secs2.impl.AbstractSecs2Diff;
+
+/**
+ * This interface is one difference of two Secs2 trees.
+ * 
+ * <p>
+ * LIST items are compared by index. Subtrees of same content-hash are skipped without descending,
+ * see {@link Secs2#contentHash()}.
+ * </p>
+ * <p>
+ * Instances of this class are immutable.
+ * </p>
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public interface Secs2Diff {
+	
+	/**
+	 * Returns differences, in order of paths.
+	 * 
+	 * <p>
+	 * Changed LIST is descended, and reports items.
+	 * Otherwise if item-type or value is changed, reports the item as {@link Secs2DiffType#CHANGED}.
+	 * </p>
+	 * 
+	 * @param before the before Secs2
+	 * @param after the after Secs2
+	 * @return differences, empty if equal
+	 * @throws NullPointerException if before or after is null
+	 */
+	public static List<Secs2Diff> diff(Secs2 before, Secs2 after) {
+		return AbstractSecs2Diff.diff(before, after);
+	}
+	
+	/**
+	 * Returns type.
+	 * 
+	 * @return type
+	 */
+	public Secs2DiffType type();
+	
+	/**
+	 * Returns path of item.
+	 * 
+	 * @return path of item
+	 */
+	public Secs2Path path();
+	
+	/**
+	 * Returns before item, empty if {@link Secs2DiffType#ADDED}.
+	 * 
+	 * @return before item
+	 */
+	public Optional<Secs2> before();
+	
+	/**
+	 * Returns after item, empty if {@link Secs2DiffType#REMOVED}.
+	 * 
+	 * @return after item
+	 */
+	public Optional<Secs2> after();
+	
+}
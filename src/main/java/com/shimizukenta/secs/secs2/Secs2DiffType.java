@@ -0,0 +1,30 @@
+package com.shimizukenta.secs.secs2;
+
+/**
+ * Type of {@link Secs2Diff}.
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public enum Secs2DiffType {
+	
+	/**
+	 * Item exists only in after.
+	 * 
+	 */
+	ADDED,
+	
+	/**
+	 * Item exists only in before.
+	 * 
+	 */
+	REMOVED,
+	
+	/**
+	 * Item-type or value changed.
+	 * 
+	 */
+	CHANGED,
+	;
+	
+}
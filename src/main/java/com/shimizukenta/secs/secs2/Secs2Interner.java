@@ -0,0 +1,57 @@
+package com.shimizukenta.secs.secs2;
+
+import com.shimizukenta.secs.secs2.impl.Secs2Interners;
+
+/**
+ * This interface is implements of sharing equal SECS-II Data.
+ * 
+ * <p>
+ * Equal subtrees are mapped to one shared instance, Secs2 is immutable.
+ * Used for long-lived cache of repeated reports, e.g. S6F11.
+ * </p>
+ * <p>
+ * Shared instances are weakly referenced, removed if not used.
+ * This instance is thread-safe.
+ * </p>
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public interface Secs2Interner {
+	
+	/**
+	 * Returns new interner instance.
+	 * 
+	 * @return new interner instance
+	 */
+	public static Secs2Interner newInstance() {
+		return Secs2Interners.newInstance();
+	}
+	
+	/**
+	 * Returns shared instance equals value.
+	 * 
+	 * <p>
+	 * If LIST, items are interned recursively.
+	 * </p>
+	 * 
+	 * @param value the Secs2
+	 * @return shared instance
+	 * @throws NullPointerException if value is null
+	 */
+	public Secs2 intern(Secs2 value);
+	
+	/**
+	 * Returns count of shared instances.
+	 * 
+	 * @return count of shared instances
+	 */
+	public int size();
+	
+	/**
+	 * Remove all shared instances.
+	 * 
+	 */
+	public void clear();
+	
+}
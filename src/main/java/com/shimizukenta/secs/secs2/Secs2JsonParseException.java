@@ -0,0 +1,49 @@
+package com.shimizukenta.secs.secs2;
+
+/**
+ * Secs2 JSON parse Exception.
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public class Secs2JsonParseException extends Secs2Exception {
+	
+	private static final long serialVersionUID = 3408716592285631472L;
+	
+	/**
+	 * Constructor.
+	 * 
+	 */
+	public Secs2JsonParseException() {
+		super();
+	}
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param message the message
+	 */
+	public Secs2JsonParseException(String message) {
+		super(message);
+	}
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param cause the cause
+	 */
+	public Secs2JsonParseException(Throwable cause) {
+		super(cause);
+	}
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param message the message
+	 * @param cause the cause
+	 */
+	public Secs2JsonParseException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+}
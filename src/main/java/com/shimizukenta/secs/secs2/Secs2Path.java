@@ -0,0 +1,252 @@
+package com.shimizukenta.secs.secs2;
+
+import java.math.BigInteger;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import com.shimizukenta.secs.secs2.impl.AbstractSecs2Path;
+
+/**
+ * This interface is precompiled indices of nested Secs2.
+ *
+ * <p>
+ * Build once and reuse for every message, equivalent to {@code secs2.getXxx(indices)}.
+ * </p>
+ * <p>
+ * Instances of this class are immutable.
+ * </p>
+ *
+ * @author kenta-shimizu
+ *
+ */
+public interface Secs2Path {
+
+	/**
+	 * Returns new Secs2Path instance.
+	 *
+	 * @param indices the indices of list
+	 * @return Secs2Path
+	 * @throws NullPointerException if indices is null
+	 */
+	public static Secs2Path of(int... indices) {
+		return AbstractSecs2Path.newInstance(indices);
+	}
+
+	/**
+	 * Returns copy of indices.
+	 *
+	 * @return indices
+	 */
+	public int[] indices();
+
+	/**
+	 * Returns new Secs2Path appended indices.
+	 *
+	 * @param indices the indices of list
+	 * @return Secs2Path
+	 */
+	public Secs2Path append(int... indices);
+
+	/**
+	 * Returns nested Secs2.
+	 *
+	 * @param root the root Secs2
+	 * @return Secs2
+	 * @throws Secs2Exception if parse failed
+	 * @see Secs2#get(int...)
+	 */
+	public Secs2 get(Secs2 root) throws Secs2Exception;
+
+	/**
+	 * Returns nested ASCII-String.
+	 *
+	 * @param root the root Secs2
+	 * @return ASCII-String
+	 * @throws Secs2Exception if parse failed
+	 * @see Secs2#getAscii(int...)
+	 */
+	public String getAscii(Secs2 root) throws Secs2Exception;
+
+	/**
+	 * Returns nested byte-value.
+	 *
+	 * @param root the root Secs2
+	 * @return byte-value
+	 * @throws Secs2Exception if parse failed
+	 * @see Secs2#getByte(int...)
+	 */
+	public byte getByte(Secs2 root) throws Secs2Exception;
+
+	/**
+	 * Returns nested bytes.
+	 *
+	 * @param root the root Secs2
+	 * @return bytes
+	 * @throws Secs2Exception if parse failed
+	 * @see Secs2#getBytes(int...)
+	 */
+	public byte[] getBytes(Secs2 root) throws Secs2Exception;
+
+	/**
+	 * Returns nested boolean-value.
+	 *
+	 * @param root the root Secs2
+	 * @return boolean-value
+	 * @throws Secs2Exception if parse failed
+	 * @see Secs2#getBoolean(int...)
+	 */
+	public boolean getBoolean(Secs2 root) throws Secs2Exception;
+
+	/**
+	 * Returns nested Numeric-value.
+	 *
+	 * @param root the root Secs2
+	 * @return (int)value
+	 * @throws Secs2Exception if parse failed
+	 * @see Secs2#getInt(int...)
+	 */
+	public int getInt(Secs2 root) throws Secs2Exception;
+
+	/**
+	 * Returns nested Numeric-value.
+	 *
+	 * @param root the root Secs2
+	 * @return (long)value
+	 * @throws Secs2Exception if parse failed
+	 * @see Secs2#getLong(int...)
+	 */
+	public long getLong(Secs2 root) throws Secs2Exception;
+
+	/**
+	 * Returns nested Numeric-value.
+	 *
+	 * @param root the root Secs2
+	 * @return BigInteger value
+	 * @throws Secs2Exception if parse failed
+	 * @see Secs2#getBigInteger(int...)
+	 */
+	public BigInteger getBigInteger(Secs2 root) throws Secs2Exception;
+
+	/**
+	 * Returns nested Numeric-value.
+	 *
+	 * @param root the root Secs2
+	 * @return (float)value
+	 * @throws Secs2Exception if parse failed
+	 * @see Secs2#getFloat(int...)
+	 */
+	public float getFloat(Secs2 root) throws Secs2Exception;
+
+	/**
+	 * Returns nested Numeric-value.
+	 *
+	 * @param root the root Secs2
+	 * @return (double)value
+	 * @throws Secs2Exception if parse failed
+	 * @see Secs2#getDouble(int...)
+	 */
+	public double getDouble(Secs2 root) throws Secs2Exception;
+
+	/**
+	 * Returns nested Numeric-value.
+	 *
+	 * @param root the root Secs2
+	 * @return (Number)value
+	 * @throws Secs2Exception if parse failed
+	 * @see Secs2#getNumber(int...)
+	 */
+	public Number getNumber(Secs2 root) throws Secs2Exception;
+
+	/**
+	 * Returns Optional of nested Secs2.
+	 *
+	 * @param root the root Secs2
+	 * @return Optional of Secs2
+	 * @see Secs2#optional(int...)
+	 */
+	public Optional<Secs2> optional(Secs2 root);
+
+	/**
+	 * Returns Optional of nested ASCII-String.
+	 *
+	 * @param root the root Secs2
+	 * @return Optional of String
+	 * @see Secs2#optionalAscii(int...)
+	 */
+	public Optional<String> optionalAscii(Secs2 root);
+
+	/**
+	 * Returns Optional of nested byte-value.
+	 *
+	 * @param root the root Secs2
+	 * @return Optional of Byte
+	 * @see Secs2#optionalByte(int...)
+	 */
+	public Optional<Byte> optionalByte(Secs2 root);
+
+	/**
+	 * Returns Optional of nested bytes.
+	 *
+	 * @param root the root Secs2
+	 * @return Optional of bytes
+	 * @see Secs2#optionalBytes(int...)
+	 */
+	public Optional<byte[]> optionalBytes(Secs2 root);
+
+	/**
+	 * Returns Optional of nested boolean-value.
+	 *
+	 * @param root the root Secs2
+	 * @return Optional of Boolean
+	 * @see Secs2#optionalBoolean(int...)
+	 */
+	public Optional<Boolean> optionalBoolean(Secs2 root);
+
+	/**
+	 * Returns OptionalInt of nested Numeric-value.
+	 *
+	 * @param root the root Secs2
+	 * @return OptionalInt
+	 * @see Secs2#optionalInt(int...)
+	 */
+	public OptionalInt optionalInt(Secs2 root);
+
+	/**
+	 * Returns OptionalLong of nested Numeric-value.
+	 *
+	 * @param root the root Secs2
+	 * @return OptionalLong
+	 * @see Secs2#optionalLong(int...)
+	 */
+	public OptionalLong optionalLong(Secs2 root);
+
+	/**
+	 * Returns Optional of nested BigInteger-value.
+	 *
+	 * @param root the root Secs2
+	 * @return Optional of BigInteger
+	 * @see Secs2#optionalBigInteger(int...)
+	 */
+	public Optional<BigInteger> optionalBigInteger(Secs2 root);
+
+	/**
+	 * Returns OptionalDouble of nested Numeric-value.
+	 *
+	 * @param root the root Secs2
+	 * @return OptionalDouble
+	 * @see Secs2#optionalDouble(int...)
+	 */
+	public OptionalDouble optionalDouble(Secs2 root);
+
+	/**
+	 * Returns Optional of nested Numeric-value.
+	 *
+	 * @param root the root Secs2
+	 * @return Optional of Number
+	 * @see Secs2#optionalNumber(int...)
+	 */
+	public Optional<Number> optionalNumber(Secs2 root);
+
+}
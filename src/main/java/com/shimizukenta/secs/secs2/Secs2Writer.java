@@ -0,0 +1,275 @@
+package com.shimizukenta.secs.secs2;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+
+import com.shimizukenta.secs.secs2.impl.Secs2Writers;
+
+/**
+ * This interface is implements of forward-only writing SECS-II (SEMI-E5) Data.
+ *
+ * <p>
+ * Items are encoded directly to bytes in writing order, no Secs2 tree is built.
+ * Used for building huge message body, e.g. S7F3 or S2F15 of many entries.
+ * </p>
+ * <p>
+ * Items count of LIST is declared by {@link #beginList(int)} and checked by {@link #endList()}.
+ * Only one top-level item is written.
+ * </p>
+ * <p>
+ * Not thread-safe.
+ * </p>
+ *
+ * <pre>
+ * Secs2 body = Secs2Writer.newInstance()
+ *         .beginList(2)
+ *           .uint4(1001)
+ *           .beginList(values.length)
+ *             ...
+ *           .endList()
+ *         .endList()
+ *         .toSecs2();
+ * </pre>
+ *
+ * @author kenta-shimizu
+ *
+ */
+public interface Secs2Writer {
+
+	/**
+	 * Returns new writer instance.
+	 *
+	 * @return new writer instance
+	 */
+	public static Secs2Writer newInstance() {
+		return Secs2Writers.newInstance();
+	}
+
+	/**
+	 * Returns new writer instance to channel.
+	 *
+	 * <p>
+	 * Bytes are written to channel each time buffer is filled, one buffer is reused.
+	 * Call {@link #finish()} at end, {@link #toSecs2()} is not supported.
+	 * I/O failure while writing items is thrown as {@link java.io.UncheckedIOException}.
+	 * </p>
+	 *
+	 * @param channel the channel, not closed by writer
+	 * @return new writer instance
+	 */
+	public static Secs2Writer newInstance(WritableByteChannel channel) {
+		return Secs2Writers.newInstance(channel);
+	}
+
+	/**
+	 * Begin LIST of size items.
+	 *
+	 * @param size the items count
+	 * @return this writer
+	 * @throws Secs2LengthByteOutOfRangeException if size {@code >0x00FFFFFF}
+	 * @throws IllegalStateException if over parent items count
+	 */
+	public Secs2Writer beginList(int size);
+
+	/**
+	 * End LIST.
+	 *
+	 * @return this writer
+	 * @throws IllegalStateException if not LIST opened, or items count not equals size of {@link #beginList(int)}
+	 */
+	public Secs2Writer endList();
+
+	/**
+	 * Write ASCII.
+	 *
+	 * @param cs the CharSequence
+	 * @return this writer
+	 * @throws NullPointerException if cs is null
+	 * @throws Secs2LengthByteOutOfRangeException if length-byte-size {@code >0x00FFFFFF}
+	 * @throws IllegalStateException if over parent items count
+	 */
+	public Secs2Writer ascii(CharSequence cs);
+
+	/**
+	 * Write BINARY.
+	 *
+	 * @param bs the bytes
+	 * @return this writer
+	 * @throws NullPointerException if bs is null
+	 * @throws Secs2LengthByteOutOfRangeException if length-byte-size {@code >0x00FFFFFF}
+	 * @throws IllegalStateException if over parent items count
+	 */
+	public Secs2Writer binary(byte... bs);
+
+	/**
+	 * Write BOOLEAN.
+	 *
+	 * @param bools the boolean values
+	 * @return this writer
+	 * @throws NullPointerException if bools is null
+	 * @throws Secs2LengthByteOutOfRangeException if length-byte-size {@code >0x00FFFFFF}
+	 * @throws IllegalStateException if over parent items count
+	 */
+	public Secs2Writer bool(boolean... bools);
+
+	/**
+	 * Write INT1.
+	 *
+	 * @param values the int values
+	 * @return this writer
+	 * @throws NullPointerException if values is null
+	 * @throws Secs2LengthByteOutOfRangeException if length-byte-size {@code >0x00FFFFFF}
+	 * @throws IllegalStateException if over parent items count
+	 */
+	public Secs2Writer int1(int... values);
+
+	/**
+	 * Write INT2.
+	 *
+	 * @param values the int values
+	 * @return this writer
+	 * @throws NullPointerException if values is null
+	 * @throws Secs2LengthByteOutOfRangeException if length-byte-size {@code >0x00FFFFFF}
+	 * @throws IllegalStateException if over parent items count
+	 */
+	public Secs2Writer int2(int... values);
+
+	/**
+	 * Write INT4.
+	 *
+	 * @param values the int values
+	 * @return this writer
+	 * @throws NullPointerException if values is null
+	 * @throws Secs2LengthByteOutOfRangeException if length-byte-size {@code >0x00FFFFFF}
+	 * @throws IllegalStateException if over parent items count
+	 */
+	public Secs2Writer int4(int... values);
+
+	/**
+	 * Write INT8.
+	 *
+	 * @param values the long values
+	 * @return this writer
+	 * @throws NullPointerException if values is null
+	 * @throws Secs2LengthByteOutOfRangeException if length-byte-size {@code >0x00FFFFFF}
+	 * @throws IllegalStateException if over parent items count
+	 */
+	public Secs2Writer int8(long... values);
+
+	/**
+	 * Write UINT1.
+	 *
+	 * @param values the int values
+	 * @return this writer
+	 * @throws NullPointerException if values is null
+	 * @throws Secs2LengthByteOutOfRangeException if length-byte-size {@code >0x00FFFFFF}
+	 * @throws IllegalStateException if over parent items count
+	 */
+	public Secs2Writer uint1(int... values);
+
+	/**
+	 * Write UINT2.
+	 *
+	 * @param values the int values
+	 * @return this writer
+	 * @throws NullPointerException if values is null
+	 * @throws Secs2LengthByteOutOfRangeException if length-byte-size {@code >0x00FFFFFF}
+	 * @throws IllegalStateException if over parent items count
+	 */
+	public Secs2Writer uint2(int... values);
+
+	/**
+	 * Write UINT4.
+	 *
+	 * @param values the int values
+	 * @return this writer
+	 * @throws NullPointerException if values is null
+	 * @throws Secs2LengthByteOutOfRangeException if length-byte-size {@code >0x00FFFFFF}
+	 * @throws IllegalStateException if over parent items count
+	 */
+	public Secs2Writer uint4(int... values);
+
+	/**
+	 * Write UINT4.
+	 *
+	 * @param values the long values
+	 * @return this writer
+	 * @throws NullPointerException if values is null
+	 * @throws Secs2LengthByteOutOfRangeException if length-byte-size {@code >0x00FFFFFF}
+	 * @throws IllegalStateException if over parent items count
+	 */
+	public Secs2Writer uint4(long... values);
+
+	/**
+	 * Write UINT8.
+	 *
+	 * @param values the long values
+	 * @return this writer
+	 * @throws NullPointerException if values is null
+	 * @throws Secs2LengthByteOutOfRangeException if length-byte-size {@code >0x00FFFFFF}
+	 * @throws IllegalStateException if over parent items count
+	 */
+	public Secs2Writer uint8(long... values);
+
+	/**
+	 * Write FLOAT4.
+	 *
+	 * @param values the float values
+	 * @return this writer
+	 * @throws NullPointerException if values is null
+	 * @throws Secs2LengthByteOutOfRangeException if length-byte-size {@code >0x00FFFFFF}
+	 * @throws IllegalStateException if over parent items count
+	 */
+	public Secs2Writer float4(float... values);
+
+	/**
+	 * Write FLOAT8.
+	 *
+	 * @param values the double values
+	 * @return this writer
+	 * @throws NullPointerException if values is null
+	 * @throws Secs2LengthByteOutOfRangeException if length-byte-size {@code >0x00FFFFFF}
+	 * @throws IllegalStateException if over parent items count
+	 */
+	public Secs2Writer float8(double... values);
+
+	/**
+	 * Write already built item as one item.
+	 *
+	 * @param value the Secs2
+	 * @return this writer
+	 * @throws NullPointerException if value is null
+	 * @throws IllegalArgumentException if value is empty or raw bytes
+	 * @throws IllegalStateException if over parent items count
+	 */
+	public Secs2Writer secs2(Secs2 value);
+
+	/**
+	 * Returns written SECS-II Data.
+	 *
+	 * <p>
+	 * Returned Secs2 keeps encoded bytes, and is accepted as body of sending message.
+	 * Sending does not parse bytes. Reading values or rendering parses bytes once,
+	 * parsed tree is kept by soft reference.
+	 * Writer is not usable after this method.
+	 * </p>
+	 *
+	 * @return Secs2 of written bytes
+	 * @throws IllegalStateException if top-level item is not written, or LIST is not ended, or channel writer
+	 */
+	public Secs2 toSecs2();
+
+	/**
+	 * Flush remaining bytes to channel, created by {@link #newInstance(WritableByteChannel)}.
+	 *
+	 * <p>
+	 * Writer is not usable after this method.
+	 * </p>
+	 *
+	 * @return written bytes count
+	 * @throws IOException if write failed
+	 * @throws IllegalStateException if top-level item is not written, or LIST is not ended, or not channel writer
+	 */
+	public long finish() throws IOException;
+
+}
@@ -0,0 +1,31 @@
+package com.shimizukenta.secs.secs2.bind;
+
+import com.shimizukenta.secs.secs2.Secs2Exception;
+
+/**
+ * Secs2 bind failed Exception.
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public class Secs2BindException extends Secs2Exception {
+	
+	private static final long serialVersionUID = 5613429087016372214L;
+	
+	public Secs2BindException() {
+		super();
+	}
+	
+	public Secs2BindException(String message) {
+		super(message);
+	}
+	
+	public Secs2BindException(Throwable cause) {
+		super(cause);
+	}
+	
+	public Secs2BindException(String message, Throwable cause) {
+		super(message, cause);
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.shimizukenta.secs.secs2.bind;
+
+import java.util.List;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.bind.impl.Secs2Codecs;
+
+/**
+ * This interface is converter between {@link Secs2Structure} class and Secs2.
+ * 
+ * <p>
+ * Instances are built once per class and cached, no reflection per message.
+ * Instances of this class are thread-safe.
+ * </p>
+ * 
+ * @author kenta-shimizu
+ *
+ * @param <T> Type of {@link Secs2Structure} class
+ */
+public interface Secs2Codec<T> {
+	
+	/**
+	 * Returns cached Secs2Codec of class.
+	 * 
+	 * @param <T> Type of {@link Secs2Structure} class
+	 * @param type the class
+	 * @return Secs2Codec
+	 * @throws IllegalArgumentException if class is not {@link Secs2Structure}, or field type is unsupported
+	 */
+	public static <T> Secs2Codec<T> of(Class<T> type) {
+		return Secs2Codecs.get(type);
+	}
+	
+	/**
+	 * Returns Secs2 built from value.
+	 * 
+	 * @param value the instance
+	 * @return Secs2
+	 * @throws Secs2BindException if field is null or out of range
+	 */
+	public Secs2 toSecs2(T value) throws Secs2BindException;
+	
+	/**
+	 * Returns new instance from Secs2.
+	 * 
+	 * @param secs2 the Secs2
+	 * @return instance
+	 * @throws Secs2BindException if structure is not matched
+	 */
+	public T fromSecs2(Secs2 secs2) throws Secs2BindException;
+	
+	/**
+	 * Returns new instance from SECS-II encoded bytes, without building Secs2.
+	 * 
+	 * @param bss the List of SECS-II encoded bytes
+	 * @return instance
+	 * @throws Secs2BindException if parse failed or structure is not matched
+	 */
+	public T fromBytes(List<byte[]> bss) throws Secs2BindException;
+	
+}
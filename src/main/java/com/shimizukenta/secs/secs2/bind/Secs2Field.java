@@ -0,0 +1,54 @@
+package com.shimizukenta.secs.secs2.bind;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.shimizukenta.secs.secs2.Secs2Item;
+
+/**
+ * Binds field to item of SECS-II List.
+ * 
+ * <p>
+ * Supported field types and default items,
+ * </p>
+ * <ul>
+ * <li>{@code String} - ASCII</li>
+ * <li>{@code byte[]} - BINARY</li>
+ * <li>{@code boolean}, {@code boolean[]} - BOOLEAN</li>
+ * <li>{@code byte} - INT1, {@code short} - INT2, {@code int}, {@code int[]} - INT4, {@code long}, {@code long[]} - INT8</li>
+ * <li>{@code float}, {@code float[]} - FLOAT4, {@code double}, {@code double[]} - FLOAT8</li>
+ * <li>{@code Secs2} - as is</li>
+ * <li>class with {@link Secs2Structure} - LIST</li>
+ * <li>{@code List} of above non-primitive types - LIST</li>
+ * </ul>
+ * <p>
+ * Numeric fields accept any numeric item on decode,
+ * set {@link #item()} to choose item on encode.
+ * </p>
+ * 
+ * @author kenta-shimizu
+ *
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Secs2Field {
+	
+	/**
+	 * Returns index in List.
+	 * 
+	 * @return index in List
+	 */
+	public int index();
+	
+	/**
+	 * Returns item to encode, {@code UNDEFINED} is default of field type.
+	 * 
+	 * @return item to encode
+	 */
+	public Secs2Item item() default Secs2Item.UNDEFINED;
+	
+}
@@ -0,0 +1,26 @@
+package com.shimizukenta.secs.secs2.bind;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks class bound to SECS-II List.
+ * 
+ * <p>
+ * Each {@link Secs2Field} of the class is an item of the List, placed at {@link Secs2Field#index()}.
+ * The class requires no-arguments constructor, fields must not be final.
+ * </p>
+ * 
+ * @author kenta-shimizu
+ * @see Secs2Codec
+ *
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Secs2Structure {
+	/* Nothing */
+}
@@ -0,0 +1,277 @@
+package com.shimizukenta.secs.secs2.bind.impl;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2Exception;
+import com.shimizukenta.secs.secs2.Secs2IllegalDataFormatException;
+import com.shimizukenta.secs.secs2.Secs2Item;
+import com.shimizukenta.secs.secs2.bind.Secs2BindException;
+import com.shimizukenta.secs.secs2.bind.Secs2Codec;
+import com.shimizukenta.secs.secs2.bind.Secs2Field;
+import com.shimizukenta.secs.secs2.bind.Secs2Structure;
+
+public abstract class AbstractSecs2Codec<T> implements Secs2Codec<T> {
+
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private final Class<T> type;
+	private final MethodHandle constructor;
+	private final FieldBinding[] fields;
+
+	/**
+	 * Constructor, resolves fields of class.
+	 *
+	 * @param type the {@link Secs2Structure} class
+	 * @throws IllegalArgumentException if class is not {@link Secs2Structure}, or field type is unsupported
+	 */
+	public AbstractSecs2Codec(Class<T> type) {
+
+		this.type = Objects.requireNonNull(type);
+
+		if ( ! type.isAnnotationPresent(Secs2Structure.class) ) {
+			throw new IllegalArgumentException(type.getName() + " is not Secs2Structure");
+		}
+
+		final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+		try {
+			final Constructor<T> c = type.getDeclaredConstructor();
+			c.setAccessible(true);
+			this.constructor = lookup.unreflectConstructor(c).asType(CONSTRUCTOR_TYPE);
+		}
+		catch ( NoSuchMethodException | IllegalAccessException | SecurityException e ) {
+			throw new IllegalArgumentException(type.getName() + " require no-arguments constructor", e);
+		}
+
+		final List<FieldBinding> ll = new ArrayList<>();
+
+		for ( Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass() ) {
+
+			for ( Field f : c.getDeclaredFields() ) {
+
+				final Secs2Field a = f.getAnnotation(Secs2Field.class);
+
+				if ( a == null ) {
+					continue;
+				}
+
+				final int mod = f.getModifiers();
+
+				if ( Modifier.isStatic(mod) || Modifier.isFinal(mod) ) {
+					throw new IllegalArgumentException(name(f) + " must not be static or final");
+				}
+
+				try {
+					f.setAccessible(true);
+
+					ll.add(new FieldBinding(
+							a.index(),
+							name(f),
+							lookup.unreflectGetter(f).asType(GETTER_TYPE),
+							lookup.unreflectSetter(f).asType(SETTER_TYPE),
+							Secs2ValueCodec.of(f.getGenericType(), a.item())));
+				}
+				catch ( IllegalAccessException | SecurityException e ) {
+					throw new IllegalArgumentException(name(f) + " is not accessible", e);
+				}
+				catch ( IllegalArgumentException e ) {
+					throw new IllegalArgumentException(name(f) + ": " + e.getMessage(), e);
+				}
+			}
+		}
+
+		ll.sort(Comparator.comparingInt(x -> x.index));
+
+		for ( int i = 0, m = ll.size(); i < m; ++i ) {
+			if ( ll.get(i).index != i ) {
+				throw new IllegalArgumentException(type.getName() + " Secs2Field index require 0 to " + (m - 1) + ", without gap or duplicate");
+			}
+		}
+
+		this.fields = ll.toArray(new FieldBinding[0]);
+	}
+
+	private static String name(Field f) {
+		return f.getDeclaringClass().getName() + "#" + f.getName();
+	}
+
+	private static final class FieldBinding {
+
+		private final int index;
+		private final String name;
+		private final MethodHandle getter;
+		private final MethodHandle setter;
+		private final Secs2ValueCodec codec;
+
+		private FieldBinding(
+				int index,
+				String name,
+				MethodHandle getter,
+				MethodHandle setter,
+				Secs2ValueCodec codec) {
+
+			this.index = index;
+			this.name = name;
+			this.getter = getter;
+			this.setter = setter;
+			this.codec = codec;
+		}
+	}
+
+	@Override
+	public Secs2 toSecs2(T value) throws Secs2BindException {
+		return encodeObject(Objects.requireNonNull(value));
+	}
+
+	protected Secs2 encodeObject(Object value) throws Secs2BindException {
+
+		final Secs2[] ss = new Secs2[this.fields.length];
+
+		for ( int i = 0; i < ss.length; ++i ) {
+
+			final FieldBinding f = this.fields[i];
+			final Object v;
+
+			try {
+				v = (Object)f.getter.invokeExact(value);
+			}
+			catch ( RuntimeException | Error e ) {
+				throw e;
+			}
+			catch ( Throwable t ) {
+				throw new Secs2BindException(f.name, t);
+			}
+
+			if ( v == null ) {
+				throw new Secs2BindException(f.name + " is null");
+			}
+
+			try {
+				ss[i] = f.codec.encode(v);
+			}
+			catch ( Secs2BindException e ) {
+				throw new Secs2BindException(f.name + ": " + e.getMessage(), e);
+			}
+		}
+
+		return Secs2.list(ss);
+	}
+
+	private Object newInstance() throws Secs2BindException {
+		try {
+			return (Object)this.constructor.invokeExact();
+		}
+		catch ( RuntimeException | Error e ) {
+			throw e;
+		}
+		catch ( Throwable t ) {
+			throw new Secs2BindException(this.type.getName(), t);
+		}
+	}
+
+	private static void set(FieldBinding f, Object instance, Object value) throws Secs2BindException {
+		try {
+			f.setter.invokeExact(instance, value);
+		}
+		catch ( RuntimeException | Error e ) {
+			throw e;
+		}
+		catch ( Throwable t ) {
+			throw new Secs2BindException(f.name, t);
+		}
+	}
+
+	private void checkSize(Secs2Item item, int size) throws Secs2BindException {
+
+		if ( item != Secs2Item.LIST ) {
+			throw new Secs2BindException(this.type.getName() + " expected LIST but " + item);
+		}
+
+		if ( size != this.fields.length ) {
+			throw new Secs2BindException(this.type.getName() + " expected L[" + this.fields.length + "] but L[" + size + "]");
+		}
+	}
+
+	@Override
+	public T fromSecs2(Secs2 secs2) throws Secs2BindException {
+
+		checkSize(secs2.secs2Item(), secs2.size());
+
+		final Object o = newInstance();
+
+		for ( FieldBinding f : this.fields ) {
+			try {
+				set(f, o, f.codec.decode(secs2.get(f.index)));
+			}
+			catch ( Secs2BindException e ) {
+				throw e;
+			}
+			catch ( Secs2Exception e ) {
+				throw new Secs2BindException(f.name + ": " + e.getMessage(), e);
+			}
+		}
+
+		return this.type.cast(o);
+	}
+
+	@Override
+	public T fromBytes(List<byte[]> bss) throws Secs2BindException {
+
+		final Secs2WireReader r = new Secs2WireReader(bss);
+
+		try {
+			final T v = read(r);
+
+			if ( r.hasRemaining() ) {
+				throw new Secs2IllegalDataFormatException("not reach end bytes");
+			}
+
+			return v;
+		}
+		catch ( Secs2BindException e ) {
+			throw e;
+		}
+		catch ( Secs2Exception e ) {
+			throw new Secs2BindException(this.type.getName() + ": " + e.getMessage(), e);
+		}
+	}
+
+	protected T read(Secs2WireReader reader) throws Secs2Exception {
+
+		checkSize(reader.next(), reader.length());
+
+		final Object o = newInstance();
+
+		for ( FieldBinding f : this.fields ) {
+			try {
+				set(f, o, f.codec.read(reader));
+			}
+			catch ( Secs2BindException e ) {
+				throw e;
+			}
+			catch ( Secs2Exception e ) {
+				throw new Secs2BindException(f.name + ": " + e.getMessage(), e);
+			}
+		}
+
+		return this.type.cast(o);
+	}
+
+	@Override
+	public String toString() {
+		return "Secs2Codec<" + this.type.getName() + ">";
+	}
+
+}
@@ -0,0 +1,38 @@
+package com.shimizukenta.secs.secs2.bind.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class Secs2Codecs {
+
+	private Secs2Codecs() {
+		/* Nothing */
+	}
+
+	private static final Map<Class<?>, AbstractSecs2Codec<?>> cache = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns cached codec, built at first call of class.
+	 *
+	 * @param <T> Type of class
+	 * @param type the class
+	 * @return codec
+	 * @throws IllegalArgumentException if class is not Secs2Structure, or field type is unsupported
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> AbstractSecs2Codec<T> get(Class<T> type) {
+
+		final AbstractSecs2Codec<?> c = cache.get(type);
+
+		if ( c != null ) {
+			return (AbstractSecs2Codec<T>)c;
+		}
+
+		/* build outside of map, nested classes are resolved recursively */
+		final AbstractSecs2Codec<T> n = new AbstractSecs2Codec<T>(type) {};
+		final AbstractSecs2Codec<?> prev = cache.putIfAbsent(type, n);
+
+		return prev == null ? n : (AbstractSecs2Codec<T>)prev;
+	}
+
+}
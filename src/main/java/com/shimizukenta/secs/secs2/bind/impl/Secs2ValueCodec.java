@@ -0,0 +1,727 @@
+package com.shimizukenta.secs.secs2.bind.impl;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2Exception;
+import com.shimizukenta.secs.secs2.Secs2IllegalDataFormatException;
+import com.shimizukenta.secs.secs2.Secs2Item;
+import com.shimizukenta.secs.secs2.bind.Secs2BindException;
+import com.shimizukenta.secs.secs2.bind.Secs2Structure;
+
+/**
+ * Converter of one field value.
+ *
+ */
+interface Secs2ValueCodec {
+
+	/**
+	 * Returns Secs2 of value.
+	 *
+	 * @param value the non-null value
+	 * @return Secs2
+	 * @throws Secs2BindException if convert failed
+	 */
+	public Secs2 encode(Object value) throws Secs2BindException;
+
+	/**
+	 * Returns value of Secs2.
+	 *
+	 * @param secs2 the Secs2
+	 * @return value
+	 * @throws Secs2Exception if structure is not matched
+	 */
+	public Object decode(Secs2 secs2) throws Secs2Exception;
+
+	/**
+	 * Returns value of next item.
+	 *
+	 * @param reader the reader, before item-header
+	 * @return value
+	 * @throws Secs2Exception if parse failed or structure is not matched
+	 */
+	public Object read(Secs2WireReader reader) throws Secs2Exception;
+
+	/**
+	 * Returns Secs2ValueCodec of type.
+	 *
+	 * @param type the field type
+	 * @param item the Secs2Item to encode, UNDEFINED is default of type
+	 * @return Secs2ValueCodec
+	 * @throws IllegalArgumentException if type is unsupported, or item is not match
+	 */
+	public static Secs2ValueCodec of(Type type, Secs2Item item) {
+
+		if ( type instanceof ParameterizedType ) {
+
+			final ParameterizedType pt = (ParameterizedType)type;
+
+			if ( pt.getRawType() == List.class ) {
+				requireItem(item, Secs2Item.LIST, type);
+				return new ListCodec(of(pt.getActualTypeArguments()[0], Secs2Item.UNDEFINED));
+			}
+
+			throw new IllegalArgumentException("Unsupported type: " + type);
+		}
+
+		if ( ! (type instanceof Class<?>) ) {
+			throw new IllegalArgumentException("Unsupported type: " + type);
+		}
+
+		final Class<?> c = (Class<?>)type;
+
+		if ( c == String.class ) {
+			requireItem(item, Secs2Item.ASCII, type);
+			return AsciiCodec.INSTANCE;
+		}
+
+		if ( c == byte[].class ) {
+			requireItem(item, Secs2Item.BINARY, type);
+			return BinaryCodec.INSTANCE;
+		}
+
+		if ( c == boolean.class || c == Boolean.class ) {
+			requireItem(item, Secs2Item.BOOLEAN, type);
+			return BooleanCodec.INSTANCE;
+		}
+
+		if ( c == boolean[].class ) {
+			requireItem(item, Secs2Item.BOOLEAN, type);
+			return BooleanArrayCodec.INSTANCE;
+		}
+
+		if ( c == Secs2.class ) {
+			if ( item != Secs2Item.UNDEFINED ) {
+				throw new IllegalArgumentException("Secs2 field not require item");
+			}
+			return Secs2AsIsCodec.INSTANCE;
+		}
+
+		if ( c.isAnnotationPresent(Secs2Structure.class) ) {
+			requireItem(item, Secs2Item.LIST, type);
+			return new StructCodec(c);
+		}
+
+		final Secs2Item defaultItem = defaultNumberItem(c);
+
+		if ( defaultItem != null ) {
+
+			final Secs2Item x = (item == Secs2Item.UNDEFINED) ? defaultItem : item;
+
+			if ( ! isNumber(x) ) {
+				throw new IllegalArgumentException("Require Number item: " + type + ", " + x);
+			}
+
+			if ( c.isArray() ) {
+				return new NumberArrayCodec(c.getComponentType(), x);
+			} else {
+				return new NumberCodec(c, x);
+			}
+		}
+
+		throw new IllegalArgumentException("Unsupported type: " + type);
+	}
+
+	static void requireItem(Secs2Item item, Secs2Item expected, Type type) {
+		if ( item != Secs2Item.UNDEFINED && item != expected ) {
+			throw new IllegalArgumentException(type + " require " + expected + " but " + item);
+		}
+	}
+
+	static Secs2Item defaultNumberItem(Class<?> c) {
+		if ( c == byte.class || c == Byte.class ) {
+			return Secs2Item.INT1;
+		}
+		if ( c == short.class || c == Short.class ) {
+			return Secs2Item.INT2;
+		}
+		if ( c == int.class || c == Integer.class || c == int[].class ) {
+			return Secs2Item.INT4;
+		}
+		if ( c == long.class || c == Long.class || c == long[].class ) {
+			return Secs2Item.INT8;
+		}
+		if ( c == float.class || c == Float.class || c == float[].class ) {
+			return Secs2Item.FLOAT4;
+		}
+		if ( c == double.class || c == Double.class || c == double[].class ) {
+			return Secs2Item.FLOAT8;
+		}
+		return null;
+	}
+
+	static boolean isNumber(Secs2Item item) {
+		switch ( item ) {
+		case INT1:
+		case INT2:
+		case INT4:
+		case INT8:
+		case UINT1:
+		case UINT2:
+		case UINT4:
+		case UINT8:
+		case FLOAT4:
+		case FLOAT8: {
+			return true;
+		}
+		default: {
+			return false;
+		}
+		}
+	}
+
+	static boolean isFloat(Secs2Item item) {
+		return item == Secs2Item.FLOAT4 || item == Secs2Item.FLOAT8;
+	}
+
+	static boolean isFloat(Class<?> c) {
+		return c == float.class || c == Float.class || c == double.class || c == Double.class;
+	}
+
+	static Secs2 numbers(Secs2Item item, long... values) throws Secs2BindException {
+
+		for ( long v : values ) {
+			encodeRange(v, item);
+		}
+
+		switch ( item ) {
+		case INT1: {
+			return Secs2.int1(values);
+		}
+		case INT2: {
+			return Secs2.int2(values);
+		}
+		case INT4: {
+			return Secs2.int4(values);
+		}
+		case INT8: {
+			return Secs2.int8(values);
+		}
+		case UINT1: {
+			return Secs2.uint1(values);
+		}
+		case UINT2: {
+			return Secs2.uint2(values);
+		}
+		case UINT4: {
+			return Secs2.uint4(values);
+		}
+		case UINT8: {
+			return Secs2.uint8(values);
+		}
+		default: {
+			double[] dd = new double[values.length];
+			for ( int i = 0; i < values.length; ++i ) {
+				dd[i] = (double)values[i];
+			}
+			return numbers(item, dd);
+		}
+		}
+	}
+
+	static Secs2 numbers(Secs2Item item, double... values) throws Secs2BindException {
+
+		if ( item == Secs2Item.FLOAT8 ) {
+			return Secs2.float8(values);
+		}
+
+		try {
+
+			if ( item == Secs2Item.FLOAT4 ) {
+				float[] ff = new float[values.length];
+				for ( int i = 0; i < values.length; ++i ) {
+					ff[i] = toFloat(values[i]);
+				}
+				return Secs2.float4(ff);
+			}
+		}
+		catch ( Secs2Exception e ) {
+			throw new Secs2BindException(e.getMessage(), e);
+		}
+
+		long[] ll = new long[values.length];
+		for ( int i = 0; i < values.length; ++i ) {
+			ll[i] = toIntegral(values[i]);
+		}
+		return numbers(item, ll);
+	}
+
+	/**
+	 * Returns value if in range of item, same range as decode.
+	 *
+	 * @throws Secs2BindException if out of range
+	 */
+	static long encodeRange(long v, Secs2Item item) throws Secs2BindException {
+
+		try {
+
+			switch ( item ) {
+			case INT1: {
+				return checkRange(v, item, Byte.MIN_VALUE, Byte.MAX_VALUE);
+			}
+			case INT2: {
+				return checkRange(v, item, Short.MIN_VALUE, Short.MAX_VALUE);
+			}
+			case INT4: {
+				return checkRange(v, item, Integer.MIN_VALUE, Integer.MAX_VALUE);
+			}
+			case UINT1: {
+				return checkRange(v, item, 0L, 0xFFL);
+			}
+			case UINT2: {
+				return checkRange(v, item, 0L, 0xFFFFL);
+			}
+			case UINT4: {
+				return checkRange(v, item, 0L, 0xFFFFFFFFL);
+			}
+			default: {
+				return checkRange(v, item, Long.MIN_VALUE, Long.MAX_VALUE);
+			}
+			}
+		}
+		catch ( Secs2Exception e ) {
+			throw new Secs2BindException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Returns long value of integral double.
+	 *
+	 * @throws Secs2BindException if value has fraction, or out of range of long
+	 */
+	static long toIntegral(double v) throws Secs2BindException {
+		if ( v != Math.rint(v) || v < -0x1.0p63 || v >= 0x1.0p63 ) {
+			throw new Secs2BindException("value out of range: " + v);
+		}
+		return (long)v;
+	}
+
+	/**
+	 * Returns value if in range, U8 is unsigned.
+	 *
+	 * @throws Secs2IllegalDataFormatException if out of range
+	 */
+	static long checkRange(long v, Secs2Item item, long min, long max) throws Secs2Exception {
+		if ( (item == Secs2Item.UINT8 && v < 0L) || v < min || v > max ) {
+			throw new Secs2IllegalDataFormatException("value out of range: "
+					+ (item == Secs2Item.UINT8 ? Long.toUnsignedString(v) : Long.toString(v)));
+		}
+		return v;
+	}
+
+	static int toInt(long v, Secs2Item item) throws Secs2Exception {
+		return (int)checkRange(v, item, Integer.MIN_VALUE, Integer.MAX_VALUE);
+	}
+
+	static long toLong(long v, Secs2Item item) throws Secs2Exception {
+		return checkRange(v, item, Long.MIN_VALUE, Long.MAX_VALUE);
+	}
+
+	static float toFloat(double v) throws Secs2Exception {
+		if ( Math.abs(v) > Float.MAX_VALUE && ! Double.isInfinite(v) ) {
+			throw new Secs2IllegalDataFormatException("value out of range of float: " + v);
+		}
+		return (float)v;
+	}
+
+	static final class AsciiCodec implements Secs2ValueCodec {
+
+		private static final AsciiCodec INSTANCE = new AsciiCodec();
+
+		@Override
+		public Secs2 encode(Object value) {
+			return Secs2.ascii((String)value);
+		}
+
+		@Override
+		public Object decode(Secs2 secs2) throws Secs2Exception {
+			return secs2.getAscii();
+		}
+
+		@Override
+		public Object read(Secs2WireReader reader) throws Secs2Exception {
+			reader.next();
+			return reader.readAscii();
+		}
+	}
+
+	static final class BinaryCodec implements Secs2ValueCodec {
+
+		private static final BinaryCodec INSTANCE = new BinaryCodec();
+
+		@Override
+		public Secs2 encode(Object value) {
+			return Secs2.binary((byte[])value);
+		}
+
+		@Override
+		public Object decode(Secs2 secs2) throws Secs2Exception {
+			return secs2.getBytes();
+		}
+
+		@Override
+		public Object read(Secs2WireReader reader) throws Secs2Exception {
+			reader.next();
+			return reader.readBinary();
+		}
+	}
+
+	static final class BooleanCodec implements Secs2ValueCodec {
+
+		private static final BooleanCodec INSTANCE = new BooleanCodec();
+
+		@Override
+		public Secs2 encode(Object value) {
+			return Secs2.bool(((Boolean)value).booleanValue());
+		}
+
+		@Override
+		public Object decode(Secs2 secs2) throws Secs2Exception {
+			return Boolean.valueOf(secs2.getBoolean(0));
+		}
+
+		@Override
+		public Object read(Secs2WireReader reader) throws Secs2Exception {
+			reader.next();
+			return Boolean.valueOf(reader.readBoolean());
+		}
+	}
+
+	static final class BooleanArrayCodec implements Secs2ValueCodec {
+
+		private static final BooleanArrayCodec INSTANCE = new BooleanArrayCodec();
+
+		@Override
+		public Secs2 encode(Object value) {
+			return Secs2.bool((boolean[])value);
+		}
+
+		@Override
+		public Object decode(Secs2 secs2) throws Secs2Exception {
+			if ( secs2.secs2Item() != Secs2Item.BOOLEAN ) {
+				throw new Secs2IllegalDataFormatException("expected BOOLEAN but " + secs2.secs2Item());
+			}
+			final boolean[] bb = new boolean[secs2.size()];
+			for ( int i = 0; i < bb.length; ++i ) {
+				bb[i] = secs2.getBoolean(i);
+			}
+			return bb;
+		}
+
+		@Override
+		public Object read(Secs2WireReader reader) throws Secs2Exception {
+			reader.next();
+			return reader.readBooleans();
+		}
+	}
+
+	static final class Secs2AsIsCodec implements Secs2ValueCodec {
+
+		private static final Secs2AsIsCodec INSTANCE = new Secs2AsIsCodec();
+
+		@Override
+		public Secs2 encode(Object value) {
+			return (Secs2)value;
+		}
+
+		@Override
+		public Object decode(Secs2 secs2) {
+			return secs2;
+		}
+
+		@Override
+		public Object read(Secs2WireReader reader) throws Secs2Exception {
+			reader.next();
+			return reader.readSecs2();
+		}
+	}
+
+	static final class NumberCodec implements Secs2ValueCodec {
+
+		private final Class<?> type;
+		private final Secs2Item item;
+		private final boolean isFloatType;
+
+		NumberCodec(Class<?> type, Secs2Item item) {
+			this.type = type;
+			this.item = item;
+			this.isFloatType = isFloat(type);
+		}
+
+		@Override
+		public Secs2 encode(Object value) throws Secs2BindException {
+			final Number n = (Number)value;
+			if ( isFloat(this.item) || this.isFloatType ) {
+				return numbers(this.item, n.doubleValue());
+			} else {
+				return numbers(this.item, n.longValue());
+			}
+		}
+
+		@Override
+		public Object decode(Secs2 secs2) throws Secs2Exception {
+			if ( this.isFloatType ) {
+				return fromDouble(secs2.getDouble(0));
+			} else {
+				return fromLong(secs2.getLong(0), secs2.secs2Item());
+			}
+		}
+
+		@Override
+		public Object read(Secs2WireReader reader) throws Secs2Exception {
+			reader.next();
+			if ( this.isFloatType ) {
+				return fromDouble(reader.readDouble());
+			} else {
+				return fromLong(reader.readLong(), reader.item());
+			}
+		}
+
+		private Object fromLong(long v, Secs2Item item) throws Secs2Exception {
+			if ( this.type == int.class || this.type == Integer.class ) {
+				return Integer.valueOf(toInt(v, item));
+			}
+			if ( this.type == long.class || this.type == Long.class ) {
+				return Long.valueOf(toLong(v, item));
+			}
+			if ( this.type == short.class || this.type == Short.class ) {
+				return Short.valueOf((short)checkRange(v, item, Short.MIN_VALUE, Short.MAX_VALUE));
+			}
+			return Byte.valueOf((byte)checkRange(v, item, Byte.MIN_VALUE, Byte.MAX_VALUE));
+		}
+
+		private Object fromDouble(double v) throws Secs2Exception {
+			if ( this.type == float.class || this.type == Float.class ) {
+				return Float.valueOf(toFloat(v));
+			}
+			return Double.valueOf(v);
+		}
+	}
+
+	static final class NumberArrayCodec implements Secs2ValueCodec {
+
+		private final Class<?> componentType;
+		private final Secs2Item item;
+
+		NumberArrayCodec(Class<?> componentType, Secs2Item item) {
+			this.componentType = componentType;
+			this.item = item;
+		}
+
+		@Override
+		public Secs2 encode(Object value) throws Secs2BindException {
+
+			if ( this.componentType == int.class ) {
+				final int[] vv = (int[])value;
+				final long[] ll = new long[vv.length];
+				for ( int i = 0; i < vv.length; ++i ) {
+					ll[i] = vv[i];
+				}
+				return numbers(this.item, ll);
+			}
+
+			if ( this.componentType == long.class ) {
+				return numbers(this.item, (long[])value);
+			}
+
+			if ( this.componentType == float.class ) {
+				final float[] vv = (float[])value;
+				final double[] dd = new double[vv.length];
+				for ( int i = 0; i < vv.length; ++i ) {
+					dd[i] = vv[i];
+				}
+				return numbers(this.item, dd);
+			}
+
+			return numbers(this.item, (double[])value);
+		}
+
+		@Override
+		public Object decode(Secs2 secs2) throws Secs2Exception {
+
+			if ( ! isNumber(secs2.secs2Item()) ) {
+				throw new Secs2IllegalDataFormatException("expected Number but " + secs2.secs2Item());
+			}
+
+			final int m = secs2.size();
+
+			final Secs2Item x = secs2.secs2Item();
+
+			if ( this.componentType == int.class ) {
+				final int[] vv = new int[m];
+				for ( int i = 0; i < m; ++i ) {
+					vv[i] = toInt(secs2.getLong(i), x);
+				}
+				return vv;
+			}
+
+			if ( this.componentType == long.class ) {
+				final long[] vv = new long[m];
+				for ( int i = 0; i < m; ++i ) {
+					vv[i] = toLong(secs2.getLong(i), x);
+				}
+				return vv;
+			}
+
+			if ( this.componentType == float.class ) {
+				final float[] vv = new float[m];
+				for ( int i = 0; i < m; ++i ) {
+					vv[i] = toFloat(secs2.getDouble(i));
+				}
+				return vv;
+			}
+
+			final double[] vv = new double[m];
+			for ( int i = 0; i < m; ++i ) {
+				vv[i] = secs2.getDouble(i);
+			}
+			return vv;
+		}
+
+		@Override
+		public Object read(Secs2WireReader reader) throws Secs2Exception {
+
+			reader.next();
+
+			final Secs2Item x = reader.item();
+
+			if ( this.componentType == int.class ) {
+				final long[] ll = reader.readLongs();
+				final int[] vv = new int[ll.length];
+				for ( int i = 0; i < ll.length; ++i ) {
+					vv[i] = toInt(ll[i], x);
+				}
+				return vv;
+			}
+
+			if ( this.componentType == long.class ) {
+				final long[] ll = reader.readLongs();
+				for ( int i = 0; i < ll.length; ++i ) {
+					toLong(ll[i], x);
+				}
+				return ll;
+			}
+
+			final double[] dd = reader.readDoubles();
+
+			if ( this.componentType == float.class ) {
+				final float[] vv = new float[dd.length];
+				for ( int i = 0; i < dd.length; ++i ) {
+					vv[i] = toFloat(dd[i]);
+				}
+				return vv;
+			}
+
+			return dd;
+		}
+	}
+
+	static final class StructCodec implements Secs2ValueCodec {
+
+		private final Class<?> type;
+		private volatile AbstractSecs2Codec<?> codec;
+
+		StructCodec(Class<?> type) {
+			this.type = type;
+			this.codec = null;
+		}
+
+		/* resolved at first use, allows self-referencing class */
+		private AbstractSecs2Codec<?> codec() {
+			AbstractSecs2Codec<?> c = this.codec;
+			if ( c == null ) {
+				c = Secs2Codecs.get(this.type);
+				this.codec = c;
+			}
+			return c;
+		}
+
+		@Override
+		public Secs2 encode(Object value) throws Secs2BindException {
+			return codec().encodeObject(value);
+		}
+
+		@Override
+		public Object decode(Secs2 secs2) throws Secs2Exception {
+			return codec().fromSecs2(secs2);
+		}
+
+		@Override
+		public Object read(Secs2WireReader reader) throws Secs2Exception {
+			return codec().read(reader);
+		}
+	}
+
+	static final class ListCodec implements Secs2ValueCodec {
+
+		private final Secs2ValueCodec element;
+
+		ListCodec(Secs2ValueCodec element) {
+			this.element = element;
+		}
+
+		@Override
+		public Secs2 encode(Object value) throws Secs2BindException {
+
+			final List<?> values = (List<?>)value;
+
+			if ( values.isEmpty() ) {
+				return Secs2.list();
+			}
+
+			final List<Secs2> ll = new ArrayList<>(values.size());
+
+			for ( Object v : values ) {
+				if ( v == null ) {
+					throw new Secs2BindException("List has null element");
+				}
+				ll.add(this.element.encode(v));
+			}
+
+			return Secs2.list(ll);
+		}
+
+		@Override
+		public Object decode(Secs2 secs2) throws Secs2Exception {
+
+			if ( secs2.secs2Item() != Secs2Item.LIST ) {
+				throw new Secs2IllegalDataFormatException("expected LIST but " + secs2.secs2Item());
+			}
+
+			final int m = secs2.size();
+
+			if ( m == 0 ) {
+				return Collections.emptyList();
+			}
+
+			final List<Object> ll = new ArrayList<>(m);
+			for ( int i = 0; i < m; ++i ) {
+				ll.add(this.element.decode(secs2.get(i)));
+			}
+			return Collections.unmodifiableList(ll);
+		}
+
+		@Override
+		public Object read(Secs2WireReader reader) throws Secs2Exception {
+
+			reader.expect(Secs2Item.LIST);
+
+			final int m = reader.length();
+
+			if ( m == 0 ) {
+				return Collections.emptyList();
+			}
+
+			final List<Object> ll = new ArrayList<>(m);
+			for ( int i = 0; i < m; ++i ) {
+				ll.add(this.element.read(reader));
+			}
+			return Collections.unmodifiableList(ll);
+		}
+	}
+
+}
@@ -0,0 +1,328 @@
+package com.shimizukenta.secs.secs2.bind.impl;
+
+import java.util.List;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2BytesParseException;
+import com.shimizukenta.secs.secs2.Secs2Exception;
+import com.shimizukenta.secs.secs2.Secs2IllegalDataFormatException;
+import com.shimizukenta.secs.secs2.Secs2IndexOutOfBoundsException;
+import com.shimizukenta.secs.secs2.Secs2Item;
+import com.shimizukenta.secs.secs2.impl.Secs2BytesParser;
+import com.shimizukenta.secs.secs2.impl.Secs2BytesReader;
+import com.shimizukenta.secs.secs2.impl.Secs2BytesVisitor;
+
+/**
+ * Pull reader of SECS-II encoded bytes.
+ *
+ * <p>
+ * {@link #next()} reads item-header, then read body by one of {@code readXxx} or {@link #skip()}.
+ * LIST has no body, read {@link #length()} items after.
+ * </p>
+ * <p>
+ * Built on {@link Secs2BytesReader}, chunks are read in place and values are delivered by {@link Secs2BytesVisitor}.
+ * </p>
+ *
+ */
+final class Secs2WireReader {
+
+	private final Secs2BytesReader reader;
+	private final ValueVisitor visitor;
+
+	Secs2WireReader(List<byte[]> bss) {
+		this.reader = Secs2BytesParser.getInstance().reader(bss);
+		this.visitor = new ValueVisitor();
+	}
+
+	boolean hasRemaining() {
+		return this.reader.hasRemaining();
+	}
+
+	/**
+	 * Read item-header.
+	 *
+	 * @return Secs2Item
+	 * @throws Secs2BytesParseException if reach end bytes
+	 */
+	Secs2Item next() throws Secs2BytesParseException {
+		return this.reader.next();
+	}
+
+	Secs2Item item() {
+		return this.reader.item();
+	}
+
+	/**
+	 * Returns items count if LIST, otherwise body bytes length.
+	 *
+	 * @return length
+	 */
+	int length() {
+		return this.reader.length();
+	}
+
+	/**
+	 * Returns values count.
+	 *
+	 * @return values count
+	 */
+	int size() {
+		int s = item().size();
+		return s > 0 ? (length() / s) : length();
+	}
+
+	Secs2Item expect(Secs2Item expected) throws Secs2Exception {
+		Secs2Item x = next();
+		if ( x != expected ) {
+			throw new Secs2IllegalDataFormatException("expected " + expected + " but " + x);
+		}
+		return x;
+	}
+
+	/**
+	 * Skip body of current item, and nested items if LIST.
+	 *
+	 * @throws Secs2BytesParseException if reach end bytes
+	 */
+	void skip() throws Secs2BytesParseException {
+		this.reader.skip();
+	}
+
+	private Object readValue() throws Secs2BytesParseException {
+		this.visitor.value = null;
+		this.reader.visit(this.visitor);
+		return this.visitor.value;
+	}
+
+	String readAscii() throws Secs2Exception {
+		checkItem(Secs2Item.ASCII);
+		return (String)readValue();
+	}
+
+	byte[] readBinary() throws Secs2Exception {
+		checkItem(Secs2Item.BINARY);
+		return (byte[])readValue();
+	}
+
+	boolean[] readBooleans() throws Secs2Exception {
+		checkItem(Secs2Item.BOOLEAN);
+		return (boolean[])readValue();
+	}
+
+	long[] readLongs() throws Secs2Exception {
+
+		checkNumber();
+
+		final Object o = readValue();
+
+		if ( o instanceof long[] ) {
+			return (long[])o;
+		}
+
+		final long[] vv;
+
+		if ( o instanceof byte[] ) {
+			final byte[] x = (byte[])o;
+			vv = new long[x.length];
+			for ( int i = 0; i < x.length; ++i ) {
+				vv[i] = x[i];
+			}
+		} else if ( o instanceof short[] ) {
+			final short[] x = (short[])o;
+			vv = new long[x.length];
+			for ( int i = 0; i < x.length; ++i ) {
+				vv[i] = x[i];
+			}
+		} else if ( o instanceof int[] ) {
+			final int[] x = (int[])o;
+			vv = new long[x.length];
+			for ( int i = 0; i < x.length; ++i ) {
+				vv[i] = x[i];
+			}
+		} else if ( o instanceof float[] ) {
+			final float[] x = (float[])o;
+			vv = new long[x.length];
+			for ( int i = 0; i < x.length; ++i ) {
+				vv[i] = (long)x[i];
+			}
+		} else {
+			final double[] x = (double[])o;
+			vv = new long[x.length];
+			for ( int i = 0; i < x.length; ++i ) {
+				vv[i] = (long)x[i];
+			}
+		}
+
+		return vv;
+	}
+
+	double[] readDoubles() throws Secs2Exception {
+
+		checkNumber();
+
+		final Object o = readValue();
+
+		if ( o instanceof double[] ) {
+			return (double[])o;
+		}
+
+		final double[] vv;
+
+		if ( o instanceof float[] ) {
+			final float[] x = (float[])o;
+			vv = new double[x.length];
+			for ( int i = 0; i < x.length; ++i ) {
+				vv[i] = x[i];
+			}
+		} else if ( o instanceof byte[] ) {
+			final byte[] x = (byte[])o;
+			vv = new double[x.length];
+			for ( int i = 0; i < x.length; ++i ) {
+				vv[i] = x[i];
+			}
+		} else if ( o instanceof short[] ) {
+			final short[] x = (short[])o;
+			vv = new double[x.length];
+			for ( int i = 0; i < x.length; ++i ) {
+				vv[i] = x[i];
+			}
+		} else if ( o instanceof int[] ) {
+			final int[] x = (int[])o;
+			vv = new double[x.length];
+			for ( int i = 0; i < x.length; ++i ) {
+				vv[i] = x[i];
+			}
+		} else {
+			final long[] x = (long[])o;
+			final boolean unsigned = item() == Secs2Item.UINT8;
+			vv = new double[x.length];
+			for ( int i = 0; i < x.length; ++i ) {
+				long v = x[i];
+				vv[i] = (v >= 0L || ! unsigned) ? (double)v : ((double)(v >>> 1) * 2.0D + (double)(v & 0x1L));
+			}
+		}
+
+		return vv;
+	}
+
+	long readLong() throws Secs2Exception {
+		checkNumber();
+		checkNotEmpty();
+		return readLongs()[0];
+	}
+
+	double readDouble() throws Secs2Exception {
+		checkNumber();
+		checkNotEmpty();
+		return readDoubles()[0];
+	}
+
+	boolean readBoolean() throws Secs2Exception {
+		checkItem(Secs2Item.BOOLEAN);
+		checkNotEmpty();
+		return readBooleans()[0];
+	}
+
+	/**
+	 * Returns Secs2 of current item, includes nested items if LIST.
+	 *
+	 * @return Secs2
+	 * @throws Secs2Exception if parse failed
+	 */
+	Secs2 readSecs2() throws Secs2Exception {
+		return this.reader.readSecs2();
+	}
+
+	private void checkItem(Secs2Item expected) throws Secs2Exception {
+		if ( item() != expected ) {
+			throw new Secs2IllegalDataFormatException("expected " + expected + " but " + item());
+		}
+	}
+
+	private void checkNotEmpty() throws Secs2Exception {
+		if ( length() == 0 ) {
+			throw new Secs2IndexOutOfBoundsException("empty " + item());
+		}
+	}
+
+	private void checkNumber() throws Secs2Exception {
+		if ( ! Secs2ValueCodec.isNumber(item()) ) {
+			throw new Secs2IllegalDataFormatException("expected Number but " + item());
+		}
+	}
+
+	/**
+	 * Keeps value of one item, UINT1 and UINT2 as int[], UINT4 as long[].
+	 *
+	 */
+	private static final class ValueVisitor implements Secs2BytesVisitor {
+
+		private Object value;
+
+		@Override
+		public void onAscii(String ascii) {
+			this.value = ascii;
+		}
+
+		@Override
+		public void onBinary(byte[] values) {
+			this.value = values;
+		}
+
+		@Override
+		public void onBoolean(boolean[] values) {
+			this.value = values;
+		}
+
+		@Override
+		public void onInt1(byte[] values) {
+			this.value = values;
+		}
+
+		@Override
+		public void onInt2(short[] values) {
+			this.value = values;
+		}
+
+		@Override
+		public void onInt4(int[] values) {
+			this.value = values;
+		}
+
+		@Override
+		public void onInt8(long[] values) {
+			this.value = values;
+		}
+
+		@Override
+		public void onUint1(int[] values) {
+			this.value = values;
+		}
+
+		@Override
+		public void onUint2(int[] values) {
+			this.value = values;
+		}
+
+		@Override
+		public void onUint4(long[] values) {
+			this.value = values;
+		}
+
+		@Override
+		public void onUint8(long[] values) {
+			this.value = values;
+		}
+
+		@Override
+		public void onFloat4(float[] values) {
+			this.value = values;
+		}
+
+		@Override
+		public void onFloat8(double[] values) {
+			this.value = values;
+		}
+	}
+
+}
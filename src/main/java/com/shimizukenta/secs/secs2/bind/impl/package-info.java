@@ -0,0 +1,6 @@
+/**
+ * Secs2 binding implementation.
+ * 
+ * @author kenta-shimizu
+ */
+package com.shimizukenta.secs.secs2.bind.impl;
@@ -0,0 +1,7 @@
+/**
+ * Binding package mapping annotated classes to SECS-II structures.
+ * 
+ * @author kenta-shimizu
+ *
+ */
+package com.shimizukenta.secs.secs2.bind;
@@ -1,21 +1,24 @@
 package com.shimizukenta.secs.secs2.impl;
 
+import java.io.IOException;
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import com.shimizukenta.secs.secs2.Secs2;
 import com.shimizukenta.secs.secs2.Secs2Exception;
 import com.shimizukenta.secs.secs2.Secs2IllegalDataFormatException;
+import com.shimizukenta.secs.secs2.Secs2IndexOutOfBoundsException;
+import com.shimizukenta.secs.secs2.Secs2Item;
 
 public abstract class AbstractSecs2 implements Secs2, Serializable {
 	
@@ -25,49 +28,70 @@ public abstract class AbstractSecs2 implements Secs2, Serializable {
 		/* Nothing */
 	}
 	
+	/**
+	 * Serialized as SECS-II encoded bytes.
+	 * 
+	 * @return Secs2SerializationProxy
+	 * @throws ObjectStreamException never
+	 */
+	protected Object writeReplace() throws ObjectStreamException {
+		return new Secs2SerializationProxy(this);
+	}
+	
 	abstract protected void putBytesPack(Secs2BytesListBuilder builder);
 	
+	/**
+	 * Returns body bytes without item-header, shared, must not modify.
+	 * 
+	 * @return body bytes
+	 */
+	abstract protected byte[] bodyBytes();
+	
 	protected void putHeadAndBodyBytesToBytesPack(Secs2BytesListBuilder builder, byte[] body) {
 		putHeaderBytesToBytesPack(builder, body.length);
 		builder.put(body);
 	}
 	
 	protected void putHeaderBytesToBytesPack(Secs2BytesListBuilder builder, int length) {
+		builder.put(headerBytes(length));
+	}
+	
+	/**
+	 * Returns item-header bytes.
+	 * 
+	 * @param length the length of body bytes, or size if list
+	 * @return item-header bytes
+	 */
+	protected byte[] headerBytes(int length) {
 		
 		byte b = secs2Item().code();
 		
 		if ( length > 0xFFFF ) {
 			
-			builder.put(new byte[] {
+			return new byte[] {
 					(byte)(b | 0x3),
 					(byte)(length >> 16),
 					(byte)(length >> 8),
 					(byte)(length)
-			});
+			};
 			
 		} else if ( length > 0xFF) {
 			
-			builder.put(new byte[] {
+			return new byte[] {
 					(byte)(b | 0x2),
 					(byte)(length >> 8),
 					(byte)(length)
-			});
+			};
 			
 		} else {
 			
-			builder.put(new byte[] {
+			return new byte[] {
 					(byte)(b | 0x1),
 					(byte)(length)
-			});
+			};
 		}
 	}
 	
-	private static LinkedList<Integer> createLinkedList(int... indices) {
-		LinkedList<Integer> ll = new LinkedList<>();
-		IntStream.of(indices).boxed().forEach(ll::add);
-		return ll;
-	}
-	
 	@Override
 	public boolean isEmpty() {
 		return false;
@@ -90,17 +114,37 @@ public abstract class AbstractSecs2 implements Secs2, Serializable {
 	
 	@Override
 	public final Secs2 get(int... indices) throws Secs2Exception {
-		return get(createLinkedList(indices));
-	}
-	
-	protected AbstractSecs2 get(LinkedList<Integer> list) throws Secs2Exception {
-		if ( list.isEmpty() ) {
+		return get(indices, 0, indices.length);
+	}
+	
+	/**
+	 * Returns nested Secs2 by {@code indices[from]} to {@code indices[to - 1]}.
+	 * 
+	 * @param indices the indices
+	 * @param from the start position of indices, inclusive
+	 * @param to the end position of indices, exclusive
+	 * @return nested Secs2
+	 * @throws Secs2Exception if not found
+	 */
+	protected AbstractSecs2 get(int[] indices, int from, int to) throws Secs2Exception {
+		if ( from >= to ) {
 			return this;
 		} else {
 			throw new Secs2IllegalDataFormatException("Not Secs2List");
 		}
 	}
 	
+	private AbstractSecs2 getParent(int[] indices) throws Secs2Exception {
+		if ( indices.length == 0 ) {
+			throw new Secs2IndexOutOfBoundsException("indices is empty");
+		}
+		return get(indices, 0, indices.length - 1);
+	}
+	
+	private static int lastIndex(int[] indices) {
+		return indices[indices.length - 1];
+	}
+	
 	@Override
 	public final String getAscii(int... indices) throws Secs2Exception {
 		return get(indices).getAscii();
@@ -113,9 +157,7 @@ public abstract class AbstractSecs2 implements Secs2, Serializable {
 	
 	@Override
 	public final byte getByte(int... indices) throws Secs2Exception {
-		LinkedList<Integer> ll = createLinkedList(indices);
-		int lastIndex = ll.removeLast();
-		return get(ll).getByte(lastIndex);
+		return getParent(indices).getByte(lastIndex(indices));
 	}
 	
 	protected byte getByte(int index) throws Secs2Exception {
@@ -134,9 +176,7 @@ public abstract class AbstractSecs2 implements Secs2, Serializable {
 	
 	@Override
 	public final boolean getBoolean(int... indices) throws Secs2Exception {
-		LinkedList<Integer> ll = createLinkedList(indices);
-		int lastIndex = ll.removeLast();
-		return get(ll).getBoolean(lastIndex);
+		return getParent(indices).getBoolean(lastIndex(indices));
 	}
 	
 	protected boolean getBoolean(int index) throws Secs2Exception {
@@ -155,9 +195,7 @@ public abstract class AbstractSecs2 implements Secs2, Serializable {
 	
 	@Override
 	public final BigInteger getBigInteger(int... indices) throws Secs2Exception {
-		LinkedList<Integer> ll = createLinkedList(indices);
-		int lastIndex = ll.removeLast();
-		return get(ll).getBigInteger(lastIndex);
+		return getParent(indices).getBigInteger(lastIndex(indices));
 	}
 	
 	protected BigInteger getBigInteger(int index) throws Secs2Exception {
@@ -176,9 +214,7 @@ public abstract class AbstractSecs2 implements Secs2, Serializable {
 	
 	@Override
 	public Number getNumber( int... indices ) throws Secs2Exception {
-		LinkedList<Integer> ll = createLinkedList(indices);
-		int lastIndex = ll.removeLast();
-		return get(ll).getNumber(lastIndex);
+		return getParent(indices).getNumber(lastIndex(indices));
 	}
 	
 	protected Number getNumber(int index) throws Secs2Exception {
@@ -192,20 +228,36 @@ public abstract class AbstractSecs2 implements Secs2, Serializable {
 	}
 	
 	public Optional<Secs2> optional(int... indices) {
-		return optional(createLinkedList(indices)).map(x -> (Secs2)x);
+		return Optional.ofNullable(find(indices, 0, indices.length));
+	}
+	
+	/**
+	 * Returns nested Secs2 by {@code indices[from]} to {@code indices[to - 1]}, or null if not found.
+	 * 
+	 * @param indices the indices
+	 * @param from the start position of indices, inclusive
+	 * @param to the end position of indices, exclusive
+	 * @return nested Secs2, null if not found
+	 */
+	protected AbstractSecs2 find(int[] indices, int from, int to) {
+		if ( from >= to ) {
+			return this;
+		} else {
+			return null;
+		}
 	}
 	
-	protected Optional<AbstractSecs2> optional(LinkedList<Integer> list) {
-		if ( list.isEmpty() ) {
-			return Optional.of(this);
-		} else {
-			return Optional.empty();
+	private AbstractSecs2 findParent(int[] indices) {
+		if ( indices.length == 0 ) {
+			return null;
 		}
+		return find(indices, 0, indices.length - 1);
 	}
 	
 	@Override
 	public Optional<String> optionalAscii(int... indices) {
-		return optional(createLinkedList(indices)).flatMap(AbstractSecs2::optionalAscii);
+		final AbstractSecs2 x = find(indices, 0, indices.length);
+		return x == null ? Optional.empty() : x.optionalAscii();
 	}
 	
 	@Override
@@ -215,9 +267,8 @@ public abstract class AbstractSecs2 implements Secs2, Serializable {
 	
 	@Override
 	public Optional<Byte> optionalByte(int... indices) {
-		final LinkedList<Integer> ll = createLinkedList(indices);
-		final int lastIndex = ll.removeLast();
-		return optional(ll).flatMap(x -> x.optionalByte(lastIndex));
+		final AbstractSecs2 x = findParent(indices);
+		return x == null ? Optional.empty() : x.optionalByte(lastIndex(indices));
 	}
 	
 	protected Optional<Byte> optionalByte(int index) {
@@ -226,7 +277,8 @@ public abstract class AbstractSecs2 implements Secs2, Serializable {
 	
 	@Override
 	public Optional<byte[]> optionalBytes(int... indices) {
-		return optional(createLinkedList(indices)).flatMap(AbstractSecs2::optionalBytes);
+		final AbstractSecs2 x = find(indices, 0, indices.length);
+		return x == null ? Optional.empty() : x.optionalBytes();
 	}
 	
 	@Override
@@ -236,9 +288,8 @@ public abstract class AbstractSecs2 implements Secs2, Serializable {
 	
 	@Override
 	public Optional<Boolean> optionalBoolean(int... indices) {
-		final LinkedList<Integer> ll = createLinkedList(indices);
-		final int lastIndex = ll.removeLast();
-		return optional(ll).flatMap(x -> x.optionalBoolean(lastIndex));
+		final AbstractSecs2 x = findParent(indices);
+		return x == null ? Optional.empty() : x.optionalBoolean(lastIndex(indices));
 	}
 	
 	protected Optional<Boolean> optionalBoolean(int index) {
@@ -259,9 +310,8 @@ public abstract class AbstractSecs2 implements Secs2, Serializable {
 	
 	@Override
 	public Optional<BigInteger> optionalBigInteger(int... indices) {
-		final LinkedList<Integer> ll = createLinkedList(indices);
-		final int lastIndex = ll.removeLast();
-		return optional(ll).flatMap(x -> x.optionalBigInteger(lastIndex));
+		final AbstractSecs2 x = findParent(indices);
+		return x == null ? Optional.empty() : x.optionalBigInteger(lastIndex(indices));
 	}
 	
 	protected Optional<BigInteger> optionalBigInteger(int index) {
@@ -276,9 +326,8 @@ public abstract class AbstractSecs2 implements Secs2, Serializable {
 	
 	@Override
 	public Optional<Number> optionalNumber(int... indices) {
-		final LinkedList<Integer> ll = createLinkedList(indices);
-		final int lastIndex = ll.removeLast();
-		return optional(ll).flatMap(x -> x.optionalNumber(lastIndex));
+		final AbstractSecs2 x = findParent(indices);
+		return x == null ? Optional.empty() : x.optionalNumber(lastIndex(indices));
 	}
 	
 	protected Optional<Number> optionalNumber(int index) {
@@ -292,17 +341,36 @@ public abstract class AbstractSecs2 implements Secs2, Serializable {
 		return b.getBytesList();
 	}
 	
+	protected static interface Appending {
+		public void append(Appendable a) throws IOException;
+	}
+	
+	protected static String appendingToString(Appending appending) {
+		final StringBuilder sb = new StringBuilder();
+		try {
+			appending.append(sb);
+		}
+		catch ( IOException notHappen ) {
+		}
+		return sb.toString();
+	}
+	
 	@Override
 	public String toString() {
+		return appendingToString(this::appendTo);
+	}
+	
+	@Override
+	public void appendTo(Appendable a) throws IOException {
+		a.append('<')
+		.append(secs2Item().symbol())
+		.append(" [")
+		.append(String.valueOf(toStringSize()))
+		.append("] ");
 		
-		return new StringBuilder("<")
-				.append(secs2Item().symbol())
-				.append(" [")
-				.append(toStringSize())
-				.append("] ")
-				.append(toStringValue())
-				.append(">")
-				.toString();
+		appendStringValueTo(a);
+		
+		a.append('>');
 	}
 	
 	protected int toStringSize() {
@@ -311,24 +379,147 @@ public abstract class AbstractSecs2 implements Secs2, Serializable {
 	
 	protected abstract String toStringValue();
 	
+	protected void appendStringValueTo(Appendable a) throws IOException {
+		a.append(toStringValue());
+	}
 	
 	@Override
 	public String toJson() {
-		return "{\"f\":\"" + secs2Item().symbol() +  "\",\"v\":" + toJsonValue() + "}";
+		return appendingToString(this::appendJsonTo);
+	}
+	
+	@Override
+	public void appendJsonTo(Appendable a) throws IOException {
+		a.append("{\"f\":\"")
+		.append(secs2Item().symbol())
+		.append("\",\"v\":");
+		
+		appendJsonValueTo(a);
+		
+		a.append('}');
 	}
 	
 	abstract protected String toJsonValue();
 	
+	protected void appendJsonValueTo(Appendable a) throws IOException {
+		a.append(toJsonValue());
+	}
+	
+	private transient volatile int proxyHashCode;
+	
 	@Override
 	public int hashCode() {
-		return toJson().hashCode();
+		
+		int h = this.proxyHashCode;
+		
+		if ( h == 0 ) {
+			h = this.structuralHashCode();
+			if ( h == 0 ) {
+				h = 1;
+			}
+			this.proxyHashCode = h;
+		}
+		
+		return h;
+	}
+	
+	/**
+	 * Returns hash of item-type and body bytes, cached by {@link #hashCode()}.
+	 * 
+	 * @return hash
+	 */
+	protected int structuralHashCode() {
+		return 31 * secs2Item().code() + Arrays.hashCode(this.bodyBytes());
+	}
+	
+	private transient volatile long proxyContentHash;
+	
+	@Override
+	public long contentHash() {
+		
+		long h = this.proxyContentHash;
+		
+		if ( h == 0L ) {
+			h = this.structuralContentHash();
+			if ( h == 0L ) {
+				h = 1L;
+			}
+			this.proxyContentHash = h;
+		}
+		
+		return h;
+	}
+	
+	/**
+	 * Returns 64-bit hash of item-type and body bytes, cached by {@link #contentHash()}.
+	 * 
+	 * @return 64-bit hash
+	 */
+	protected long structuralContentHash() {
+		
+		long h = contentHashSeed(this.secs2Item(), 0);
+		
+		for ( byte b : this.bodyBytes() ) {
+			h = (h ^ ((long)b & 0xFFL)) * FNV_PRIME;
+		}
+		
+		return h;
+	}
+	
+	private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+	private static final long FNV_PRIME = 0x00000100000001B3L;
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+	
+	/**
+	 * Returns initial content-hash of item-type.
+	 * 
+	 * @param item the Secs2Item
+	 * @param size the size, items count if LIST
+	 * @return 64-bit hash
+	 */
+	protected static long contentHashSeed(Secs2Item item, int size) {
+		long h = (FNV_OFFSET_BASIS ^ ((long)item.code() & 0xFFL)) * FNV_PRIME;
+		return (h ^ (long)size) * FNV_PRIME;
+	}
+	
+	/**
+	 * Returns combined content-hash, order-dependent.
+	 * 
+	 * @param h the current hash
+	 * @param v the content-hash of item
+	 * @return 64-bit hash
+	 */
+	protected static long contentHashCombine(long h, long v) {
+		long x = (h ^ v) * GOLDEN_GAMMA;
+		return x ^ (x >>> 29);
+	}
+	
+	/**
+	 * Returns true if same body, item-type and hashCode are already equal.
+	 * 
+	 * @param other the other Secs2
+	 * @return true if same body
+	 */
+	protected boolean structuralEquals(AbstractSecs2 other) {
+		return Arrays.equals(this.bodyBytes(), other.bodyBytes());
 	}
 	
 	@Override
 	public boolean equals(Object o) {
+		
+		if ( this == o ) {
+			return true;
+		}
+		
 		if (o != null && (o instanceof AbstractSecs2)) {
-			return ((AbstractSecs2)o).toJson().equals(toJson());
+			
+			final AbstractSecs2 other = (AbstractSecs2)o;
+			
+			return other.secs2Item() == this.secs2Item()
+					&& other.hashCode() == this.hashCode()
+					&& this.structuralEquals(other);
 		}
+		
 		return false;
 	}
 	
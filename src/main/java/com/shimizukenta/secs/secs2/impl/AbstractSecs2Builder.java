@@ -13,11 +13,6 @@ public class AbstractSecs2Builder implements Secs2Builder {
 	}
 	
 	private static final Secs2RawBytes rawEmpty = new Secs2RawBytes();
-	private static final Secs2List listEmpty = new Secs2List();
-	private static final Secs2Int4 i4empty = new Secs2Int4();
-	private static final Secs2Int8 i8empty = new Secs2Int8();
-	private static final Secs2Uint4 u4empty = new Secs2Uint4();
-	private static final Secs2Uint8 u8empty = new Secs2Uint8();
 	
 	@Override
 	public Secs2 empty() {
@@ -31,31 +26,46 @@ public class AbstractSecs2Builder implements Secs2Builder {
 	
 	@Override
 	public Secs2 list() {
-		return listEmpty;
+		return Secs2Flyweights.emptyList();
 	}
 	
 	@Override
 	public Secs2 list(Secs2... values) {
+		if ( values.length == 0 ) {
+			return Secs2Flyweights.emptyList();
+		}
 		return new Secs2List(values);
 	}
 	
 	@Override
 	public Secs2 list(List<? extends Secs2> values) {
+		if ( values.isEmpty() ) {
+			return Secs2Flyweights.emptyList();
+		}
 		return new Secs2List(values);
 	}
 	
 	@Override
 	public Secs2 ascii(CharSequence cs) {
+		if ( cs.length() == 0 ) {
+			return Secs2Flyweights.emptyAscii();
+		}
 		return new Secs2Ascii(cs);
 	}
 	
 	@Override
 	public Secs2 binary() {
-		return new Secs2Binary();
+		return Secs2Flyweights.emptyBinary();
 	}
 	
 	@Override
 	public Secs2 binary(byte... bs) {
+		if ( bs.length == 1 ) {
+			return Secs2Flyweights.binary(bs[0]);
+		}
+		if ( bs.length == 0 ) {
+			return Secs2Flyweights.emptyBinary();
+		}
 		return new Secs2Binary(bs);
 	}
 	
@@ -66,11 +76,17 @@ public class AbstractSecs2Builder implements Secs2Builder {
 	
 	@Override
 	public Secs2 bool() {
-		return new Secs2Boolean();
+		return Secs2Flyweights.emptyBoolean();
 	}
 	
 	@Override
 	public Secs2 bool(boolean... bools) {
+		if ( bools.length == 1 ) {
+			return Secs2Flyweights.bool(bools[0]);
+		}
+		if ( bools.length == 0 ) {
+			return Secs2Flyweights.emptyBoolean();
+		}
 		return new Secs2Boolean(bools);
 	}
 	
@@ -81,16 +97,28 @@ public class AbstractSecs2Builder implements Secs2Builder {
 	
 	@Override
 	public Secs2 int1() {
-		return new Secs2Int1();
+		return Secs2Flyweights.emptyInt1();
 	}
 	
 	@Override
 	public Secs2 int1(int... values) {
+		if ( values.length == 1 && values[0] >= -128 && values[0] <= 127 ) {
+			return Secs2Flyweights.int1((byte)values[0]);
+		}
+		if ( values.length == 0 ) {
+			return Secs2Flyweights.emptyInt1();
+		}
 		return new Secs2Int1(values);
 	}
 	
 	@Override
 	public Secs2 int1(long... values) {
+		if ( values.length == 1 && values[0] >= -128 && values[0] <= 127 ) {
+			return Secs2Flyweights.int1((byte)values[0]);
+		}
+		if ( values.length == 0 ) {
+			return Secs2Flyweights.emptyInt1();
+		}
 		return new Secs2Int1(values);
 	}
 	
@@ -106,7 +134,7 @@ public class AbstractSecs2Builder implements Secs2Builder {
 	
 	@Override
 	public Secs2 int2() {
-		return new Secs2Int2();
+		return Secs2Flyweights.emptyInt2();
 	}
 	
 	@Override
@@ -131,7 +159,7 @@ public class AbstractSecs2Builder implements Secs2Builder {
 	
 	@Override
 	public Secs2 int4() {
-		return i4empty;
+		return Secs2Flyweights.emptyInt4();
 	}
 	
 	@Override
@@ -156,7 +184,7 @@ public class AbstractSecs2Builder implements Secs2Builder {
 	
 	@Override
 	public Secs2 int8() {
-		return i8empty;
+		return Secs2Flyweights.emptyInt8();
 	}
 	
 	@Override
@@ -181,16 +209,28 @@ public class AbstractSecs2Builder implements Secs2Builder {
 	
 	@Override
 	public Secs2 uint1() {
-		return new Secs2Uint1();
+		return Secs2Flyweights.emptyUint1();
 	}
 	
 	@Override
 	public Secs2 uint1(int... values) {
+		if ( values.length == 1 && values[0] >= 0 && values[0] <= 255 ) {
+			return Secs2Flyweights.uint1(values[0]);
+		}
+		if ( values.length == 0 ) {
+			return Secs2Flyweights.emptyUint1();
+		}
 		return new Secs2Uint1(values);
 	}
 	
 	@Override
 	public Secs2 uint1(long... values) {
+		if ( values.length == 1 && values[0] >= 0 && values[0] <= 255 ) {
+			return Secs2Flyweights.uint1((int)values[0]);
+		}
+		if ( values.length == 0 ) {
+			return Secs2Flyweights.emptyUint1();
+		}
 		return new Secs2Uint1(values);
 	}
 	
@@ -206,7 +246,7 @@ public class AbstractSecs2Builder implements Secs2Builder {
 
 	@Override
 	public Secs2 uint2() {
-		return new Secs2Uint2();
+		return Secs2Flyweights.emptyUint2();
 	}
 	
 	@Override
@@ -231,7 +271,7 @@ public class AbstractSecs2Builder implements Secs2Builder {
 
 	@Override
 	public Secs2 uint4() {
-		return u4empty;
+		return Secs2Flyweights.emptyUint4();
 	}
 	
 	@Override
@@ -256,7 +296,7 @@ public class AbstractSecs2Builder implements Secs2Builder {
 
 	@Override
 	public Secs2 uint8() {
-		return u8empty;
+		return Secs2Flyweights.emptyUint8();
 	}
 	
 	@Override
@@ -281,7 +321,7 @@ public class AbstractSecs2Builder implements Secs2Builder {
 	
 	@Override
 	public Secs2 float4() {
-		return new Secs2Float4();
+		return Secs2Flyweights.emptyFloat4();
 	}
 	
 	@Override
@@ -296,7 +336,7 @@ public class AbstractSecs2Builder implements Secs2Builder {
 	
 	@Override
 	public Secs2 float8() {
-		return new Secs2Float8();
+		return Secs2Flyweights.emptyFloat8();
 	}
 	
 	@Override
@@ -1,7 +1,18 @@
 package com.shimizukenta.secs.secs2.impl;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.stream.Collectors;
 
 import com.shimizukenta.secs.secs2.Secs2;
@@ -11,14 +22,80 @@ import com.shimizukenta.secs.secs2.Secs2UnsupportedDataFormatException;
 
 abstract public class AbstractSecs2BytesParser implements Secs2BytesParser {
 	
+	private final ForkJoinPool pool;
+	private final int parallelThreshold;
+	
 	public AbstractSecs2BytesParser() {
-		/* Nothing */
+		this.pool = null;
+		this.parallelThreshold = -1;
+	}
+	
+	/**
+	 * Constructor of parallel decoding.
+	 * 
+	 * <p>
+	 * If top-level is LIST and items count is greater than or equal to {@code parallelThreshold},
+	 * children are decoded on {@code pool}.
+	 * </p>
+	 * 
+	 * @param pool the ForkJoinPool
+	 * @param parallelThreshold the top-level LIST items count
+	 */
+	public AbstractSecs2BytesParser(ForkJoinPool pool, int parallelThreshold) {
+		
+		if ( parallelThreshold < 1 ) {
+			throw new IllegalArgumentException("parallelThreshold must be >= 1");
+		}
+		
+		this.pool = Objects.requireNonNull(pool);
+		this.parallelThreshold = parallelThreshold;
 	}
 	
 	@Override
 	public Secs2 parse(List<byte[]> bss) throws Secs2BytesParseException {
 		
-		final BytesPack pack = new BytesPack(bss);
+		if ( this.pool == null ) {
+			return parse(new BytesPack(bss));
+		}
+		
+		final BytesPack head = new BytesPack(bss);
+		
+		if ( head.hasRemaining() ) {
+			
+			final byte b = head.get();
+			
+			if ( Secs2Item.get(b) == Secs2Item.LIST ) {
+				
+				final int size = readLength(head, b);
+				
+				if ( size >= this.parallelThreshold ) {
+					return parallelParse(concat(bss), size);
+				}
+			}
+		}
+		
+		return parse(new BytesPack(bss));
+	}
+	
+	@Override
+	public Secs2 parse(byte[] bs, int from, int to) throws Secs2BytesParseException {
+		
+		if ( from < 0 || to > bs.length || from > to ) {
+			throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", length: " + bs.length);
+		}
+		
+		if ( this.pool == null ) {
+			return parse(new BytesPack(bs, from, to));
+		}
+		
+		if ( from == 0 && to == bs.length ) {
+			return parse(Collections.singletonList(bs));
+		}
+		
+		return parse(Collections.singletonList(Arrays.copyOfRange(bs, from, to)));
+	}
+	
+	private static Secs2 parse(BytesPack pack) throws Secs2BytesParseException {
 		
 		if ( pack.hasRemaining() ) {
 			
@@ -36,6 +113,595 @@ abstract public class AbstractSecs2BytesParser implements Secs2BytesParser {
 		}
 	}
 	
+	@Override
+	public void parse(List<byte[]> bss, Secs2BytesVisitor visitor) throws Secs2BytesParseException {
+		visit(new BytesPack(bss), visitor, true);
+	}
+	
+	@Override
+	public void parse(ByteBuffer buffer, Secs2BytesVisitor visitor) throws Secs2BytesParseException {
+		visit(new ByteBufferSource(buffer), visitor, true);
+	}
+	
+	@Override
+	public void parse(InputStream strm, Secs2BytesVisitor visitor) throws Secs2BytesParseException, IOException {
+		try {
+			visit(new InputStreamSource(strm), visitor, false);
+		}
+		catch ( UncheckedIOException e ) {
+			throw e.getCause();
+		}
+	}
+	
+	private static byte[] concat(List<byte[]> bss) {
+		
+		int m = 0;
+		byte[] last = null;
+		int n = 0;
+		
+		for ( byte[] bs : bss ) {
+			if ( bs.length > 0 ) {
+				m += bs.length;
+				last = bs;
+				++ n;
+			}
+		}
+		
+		if ( n == 1 ) {
+			return last;
+		}
+		
+		final byte[] r = new byte[m];
+		int pos = 0;
+		
+		for ( byte[] bs : bss ) {
+			System.arraycopy(bs, 0, r, pos, bs.length);
+			pos += bs.length;
+		}
+		
+		return r;
+	}
+	
+	/**
+	 * Scan boundaries of top-level LIST children, then decode children on pool.
+	 * 
+	 */
+	private Secs2 parallelParse(byte[] bs, int size) throws Secs2BytesParseException {
+		
+		final int[] offsets = new int[size + 1];
+		offsets[0] = 1 + (bs[0] & 0x03);
+		
+		for ( int i = 0; i < size; ++i ) {
+			offsets[i + 1] = skip(bs, offsets[i]);
+		}
+		
+		if ( offsets[size] < bs.length ) {
+			throw new Secs2BytesParseException("not reach end bytes");
+		}
+		
+		final Secs2[] children = new Secs2[size];
+		final int grain = Math.max(1, size / (this.pool.getParallelism() * 4));
+		
+		try {
+			this.pool.invoke(new ChildrenTask(bs, offsets, children, 0, size, grain));
+		}
+		catch ( RuntimeException e ) {
+			
+			for ( Throwable t = e; t != null; t = t.getCause() ) {
+				if ( t instanceof Secs2BytesParseException ) {
+					throw (Secs2BytesParseException)t;
+				}
+			}
+			
+			throw e;
+		}
+		
+		return new Secs2List(Arrays.asList(children));
+	}
+	
+	/**
+	 * Returns end offset of item, without decode.
+	 * 
+	 */
+	private static int skip(byte[] bs, int offset) throws Secs2BytesParseException {
+		
+		int pos = offset;
+		long remains = 1L;
+		
+		while ( remains > 0L ) {
+			
+			if ( pos >= bs.length ) {
+				throw new Secs2BytesParseException("reach end bytes");
+			}
+			
+			final byte b = bs[pos];
+			final int lengthBits = b & 0x03;
+			
+			if ( (pos + lengthBits) >= bs.length ) {
+				throw new Secs2BytesParseException("reach end bytes");
+			}
+			
+			int size = 0;
+			for ( int i = 1; i <= lengthBits; ++i ) {
+				size = (size << 8) | ((int)(bs[pos + i]) & 0x000000FF);
+			}
+			
+			pos += 1 + lengthBits;
+			
+			if ( Secs2Item.get(b) == Secs2Item.LIST ) {
+				remains += size;
+			} else {
+				pos += size;
+			}
+			
+			-- remains;
+		}
+		
+		if ( pos > bs.length ) {
+			throw new Secs2BytesParseException("reach end bytes");
+		}
+		
+		return pos;
+	}
+	
+	private static final class ChildrenTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = -6012863413570432873L;
+		
+		private final byte[] bs;
+		private final int[] offsets;
+		private final Secs2[] children;
+		private final int from;
+		private final int to;
+		private final int grain;
+		
+		private ChildrenTask(byte[] bs, int[] offsets, Secs2[] children, int from, int to, int grain) {
+			this.bs = bs;
+			this.offsets = offsets;
+			this.children = children;
+			this.from = from;
+			this.to = to;
+			this.grain = grain;
+		}
+		
+		@Override
+		protected void compute() {
+			
+			if ( (this.to - this.from) <= this.grain ) {
+				
+				try {
+					for ( int i = this.from; i < this.to; ++i ) {
+						this.children[i] = stpParse(new BytesPack(this.bs, this.offsets[i], this.offsets[i + 1]));
+					}
+				}
+				catch ( Secs2BytesParseException e ) {
+					throw new ParseFailedException(e);
+				}
+				
+			} else {
+				
+				final int mid = (this.from + this.to) >>> 1;
+				
+				invokeAll(
+						new ChildrenTask(this.bs, this.offsets, this.children, this.from, mid, this.grain),
+						new ChildrenTask(this.bs, this.offsets, this.children, mid, this.to, this.grain));
+			}
+		}
+	}
+	
+	private static final class ParseFailedException extends RuntimeException {
+		
+		private static final long serialVersionUID = 4391806574287410252L;
+		
+		private ParseFailedException(Secs2BytesParseException cause) {
+			super(cause);
+		}
+	}
+	
+	private static void visit(ByteSource src, Secs2BytesVisitor visitor, boolean untilEnd) throws Secs2BytesParseException {
+		
+		if ( ! src.hasRemaining() ) {
+			visitor.onEmpty();
+			return;
+		}
+		
+		final byte b = src.get();
+		
+		visitItem(src, visitor, Secs2Item.get(b), readLength(src, b), new byte[CHUNK_SIZE]);
+		
+		if ( untilEnd && src.hasRemaining() ) {
+			throw new Secs2BytesParseException("not reach end bytes");
+		}
+	}
+	
+	/**
+	 * Iterative walk from item-header already read, keeps only remaining-counts of open lists.
+	 * 
+	 */
+	private static void visitItem(ByteSource src, Secs2BytesVisitor visitor, Secs2Item item, int length, byte[] buffer) throws Secs2BytesParseException {
+		
+		final boolean chunked = visitor.isChunked();
+		
+		int[] remains = new int[16];
+		int depth = 0;
+		
+		Secs2Item s2i = item;
+		int size = length;
+		
+		for ( ;; ) {
+			
+			if ( s2i == Secs2Item.LIST ) {
+				
+				visitor.onListStart(size);
+				
+				if ( size > 0 ) {
+					
+					if ( depth == remains.length ) {
+						remains = Arrays.copyOf(remains, depth * 2);
+					}
+					
+					remains[depth] = size;
+					++ depth;
+					
+				} else {
+					
+					visitor.onListEnd();
+				}
+				
+			} else {
+				
+				if ( s2i.size() > 1 && (size % s2i.size()) != 0 ) {
+					throw new Secs2BytesParseException("Illegal length-bytes of " + s2i.symbol());
+				}
+				
+				if ( chunked ) {
+					visitChunks(src, visitor, s2i, size, buffer);
+				} else {
+					visitValue(src, visitor, s2i, size, buffer);
+				}
+			}
+			
+			if ( s2i != Secs2Item.LIST || size == 0 ) {
+				
+				while ( depth > 0 ) {
+					
+					if ( -- remains[depth - 1] > 0 ) {
+						break;
+					}
+					
+					-- depth;
+					visitor.onListEnd();
+				}
+				
+				if ( depth == 0 ) {
+					return;
+				}
+			}
+			
+			final byte b = src.get();
+			
+			s2i = Secs2Item.get(b);
+			size = readLength(src, b);
+		}
+	}
+	
+	@Override
+	public Secs2BytesReader reader(List<byte[]> bss) {
+		return new PackReader(new BytesPack(bss));
+	}
+	
+	private static final class PackReader implements Secs2BytesReader {
+		
+		private final BytesPack pack;
+		private byte[] buffer;
+		private Secs2Item item;
+		private int length;
+		
+		private PackReader(BytesPack pack) {
+			this.pack = pack;
+			this.buffer = null;
+			this.item = Secs2Item.UNDEFINED;
+			this.length = 0;
+		}
+		
+		private byte[] buffer() {
+			if ( this.buffer == null ) {
+				this.buffer = new byte[CHUNK_SIZE];
+			}
+			return this.buffer;
+		}
+		
+		@Override
+		public boolean hasRemaining() {
+			return this.pack.hasRemaining();
+		}
+		
+		@Override
+		public Secs2Item next() throws Secs2BytesParseException {
+			
+			this.pack.mark();
+			
+			final byte b = this.pack.get();
+			
+			this.item = Secs2Item.get(b);
+			this.length = readLength(this.pack, b);
+			
+			return this.item;
+		}
+		
+		@Override
+		public Secs2Item item() {
+			return this.item;
+		}
+		
+		@Override
+		public int length() {
+			return this.length;
+		}
+		
+		@Override
+		public void visit(Secs2BytesVisitor visitor) throws Secs2BytesParseException {
+			visitItem(this.pack, visitor, this.item, this.length, buffer());
+		}
+		
+		@Override
+		public void skip() throws Secs2BytesParseException {
+			
+			if ( this.item == Secs2Item.LIST ) {
+				
+				for ( int i = this.length; i > 0; --i ) {
+					next();
+					skip();
+				}
+				
+			} else {
+				
+				this.pack.skip(this.length);
+			}
+		}
+		
+		@Override
+		public Secs2 readSecs2() throws Secs2BytesParseException {
+			this.pack.reset();
+			return stpParse(this.pack);
+		}
+	}
+	
+	private static int readLength(ByteSource src, byte b) throws Secs2BytesParseException {
+		
+		int lengthBits = b & 0x03;
+		int size = 0;
+		
+		for (int i = 0; i < lengthBits; ++i) {
+			size = (size << 8) | ((int)(src.get()) & 0x000000FF);
+		}
+		
+		return size;
+	}
+	
+	/**
+	 * Bounded chunk size, multiple of all item sizes.
+	 * 
+	 */
+	private static final int CHUNK_SIZE = 8192;
+	
+	private static void visitChunks(ByteSource src, Secs2BytesVisitor visitor, Secs2Item s2i, int size, byte[] buffer) throws Secs2BytesParseException {
+		
+		visitor.onValueStart(s2i, size);
+		
+		if ( size == 0 ) {
+			visitor.onValueChunk(buffer, 0, 0, true);
+			return;
+		}
+		
+		int remain = size;
+		
+		while ( remain > 0 ) {
+			int len = Math.min(remain, buffer.length);
+			src.get(buffer, len);
+			remain -= len;
+			visitor.onValueChunk(buffer, 0, len, remain == 0);
+		}
+	}
+	
+	private static byte[] readBytes(ByteSource src, int size) throws Secs2BytesParseException {
+		byte[] bs = new byte[size];
+		src.get(bs, size);
+		return bs;
+	}
+	
+	/**
+	 * Reads value into result array, multi-byte items are converted through bounded buffer.
+	 * 
+	 */
+	private static void visitValue(ByteSource src, Secs2BytesVisitor visitor, Secs2Item s2i, int size, byte[] buffer) throws Secs2BytesParseException {
+		
+		switch ( s2i ) {
+		case ASCII: {
+			visitor.onAscii(new String(readBytes(src, size), StandardCharsets.US_ASCII));
+			return;
+		}
+		case BINARY: {
+			visitor.onBinary(readBytes(src, size));
+			return;
+		}
+		case INT1: {
+			visitor.onInt1(readBytes(src, size));
+			return;
+		}
+		case JIS8: {
+			visitor.onJis8(readBytes(src, size));
+			return;
+		}
+		case UNICODE: {
+			visitor.onUnicode(readBytes(src, size));
+			return;
+		}
+		default: {
+			/* Nothing */
+		}
+		}
+		
+		final int count = size / s2i.size();
+		final Object values;
+		
+		switch ( s2i ) {
+		case BOOLEAN: {
+			values = new boolean[count];
+			break;
+		}
+		case INT2: {
+			values = new short[count];
+			break;
+		}
+		case INT4:
+		case UINT1:
+		case UINT2: {
+			values = new int[count];
+			break;
+		}
+		case INT8:
+		case UINT4:
+		case UINT8: {
+			values = new long[count];
+			break;
+		}
+		case FLOAT4: {
+			values = new float[count];
+			break;
+		}
+		case FLOAT8: {
+			values = new double[count];
+			break;
+		}
+		default: {
+			throw new Secs2UnsupportedDataFormatException();
+		}
+		}
+		
+		int index = 0;
+		int remain = size;
+		
+		try {
+			
+			while ( remain > 0 ) {
+				
+				final int len = Math.min(remain, buffer.length);
+				src.get(buffer, len);
+				remain -= len;
+				
+				final ByteBuffer bf = ByteBuffer.wrap(buffer, 0, len);
+				final int n = len / s2i.size();
+				
+				switch ( s2i ) {
+				case BOOLEAN: {
+					boolean[] vv = (boolean[])values;
+					for (int i = 0; i < n; ++i) {
+						vv[index + i] = buffer[i] != 0x00;
+					}
+					break;
+				}
+				case INT2: {
+					bf.asShortBuffer().get((short[])values, index, n);
+					break;
+				}
+				case INT4: {
+					bf.asIntBuffer().get((int[])values, index, n);
+					break;
+				}
+				case INT8:
+				case UINT8: {
+					bf.asLongBuffer().get((long[])values, index, n);
+					break;
+				}
+				case UINT1: {
+					int[] vv = (int[])values;
+					for (int i = 0; i < n; ++i) {
+						vv[index + i] = (int)(buffer[i]) & 0xFF;
+					}
+					break;
+				}
+				case UINT2: {
+					int[] vv = (int[])values;
+					for (int i = 0; i < n; ++i) {
+						vv[index + i] = (int)(bf.getShort()) & 0xFFFF;
+					}
+					break;
+				}
+				case UINT4: {
+					long[] vv = (long[])values;
+					for (int i = 0; i < n; ++i) {
+						vv[index + i] = (long)(bf.getInt()) & 0xFFFFFFFFL;
+					}
+					break;
+				}
+				case FLOAT4: {
+					bf.asFloatBuffer().get((float[])values, index, n);
+					break;
+				}
+				case FLOAT8: {
+					bf.asDoubleBuffer().get((double[])values, index, n);
+					break;
+				}
+				default: {
+					throw new Secs2UnsupportedDataFormatException();
+				}
+				}
+				
+				index += n;
+			}
+		}
+		catch ( BufferUnderflowException e ) {
+			throw new Secs2BytesParseException(e);
+		}
+		
+		switch ( s2i ) {
+		case BOOLEAN: {
+			visitor.onBoolean((boolean[])values);
+			break;
+		}
+		case INT2: {
+			visitor.onInt2((short[])values);
+			break;
+		}
+		case INT4: {
+			visitor.onInt4((int[])values);
+			break;
+		}
+		case INT8: {
+			visitor.onInt8((long[])values);
+			break;
+		}
+		case UINT1: {
+			visitor.onUint1((int[])values);
+			break;
+		}
+		case UINT2: {
+			visitor.onUint2((int[])values);
+			break;
+		}
+		case UINT4: {
+			visitor.onUint4((long[])values);
+			break;
+		}
+		case UINT8: {
+			visitor.onUint8((long[])values);
+			break;
+		}
+		case FLOAT4: {
+			visitor.onFloat4((float[])values);
+			break;
+		}
+		case FLOAT8: {
+			visitor.onFloat8((double[])values);
+			break;
+		}
+		default: {
+			throw new Secs2UnsupportedDataFormatException();
+		}
+		}
+	}
+	
 	private static Secs2 stpParse(BytesPack pack) throws Secs2BytesParseException {
 		
 		byte b = pack.get();
@@ -62,6 +728,10 @@ abstract public class AbstractSecs2BytesParser implements Secs2BytesParser {
 		
 		if ( s2i == Secs2Item.LIST ) {
 			
+			if ( size == 0 ) {
+				return Secs2Flyweights.emptyList();
+			}
+			
 			List<Secs2> ll = new ArrayList<>();
 			
 			for (int i = 0 ; i < size ; ++i) {
@@ -74,6 +744,11 @@ abstract public class AbstractSecs2BytesParser implements Secs2BytesParser {
 			
 			byte[] bs = pack.get(size);
 			
+			Secs2 shared = Secs2Flyweights.get(s2i, bs);
+			if ( shared != null ) {
+				return shared;
+			}
+			
 			switch ( s2i ) {
 			case ASCII: {
 				return new Secs2Ascii(bs);
@@ -142,13 +817,25 @@ abstract public class AbstractSecs2BytesParser implements Secs2BytesParser {
 		}
 	}
 	
-	private static class BytesPack {
+	private static interface ByteSource {
+		
+		public boolean hasRemaining();
+		
+		public byte get() throws Secs2BytesParseException;
+		
+		public void get(byte[] dst, int size) throws Secs2BytesParseException;
+	}
+	
+	private static class BytesPack implements ByteSource {
 		
 		private final List<byte[]> bss;
 		private final int mPack;
 		private int mBytes;
 		private int iPack;
 		private int iBytes;
+		private int markMBytes;
+		private int markIPack;
+		private int markIBytes;
 		
 		private BytesPack(List<byte[]> bss) {
 			this.bss = bss.stream()
@@ -160,6 +847,54 @@ abstract public class AbstractSecs2BytesParser implements Secs2BytesParser {
 			this.iBytes = 0;
 		}
 		
+		private BytesPack(byte[] bs, int from, int to) {
+			this.bss = Collections.singletonList(bs);
+			this.mPack = 0;
+			this.mBytes = to - 1;
+			this.iPack = 0;
+			this.iBytes = from;
+		}
+		
+		private void mark() {
+			this.markMBytes = this.mBytes;
+			this.markIPack = this.iPack;
+			this.markIBytes = this.iBytes;
+		}
+		
+		private void reset() {
+			this.mBytes = this.markMBytes;
+			this.iPack = this.markIPack;
+			this.iBytes = this.markIBytes;
+		}
+		
+		private void skip(int size) throws Secs2BytesParseException {
+			
+			int pos = 0;
+			
+			while ( pos < size ) {
+				
+				if ( iPack > mPack ) {
+					throw new Secs2BytesParseException("reach end bytes");
+				}
+				
+				if ( iBytes > mBytes ) {
+					
+					++ iPack;
+					
+					if ( iPack <= mPack ) {
+						iBytes = 0;
+						mBytes = this.bss.get(iPack).length - 1;
+					}
+					
+				} else {
+					
+					int len = Math.min(size - pos, mBytes - iBytes + 1);
+					iBytes += len;
+					pos += len;
+				}
+			}
+		}
+		
 		public boolean hasRemaining() {
 			
 			if ( iPack < mPack ) {
@@ -202,11 +937,141 @@ abstract public class AbstractSecs2BytesParser implements Secs2BytesParser {
 		
 		public byte[] get(int size) throws Secs2BytesParseException {
 			byte[] bs = new byte[size];
-			for (int i = 0; i < size; ++i ) {
-				bs[i] = get();
-			}
+			get(bs, size);
 			return bs;
 		}
+		
+		@Override
+		public void get(byte[] dst, int size) throws Secs2BytesParseException {
+			
+			int pos = 0;
+			
+			while ( pos < size ) {
+				
+				if ( iPack > mPack ) {
+					throw new Secs2BytesParseException("reach end bytes");
+				}
+				
+				if ( iBytes > mBytes ) {
+					
+					++ iPack;
+					
+					if ( iPack <= mPack ) {
+						iBytes = 0;
+						mBytes = this.bss.get(iPack).length - 1;
+					}
+					
+				} else {
+					
+					int len = Math.min(size - pos, mBytes - iBytes + 1);
+					System.arraycopy(this.bss.get(iPack), iBytes, dst, pos, len);
+					iBytes += len;
+					pos += len;
+				}
+			}
+		}
+	}
+	
+	private static class ByteBufferSource implements ByteSource {
+		
+		private final ByteBuffer buffer;
+		
+		private ByteBufferSource(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+		
+		@Override
+		public boolean hasRemaining() {
+			return this.buffer.hasRemaining();
+		}
+		
+		@Override
+		public byte get() throws Secs2BytesParseException {
+			if ( this.buffer.hasRemaining() ) {
+				return this.buffer.get();
+			}
+			throw new Secs2BytesParseException("reach end bytes");
+		}
+		
+		@Override
+		public void get(byte[] dst, int size) throws Secs2BytesParseException {
+			if ( this.buffer.remaining() < size ) {
+				throw new Secs2BytesParseException("reach end bytes");
+			}
+			this.buffer.get(dst, 0, size);
+		}
+	}
+	
+	private static class InputStreamSource implements ByteSource {
+		
+		private final InputStream strm;
+		private int first;
+		
+		private InputStreamSource(InputStream strm) {
+			this.strm = strm;
+			this.first = -2;
+		}
+		
+		@Override
+		public boolean hasRemaining() {
+			
+			if ( this.first == -2 ) {
+				try {
+					this.first = this.strm.read();
+				}
+				catch ( IOException e ) {
+					throw new UncheckedIOException(e);
+				}
+			}
+			
+			return this.first >= 0;
+		}
+		
+		@Override
+		public byte get() throws Secs2BytesParseException {
+			
+			if ( this.first >= 0 ) {
+				byte b = (byte)(this.first);
+				this.first = -1;
+				return b;
+			}
+			
+			try {
+				int r = this.strm.read();
+				if ( r >= 0 ) {
+					return (byte)r;
+				}
+			}
+			catch ( IOException e ) {
+				throw new UncheckedIOException(e);
+			}
+			
+			throw new Secs2BytesParseException("reach end bytes");
+		}
+		
+		@Override
+		public void get(byte[] dst, int size) throws Secs2BytesParseException {
+			
+			int pos = 0;
+			
+			if ( size > 0 && this.first >= 0 ) {
+				dst[0] = get();
+				pos = 1;
+			}
+			
+			try {
+				while ( pos < size ) {
+					int r = this.strm.read(dst, pos, size - pos);
+					if ( r < 0 ) {
+						throw new Secs2BytesParseException("reach end bytes");
+					}
+					pos += r;
+				}
+			}
+			catch ( IOException e ) {
+				throw new UncheckedIOException(e);
+			}
+		}
 	}
 	
 }
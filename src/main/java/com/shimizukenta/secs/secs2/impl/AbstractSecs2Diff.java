@@ -0,0 +1,153 @@
+package com.shimizukenta.secs.secs2.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2Diff;
+import com.shimizukenta.secs.secs2.Secs2DiffType;
+import com.shimizukenta.secs.secs2.Secs2Item;
+import com.shimizukenta.secs.secs2.Secs2Path;
+
+public abstract class AbstractSecs2Diff implements Secs2Diff {
+	
+	private final Secs2DiffType type;
+	private final Secs2Path path;
+	private final Secs2 before;
+	private final Secs2 after;
+	
+	public AbstractSecs2Diff(Secs2DiffType type, Secs2Path path, Secs2 before, Secs2 after) {
+		this.type = type;
+		this.path = path;
+		this.before = before;
+		this.after = after;
+	}
+	
+	@Override
+	public Secs2DiffType type() {
+		return this.type;
+	}
+	
+	@Override
+	public Secs2Path path() {
+		return this.path;
+	}
+	
+	@Override
+	public Optional<Secs2> before() {
+		return Optional.ofNullable(this.before);
+	}
+	
+	@Override
+	public Optional<Secs2> after() {
+		return Optional.ofNullable(this.after);
+	}
+	
+	@Override
+	public String toString() {
+		return this.type + " " + Arrays.toString(this.path.indices());
+	}
+	
+	public static List<Secs2Diff> diff(Secs2 before, Secs2 after) {
+		
+		final Differ d = new Differ();
+		d.diff(Objects.requireNonNull(before), Objects.requireNonNull(after));
+		
+		if ( d.diffs.isEmpty() ) {
+			return Collections.emptyList();
+		}
+		
+		return Collections.unmodifiableList(d.diffs);
+	}
+	
+	/**
+	 * Keeps indices of current item, copied only if different.
+	 * 
+	 */
+	private static final class Differ {
+		
+		private final List<Secs2Diff> diffs = new ArrayList<>();
+		private int[] path = new int[16];
+		private int depth = 0;
+		
+		private void add(Secs2DiffType type, Secs2 before, Secs2 after) {
+			final Secs2Path p = AbstractSecs2Path.newInstance(Arrays.copyOf(this.path, this.depth));
+			this.diffs.add(new AbstractSecs2Diff(type, p, before, after) {});
+		}
+		
+		private void push(int index) {
+			
+			if ( this.depth == this.path.length ) {
+				this.path = Arrays.copyOf(this.path, this.depth * 2);
+			}
+			
+			this.path[this.depth] = index;
+			++ this.depth;
+		}
+		
+		private void pop() {
+			-- this.depth;
+		}
+		
+		private void diff(Secs2 before, Secs2 after) {
+			
+			if ( before == after ) {
+				return;
+			}
+			
+			final Secs2 a = (before instanceof Secs2EncodedBytes) ? ((Secs2EncodedBytes)before).parsed() : before;
+			final Secs2 b = (after instanceof Secs2EncodedBytes) ? ((Secs2EncodedBytes)after).parsed() : after;
+			
+			final Secs2Item item = a.secs2Item();
+			
+			if ( item != b.secs2Item() || (item != Secs2Item.LIST && a.size() != b.size()) ) {
+				add(Secs2DiffType.CHANGED, before, after);
+				return;
+			}
+			
+			if ( a.contentHash() == b.contentHash() ) {
+				
+				/* LIST of same content-hash is not descended */
+				if ( item == Secs2Item.LIST || a.equals(b) ) {
+					return;
+				}
+			}
+			
+			if ( item != Secs2Item.LIST ) {
+				add(Secs2DiffType.CHANGED, before, after);
+				return;
+			}
+			
+			final Iterator<Secs2> ia = a.iterator();
+			final Iterator<Secs2> ib = b.iterator();
+			
+			for ( int i = 0; ; ++i ) {
+				
+				final boolean hasA = ia.hasNext();
+				final boolean hasB = ib.hasNext();
+				
+				if ( ! hasA && ! hasB ) {
+					break;
+				}
+				
+				push(i);
+				
+				if ( hasA && hasB ) {
+					diff(ia.next(), ib.next());
+				} else if ( hasA ) {
+					add(Secs2DiffType.REMOVED, ia.next(), null);
+				} else {
+					add(Secs2DiffType.ADDED, null, ib.next());
+				}
+				
+				pop();
+			}
+		}
+	}
+	
+}
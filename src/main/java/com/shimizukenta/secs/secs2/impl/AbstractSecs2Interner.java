@@ -0,0 +1,98 @@
+package com.shimizukenta.secs.secs2.impl;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2Interner;
+
+/**
+ * Weak interner, keyed by structural equals.
+ * 
+ */
+public abstract class AbstractSecs2Interner implements Secs2Interner {
+	
+	private final Map<Secs2, WeakReference<Secs2>> map = new WeakHashMap<>();
+	
+	public AbstractSecs2Interner() {
+		/* Nothing */
+	}
+	
+	@Override
+	public Secs2 intern(Secs2 value) {
+		
+		Secs2 v = Objects.requireNonNull(value);
+		
+		if ( v instanceof Secs2EncodedBytes ) {
+			v = ((Secs2EncodedBytes)v).parsed();
+		}
+		
+		final Secs2 shared = this.lookup(v);
+		
+		if ( shared != null ) {
+			return shared;
+		}
+		
+		if ( v instanceof Secs2List ) {
+			v = this.internItems((Secs2List)v);
+		}
+		
+		synchronized ( this.map ) {
+			
+			final Secs2 raced = this.lookup(v);
+			
+			if ( raced != null ) {
+				return raced;
+			}
+			
+			this.map.put(v, new WeakReference<>(v));
+			return v;
+		}
+	}
+	
+	private Secs2 lookup(Secs2 v) {
+		synchronized ( this.map ) {
+			final WeakReference<Secs2> r = this.map.get(v);
+			return r == null ? null : r.get();
+		}
+	}
+	
+	/**
+	 * Returns LIST of interned items, same instance if all items are already shared.
+	 * 
+	 */
+	private Secs2 internItems(Secs2List list) {
+		
+		final List<Secs2> ll = new ArrayList<>(list.size());
+		boolean replaced = false;
+		
+		for ( Secs2 ss : list ) {
+			final Secs2 x = this.intern(ss);
+			if ( x != ss ) {
+				replaced = true;
+			}
+			ll.add(x);
+		}
+		
+		return replaced ? new Secs2List(ll) : list;
+	}
+	
+	@Override
+	public int size() {
+		synchronized ( this.map ) {
+			return this.map.size();
+		}
+	}
+	
+	@Override
+	public void clear() {
+		synchronized ( this.map ) {
+			this.map.clear();
+		}
+	}
+	
+}
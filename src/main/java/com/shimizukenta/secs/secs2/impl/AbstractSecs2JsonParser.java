@@ -0,0 +1,592 @@
+package com.shimizukenta.secs.secs2.impl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2Item;
+import com.shimizukenta.secs.secs2.Secs2JsonParseException;
+
+public abstract class AbstractSecs2JsonParser implements Secs2JsonParser {
+
+	public AbstractSecs2JsonParser() {
+		/* Nothing */
+	}
+
+	@Override
+	public Secs2 parse(CharSequence cs) throws Secs2JsonParseException {
+		return parse(new JsonSource(cs, null));
+	}
+
+	@Override
+	public Secs2 parse(Reader reader) throws Secs2JsonParseException, IOException {
+		try {
+			return parse(new JsonSource(null, reader));
+		}
+		catch ( UncheckedIOException e ) {
+			throw e.getCause();
+		}
+	}
+
+	@Override
+	public Secs2JsonValueReader newValueReader(Reader reader) {
+
+		final JsonSource src = new JsonSource(null, Objects.requireNonNull(reader));
+
+		return new Secs2JsonValueReader() {
+
+			@Override
+			public Secs2 next() throws Secs2JsonParseException, IOException {
+				try {
+					if ( src.skipSpace() < 0 ) {
+						return null;
+					}
+					return parseValue(src);
+				}
+				catch ( UncheckedIOException e ) {
+					throw e.getCause();
+				}
+			}
+		};
+	}
+
+	private static Secs2 parse(JsonSource src) throws Secs2JsonParseException {
+
+		final Secs2 s = parseValue(src);
+
+		src.skipSpace();
+
+		if ( src.peek() >= 0 ) {
+			throw src.exception("not reach end");
+		}
+
+		return s;
+	}
+
+	private static final String KEY_FORMAT = "f";
+	private static final String KEY_VALUE = "v";
+
+	private static Secs2 parseValue(JsonSource src) throws Secs2JsonParseException {
+
+		src.expect('{');
+
+		if ( src.skipSpace() == '}' ) {
+			src.read();
+			return Secs2.empty();
+		}
+
+		src.expectKey(KEY_FORMAT);
+
+		final String symbol = src.readString().toString();
+		final Secs2Item item = Secs2Item.symbol(symbol);
+
+		src.expect(',');
+		src.expectKey(KEY_VALUE);
+
+		final Secs2 s;
+
+		switch ( item ) {
+		case LIST: {
+			s = parseList(src);
+			break;
+		}
+		case ASCII: {
+			s = parseAscii(src);
+			break;
+		}
+		case BINARY:
+		case BOOLEAN:
+		case INT1:
+		case INT2:
+		case INT4:
+		case INT8:
+		case UINT1:
+		case UINT2:
+		case UINT4:
+		case UINT8:
+		case FLOAT4:
+		case FLOAT8: {
+			s = parseNumbers(src, item);
+			break;
+		}
+		default: {
+			throw src.exception("unsupported format \"" + symbol + "\"");
+		}
+		}
+
+		src.expect('}');
+
+		return s;
+	}
+
+	private static Secs2 parseList(JsonSource src) throws Secs2JsonParseException {
+
+		src.expect('[');
+
+		if ( src.skipSpace() == ']' ) {
+			src.read();
+			return Secs2Flyweights.emptyList();
+		}
+
+		final List<Secs2> ll = new ArrayList<>();
+
+		for ( ;; ) {
+
+			ll.add(parseValue(src));
+
+			int c = src.skipSpace();
+			src.read();
+
+			if ( c == ']' ) {
+				return new Secs2List(ll);
+			}
+
+			if ( c != ',' ) {
+				throw src.exception("expected ',' or ']'");
+			}
+		}
+	}
+
+	private static Secs2 parseAscii(JsonSource src) throws Secs2JsonParseException {
+
+		final StringBuilder sb = src.readString();
+		final int m = sb.length();
+
+		if ( m == 0 ) {
+			return Secs2Flyweights.emptyAscii();
+		}
+
+		final byte[] bs = new byte[m];
+		for ( int i = 0; i < m; ++i ) {
+			bs[i] = (byte)(sb.charAt(i));
+		}
+
+		return new Secs2Ascii(bs);
+	}
+
+	private static Secs2 parseNumbers(JsonSource src, Secs2Item item) throws Secs2JsonParseException {
+
+		src.expect('[');
+
+		final ByteCollector bytes = src.bytes;
+		bytes.reset();
+
+		if ( src.skipSpace() == ']' ) {
+
+			src.read();
+
+		} else {
+
+			for ( ;; ) {
+
+				src.skipSpace();
+
+				final StringBuilder token = src.readToken();
+
+				switch ( item ) {
+				case BOOLEAN: {
+					bytes.put(toBoolean(src, token) ? (byte)0xFF : (byte)0x00);
+					break;
+				}
+				case FLOAT4: {
+					bytes.putInt(Float.floatToRawIntBits(toFloat(src, token)));
+					break;
+				}
+				case FLOAT8: {
+					bytes.putLong(Double.doubleToRawLongBits(toDouble(src, token)));
+					break;
+				}
+				default: {
+					bytes.putLong(toLong(src, token), item.size());
+				}
+				}
+
+				int c = src.skipSpace();
+				src.read();
+
+				if ( c == ']' ) {
+					break;
+				}
+
+				if ( c != ',' ) {
+					throw src.exception("expected ',' or ']'");
+				}
+			}
+		}
+
+		final byte[] bs = bytes.toByteArray();
+
+		final AbstractSecs2 shared = Secs2Flyweights.get(item, bs);
+		if ( shared != null ) {
+			return shared;
+		}
+
+		switch ( item ) {
+		case BINARY: {
+			return new Secs2Binary(bs);
+		}
+		case BOOLEAN: {
+			return new Secs2Boolean(bs);
+		}
+		case INT1: {
+			return new Secs2Int1(bs);
+		}
+		case INT2: {
+			return new Secs2Int2(bs);
+		}
+		case INT4: {
+			return new Secs2Int4(bs);
+		}
+		case INT8: {
+			return new Secs2Int8(bs);
+		}
+		case UINT1: {
+			return new Secs2Uint1(bs);
+		}
+		case UINT2: {
+			return new Secs2Uint2(bs);
+		}
+		case UINT4: {
+			return new Secs2Uint4(bs);
+		}
+		case UINT8: {
+			return new Secs2Uint8(bs);
+		}
+		case FLOAT4: {
+			return new Secs2Float4(bs);
+		}
+		default: {
+			return new Secs2Float8(bs);
+		}
+		}
+	}
+
+	private static boolean toBoolean(JsonSource src, StringBuilder token) throws Secs2JsonParseException {
+
+		final String s = token.toString();
+
+		if ( s.equals("true") ) {
+			return true;
+		}
+
+		if ( s.equals("false") ) {
+			return false;
+		}
+
+		throw src.exception("expected boolean but \"" + s + "\"");
+	}
+
+	/**
+	 * Parse integer without String, falls back to BigInteger if over 18 digits.
+	 *
+	 */
+	private static long toLong(JsonSource src, StringBuilder token) throws Secs2JsonParseException {
+
+		final int m = token.length();
+
+		int i = 0;
+		boolean negative = false;
+
+		if ( m > 0 && token.charAt(0) == '-' ) {
+			negative = true;
+			i = 1;
+		}
+
+		if ( i == m ) {
+			throw src.exception("expected number but \"" + token + "\"");
+		}
+
+		if ( (m - i) > 18 ) {
+			try {
+				return new BigInteger(token.toString()).longValue();
+			}
+			catch ( NumberFormatException e ) {
+				throw src.exception("expected number but \"" + token + "\"");
+			}
+		}
+
+		long v = 0L;
+
+		for ( ; i < m; ++i ) {
+
+			final char c = token.charAt(i);
+
+			if ( c < '0' || c > '9' ) {
+				throw src.exception("expected number but \"" + token + "\"");
+			}
+
+			v = (v * 10L) + (c - '0');
+		}
+
+		return negative ? -v : v;
+	}
+
+	private static float toFloat(JsonSource src, StringBuilder token) throws Secs2JsonParseException {
+		try {
+			return Float.parseFloat(token.toString());
+		}
+		catch ( NumberFormatException e ) {
+			throw src.exception("expected number but \"" + token + "\"");
+		}
+	}
+
+	private static double toDouble(JsonSource src, StringBuilder token) throws Secs2JsonParseException {
+		try {
+			return Double.parseDouble(token.toString());
+		}
+		catch ( NumberFormatException e ) {
+			throw src.exception("expected number but \"" + token + "\"");
+		}
+	}
+
+	private static final class ByteCollector {
+
+		private byte[] buffer = new byte[256];
+		private int count = 0;
+
+		private void reset() {
+			this.count = 0;
+		}
+
+		private void ensure(int n) {
+			if ( (this.count + n) > this.buffer.length ) {
+				this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.count + n));
+			}
+		}
+
+		private void put(byte b) {
+			ensure(1);
+			this.buffer[this.count++] = b;
+		}
+
+		private void putInt(int v) {
+			putLong(v, 4);
+		}
+
+		private void putLong(long v) {
+			putLong(v, 8);
+		}
+
+		/* big-endian, lower size bytes */
+		private void putLong(long v, int size) {
+			ensure(size);
+			for ( int i = size - 1; i >= 0; --i ) {
+				this.buffer[this.count + i] = (byte)v;
+				v >>= 8;
+			}
+			this.count += size;
+		}
+
+		private byte[] toByteArray() {
+			return Arrays.copyOf(this.buffer, this.count);
+		}
+	}
+
+	private static final class JsonSource {
+
+		private final CharSequence cs;
+		private final Reader reader;
+		private final char[] buffer;
+		private int pos;
+		private int limit;
+		private long offset;
+
+		private final StringBuilder sb = new StringBuilder();
+		private final ByteCollector bytes = new ByteCollector();
+
+		private JsonSource(CharSequence cs, Reader reader) {
+			this.cs = cs;
+			this.reader = reader;
+			this.pos = 0;
+			this.offset = 0L;
+
+			if ( cs == null ) {
+				this.buffer = new char[8192];
+				this.limit = 0;
+			} else {
+				this.buffer = null;
+				this.limit = cs.length();
+			}
+		}
+
+		/**
+		 * Returns next char without consume.
+		 *
+		 * @return char, -1 if end
+		 */
+		private int peek() {
+
+			if ( this.pos < this.limit ) {
+				return this.cs == null ? this.buffer[this.pos] : this.cs.charAt(this.pos);
+			}
+
+			if ( this.reader == null ) {
+				return -1;
+			}
+
+			try {
+				for ( ;; ) {
+					int r = this.reader.read(this.buffer, 0, this.buffer.length);
+
+					if ( r < 0 ) {
+						return -1;
+					}
+
+					if ( r > 0 ) {
+						this.offset += this.limit;
+						this.pos = 0;
+						this.limit = r;
+						return this.buffer[0];
+					}
+				}
+			}
+			catch ( IOException e ) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		private int read() {
+			int c = peek();
+			if ( c >= 0 ) {
+				++ this.pos;
+			}
+			return c;
+		}
+
+		private int skipSpace() {
+			for ( ;; ) {
+				int c = peek();
+				if ( c < 0 || c > 0x20 ) {
+					return c;
+				}
+				++ this.pos;
+			}
+		}
+
+		private void expect(char c) throws Secs2JsonParseException {
+			if ( skipSpace() != c ) {
+				throw exception("expected '" + c + "'");
+			}
+			++ this.pos;
+		}
+
+		private void expectKey(String key) throws Secs2JsonParseException {
+
+			final StringBuilder k = readString();
+
+			if ( ! key.contentEquals(k) ) {
+				throw exception("expected key \"" + key + "\" but \"" + k + "\"");
+			}
+
+			expect(':');
+		}
+
+		/**
+		 * Read JSON string, unescaped.
+		 *
+		 * @return shared StringBuilder, valid until next read
+		 */
+		private StringBuilder readString() throws Secs2JsonParseException {
+
+			expect('"');
+
+			this.sb.setLength(0);
+
+			for ( ;; ) {
+
+				int c = read();
+
+				if ( c < 0 ) {
+					throw exception("not found end of string");
+				}
+
+				if ( c == '"' ) {
+					return this.sb;
+				}
+
+				if ( c == '\\' ) {
+
+					int x = read();
+
+					switch ( x ) {
+					case 'b': {
+						this.sb.append('\b');
+						break;
+					}
+					case 't': {
+						this.sb.append('\t');
+						break;
+					}
+					case 'n': {
+						this.sb.append('\n');
+						break;
+					}
+					case 'f': {
+						this.sb.append('\f');
+						break;
+					}
+					case 'r': {
+						this.sb.append('\r');
+						break;
+					}
+					case 'u': {
+						int v = 0;
+						for ( int i = 0; i < 4; ++i ) {
+							int d = Character.digit(read(), 16);
+							if ( d < 0 ) {
+								throw exception("illegal \\u escape");
+							}
+							v = (v << 4) | d;
+						}
+						this.sb.append((char)v);
+						break;
+					}
+					case '"':
+					case '\\':
+					case '/': {
+						this.sb.append((char)x);
+						break;
+					}
+					default: {
+						throw exception("illegal escape");
+					}
+					}
+
+				} else {
+
+					this.sb.append((char)c);
+				}
+			}
+		}
+
+		/**
+		 * Read number or literal token.
+		 *
+		 * @return shared StringBuilder, valid until next read
+		 */
+		private StringBuilder readToken() {
+
+			this.sb.setLength(0);
+
+			for ( ;; ) {
+				int c = peek();
+				if ( c < 0 || c <= 0x20 || c == ',' || c == ']' || c == '}' ) {
+					return this.sb;
+				}
+				this.sb.append((char)c);
+				++ this.pos;
+			}
+		}
+
+		private Secs2JsonParseException exception(String message) {
+			return new Secs2JsonParseException(message + ". index: " + (this.offset + this.pos));
+		}
+	}
+
+}
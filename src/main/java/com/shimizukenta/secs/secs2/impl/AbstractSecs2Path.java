@@ -0,0 +1,228 @@
+package com.shimizukenta.secs.secs2.impl;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2Exception;
+import com.shimizukenta.secs.secs2.Secs2IndexOutOfBoundsException;
+import com.shimizukenta.secs.secs2.Secs2Path;
+
+public abstract class AbstractSecs2Path implements Secs2Path {
+
+	private final int[] indices;
+	private final int parentLength;
+	private final int lastIndex;
+
+	public AbstractSecs2Path(int... indices) {
+		this.indices = Arrays.copyOf(Objects.requireNonNull(indices), indices.length);
+		this.parentLength = this.indices.length - 1;
+		this.lastIndex = this.indices.length > 0 ? this.indices[this.parentLength] : -1;
+	}
+
+	public static AbstractSecs2Path newInstance(int... indices) {
+		return new AbstractSecs2Path(indices) {};
+	}
+
+	@Override
+	public int[] indices() {
+		return Arrays.copyOf(this.indices, this.indices.length);
+	}
+
+	@Override
+	public Secs2Path append(int... indices) {
+		int[] ii = Arrays.copyOf(this.indices, this.indices.length + indices.length);
+		System.arraycopy(indices, 0, ii, this.indices.length, indices.length);
+		return newInstance(ii);
+	}
+
+	private AbstractSecs2 parent(AbstractSecs2 root) throws Secs2Exception {
+		if ( this.parentLength < 0 ) {
+			throw new Secs2IndexOutOfBoundsException("indices is empty");
+		}
+		return root.get(this.indices, 0, this.parentLength);
+	}
+
+	private AbstractSecs2 findParent(AbstractSecs2 root) {
+		if ( this.parentLength < 0 ) {
+			return null;
+		}
+		return root.find(this.indices, 0, this.parentLength);
+	}
+
+	@Override
+	public Secs2 get(Secs2 root) throws Secs2Exception {
+		if ( root instanceof AbstractSecs2 ) {
+			return ((AbstractSecs2)root).get(this.indices, 0, this.indices.length);
+		} else {
+			return root.get(this.indices);
+		}
+	}
+
+	@Override
+	public String getAscii(Secs2 root) throws Secs2Exception {
+		return get(root).getAscii();
+	}
+
+	@Override
+	public byte getByte(Secs2 root) throws Secs2Exception {
+		if ( root instanceof AbstractSecs2 ) {
+			return parent((AbstractSecs2)root).getByte(this.lastIndex);
+		} else {
+			return root.getByte(this.indices);
+		}
+	}
+
+	@Override
+	public byte[] getBytes(Secs2 root) throws Secs2Exception {
+		return get(root).getBytes();
+	}
+
+	@Override
+	public boolean getBoolean(Secs2 root) throws Secs2Exception {
+		if ( root instanceof AbstractSecs2 ) {
+			return parent((AbstractSecs2)root).getBoolean(this.lastIndex);
+		} else {
+			return root.getBoolean(this.indices);
+		}
+	}
+
+	@Override
+	public int getInt(Secs2 root) throws Secs2Exception {
+		return getNumber(root).intValue();
+	}
+
+	@Override
+	public long getLong(Secs2 root) throws Secs2Exception {
+		return getNumber(root).longValue();
+	}
+
+	@Override
+	public BigInteger getBigInteger(Secs2 root) throws Secs2Exception {
+		if ( root instanceof AbstractSecs2 ) {
+			return parent((AbstractSecs2)root).getBigInteger(this.lastIndex);
+		} else {
+			return root.getBigInteger(this.indices);
+		}
+	}
+
+	@Override
+	public float getFloat(Secs2 root) throws Secs2Exception {
+		return getNumber(root).floatValue();
+	}
+
+	@Override
+	public double getDouble(Secs2 root) throws Secs2Exception {
+		return getNumber(root).doubleValue();
+	}
+
+	@Override
+	public Number getNumber(Secs2 root) throws Secs2Exception {
+		if ( root instanceof AbstractSecs2 ) {
+			return parent((AbstractSecs2)root).getNumber(this.lastIndex);
+		} else {
+			return root.getNumber(this.indices);
+		}
+	}
+
+	@Override
+	public Optional<Secs2> optional(Secs2 root) {
+		if ( root instanceof AbstractSecs2 ) {
+			return Optional.ofNullable(((AbstractSecs2)root).find(this.indices, 0, this.indices.length));
+		} else {
+			return root.optional(this.indices);
+		}
+	}
+
+	@Override
+	public Optional<String> optionalAscii(Secs2 root) {
+		return optional(root).flatMap(Secs2::optionalAscii);
+	}
+
+	@Override
+	public Optional<Byte> optionalByte(Secs2 root) {
+		if ( root instanceof AbstractSecs2 ) {
+			final AbstractSecs2 x = findParent((AbstractSecs2)root);
+			return x == null ? Optional.empty() : x.optionalByte(this.lastIndex);
+		} else {
+			return root.optionalByte(this.indices);
+		}
+	}
+
+	@Override
+	public Optional<byte[]> optionalBytes(Secs2 root) {
+		return optional(root).flatMap(Secs2::optionalBytes);
+	}
+
+	@Override
+	public Optional<Boolean> optionalBoolean(Secs2 root) {
+		if ( root instanceof AbstractSecs2 ) {
+			final AbstractSecs2 x = findParent((AbstractSecs2)root);
+			return x == null ? Optional.empty() : x.optionalBoolean(this.lastIndex);
+		} else {
+			return root.optionalBoolean(this.indices);
+		}
+	}
+
+	@Override
+	public OptionalInt optionalInt(Secs2 root) {
+		Optional<Number> opNum = this.optionalNumber(root);
+		return opNum.isPresent() ? OptionalInt.of(opNum.get().intValue()) : OptionalInt.empty();
+	}
+
+	@Override
+	public OptionalLong optionalLong(Secs2 root) {
+		Optional<Number> opNum = this.optionalNumber(root);
+		return opNum.isPresent() ? OptionalLong.of(opNum.get().longValue()) : OptionalLong.empty();
+	}
+
+	@Override
+	public Optional<BigInteger> optionalBigInteger(Secs2 root) {
+		if ( root instanceof AbstractSecs2 ) {
+			final AbstractSecs2 x = findParent((AbstractSecs2)root);
+			return x == null ? Optional.empty() : x.optionalBigInteger(this.lastIndex);
+		} else {
+			return root.optionalBigInteger(this.indices);
+		}
+	}
+
+	@Override
+	public OptionalDouble optionalDouble(Secs2 root) {
+		Optional<Number> opNum = this.optionalNumber(root);
+		return opNum.isPresent() ? OptionalDouble.of(opNum.get().doubleValue()) : OptionalDouble.empty();
+	}
+
+	@Override
+	public Optional<Number> optionalNumber(Secs2 root) {
+		if ( root instanceof AbstractSecs2 ) {
+			final AbstractSecs2 x = findParent((AbstractSecs2)root);
+			return x == null ? Optional.empty() : x.optionalNumber(this.lastIndex);
+		} else {
+			return root.optionalNumber(this.indices);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(this.indices);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(this.indices);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( o != null && (o instanceof AbstractSecs2Path) ) {
+			return Arrays.equals(((AbstractSecs2Path)o).indices, this.indices);
+		}
+		return false;
+	}
+
+}
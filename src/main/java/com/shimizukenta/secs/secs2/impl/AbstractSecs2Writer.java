@@ -0,0 +1,448 @@
+package com.shimizukenta.secs.secs2.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2Item;
+import com.shimizukenta.secs.secs2.Secs2LengthByteOutOfRangeException;
+import com.shimizukenta.secs.secs2.Secs2Writer;
+
+/**
+ * Writes item-header and body bytes to fixed size chunks.
+ *
+ * <p>
+ * Keeps only remaining-counts of open lists.
+ * If channel is set, one buffer is reused and written to channel each time filled.
+ * </p>
+ *
+ */
+public abstract class AbstractSecs2Writer implements Secs2Writer {
+
+	private static final int CHUNK_SIZE = 1024;
+	private static final int CHANNEL_BUFFER_SIZE = 8192;
+	private static final int MAX_LENGTH = 0x00FFFFFF;
+
+	private final List<byte[]> chunks = new ArrayList<>();
+	private final WritableByteChannel channel;
+	private byte[] chunk;
+	private int pos;
+	private long written;
+
+	private int[] remains;
+	private int depth;
+
+	private Secs2Item rootItem;
+	private int rootSize;
+	private boolean closed;
+
+	public AbstractSecs2Writer() {
+		this(null, CHUNK_SIZE);
+	}
+
+	/**
+	 * Constructor of writing to blocking channel.
+	 *
+	 * @param channel the channel
+	 */
+	public AbstractSecs2Writer(WritableByteChannel channel) {
+		this(channel, CHANNEL_BUFFER_SIZE);
+	}
+
+	private AbstractSecs2Writer(WritableByteChannel channel, int bufferSize) {
+		this.channel = channel;
+		this.chunk = new byte[bufferSize];
+		this.pos = 0;
+		this.written = 0L;
+		this.remains = new int[16];
+		this.depth = 0;
+		this.rootItem = null;
+		this.rootSize = -1;
+		this.closed = false;
+	}
+
+	private void nextChunk() {
+
+		if ( this.channel == null ) {
+
+			this.chunks.add(this.chunk);
+			this.chunk = new byte[CHUNK_SIZE];
+
+		} else {
+
+			try {
+				flushChunk();
+			}
+			catch ( IOException e ) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		this.pos = 0;
+	}
+
+	private void flushChunk() throws IOException {
+
+		final ByteBuffer bf = ByteBuffer.wrap(this.chunk, 0, this.pos);
+
+		while ( bf.hasRemaining() ) {
+			this.written += this.channel.write(bf);
+		}
+	}
+
+	private void put(byte b) {
+
+		if ( this.pos == this.chunk.length ) {
+			nextChunk();
+		}
+
+		this.chunk[this.pos] = b;
+		++ this.pos;
+	}
+
+	private void put(byte[] bs) {
+
+		for ( int i = 0, m = bs.length; i < m; ) {
+
+			if ( this.pos == this.chunk.length ) {
+				nextChunk();
+			}
+
+			final int n = Math.min(m - i, this.chunk.length - this.pos);
+			System.arraycopy(bs, i, this.chunk, this.pos, n);
+			this.pos += n;
+			i += n;
+		}
+	}
+
+	private void putShort(int v) {
+		put((byte)(v >> 8));
+		put((byte)v);
+	}
+
+	private void putInt(int v) {
+		put((byte)(v >> 24));
+		put((byte)(v >> 16));
+		put((byte)(v >> 8));
+		put((byte)v);
+	}
+
+	private void putLong(long v) {
+		putInt((int)(v >> 32));
+		putInt((int)v);
+	}
+
+	/**
+	 * Check nesting and count item.
+	 *
+	 * @param item the Secs2Item
+	 * @param size the size of item, used if top-level
+	 */
+	private void enter(Secs2Item item, int size) {
+
+		if ( this.closed ) {
+			throw new IllegalStateException("Writer already closed");
+		}
+
+		if ( this.depth == 0 ) {
+
+			if ( this.rootItem != null ) {
+				throw new IllegalStateException("Top-level item already written");
+			}
+
+			this.rootItem = item;
+			this.rootSize = size;
+
+		} else {
+
+			if ( this.remains[this.depth - 1] == 0 ) {
+				throw new IllegalStateException("Over items count of LIST");
+			}
+
+			-- this.remains[this.depth - 1];
+		}
+	}
+
+	/**
+	 * Check nesting, then write item-header.
+	 *
+	 * @param item the Secs2Item
+	 * @param count the values count, items count if LIST
+	 */
+	private void begin(Secs2Item item, int count) {
+
+		final long length = (item == Secs2Item.LIST) ? (long)count : ((long)count * (long)item.size());
+
+		if ( count < 0 || length > MAX_LENGTH ) {
+			throw new Secs2LengthByteOutOfRangeException(item.symbol() + " length " + length);
+		}
+
+		enter(item, count);
+
+		final int len = (int)length;
+		final byte b = item.code();
+
+		if ( len > 0xFFFF ) {
+
+			put((byte)(b | 0x3));
+			put((byte)(len >> 16));
+			putShort(len);
+
+		} else if ( len > 0xFF ) {
+
+			put((byte)(b | 0x2));
+			putShort(len);
+
+		} else {
+
+			put((byte)(b | 0x1));
+			put((byte)len);
+		}
+	}
+
+	@Override
+	public Secs2Writer beginList(int size) {
+
+		begin(Secs2Item.LIST, size);
+
+		if ( this.depth == this.remains.length ) {
+			this.remains = Arrays.copyOf(this.remains, this.depth * 2);
+		}
+
+		this.remains[this.depth] = size;
+		++ this.depth;
+
+		return this;
+	}
+
+	@Override
+	public Secs2Writer endList() {
+
+		if ( this.depth == 0 ) {
+			throw new IllegalStateException("LIST not began");
+		}
+
+		final int r = this.remains[this.depth - 1];
+
+		if ( r != 0 ) {
+			throw new IllegalStateException("LIST remaining " + r + " items");
+		}
+
+		-- this.depth;
+
+		return this;
+	}
+
+	@Override
+	public Secs2Writer ascii(CharSequence cs) {
+
+		final int m = cs.length();
+
+		for ( int i = 0; i < m; ++i ) {
+			if ( cs.charAt(i) >= 0x80 ) {
+
+				/* same as Secs2Ascii */
+				final byte[] bs = cs.toString().getBytes(StandardCharsets.US_ASCII);
+				begin(Secs2Item.ASCII, bs.length);
+				put(bs);
+				return this;
+			}
+		}
+
+		begin(Secs2Item.ASCII, m);
+
+		for ( int i = 0; i < m; ++i ) {
+			put((byte)(cs.charAt(i)));
+		}
+
+		return this;
+	}
+
+	@Override
+	public Secs2Writer binary(byte... bs) {
+		begin(Secs2Item.BINARY, bs.length);
+		put(bs);
+		return this;
+	}
+
+	@Override
+	public Secs2Writer bool(boolean... bools) {
+		begin(Secs2Item.BOOLEAN, bools.length);
+		for ( boolean v : bools ) {
+			put(v ? (byte)0xFF : (byte)0x00);
+		}
+		return this;
+	}
+
+	@Override
+	public Secs2Writer int1(int... values) {
+		begin(Secs2Item.INT1, values.length);
+		for ( int v : values ) {
+			put((byte)v);
+		}
+		return this;
+	}
+
+	@Override
+	public Secs2Writer int2(int... values) {
+		begin(Secs2Item.INT2, values.length);
+		for ( int v : values ) {
+			putShort(v);
+		}
+		return this;
+	}
+
+	@Override
+	public Secs2Writer int4(int... values) {
+		begin(Secs2Item.INT4, values.length);
+		for ( int v : values ) {
+			putInt(v);
+		}
+		return this;
+	}
+
+	@Override
+	public Secs2Writer int8(long... values) {
+		begin(Secs2Item.INT8, values.length);
+		for ( long v : values ) {
+			putLong(v);
+		}
+		return this;
+	}
+
+	@Override
+	public Secs2Writer uint1(int... values) {
+		begin(Secs2Item.UINT1, values.length);
+		for ( int v : values ) {
+			put((byte)v);
+		}
+		return this;
+	}
+
+	@Override
+	public Secs2Writer uint2(int... values) {
+		begin(Secs2Item.UINT2, values.length);
+		for ( int v : values ) {
+			putShort(v);
+		}
+		return this;
+	}
+
+	@Override
+	public Secs2Writer uint4(int... values) {
+		begin(Secs2Item.UINT4, values.length);
+		for ( int v : values ) {
+			putInt(v);
+		}
+		return this;
+	}
+
+	@Override
+	public Secs2Writer uint4(long... values) {
+		begin(Secs2Item.UINT4, values.length);
+		for ( long v : values ) {
+			putInt((int)v);
+		}
+		return this;
+	}
+
+	@Override
+	public Secs2Writer uint8(long... values) {
+		begin(Secs2Item.UINT8, values.length);
+		for ( long v : values ) {
+			putLong(v);
+		}
+		return this;
+	}
+
+	@Override
+	public Secs2Writer float4(float... values) {
+		begin(Secs2Item.FLOAT4, values.length);
+		for ( float v : values ) {
+			putInt(Float.floatToRawIntBits(v));
+		}
+		return this;
+	}
+
+	@Override
+	public Secs2Writer float8(double... values) {
+		begin(Secs2Item.FLOAT8, values.length);
+		for ( double v : values ) {
+			putLong(Double.doubleToRawLongBits(v));
+		}
+		return this;
+	}
+
+	@Override
+	public Secs2Writer secs2(Secs2 value) {
+
+		final Secs2Item item = Objects.requireNonNull(value).secs2Item();
+
+		if ( item == Secs2Item.UNDEFINED ) {
+			throw new IllegalArgumentException("Not accept empty or raw bytes");
+		}
+
+		enter(item, value.size());
+
+		for ( byte[] bs : value.getBytesList(CHUNK_SIZE) ) {
+			put(bs);
+		}
+
+		return this;
+	}
+
+	private void checkComplete() {
+
+		if ( this.closed ) {
+			throw new IllegalStateException("Writer already closed");
+		}
+
+		if ( this.rootItem == null ) {
+			throw new IllegalStateException("Top-level item not written");
+		}
+
+		if ( this.depth > 0 ) {
+			throw new IllegalStateException("LIST not ended");
+		}
+	}
+
+	@Override
+	public Secs2 toSecs2() {
+
+		if ( this.channel != null ) {
+			throw new IllegalStateException("Channel writer, use finish()");
+		}
+
+		checkComplete();
+
+		this.chunks.add(Arrays.copyOf(this.chunk, this.pos));
+		this.chunk = null;
+		this.closed = true;
+
+		return new Secs2EncodedBytes(this.chunks, CHUNK_SIZE, this.rootItem, this.rootSize);
+	}
+
+	@Override
+	public long finish() throws IOException {
+
+		if ( this.channel == null ) {
+			throw new IllegalStateException("Not channel writer, use toSecs2()");
+		}
+
+		checkComplete();
+
+		flushChunk();
+		this.chunk = null;
+		this.closed = true;
+
+		return this.written;
+	}
+
+}
@@ -1,6 +1,5 @@
 package com.shimizukenta.secs.secs2.impl;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -19,14 +18,14 @@ public class Secs2Ascii extends AbstractSecs2 {
 	private static Secs2Item secs2Item = Secs2Item.ASCII;
 	private static Charset charset = StandardCharsets.US_ASCII;
 
-	private String ascii;
-	private byte[] bytes;
+	private volatile String ascii;
+	private final byte[] bytes;
 	
 	public Secs2Ascii(CharSequence cs) {
 		super();
 		
 		this.ascii = Objects.requireNonNull(cs).toString();
-		this.bytes = this.ascii.getBytes(charset);
+		this.bytes = encode(this.ascii);
 		
 		if ( this.bytes.length > 0x00FFFFFF ) {
 			throw new Secs2LengthByteOutOfRangeException();
@@ -42,6 +41,56 @@ public class Secs2Ascii extends AbstractSecs2 {
 		this.bytes = Arrays.copyOf(bs, bs.length);
 	}
 	
+	/**
+	 * Copy chars directly if all US-ASCII, otherwise encode by Charset.
+	 * 
+	 * @param s the String
+	 * @return encoded bytes
+	 */
+	private static byte[] encode(String s) {
+		
+		final int m = s.length();
+		final byte[] bs = new byte[m];
+		
+		for ( int i = 0; i < m; ++i ) {
+			
+			final char c = s.charAt(i);
+			
+			if ( c >= 0x80 ) {
+				return s.getBytes(charset);
+			}
+			
+			bs[i] = (byte)c;
+		}
+		
+		return bs;
+	}
+	
+	/**
+	 * Copy bytes directly if all US-ASCII, otherwise decode by Charset.
+	 * 
+	 * @param bs the bytes
+	 * @return decoded String
+	 */
+	private static String decode(byte[] bs) {
+		
+		final int m = bs.length;
+		final char[] cc = new char[m];
+		
+		for ( int i = 0; i < m; ++i ) {
+			
+			final byte b = bs[i];
+			
+			if ( b < 0 ) {
+				return new String(bs, charset);
+			}
+			
+			cc[i] = (char)b;
+		}
+		
+		return new String(cc);
+	}
+	
 	@Override
 	public int size() {
 		return ascii().length();
@@ -52,18 +101,23 @@ public class Secs2Ascii extends AbstractSecs2 {
 		putHeadAndBodyBytesToBytesPack(builder, this.bytes);
 	}
 	
-	private final Object sync = new Object();
+	@Override
+	protected byte[] bodyBytes() {
+		return this.bytes;
+	}
 	
 	private String ascii() {
 		
-		synchronized ( this.sync ) {
-			
-			if ( this.ascii == null ) {
-				this.ascii = new String(bytes, charset);
-			}
+		String s = this.ascii;
+		
+		if ( s == null ) {
 			
-			return this.ascii;
+			/* same result if raced */
+			s = decode(this.bytes);
+			this.ascii = s;
 		}
+		
+		return s;
 	}
 	
 	@Override
@@ -83,72 +137,109 @@ public class Secs2Ascii extends AbstractSecs2 {
 	
 	@Override
 	protected String toJsonValue() {
-		return "\"" + escapeJsonString(ascii()) + "\"";
+		final StringBuilder sb = new StringBuilder(this.bytes.length + 8);
+		try {
+			appendJsonValueTo(sb);
+		}
+		catch ( IOException notHappen ) {
+		}
+		return sb.toString();
 	}
 	
+	@Override
+	protected void appendJsonValueTo(Appendable a) throws IOException {
+		a.append('"');
+		appendJsonEscaped(a, this.bytes);
+		a.append('"');
+	}
 	
-	private static final byte BACKSLASH = 0x5C;
-	private static final byte[] BS = new byte[]{BACKSLASH, 0x62};	/* \\b */
-	private static final byte[] HT = new byte[]{BACKSLASH, 0x74};	/* \\t */
-	private static final byte[] LF = new byte[]{BACKSLASH, 0x6E};	/* \\n */
-	private static final byte[] FF = new byte[]{BACKSLASH, 0x66};	/* \\f */
-	private static final byte[] CR = new byte[]{BACKSLASH, 0x72};	/* \\r */
+	/**
+	 * Append escaped, unescaped runs are appended at once.
+	 * 
+	 * <p>
+	 * Same as escaping US-ASCII encoded bytes, not US-ASCII char is appended as '?'.
+	 * </p>
+	 * 
+	 * @param a the Appendable
+	 * @param bs the encoded bytes
+	 * @throws IOException if append failed
+	 */
+	private void appendJsonEscaped(Appendable a, byte[] bs) throws IOException {
+		
+		final String s = ascii();
+		
+		if ( s.length() == bs.length ) {
+			appendJsonEscaped(a, s);
+		} else {
+			/* surrogate pairs were encoded to one byte */
+			appendJsonEscaped(a, new String(bs, StandardCharsets.ISO_8859_1));
+		}
+	}
 	
-	private static final String escapeJsonString(CharSequence cs) {
+	private static void appendJsonEscaped(Appendable a, String s) throws IOException {
 		
-		try (
-				ByteArrayOutputStream strm = new ByteArrayOutputStream();
-				) {
+		final int m = s.length();
+		int begin = 0;
+		
+		for ( int i = 0; i < m; ++i ) {
 			
-			byte[] bb = cs.toString().getBytes(StandardCharsets.US_ASCII);
+			final char c = s.charAt(i);
+			final String esc;
 			
-			for (byte b : bb) {
-				
-				if (b == 0x08 /* BS */) {
-					
-					strm.write(BS);
-					
-				} else if (b == 0x09 /* HT */) {
-					
-					strm.write(HT);
-					
-				} else if (b == 0x0A /* LF */) {
-					
-					strm.write(LF);
-					
-				} else if (b == 0x0C /* FF */) {
-					
-					strm.write(FF);
-					
-				} else if (b == 0x0D /* CR */) {
-					
-					strm.write(CR);
-					
-				} else if (
-						b == 0x22 /* " */
-						|| b == 0x2F /* / */
-						|| b == BACKSLASH /* \\ */
-						) {
-					
-					strm.write(BACKSLASH);
-					strm.write(b);
-					
-				} else {
-					
-					strm.write(b);
-				}
+			switch ( c ) {
+			case 0x08: {
+				esc = "\\b";
+				break;
+			}
+			case 0x09: {
+				esc = "\\t";
+				break;
+			}
+			case 0x0A: {
+				esc = "\\n";
+				break;
+			}
+			case 0x0C: {
+				esc = "\\f";
+				break;
+			}
+			case 0x0D: {
+				esc = "\\r";
+				break;
+			}
+			case '"': {
+				esc = "\\\"";
+				break;
+			}
+			case '/': {
+				esc = "\\/";
+				break;
+			}
+			case '\\': {
+				esc = "\\\\";
+				break;
+			}
+			default: {
+				esc = (c >= 0x80) ? "?" : null;
+			}
 			}
 			
-			return new String(strm.toByteArray(), charset);
-		}
-		catch (IOException notHappen) {
+			if ( esc != null ) {
+				a.append(s, begin, i).append(esc);
+				begin = i + 1;
+			}
 		}
 		
-		return "";
+		a.append(s, begin, m);
 	}
 	
 	@Override
 	protected String toStringValue() {
 		return "\"" + ascii() + "\"";
 	}
+	
+	@Override
+	protected void appendStringValueTo(Appendable a) throws IOException {
+		a.append('"').append(ascii()).append('"');
+	}
 }
@@ -56,7 +56,7 @@ abstract public class Secs2BigInteger extends Secs2Number<BigInteger> {
 			throw new Secs2LengthByteOutOfRangeException();
 		}
 		
-		this.values = Arrays.asList(values);
+		this.values = Arrays.asList(Arrays.copyOf(values, values.length));
 	}
 	
 	public Secs2BigInteger(List<? extends Number> values) {
@@ -1,12 +1,13 @@
 package com.shimizukenta.secs.secs2.impl;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import com.shimizukenta.secs.secs2.Secs2Exception;
 import com.shimizukenta.secs.secs2.Secs2Item;
@@ -43,7 +44,7 @@ public class Secs2Binary extends Secs2Number<Byte> {
 			throw new Secs2LengthByteOutOfRangeException();
 		}
 		
-		this.values = Collections.unmodifiableList(values);
+		this.values = Collections.unmodifiableList(new ArrayList<>(values));
 	}
 	
 	@Override
@@ -86,16 +87,20 @@ public class Secs2Binary extends Secs2Number<Byte> {
 		return secs2Item;
 	}
 	
+	private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+	
 	@Override
-	protected String toStringValue() {
-		try {
-			return this.values().stream()
-					.map(b -> String.format("%02X", b))
-					.map(s -> ("0x" + s))
-					.collect(Collectors.joining(" "));
-		}
-		catch ( Secs2Exception e ) {
-			return "PARSE_FAILED";
+	protected void appendStringValueTo(Appendable a) throws IOException {
+		
+		final byte[] bs = this.bytes();
+		
+		for (int i = 0; i < bs.length; ++i) {
+			if ( i > 0 ) {
+				a.append(' ');
+			}
+			a.append('0').append('x')
+			.append(HEX[(bs[i] >> 4) & 0x0F])
+			.append(HEX[bs[i] & 0x0F]);
 		}
 	}
 	
@@ -1,11 +1,11 @@
 package com.shimizukenta.secs.secs2.impl;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import com.shimizukenta.secs.secs2.Secs2Exception;
 import com.shimizukenta.secs.secs2.Secs2IndexOutOfBoundsException;
@@ -82,6 +82,11 @@ public class Secs2Boolean extends AbstractSecs2 {
 		this.putHeadAndBodyBytesToBytesPack(builder, bytes());
 	}
 	
+	@Override
+	protected byte[] bodyBytes() {
+		return bytes();
+	}
+	
 	private final Object sync = new Object();
 	
 	private List<Boolean> bools() {
@@ -146,18 +151,42 @@ public class Secs2Boolean extends AbstractSecs2 {
 	
 	@Override
 	protected String toJsonValue() {
+		return appendingToString(this::appendJsonValueTo);
+	}
+	
+	@Override
+	protected void appendJsonValueTo(Appendable a) throws IOException {
+		
+		final List<Boolean> vv = bools();
 		
-		return bools().stream()
-				.map(f -> (f ? "true" : "false"))
-				.collect(Collectors.joining(",", "[", "]"));
+		a.append('[');
+		
+		for (int i = 0, m = vv.size(); i < m; ++i) {
+			if ( i > 0 ) {
+				a.append(',');
+			}
+			a.append(vv.get(i).booleanValue() ? "true" : "false");
+		}
+		
+		a.append(']');
 	}
 	
 	@Override
 	protected String toStringValue() {
+		return appendingToString(this::appendStringValueTo);
+	}
+	
+	@Override
+	protected void appendStringValueTo(Appendable a) throws IOException {
+		
+		final List<Boolean> vv = bools();
 		
-		return bools().stream()
-				.map(b -> (b ? STRING_TRUE : STRING_FALSE))
-				.collect(Collectors.joining(" "));
+		for (int i = 0, m = vv.size(); i < m; ++i) {
+			if ( i > 0 ) {
+				a.append(' ');
+			}
+			a.append(vv.get(i).booleanValue() ? STRING_TRUE : STRING_FALSE);
+		}
 	}
 
 }
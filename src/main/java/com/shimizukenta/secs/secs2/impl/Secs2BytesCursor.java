@@ -0,0 +1,172 @@
+package com.shimizukenta.secs.secs2.impl;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+
+import com.shimizukenta.secs.secs2.Secs2;
+
+/**
+ * Cursor of SECS-II encoded bytes, tree is walked on reading.
+ *
+ * <p>
+ * Item-header is built and body bytes of each item are copied only when read,
+ * encoded bytes are not joined.<br />
+ * Not synchronized, must be guarded by caller.
+ * </p>
+ *
+ */
+public final class Secs2BytesCursor {
+
+	private final Secs2 secs2;
+	private final Deque<Iterator<? extends Secs2>> items = new ArrayDeque<>();
+	private final Deque<byte[]> segments = new ArrayDeque<>();
+	private byte[] segment;
+	private int segmentPos;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param secs2 the SECS-II data
+	 */
+	public Secs2BytesCursor(Secs2 secs2) {
+		this.secs2 = secs2;
+		this.rewind();
+	}
+
+	/**
+	 * Move to start of encoded bytes.
+	 *
+	 */
+	public void rewind() {
+		this.items.clear();
+		this.segments.clear();
+		this.items.push(Collections.singletonList(this.secs2).iterator());
+		this.segment = null;
+		this.segmentPos = 0;
+	}
+
+	/**
+	 * Copy next encoded bytes to bs, at most len.
+	 *
+	 * @param bs the buffer
+	 * @param off start position of bs
+	 * @param len max length to read
+	 * @return size of read, less than len if reached end
+	 */
+	public int read(byte[] bs, int off, int len) {
+
+		int r = 0;
+
+		while ( r < len ) {
+
+			if ( this.segment == null || this.segmentPos == this.segment.length ) {
+
+				this.segment = this.nextSegment();
+				this.segmentPos = 0;
+
+				if ( this.segment == null ) {
+					break;
+				}
+			}
+
+			final int n = Math.min((len - r), (this.segment.length - this.segmentPos));
+
+			if ( bs != null ) {
+				System.arraycopy(this.segment, this.segmentPos, bs, (off + r), n);
+			}
+
+			this.segmentPos += n;
+			r += n;
+		}
+
+		return r;
+	}
+
+	/**
+	 * Skip next encoded bytes, at most len.
+	 *
+	 * @param len max length to skip
+	 * @return size of skipped
+	 */
+	public int skip(int len) {
+		return this.read(null, 0, len);
+	}
+
+	/**
+	 * Returns length of encoded bytes, walks tree without copy.
+	 *
+	 * @param secs2 the SECS-II data
+	 * @return length of encoded bytes
+	 */
+	public static int encodedLength(Secs2 secs2) {
+
+		final Secs2BytesCursor c = new Secs2BytesCursor(secs2);
+
+		int n = 0;
+
+		for ( ;; ) {
+
+			final byte[] bs = c.nextSegment();
+
+			if ( bs == null ) {
+				return n;
+			}
+
+			n += bs.length;
+		}
+	}
+
+	private byte[] nextSegment() {
+
+		for ( ;; ) {
+
+			if ( ! this.segments.isEmpty() ) {
+				return this.segments.poll();
+			}
+
+			final Iterator<? extends Secs2> iter = this.items.peek();
+
+			if ( iter == null ) {
+				return null;
+			}
+
+			if ( iter.hasNext() ) {
+				this.expand(iter.next());
+			} else {
+				this.items.pop();
+			}
+		}
+	}
+
+	private void expand(Secs2 s) {
+
+		if ( s instanceof Secs2EncodedBytes ) {
+
+			this.segments.addAll(((Secs2EncodedBytes)s).chunks());
+
+		} else if ( s instanceof Secs2RawBytes ) {
+
+			this.segments.add(((Secs2RawBytes)s).bodyBytes());
+
+		} else if ( s instanceof Secs2List ) {
+
+			this.segments.add(((Secs2List)s).headerBytes(s.size()));
+			this.items.push(s.iterator());
+
+		} else if ( s instanceof AbstractSecs2 ) {
+
+			final AbstractSecs2 a = (AbstractSecs2)s;
+			final byte[] body = a.bodyBytes();
+
+			this.segments.add(a.headerBytes(body.length));
+			this.segments.add(body);
+
+		} else {
+
+			this.segments.addAll(s.getBytesList(1024));
+		}
+	}
+
+}
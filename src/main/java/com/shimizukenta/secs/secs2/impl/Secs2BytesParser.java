@@ -1,5 +1,8 @@
 package com.shimizukenta.secs.secs2.impl;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import com.shimizukenta.secs.secs2.Secs2;
@@ -9,8 +12,61 @@ public interface Secs2BytesParser {
 	
 	public Secs2 parse(List<byte[]> bss) throws Secs2BytesParseException;
 	
+	/**
+	 * Parse range of bytes, bytes is not copied before parsing.
+	 * 
+	 * @param bs the bytes
+	 * @param from the start position, inclusive
+	 * @param to the end position, exclusive
+	 * @return parsed Secs2, empty if from equals to
+	 * @throws Secs2BytesParseException if parse failed
+	 * @throws IndexOutOfBoundsException if range is out of bs
+	 */
+	public Secs2 parse(byte[] bs, int from, int to) throws Secs2BytesParseException;
+	
+	public void parse(List<byte[]> bss, Secs2BytesVisitor visitor) throws Secs2BytesParseException;
+	
+	public void parse(ByteBuffer buffer, Secs2BytesVisitor visitor) throws Secs2BytesParseException;
+	
+	/**
+	 * Read one SECS-II item from stream.
+	 * 
+	 * <p>
+	 * Not read over end of item. If stream is already end, {@link Secs2BytesVisitor#onEmpty()} is called.
+	 * </p>
+	 * 
+	 * @param strm the InputStream
+	 * @param visitor the visitor
+	 * @throws Secs2BytesParseException if parse failed
+	 * @throws IOException if read failed
+	 */
+	public void parse(InputStream strm, Secs2BytesVisitor visitor) throws Secs2BytesParseException, IOException;
+	
+	/**
+	 * Returns pull reader of bytes, bytes are read in place.
+	 * 
+	 * @param bss the bytes
+	 * @return reader
+	 */
+	public Secs2BytesReader reader(List<byte[]> bss);
+	
 	public static Secs2BytesParser getInstance() {
 		return Secs2BytesParsers.getInstance();
 	}
 	
+	/**
+	 * Returns parser which decodes children of large top-level LIST in parallel on common pool.
+	 * 
+	 * <p>
+	 * Boundaries of children are scanned first, then children are decoded by fork-join.
+	 * Result is equal to {@link #getInstance()}. Visitor parsing is sequential.
+	 * </p>
+	 * 
+	 * @param parallelThreshold the top-level LIST items count to decode in parallel, must be &gt;= 1
+	 * @return parser
+	 */
+	public static Secs2BytesParser newParallelInstance(int parallelThreshold) {
+		return Secs2BytesParsers.newParallelInstance(parallelThreshold);
+	}
+	
 }
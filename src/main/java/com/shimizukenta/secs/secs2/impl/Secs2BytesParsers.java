@@ -1,6 +1,7 @@
 package com.shimizukenta.secs.secs2.impl;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import com.shimizukenta.secs.secs2.Secs2;
 import com.shimizukenta.secs.secs2.Secs2BytesParseException;
@@ -19,8 +20,39 @@ public final class Secs2BytesParsers {
 		return SingletonHolder.inst;
 	}
 	
+	public static Secs2BytesParser newParallelInstance(int parallelThreshold) {
+		return newParallelInstance(ForkJoinPool.commonPool(), parallelThreshold);
+	}
+	
+	public static Secs2BytesParser newParallelInstance(ForkJoinPool pool, int parallelThreshold) {
+		return new AbstractSecs2BytesParser(pool, parallelThreshold) {};
+	}
+	
+	/**
+	 * Returns parallel parser if {@code parallelThreshold > 0}, otherwise sequential instance.
+	 * 
+	 * @param pool the ForkJoinPool
+	 * @param parallelThreshold the top-level LIST items count, {@code 0} is sequential
+	 * @return parser
+	 */
+	public static Secs2BytesParser of(ForkJoinPool pool, int parallelThreshold) {
+		if ( parallelThreshold > 0 ) {
+			return newParallelInstance(pool, parallelThreshold);
+		} else {
+			return getInstance();
+		}
+	}
+	
 	public static Secs2 parse(List<byte[]> bss) throws Secs2BytesParseException {
 		return getInstance().parse(bss);
 	}
 	
+	public static Secs2 parse(byte[] bs, int from, int to) throws Secs2BytesParseException {
+		return getInstance().parse(bs, from, to);
+	}
+	
+	public static void parse(List<byte[]> bss, Secs2BytesVisitor visitor) throws Secs2BytesParseException {
+		getInstance().parse(bss, visitor);
+	}
+	
 }
@@ -0,0 +1,76 @@
+package com.shimizukenta.secs.secs2.impl;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2BytesParseException;
+import com.shimizukenta.secs.secs2.Secs2Item;
+
+/**
+ * Pull reader of SECS-II encoded bytes, created by {@link Secs2BytesParser#reader(java.util.List)}.
+ *
+ * <p>
+ * {@link #next()} reads item-header, then read current item by {@link #visit(Secs2BytesVisitor)},
+ * {@link #readSecs2()} or {@link #skip()}.
+ * After {@link #next()} of LIST, {@link #next()} reads header of first child.
+ * </p>
+ * <p>
+ * Chunks are read in place, not joined.
+ * </p>
+ *
+ * @author kenta-shimizu
+ *
+ */
+public interface Secs2BytesReader {
+
+	/**
+	 * Returns {@code true} if bytes remain.
+	 *
+	 * @return {@code true} if bytes remain
+	 */
+	public boolean hasRemaining();
+
+	/**
+	 * Read item-header.
+	 *
+	 * @return Secs2Item
+	 * @throws Secs2BytesParseException if reach end bytes
+	 */
+	public Secs2Item next() throws Secs2BytesParseException;
+
+	/**
+	 * Returns Secs2Item of current item.
+	 *
+	 * @return Secs2Item
+	 */
+	public Secs2Item item();
+
+	/**
+	 * Returns items count if LIST, otherwise body bytes length.
+	 *
+	 * @return length
+	 */
+	public int length();
+
+	/**
+	 * Read current item to visitor, includes nested items if LIST.
+	 *
+	 * @param visitor the visitor
+	 * @throws Secs2BytesParseException if parse failed
+	 */
+	public void visit(Secs2BytesVisitor visitor) throws Secs2BytesParseException;
+
+	/**
+	 * Skip current item, includes nested items if LIST.
+	 *
+	 * @throws Secs2BytesParseException if reach end bytes
+	 */
+	public void skip() throws Secs2BytesParseException;
+
+	/**
+	 * Returns Secs2 of current item, includes nested items if LIST.
+	 *
+	 * @return Secs2
+	 * @throws Secs2BytesParseException if parse failed
+	 */
+	public Secs2 readSecs2() throws Secs2BytesParseException;
+
+}
@@ -0,0 +1,148 @@
+package com.shimizukenta.secs.secs2.impl;
+
+import com.shimizukenta.secs.secs2.Secs2Item;
+
+/**
+ * SECS-II bytes event visitor.
+ *
+ * <p>
+ * Receives items in wire order from {@link Secs2BytesParser#parse(java.util.List, Secs2BytesVisitor)},
+ * without building Secs2 instances. All methods are no-op by default.
+ * </p>
+ * <p>
+ * Unsigned items are widened to hold the value. U8 is passed as raw 64-bit value,
+ * use {@code Long.toUnsignedString} or {@code Long.compareUnsigned} to read.
+ * </p>
+ * <p>
+ * If {@link #isChunked()} returns {@code true}, values are delivered as raw bytes in bounded chunks
+ * by {@link #onValueStart(Secs2Item, int)} and {@link #onValueChunk(byte[], int, int, boolean)},
+ * instead of typed-array methods. Large values are not held whole by parser.
+ * </p>
+ *
+ * @author kenta-shimizu
+ *
+ */
+public interface Secs2BytesVisitor {
+
+	/**
+	 * Called if body is 0 bytes.
+	 *
+	 */
+	default public void onEmpty() {
+		/* Nothing */
+	}
+
+	/**
+	 * Called at {@code <L[size]}, followed by size items and {@link #onListEnd()}.
+	 *
+	 * @param size the item count
+	 */
+	default public void onListStart(int size) {
+		/* Nothing */
+	}
+
+	/**
+	 * Called at end of list.
+	 *
+	 */
+	default public void onListEnd() {
+		/* Nothing */
+	}
+
+	/**
+	 * Returns {@code true} if values are delivered in chunks, default is {@code false}.
+	 *
+	 * @return {@code true} if values are delivered in chunks
+	 */
+	default public boolean isChunked() {
+		return false;
+	}
+
+	/**
+	 * Called at start of non-list item if chunked, followed by {@link #onValueChunk(byte[], int, int, boolean)}.
+	 *
+	 * @param item the SECS-II item
+	 * @param size the value bytes length
+	 */
+	default public void onValueStart(Secs2Item item, int size) {
+		/* Nothing */
+	}
+
+	/**
+	 * Called with raw big-endian value bytes if chunked.
+	 *
+	 * <p>
+	 * Length is multiple of item size, 0 only if value is empty.
+	 * Array is reused by parser, valid only in this call.
+	 * </p>
+	 *
+	 * @param bs the buffer
+	 * @param offset the offset of chunk
+	 * @param length the length of chunk
+	 * @param last {@code true} if last chunk of value
+	 */
+	default public void onValueChunk(byte[] bs, int offset, int length, boolean last) {
+		/* Nothing */
+	}
+
+	default public void onAscii(String ascii) {
+		/* Nothing */
+	}
+
+	default public void onBinary(byte[] values) {
+		/* Nothing */
+	}
+
+	default public void onBoolean(boolean[] values) {
+		/* Nothing */
+	}
+
+	default public void onInt1(byte[] values) {
+		/* Nothing */
+	}
+
+	default public void onInt2(short[] values) {
+		/* Nothing */
+	}
+
+	default public void onInt4(int[] values) {
+		/* Nothing */
+	}
+
+	default public void onInt8(long[] values) {
+		/* Nothing */
+	}
+
+	default public void onUint1(int[] values) {
+		/* Nothing */
+	}
+
+	default public void onUint2(int[] values) {
+		/* Nothing */
+	}
+
+	default public void onUint4(long[] values) {
+		/* Nothing */
+	}
+
+	default public void onUint8(long[] values) {
+		/* Nothing */
+	}
+
+	default public void onFloat4(float[] values) {
+		/* Nothing */
+	}
+
+	default public void onFloat8(double[] values) {
+		/* Nothing */
+	}
+
+	default public void onJis8(byte[] values) {
+		/* Nothing */
+	}
+
+	default public void onUnicode(byte[] values) {
+		/* Nothing */
+	}
+
+}
@@ -0,0 +1,238 @@
+package com.shimizukenta.secs.secs2.impl;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2BytesParseException;
+import com.shimizukenta.secs.secs2.Secs2Exception;
+import com.shimizukenta.secs.secs2.Secs2Item;
+
+/**
+ * SECS-II Data of encoded bytes, written by {@link AbstractSecs2Writer}.
+ *
+ * <p>
+ * Keeps encoded chunks.
+ * Tree is parsed at first read values or render, and kept by soft reference,
+ * so that it may be released under memory pressure and parsed again.
+ * </p>
+ *
+ */
+public class Secs2EncodedBytes extends AbstractSecs2 {
+
+	private static final long serialVersionUID = -2750419625315880634L;
+
+	private final List<byte[]> chunks;
+	private final int chunkSize;
+	private final Secs2Item item;
+	private final int size;
+
+	private transient volatile SoftReference<AbstractSecs2> parsedRef;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param chunks the encoded bytes, each length is chunkSize except last
+	 * @param chunkSize the chunk size
+	 * @param item the Secs2Item of top-level
+	 * @param size the size of top-level
+	 */
+	protected Secs2EncodedBytes(List<byte[]> chunks, int chunkSize, Secs2Item item, int size) {
+		this.chunks = Collections.unmodifiableList(chunks);
+		this.chunkSize = chunkSize;
+		this.item = item;
+		this.size = size;
+		this.parsedRef = null;
+	}
+
+	/**
+	 * Returns Secs2 of encoded chunks, only top-level item-header is read.
+	 * 
+	 * <p>
+	 * Chunks are not copied, and not parsed until values are read.
+	 * Empty if chunks has no bytes.
+	 * </p>
+	 * 
+	 * @param chunks the encoded bytes of one item
+	 * @return Secs2 of encoded bytes
+	 * @throws Secs2BytesParseException if item-header is illegal
+	 */
+	public static Secs2 of(List<byte[]> chunks) throws Secs2BytesParseException {
+		
+		final byte[] head = new byte[4];
+		int n = 0;
+		
+		for ( byte[] bs : chunks ) {
+			for ( int i = 0, m = bs.length; i < m && n < 4; ++i, ++n ) {
+				head[n] = bs[i];
+			}
+		}
+		
+		if ( n == 0 ) {
+			return new Secs2RawBytes();
+		}
+		
+		final Secs2Item item = Secs2Item.get(head[0]);
+		final int lengthBits = head[0] & 0x03;
+		
+		if ( item == Secs2Item.UNDEFINED || lengthBits == 0 || lengthBits >= n ) {
+			throw new Secs2BytesParseException("Illegal item-header");
+		}
+		
+		int len = 0;
+		for ( int i = 1; i <= lengthBits; ++i ) {
+			len = (len << 8) | ((int)(head[i]) & 0x000000FF);
+		}
+		
+		final int size = (item == Secs2Item.LIST) ? len : (len / item.size());
+		
+		/* chunks are returned as is if same size except last */
+		final int last = chunks.size() - 1;
+		int chunkSize = chunks.get(0).length;
+		
+		for ( int i = 1; i < last; ++i ) {
+			if ( chunks.get(i).length != chunkSize ) {
+				chunkSize = -1;
+				break;
+			}
+		}
+		
+		if ( chunks.get(last).length > chunkSize ) {
+			chunkSize = -1;
+		}
+		
+		return new Secs2EncodedBytes(chunks, chunkSize, item, size);
+	}
+	
+	AbstractSecs2 parsed() {
+
+		final SoftReference<AbstractSecs2> ref = this.parsedRef;
+
+		if ( ref != null ) {
+			final AbstractSecs2 s = ref.get();
+			if ( s != null ) {
+				return s;
+			}
+		}
+
+		try {
+			final AbstractSecs2 s = (AbstractSecs2)(Secs2BytesParsers.parse(this.chunks));
+			this.parsedRef = new SoftReference<>(s);
+			return s;
+		}
+		catch ( Secs2BytesParseException e ) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public Secs2Item secs2Item() {
+		return this.item;
+	}
+
+	@Override
+	public Stream<Secs2> stream() {
+		return parsed().stream();
+	}
+
+	@Override
+	public Iterator<Secs2> iterator() {
+		return parsed().iterator();
+	}
+
+	@Override
+	protected AbstractSecs2 get(int[] indices, int from, int to) throws Secs2Exception {
+		return parsed().get(indices, from, to);
+	}
+
+	@Override
+	protected AbstractSecs2 find(int[] indices, int from, int to) {
+		return parsed().find(indices, from, to);
+	}
+
+	/**
+	 * Returns encoded chunks, not copied.
+	 * 
+	 * @return encoded chunks
+	 */
+	List<byte[]> chunks() {
+		return this.chunks;
+	}
+
+	@Override
+	public List<byte[]> getBytesList(int maxBytesSize) {
+
+		if ( maxBytesSize == this.chunkSize ) {
+			return this.chunks;
+		}
+
+		return super.getBytesList(maxBytesSize);
+	}
+
+	@Override
+	protected void putBytesPack(Secs2BytesListBuilder builder) {
+		for ( byte[] bs : this.chunks ) {
+			builder.put(bs);
+		}
+	}
+
+	@Override
+	protected byte[] bodyBytes() {
+		return parsed().bodyBytes();
+	}
+
+	@Override
+	protected int structuralHashCode() {
+		return parsed().structuralHashCode();
+	}
+
+	@Override
+	protected long structuralContentHash() {
+		return parsed().structuralContentHash();
+	}
+
+	@Override
+	protected boolean structuralEquals(AbstractSecs2 other) {
+		return parsed().structuralEquals(other);
+	}
+
+	@Override
+	public String toString() {
+		return parsed().toString();
+	}
+
+	@Override
+	public void appendTo(Appendable a) throws IOException {
+		parsed().appendTo(a);
+	}
+
+	@Override
+	protected String toStringValue() {
+		return parsed().toStringValue();
+	}
+
+	@Override
+	public String toJson() {
+		return parsed().toJson();
+	}
+
+	@Override
+	public void appendJsonTo(Appendable a) throws IOException {
+		parsed().appendJsonTo(a);
+	}
+
+	@Override
+	protected String toJsonValue() {
+		return parsed().toJsonValue();
+	}
+
+}
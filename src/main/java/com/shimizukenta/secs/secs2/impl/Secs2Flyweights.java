@@ -0,0 +1,252 @@
+package com.shimizukenta.secs.secs2.impl;
+
+import com.shimizukenta.secs.secs2.Secs2Item;
+
+/**
+ * Shared instances of frequently used small Secs2.
+ *
+ * <p>
+ * Secs2 is immutable, shared instances are used by builder and parser.
+ * </p>
+ *
+ * @author kenta-shimizu
+ *
+ */
+public final class Secs2Flyweights {
+
+	private Secs2Flyweights() {
+		/* Nothing */
+	}
+
+	private static final byte BYTE_TRUE = (byte)0xFF;
+	private static final byte BYTE_FALSE = (byte)0x00;
+
+	private static final class EmptyHolder {
+
+		private static final Secs2List list = new Secs2List();
+		private static final Secs2Ascii ascii = new Secs2Ascii("");
+		private static final Secs2Binary binary = new Secs2Binary();
+		private static final Secs2Boolean bool = new Secs2Boolean();
+		private static final Secs2Int1 int1 = new Secs2Int1();
+		private static final Secs2Int2 int2 = new Secs2Int2();
+		private static final Secs2Int4 int4 = new Secs2Int4();
+		private static final Secs2Int8 int8 = new Secs2Int8();
+		private static final Secs2Uint1 uint1 = new Secs2Uint1();
+		private static final Secs2Uint2 uint2 = new Secs2Uint2();
+		private static final Secs2Uint4 uint4 = new Secs2Uint4();
+		private static final Secs2Uint8 uint8 = new Secs2Uint8();
+		private static final Secs2Float4 float4 = new Secs2Float4();
+		private static final Secs2Float8 float8 = new Secs2Float8();
+	}
+
+	private static final class BooleanHolder {
+		private static final Secs2Boolean TRUE = new Secs2Boolean(true);
+		private static final Secs2Boolean FALSE = new Secs2Boolean(false);
+	}
+
+	private static final class BinaryHolder {
+
+		private static final Secs2Binary[] values = new Secs2Binary[256];
+
+		static {
+			for (int i = 0; i < values.length; ++i) {
+				values[i] = new Secs2Binary((byte)i);
+			}
+		}
+	}
+
+	private static final class Int1Holder {
+
+		private static final Secs2Int1[] values = new Secs2Int1[256];
+
+		static {
+			for (int i = 0; i < values.length; ++i) {
+				values[i] = new Secs2Int1(new byte[] {(byte)i});
+			}
+		}
+	}
+
+	private static final class Uint1Holder {
+
+		private static final Secs2Uint1[] values = new Secs2Uint1[256];
+
+		static {
+			for (int i = 0; i < values.length; ++i) {
+				values[i] = new Secs2Uint1(new byte[] {(byte)i});
+			}
+		}
+	}
+
+	public static Secs2List emptyList() {
+		return EmptyHolder.list;
+	}
+
+	public static Secs2Ascii emptyAscii() {
+		return EmptyHolder.ascii;
+	}
+
+	public static Secs2Binary emptyBinary() {
+		return EmptyHolder.binary;
+	}
+
+	public static Secs2Boolean emptyBoolean() {
+		return EmptyHolder.bool;
+	}
+
+	public static Secs2Int1 emptyInt1() {
+		return EmptyHolder.int1;
+	}
+
+	public static Secs2Int2 emptyInt2() {
+		return EmptyHolder.int2;
+	}
+
+	public static Secs2Int4 emptyInt4() {
+		return EmptyHolder.int4;
+	}
+
+	public static Secs2Int8 emptyInt8() {
+		return EmptyHolder.int8;
+	}
+
+	public static Secs2Uint1 emptyUint1() {
+		return EmptyHolder.uint1;
+	}
+
+	public static Secs2Uint2 emptyUint2() {
+		return EmptyHolder.uint2;
+	}
+
+	public static Secs2Uint4 emptyUint4() {
+		return EmptyHolder.uint4;
+	}
+
+	public static Secs2Uint8 emptyUint8() {
+		return EmptyHolder.uint8;
+	}
+
+	public static Secs2Float4 emptyFloat4() {
+		return EmptyHolder.float4;
+	}
+
+	public static Secs2Float8 emptyFloat8() {
+		return EmptyHolder.float8;
+	}
+
+	public static Secs2Boolean bool(boolean v) {
+		return v ? BooleanHolder.TRUE : BooleanHolder.FALSE;
+	}
+
+	public static Secs2Binary binary(byte v) {
+		return BinaryHolder.values[(int)v & 0xFF];
+	}
+
+	public static Secs2Int1 int1(byte v) {
+		return Int1Holder.values[(int)v & 0xFF];
+	}
+
+	public static Secs2Uint1 uint1(int v) {
+		return Uint1Holder.values[v & 0xFF];
+	}
+
+	/**
+	 * Returns shared instance of empty item.
+	 *
+	 * @param s2i the Secs2Item
+	 * @return shared instance, null if not supported
+	 */
+	public static AbstractSecs2 empty(Secs2Item s2i) {
+
+		switch ( s2i ) {
+		case LIST: {
+			return emptyList();
+		}
+		case ASCII: {
+			return emptyAscii();
+		}
+		case BINARY: {
+			return emptyBinary();
+		}
+		case BOOLEAN: {
+			return emptyBoolean();
+		}
+		case INT1: {
+			return emptyInt1();
+		}
+		case INT2: {
+			return emptyInt2();
+		}
+		case INT4: {
+			return emptyInt4();
+		}
+		case INT8: {
+			return emptyInt8();
+		}
+		case UINT1: {
+			return emptyUint1();
+		}
+		case UINT2: {
+			return emptyUint2();
+		}
+		case UINT4: {
+			return emptyUint4();
+		}
+		case UINT8: {
+			return emptyUint8();
+		}
+		case FLOAT4: {
+			return emptyFloat4();
+		}
+		case FLOAT8: {
+			return emptyFloat8();
+		}
+		default: {
+			return null;
+		}
+		}
+	}
+
+	/**
+	 * Returns shared instance if body is 0 or 1 byte, and bytes are canonical.
+	 *
+	 * @param s2i the Secs2Item
+	 * @param bs body bytes
+	 * @return shared instance, null if not cached
+	 */
+	public static AbstractSecs2 get(Secs2Item s2i, byte[] bs) {
+
+		if ( bs.length == 0 ) {
+			return empty(s2i);
+		}
+
+		if ( bs.length == 1 ) {
+
+			switch ( s2i ) {
+			case BINARY: {
+				return binary(bs[0]);
+			}
+			case INT1: {
+				return int1(bs[0]);
+			}
+			case UINT1: {
+				return uint1(bs[0]);
+			}
+			case BOOLEAN: {
+				if ( bs[0] == BYTE_TRUE ) {
+					return BooleanHolder.TRUE;
+				}
+				if ( bs[0] == BYTE_FALSE ) {
+					return BooleanHolder.FALSE;
+				}
+				return null;
+			}
+			default: {
+				return null;
+			}
+			}
+		}
+
+		return null;
+	}
+
+}
@@ -0,0 +1,15 @@
+package com.shimizukenta.secs.secs2.impl;
+
+import com.shimizukenta.secs.secs2.Secs2Interner;
+
+public final class Secs2Interners {
+	
+	private Secs2Interners() {
+		/* Nothing */
+	}
+	
+	public static Secs2Interner newInstance() {
+		return new AbstractSecs2Interner() {};
+	}
+	
+}
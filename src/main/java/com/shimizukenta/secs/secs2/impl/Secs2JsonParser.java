@@ -0,0 +1,53 @@
+package com.shimizukenta.secs.secs2.impl;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2JsonParseException;
+
+/**
+ * Parser of JSON written by {@link Secs2#toJson()}.
+ * 
+ * <p>
+ * Format is {@code {"f":"U4","v":[1,2]}}, {@code {}} is empty.
+ * Single pass, numeric values are decoded directly to SECS-II encoded bytes.
+ * </p>
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public interface Secs2JsonParser {
+	
+	/**
+	 * Parse JSON.
+	 * 
+	 * @param cs the JSON character sequence
+	 * @return Secs2
+	 * @throws Secs2JsonParseException if parse failed
+	 */
+	public Secs2 parse(CharSequence cs) throws Secs2JsonParseException;
+	
+	/**
+	 * Parse JSON from Reader, reads until end of reader.
+	 * 
+	 * @param reader the Reader
+	 * @return Secs2
+	 * @throws Secs2JsonParseException if parse failed
+	 * @throws IOException if read failed
+	 */
+	public Secs2 parse(Reader reader) throws Secs2JsonParseException, IOException;
+	
+	/**
+	 * Returns reader of JSON values one by one, not read until {@link Secs2JsonValueReader#next()}.
+	 * 
+	 * @param reader the Reader
+	 * @return Secs2JsonValueReader
+	 */
+	public Secs2JsonValueReader newValueReader(Reader reader);
+	
+	public static Secs2JsonParser getInstance() {
+		return Secs2JsonParsers.getInstance();
+	}
+	
+}
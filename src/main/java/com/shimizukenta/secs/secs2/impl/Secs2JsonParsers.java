@@ -0,0 +1,31 @@
+package com.shimizukenta.secs.secs2.impl;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2JsonParseException;
+
+public final class Secs2JsonParsers {
+	
+	private Secs2JsonParsers() {
+		/* Nothing */
+	}
+	
+	private static final class SingletonHolder {
+		private static final Secs2JsonParser inst = new AbstractSecs2JsonParser() {};
+	}
+	
+	public static Secs2JsonParser getInstance() {
+		return SingletonHolder.inst;
+	}
+	
+	public static Secs2 parse(CharSequence cs) throws Secs2JsonParseException {
+		return getInstance().parse(cs);
+	}
+	
+	public static Secs2 parse(Reader reader) throws Secs2JsonParseException, IOException {
+		return getInstance().parse(reader);
+	}
+	
+}
@@ -0,0 +1,31 @@
+package com.shimizukenta.secs.secs2.impl;
+
+import java.io.IOException;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2JsonParseException;
+
+/**
+ * Incremental reader of JSON values, created by {@link Secs2JsonParser#newValueReader(java.io.Reader)}.
+ * 
+ * <p>
+ * Values are separated by white-spaces, e.g. one value per line.
+ * Position and buffered chars are kept between {@link #next()}, Reader is not closed.
+ * After failed, position is undefined.
+ * </p>
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public interface Secs2JsonValueReader {
+	
+	/**
+	 * Returns next value.
+	 * 
+	 * @return Secs2, {@code null} if end of stream
+	 * @throws Secs2JsonParseException if parse failed
+	 * @throws IOException if read failed
+	 */
+	public Secs2 next() throws Secs2JsonParseException, IOException;
+	
+}
@@ -2,8 +2,8 @@ package com.shimizukenta.secs.secs2.impl;
 
 import com.shimizukenta.secs.secs2.*;
 
+import java.io.IOException;
 import java.util.*;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class Secs2List extends AbstractSecs2 {
@@ -35,7 +35,7 @@ public class Secs2List extends AbstractSecs2 {
             throw new Secs2LengthByteOutOfRangeException();
         }
 
-        this.values        = Arrays.asList(values);
+        this.values        = Arrays.asList(Arrays.copyOf(values, values.length));
         this.proxyToString = null;
         this.proxyToJson   = null;
     }
@@ -88,21 +88,77 @@ public class Secs2List extends AbstractSecs2 {
     }
 
     @Override
-    protected AbstractSecs2 get(LinkedList<Integer> list) throws Secs2Exception {
+    protected byte[] bodyBytes() {
 
-        if (list.isEmpty()) {
+        final Secs2BytesListBuilder builder = new Secs2BytesListBuilder(1024);
+
+        for (Secs2 ss : values) {
+            for (byte[] bs : ss.getBytesList(1024)) {
+                builder.put(bs);
+            }
+        }
+
+        final List<byte[]> bss = builder.getBytesList();
+        final byte[] body = new byte[bss.stream().mapToInt(bs -> bs.length).sum()];
+
+        int pos = 0;
+        for (byte[] bs : bss) {
+            System.arraycopy(bs, 0, body, pos, bs.length);
+            pos += bs.length;
+        }
+
+        return body;
+    }
+
+    @Override
+    protected int structuralHashCode() {
+
+        int h = 31 * secs2Item().code() + size();
+
+        for (Secs2 ss : values) {
+            h = 31 * h + ss.hashCode();
+        }
+
+        return h;
+    }
+
+    @Override
+    protected long structuralContentHash() {
+
+        long h = contentHashSeed(secs2Item(), size());
+
+        for (Secs2 ss : values) {
+            h = contentHashCombine(h, ss.contentHash());
+        }
+
+        return h;
+    }
+
+    @Override
+    protected boolean structuralEquals(AbstractSecs2 other) {
+
+        if (!(other instanceof Secs2List)) {
+            return super.structuralEquals(other);
+        }
+
+        return values.equals(((Secs2List) other).values);
+    }
+
+    @Override
+    protected AbstractSecs2 get(int[] indices, int from, int to) throws Secs2Exception {
+
+        if (from >= to) {
 
             return this;
 
         } else {
 
             try {
-                int index = list.removeFirst();
-                Secs2 ss = values.get(index);
+                Secs2 ss = values.get(indices[from]);
 
                 if (ss instanceof AbstractSecs2) {
 
-                    return ((AbstractSecs2) ss).get(list);
+                    return ((AbstractSecs2) ss).get(indices, from + 1, to);
 
                 } else {
 
@@ -115,15 +171,15 @@ public class Secs2List extends AbstractSecs2 {
     }
 
     @Override
-    protected Optional<AbstractSecs2> optional(LinkedList<Integer> list) {
+    protected AbstractSecs2 find(int[] indices, int from, int to) {
 
-        if (list.isEmpty()) {
+        if (from >= to) {
 
-            return Optional.of(this);
+            return this;
 
         } else {
 
-            int index = list.removeFirst();
+            int index = indices[from];
 
             if (index >= 0 && index < size()) {
 
@@ -131,11 +187,11 @@ public class Secs2List extends AbstractSecs2 {
 
                 if (ss instanceof AbstractSecs2) {
 
-                    return ((AbstractSecs2) ss).optional(list);
+                    return ((AbstractSecs2) ss).find(indices, from + 1, to);
                 }
             }
 
-            return Optional.empty();
+            return null;
         }
     }
 
@@ -149,38 +205,56 @@ public class Secs2List extends AbstractSecs2 {
     public String toString() {
         synchronized (this) {
             if (this.proxyToString == null) {
-                this.proxyToString = lineStrings("").stream().collect(Collectors.joining(BR));
+                this.proxyToString = super.toString();
             }
             return this.proxyToString;
         }
     }
 
-    private List<String> lineStrings(String space) {
+    @Override
+    public void appendTo(Appendable a) throws IOException {
 
-        final List<String> lines = new ArrayList<>();
+        final String cache;
+        synchronized (this) {
+            cache = this.proxyToString;
+        }
 
-        lines.add(space + "<" + secs2Item().symbol() + " [" + size() + "]");
+        if (cache == null) {
+            appendTo(a, 0);
+        } else {
+            a.append(cache);
+        }
+    }
 
-        values.stream()
-              .map(s -> {
+    private static void appendSpace(Appendable a, int depth) throws IOException {
+        for (int i = 0; i < depth; ++i) {
+            a.append(SPACE);
+        }
+    }
+
+    private void appendTo(Appendable a, int depth) throws IOException {
+
+        appendSpace(a, depth);
+        a.append('<').append(secs2Item().symbol()).append(" [").append(String.valueOf(size())).append(']');
 
-                  String ss = space + SPACE;
+        for (Secs2 s : values) {
 
-                  if (s instanceof Secs2List) {
+            a.append(BR);
 
-                      return ((Secs2List) s).lineStrings(ss).stream()
-                                            .collect(Collectors.joining(BR));
+            if (s instanceof Secs2List) {
 
-                  } else {
+                ((Secs2List) s).appendTo(a, depth + 1);
 
-                      return ss + s.toString();
-                  }
-              })
-              .forEach(lines::add);
+            } else {
 
-        lines.add(space + ">");
+                appendSpace(a, depth + 1);
+                s.appendTo(a);
+            }
+        }
 
-        return lines;
+        a.append(BR);
+        appendSpace(a, depth);
+        a.append('>');
     }
 
     @Override
@@ -193,11 +267,45 @@ public class Secs2List extends AbstractSecs2 {
         }
     }
 
+    @Override
+    public void appendJsonTo(Appendable a) throws IOException {
+
+        final String cache;
+        synchronized (this) {
+            cache = this.proxyToJson;
+        }
+
+        if (cache == null) {
+            super.appendJsonTo(a);
+        } else {
+            a.append(cache);
+        }
+    }
+
     @Override
     protected String toJsonValue() {
+        return appendingToString(this::appendJsonValueTo);
+    }
+
+    @Override
+    protected void appendJsonValueTo(Appendable a) throws IOException {
+
+        a.append('[');
+
+        boolean first = true;
+
+        for (Secs2 s : values) {
+
+            if (first) {
+                first = false;
+            } else {
+                a.append(',');
+            }
+
+            s.appendJsonTo(a);
+        }
 
-        return stream().map(ss -> ss.toJson())
-                       .collect(Collectors.joining(",", "[", "]"));
+        a.append(']');
     }
 
     @Override
@@ -1,12 +1,12 @@
 package com.shimizukenta.secs.secs2.impl;
 
+import java.io.IOException;
 import java.nio.Buffer;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import com.shimizukenta.secs.secs2.Secs2Exception;
 import com.shimizukenta.secs.secs2.Secs2IndexOutOfBoundsException;
@@ -83,6 +83,11 @@ abstract public class Secs2Number<T extends Number> extends AbstractSecs2 {
 	protected void putBytesPack(Secs2BytesListBuilder builder) {
 		this.putHeadAndBodyBytesToBytesPack(builder, bytes());
 	}
+	
+	@Override
+	protected byte[] bodyBytes() {
+		return bytes();
+	}
 
 	@Override
 	protected Number getNumber(int index) throws Secs2Exception {
@@ -106,26 +111,57 @@ abstract public class Secs2Number<T extends Number> extends AbstractSecs2 {
 	
 	@Override
 	protected String toJsonValue() {
+		return appendingToString(this::appendJsonValueTo);
+	}
+	
+	@Override
+	protected void appendJsonValueTo(Appendable a) throws IOException {
+		
+		final List<T> vv;
 		
 		try {
-			return this.values().stream()
-					.map(Number::toString)
-					.collect(Collectors.joining(",", "[", "]"));
+			vv = this.values();
 		}
 		catch ( Secs2Exception e ) {
-			return "false";
+			a.append("false");
+			return;
+		}
+		
+		a.append('[');
+		
+		for (int i = 0, m = vv.size(); i < m; ++i) {
+			if ( i > 0 ) {
+				a.append(',');
+			}
+			a.append(vv.get(i).toString());
 		}
+		
+		a.append(']');
 	}
 	
 	@Override
 	protected String toStringValue() {
+		return appendingToString(this::appendStringValueTo);
+	}
+	
+	@Override
+	protected void appendStringValueTo(Appendable a) throws IOException {
+		
+		final List<T> vv;
+		
 		try {
-			return this.values().stream()
-					.map(Number::toString)
-					.collect(Collectors.joining(" "));
+			vv = this.values();
 		}
 		catch ( Secs2Exception e ) {
-			return "PARSE_FAILED";
+			a.append("PARSE_FAILED");
+			return;
+		}
+		
+		for (int i = 0, m = vv.size(); i < m; ++i) {
+			if ( i > 0 ) {
+				a.append(' ');
+			}
+			a.append(vv.get(i).toString());
 		}
 	}
 	
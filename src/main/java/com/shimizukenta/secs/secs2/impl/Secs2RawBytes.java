@@ -1,5 +1,6 @@
 package com.shimizukenta.secs.secs2.impl;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -51,11 +52,21 @@ public class Secs2RawBytes extends AbstractSecs2 {
 		builder.put(bs);
 	}
 	
+	@Override
+	protected byte[] bodyBytes() {
+		return this.bs;
+	}
+	
 	@Override
 	public String toString() {
 		return "";
 	}
 	
+	@Override
+	public void appendTo(Appendable a) {
+		/* Nothing */
+	}
+	
 	@Override
 	protected String toStringValue() {
 		return "";
@@ -66,6 +77,11 @@ public class Secs2RawBytes extends AbstractSecs2 {
 		return "{}";
 	}
 	
+	@Override
+	public void appendJsonTo(Appendable a) throws IOException {
+		a.append("{}");
+	}
+	
 	@Override
 	protected String toJsonValue() {
 		return "";
@@ -0,0 +1,142 @@
+package com.shimizukenta.secs.secs2.impl;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2BytesParseException;
+import com.shimizukenta.secs.secs2.Secs2Item;
+
+/**
+ * Serialized form of Secs2, SECS-II encoded bytes.
+ *
+ * <p>
+ * Written by {@link AbstractSecs2} instead of the object graph,
+ * restored as {@link Secs2EncodedBytes}, body is parsed when values are read.
+ * </p>
+ * <p>
+ * Format: 1 byte kind (0: SECS-II, 1: raw bytes), 4 bytes length, body bytes.
+ * </p>
+ *
+ * @author kenta-shimizu
+ *
+ */
+public final class Secs2SerializationProxy implements Externalizable {
+
+	private static final long serialVersionUID = -3265012478437619806L;
+
+	private static final byte KIND_SECS2 = (byte)0x00;
+	private static final byte KIND_RAW = (byte)0x01;
+
+	private static final int CHUNK_SIZE = 8192;
+
+	private transient Secs2 secs2;
+
+	public Secs2SerializationProxy() {
+		this.secs2 = null;
+	}
+
+	public Secs2SerializationProxy(Secs2 secs2) {
+		this.secs2 = secs2;
+	}
+
+	@Override
+	public void writeExternal(ObjectOutput out) throws IOException {
+		write(out, this.secs2);
+	}
+
+	@Override
+	public void readExternal(ObjectInput in) throws IOException {
+		this.secs2 = read(in);
+	}
+
+	private Object readResolve() throws ObjectStreamException {
+		return this.secs2;
+	}
+
+	/**
+	 * Write Secs2 as SECS-II encoded bytes.
+	 *
+	 * @param out the DataOutput
+	 * @param secs2 the Secs2
+	 * @throws IOException if write failed
+	 */
+	public static void write(DataOutput out, Secs2 secs2) throws IOException {
+
+		final List<byte[]> bss = secs2.getBytesList(CHUNK_SIZE);
+
+		int len = 0;
+		for ( byte[] bs : bss ) {
+			len += bs.length;
+		}
+
+		out.writeByte(secs2.secs2Item() == Secs2Item.UNDEFINED ? KIND_RAW : KIND_SECS2);
+		out.writeInt(len);
+
+		for ( byte[] bs : bss ) {
+			out.write(bs);
+		}
+	}
+
+	/**
+	 * Read Secs2 written by {@link #write(DataOutput, Secs2)}.
+	 *
+	 * @param in the DataInput
+	 * @return Secs2
+	 * @throws IOException if read failed
+	 * @throws InvalidObjectException if SECS-II item-header is illegal
+	 */
+	public static Secs2 read(DataInput in) throws IOException {
+
+		final byte kind = in.readByte();
+		final int len = in.readInt();
+
+		if ( len < 0 ) {
+			throw new InvalidObjectException("length < 0");
+		}
+
+		if ( kind == KIND_RAW ) {
+
+			if ( len == 0 ) {
+				return Secs2.empty();
+			}
+
+			final byte[] bs = new byte[len];
+			in.readFully(bs);
+			return new Secs2RawBytes(bs);
+
+		} else if ( kind == KIND_SECS2 ) {
+
+			/* chunks of CHUNK_SIZE, same as written */
+			final List<byte[]> bss = new ArrayList<>();
+
+			for ( int pos = 0; pos < len; pos += CHUNK_SIZE ) {
+				byte[] bs = new byte[Math.min(CHUNK_SIZE, len - pos)];
+				in.readFully(bs);
+				bss.add(bs);
+			}
+
+			try {
+				return Secs2EncodedBytes.of(bss);
+			}
+			catch ( Secs2BytesParseException e ) {
+				InvalidObjectException ex = new InvalidObjectException("SECS-II item-header illegal");
+				ex.initCause(e);
+				throw ex;
+			}
+
+		} else {
+
+			throw new InvalidObjectException("Unknown kind: " + kind);
+		}
+	}
+
+}
@@ -31,6 +31,11 @@ public class Secs2Unicode extends AbstractSecs2 {
 		this.putHeadAndBodyBytesToBytesPack(builder, this.bytes);
 	}
 	
+	@Override
+	protected byte[] bodyBytes() {
+		return this.bytes;
+	}
+	
 	@Override
 	public Secs2Item secs2Item() {
 		return secs2Item;
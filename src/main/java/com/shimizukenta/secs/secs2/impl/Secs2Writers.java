@@ -0,0 +1,22 @@
+package com.shimizukenta.secs.secs2.impl;
+
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+import com.shimizukenta.secs.secs2.Secs2Writer;
+
+public final class Secs2Writers {
+	
+	private Secs2Writers() {
+		/* Nothing */
+	}
+	
+	public static Secs2Writer newInstance() {
+		return new AbstractSecs2Writer() {};
+	}
+	
+	public static Secs2Writer newInstance(WritableByteChannel channel) {
+		return new AbstractSecs2Writer(Objects.requireNonNull(channel)) {};
+	}
+	
+}
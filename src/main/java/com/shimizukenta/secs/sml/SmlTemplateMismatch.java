@@ -0,0 +1,25 @@
+package com.shimizukenta.secs.sml;
+
+/**
+ * This interface is first mismatch of {@link SmlTemplateValidator}.
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public interface SmlTemplateMismatch {
+	
+	/**
+	 * Returns indices of mismatched item, same as {@code Secs2#get(int...)}.
+	 * 
+	 * @return indices
+	 */
+	public int[] path();
+	
+	/**
+	 * Returns reason.
+	 * 
+	 * @return reason
+	 */
+	public String reason();
+	
+}
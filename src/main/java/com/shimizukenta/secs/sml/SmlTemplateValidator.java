@@ -0,0 +1,84 @@
+package com.shimizukenta.secs.sml;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.shimizukenta.secs.SecsMessage;
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.sml.impl.AbstractSmlTemplateValidator;
+
+/**
+ * This interface is validator of SECS-II structure, compiled from SML template.
+ * 
+ * <p>
+ * Template is SML data item, with wildcards.
+ * </p>
+ * <ul>
+ * <li>{@code <*>} - any one item</li>
+ * <li>{@code <L <U4> <A>>} - List of 2 items, children are templates</li>
+ * <li>{@code <L[*] <U4>>} - List of any count, each item matches child</li>
+ * <li>{@code <L[*]>}, {@code <L[3]>} - List of any count or 3 items, any content</li>
+ * <li>{@code <U4>}, {@code <A>} - any size and any value</li>
+ * <li>{@code <U4[2]>}, {@code <A[4]>} - fixed size, any value</li>
+ * <li>{@code <U4 1 *>} - fixed size, {@code *} is any value</li>
+ * <li>{@code <A "OK">}, {@code <BOOLEAN T>} - fixed value</li>
+ * </ul>
+ * <p>
+ * Validator runs on SECS-II encoded bytes without building Secs2,
+ * reports first mismatch.
+ * Instances of this class are thread-safe, compile once and reuse.
+ * </p>
+ * 
+ * @author kenta-shimizu
+ *
+ */
+public interface SmlTemplateValidator {
+	
+	/**
+	 * Returns compiled validator.
+	 * 
+	 * @param template the SML template
+	 * @return SmlTemplateValidator
+	 * @throws SmlDataItemParseException if parse failed
+	 */
+	public static SmlTemplateValidator compile(CharSequence template) throws SmlDataItemParseException {
+		return AbstractSmlTemplateValidator.compile(template);
+	}
+	
+	/**
+	 * Validate SECS-II encoded bytes.
+	 * 
+	 * @param bss the List of SECS-II encoded bytes
+	 * @return Optional of first mismatch, empty if matched
+	 */
+	public Optional<SmlTemplateMismatch> validate(List<byte[]> bss);
+	
+	/**
+	 * Validate Secs2, encodes to bytes and validate.
+	 * 
+	 * @param secs2 the Secs2
+	 * @return Optional of first mismatch, empty if matched
+	 */
+	public Optional<SmlTemplateMismatch> validate(Secs2 secs2);
+	
+	/**
+	 * Validate body of message.
+	 * 
+	 * @param msg the message
+	 * @return Optional of first mismatch, empty if matched
+	 */
+	default public Optional<SmlTemplateMismatch> validate(SecsMessage msg) {
+		return validate(msg.secs2());
+	}
+	
+	/**
+	 * Returns {@code true} if matched.
+	 * 
+	 * @param bss the List of SECS-II encoded bytes
+	 * @return {@code true} if matched
+	 */
+	default public boolean matches(List<byte[]> bss) {
+		return ! validate(bss).isPresent();
+	}
+	
+}
@@ -0,0 +1,96 @@
+package com.shimizukenta.secs.sml.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.sml.SmlDataItemParseException;
+import com.shimizukenta.secs.sml.SmlTemplateMismatch;
+import com.shimizukenta.secs.sml.SmlTemplateValidator;
+
+public abstract class AbstractSmlTemplateValidator implements SmlTemplateValidator {
+
+	private static final int BYTES_SIZE = 1024;
+
+	private final String template;
+	private final SmlTemplateNode root;
+	private final ThreadLocal<SmlTemplateCursor> cursors = ThreadLocal.withInitial(SmlTemplateCursor::new);
+
+	public AbstractSmlTemplateValidator(CharSequence template) throws SmlDataItemParseException {
+		this.template = Objects.requireNonNull(template).toString();
+		this.root = SmlTemplateCompiler.compile(this.template);
+	}
+
+	public static AbstractSmlTemplateValidator compile(CharSequence template) throws SmlDataItemParseException {
+		return new AbstractSmlTemplateValidator(template) {};
+	}
+
+	@Override
+	public Optional<SmlTemplateMismatch> validate(List<byte[]> bss) {
+
+		final SmlTemplateCursor c = this.cursors.get();
+
+		try {
+			c.reset(bss);
+
+			final boolean matched;
+
+			if ( this.root == null ) {
+
+				matched = (! c.hasRemaining()) || c.fail("expected empty");
+
+			} else {
+
+				matched = this.root.match(c) && ((! c.hasRemaining()) || c.fail("not reach end bytes"));
+			}
+
+			if ( matched ) {
+				return Optional.empty();
+			}
+
+			return Optional.of(new Mismatch(c.mismatchPath(), c.mismatchReason()));
+		}
+		finally {
+			c.reset(null);
+		}
+	}
+
+	@Override
+	public Optional<SmlTemplateMismatch> validate(Secs2 secs2) {
+		return validate(secs2.getBytesList(BYTES_SIZE));
+	}
+
+	@Override
+	public String toString() {
+		return this.template;
+	}
+
+	private static final class Mismatch implements SmlTemplateMismatch {
+
+		private final int[] path;
+		private final String reason;
+
+		private Mismatch(int[] path, String reason) {
+			this.path = path;
+			this.reason = reason;
+		}
+
+		@Override
+		public int[] path() {
+			return Arrays.copyOf(this.path, this.path.length);
+		}
+
+		@Override
+		public String reason() {
+			return this.reason;
+		}
+
+		@Override
+		public String toString() {
+			return Arrays.toString(this.path) + " " + this.reason;
+		}
+	}
+
+}
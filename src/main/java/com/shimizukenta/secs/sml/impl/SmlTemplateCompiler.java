@@ -0,0 +1,289 @@
+package com.shimizukenta.secs.sml.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2Item;
+import com.shimizukenta.secs.sml.SmlDataItemNumberParseException;
+import com.shimizukenta.secs.sml.SmlDataItemParseException;
+import com.shimizukenta.secs.sml.SmlDataItemParser;
+import com.shimizukenta.secs.sml.SmlDataItemUnsupportItemTypeParseException;
+
+/**
+ * Compiler of SML template to {@link SmlTemplateNode}.
+ *
+ * <p>
+ * Values are parsed by {@link SmlDataItemParser}, then kept as expected encoded bytes.
+ * </p>
+ *
+ */
+final class SmlTemplateCompiler {
+
+	private static final char ABB = '<';
+	private static final char ABE = '>';
+	private static final char SBB = '[';
+	private static final char SBE = ']';
+	private static final char DQUOT = '"';
+	private static final char SPACE = (char)0x20;
+	private static final String WILDCARD = "*";
+
+	private final SmlDataItemParser parser = SmlDataItemParser.newInstance();
+	private final String s;
+	private int pos;
+
+	private SmlTemplateCompiler(String s) {
+		this.s = s;
+		this.pos = 0;
+	}
+
+	/**
+	 * Returns root node.
+	 *
+	 * @param template the SML template
+	 * @return root node, null if template is empty
+	 * @throws SmlDataItemParseException if parse failed
+	 */
+	static SmlTemplateNode compile(CharSequence template) throws SmlDataItemParseException {
+
+		final String s = template.toString().trim();
+
+		if ( s.isEmpty() ) {
+			return null;
+		}
+
+		final SmlTemplateCompiler c = new SmlTemplateCompiler(s);
+
+		try {
+			final SmlTemplateNode node = c.parseNode();
+
+			c.skipSpace();
+
+			if ( c.pos < s.length() ) {
+				throw new SmlDataItemParseException("SML not end. index: " + c.pos);
+			}
+
+			return node;
+		}
+		catch ( IndexOutOfBoundsException e ) {
+			throw new SmlDataItemParseException(("parse failed. index: " + c.pos), e);
+		}
+	}
+
+	private char peek() {
+		return this.s.charAt(this.pos);
+	}
+
+	private void skipSpace() {
+		while ( this.pos < this.s.length() && this.s.charAt(this.pos) <= SPACE ) {
+			++ this.pos;
+		}
+	}
+
+	private void expect(char c) throws SmlDataItemParseException {
+		skipSpace();
+		if ( peek() != c ) {
+			throw new SmlDataItemParseException("expected '" + c + "'. index: " + this.pos);
+		}
+		++ this.pos;
+	}
+
+	private SmlTemplateNode parseNode() throws SmlDataItemParseException {
+
+		expect(ABB);
+		skipSpace();
+
+		final int symbolBegin = this.pos;
+
+		for ( ;; ++ this.pos ) {
+			char c = peek();
+			if ( c <= SPACE || c == ABB || c == ABE || c == SBB || c == DQUOT ) {
+				break;
+			}
+		}
+
+		final String symbol = this.s.substring(symbolBegin, this.pos);
+
+		if ( symbol.equals(WILDCARD) ) {
+			expect(ABE);
+			return new SmlTemplateNode.Any();
+		}
+
+		final Secs2Item item = Secs2Item.symbol(symbol);
+
+		if ( item == Secs2Item.UNDEFINED ) {
+			throw new SmlDataItemUnsupportItemTypeParseException(symbol);
+		}
+
+		/* -2: not set, -1: any */
+		int size = -2;
+
+		skipSpace();
+
+		if ( peek() == SBB ) {
+
+			final int end = this.s.indexOf(SBE, this.pos);
+
+			if ( end < 0 ) {
+				throw new SmlDataItemParseException("not found ']'. index: " + this.pos);
+			}
+
+			final String x = this.s.substring(this.pos + 1, end).trim();
+
+			if ( x.equals(WILDCARD) ) {
+
+				size = -1;
+
+			} else {
+
+				try {
+					size = Integer.parseInt(x);
+				}
+				catch ( NumberFormatException e ) {
+					throw new SmlDataItemNumberParseException("size parse failed. index: " + this.pos, e);
+				}
+
+				if ( size < 0 ) {
+					throw new SmlDataItemNumberParseException("size < 0. index: " + this.pos);
+				}
+			}
+
+			this.pos = end + 1;
+		}
+
+		if ( item == Secs2Item.LIST ) {
+			return parseList(size);
+		} else {
+			return parseValue(symbol, item, size);
+		}
+	}
+
+	private SmlTemplateNode parseList(int size) throws SmlDataItemParseException {
+
+		final int begin = this.pos;
+		final List<SmlTemplateNode> children = new ArrayList<>();
+
+		for ( ;; ) {
+
+			skipSpace();
+
+			char c = peek();
+
+			if ( c == ABE ) {
+				++ this.pos;
+				break;
+			}
+
+			if ( c == ABB ) {
+				children.add(parseNode());
+			} else {
+				throw new SmlDataItemParseException("List not found '<' or '>'. index: " + this.pos);
+			}
+		}
+
+		final int n = children.size();
+
+		if ( size == -2 ) {
+			return new SmlTemplateNode.ListNode(n, children.toArray(new SmlTemplateNode[0]), null);
+		}
+
+		if ( size == -1 ) {
+
+			if ( n == 0 ) {
+				return new SmlTemplateNode.ListNode(-1, null, null);
+			}
+
+			if ( n == 1 ) {
+				return new SmlTemplateNode.ListNode(-1, null, children.get(0));
+			}
+
+			throw new SmlDataItemParseException("L[*] require 0 or 1 child. index: " + begin);
+		}
+
+		if ( n == 0 ) {
+			return new SmlTemplateNode.ListNode(size, null, null);
+		}
+
+		if ( n == size ) {
+			return new SmlTemplateNode.ListNode(n, children.toArray(new SmlTemplateNode[0]), null);
+		}
+
+		throw new SmlDataItemParseException("L[" + size + "] has " + n + " children. index: " + begin);
+	}
+
+	private SmlTemplateNode parseValue(String symbol, Secs2Item item, int size) throws SmlDataItemParseException {
+
+		final int begin = this.pos;
+		boolean inQuot = false;
+
+		for ( ;; ++ this.pos ) {
+			char c = peek();
+			if ( c == DQUOT ) {
+				inQuot = ! inQuot;
+			} else if ( c == ABE && ! inQuot ) {
+				break;
+			}
+		}
+
+		final String content = this.s.substring(begin, this.pos).trim();
+		++ this.pos;
+
+		if ( content.isEmpty() || content.equals(WILDCARD) ) {
+			return new SmlTemplateNode.ValueNode(item, (size < 0 ? -1 : size), null, null);
+		}
+
+		if ( item == Secs2Item.ASCII ) {
+
+			final byte[] bs = bodyBytes(this.parser.parse("<A " + content + ">"));
+
+			checkSize(size, bs.length, begin);
+
+			return new SmlTemplateNode.ValueNode(item, bs.length, bs, null);
+		}
+
+		if ( item == Secs2Item.JIS8 || item == Secs2Item.UNICODE ) {
+			throw new SmlDataItemUnsupportItemTypeParseException(item);
+		}
+
+		final String[] values = content.split("\\s+");
+		final boolean[] wildcards = new boolean[values.length];
+		boolean hasWildcard = false;
+
+		for ( int i = 0; i < values.length; ++i ) {
+			if ( values[i].equals(WILDCARD) ) {
+				wildcards[i] = true;
+				values[i] = "0";
+				hasWildcard = true;
+			}
+		}
+
+		final byte[] bs = bodyBytes(this.parser.parse("<" + symbol + " " + String.join(" ", values) + ">"));
+
+		checkSize(size, values.length, begin);
+
+		return new SmlTemplateNode.ValueNode(item, values.length, bs, (hasWildcard ? wildcards : null));
+	}
+
+	private static void checkSize(int size, int count, int index) throws SmlDataItemParseException {
+		if ( size >= 0 && size != count ) {
+			throw new SmlDataItemParseException("size [" + size + "] not equals values count " + count + ". index: " + index);
+		}
+	}
+
+	private static byte[] bodyBytes(Secs2 secs2) {
+
+		final ByteArrayOutputStream strm = new ByteArrayOutputStream();
+
+		for ( byte[] bs : secs2.getBytesList(1024) ) {
+			strm.write(bs, 0, bs.length);
+		}
+
+		final byte[] bs = strm.toByteArray();
+		final int headerLength = 1 + (bs[0] & 0x03);
+
+		return Arrays.copyOfRange(bs, headerLength, bs.length);
+	}
+
+}
@@ -0,0 +1,190 @@
+package com.shimizukenta.secs.sml.impl;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.shimizukenta.secs.secs2.Secs2Item;
+
+/**
+ * Reusable reader of SECS-II encoded bytes for {@link SmlTemplateNode}.
+ *
+ * <p>
+ * Keeps indices of current item, copied only if mismatch.
+ * </p>
+ *
+ */
+final class SmlTemplateCursor {
+
+	private List<byte[]> bss;
+	private int packIndex;
+	private int bytesIndex;
+
+	private Secs2Item item;
+	private int length;
+
+	private int[] path;
+	private int depth;
+
+	private int[] mismatchPath;
+	private String mismatchReason;
+
+	SmlTemplateCursor() {
+		this.bss = null;
+		this.path = new int[16];
+		this.reset(null);
+	}
+
+	void reset(List<byte[]> bss) {
+		this.bss = bss;
+		this.packIndex = 0;
+		this.bytesIndex = 0;
+		this.item = Secs2Item.UNDEFINED;
+		this.length = 0;
+		this.depth = 0;
+		this.mismatchPath = null;
+		this.mismatchReason = null;
+	}
+
+	boolean hasRemaining() {
+
+		for ( int m = this.bss.size(); this.packIndex < m; ++this.packIndex, this.bytesIndex = 0 ) {
+			if ( this.bytesIndex < this.bss.get(this.packIndex).length ) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns next byte as unsigned value.
+	 *
+	 * @return 0x00-0xFF, -1 if reach end bytes
+	 */
+	int get() {
+
+		if ( hasRemaining() ) {
+			return (int)(this.bss.get(this.packIndex)[this.bytesIndex++]) & 0xFF;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Read item-header.
+	 *
+	 * @return {@code true} if success
+	 */
+	boolean next() {
+
+		int b = get();
+
+		if ( b < 0 ) {
+			return fail("reach end bytes");
+		}
+
+		this.item = Secs2Item.get((byte)b);
+
+		int size = 0;
+
+		for ( int i = b & 0x03; i > 0; --i ) {
+
+			int x = get();
+
+			if ( x < 0 ) {
+				return fail("reach end bytes");
+			}
+
+			size = (size << 8) | x;
+		}
+
+		this.length = size;
+		return true;
+	}
+
+	Secs2Item item() {
+		return this.item;
+	}
+
+	/**
+	 * Returns items count if LIST, otherwise body bytes length.
+	 *
+	 * @return length
+	 */
+	int length() {
+		return this.length;
+	}
+
+	/**
+	 * Skip body of current item, and nested items if LIST.
+	 *
+	 * @return {@code true} if success
+	 */
+	boolean skipBody() {
+
+		if ( this.item == Secs2Item.LIST ) {
+
+			for ( int i = this.length; i > 0; --i ) {
+				if ( ! (next() && skipBody()) ) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		for ( int i = this.length; i > 0; ) {
+
+			if ( ! hasRemaining() ) {
+				return fail("reach end bytes");
+			}
+
+			final int r = this.bss.get(this.packIndex).length - this.bytesIndex;
+			final int n = r < i ? r : i;
+
+			this.bytesIndex += n;
+			i -= n;
+		}
+
+		return true;
+	}
+
+	void push(int index) {
+
+		if ( this.depth == this.path.length ) {
+			this.path = Arrays.copyOf(this.path, this.depth * 2);
+		}
+
+		this.path[this.depth] = index;
+		++ this.depth;
+	}
+
+	void pop() {
+		-- this.depth;
+	}
+
+	/**
+	 * Set mismatch, keeps first.
+	 *
+	 * @param reason the reason
+	 * @return {@code false}
+	 */
+	boolean fail(String reason) {
+
+		if ( this.mismatchReason == null ) {
+			this.mismatchPath = Arrays.copyOf(this.path, this.depth);
+			this.mismatchReason = reason;
+		}
+
+		return false;
+	}
+
+	int[] mismatchPath() {
+		return this.mismatchPath;
+	}
+
+	String mismatchReason() {
+		return this.mismatchReason;
+	}
+
+}
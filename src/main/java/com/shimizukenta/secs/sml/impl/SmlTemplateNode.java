@@ -0,0 +1,178 @@
+package com.shimizukenta.secs.sml.impl;
+
+import com.shimizukenta.secs.secs2.Secs2Item;
+
+/**
+ * Compiled SML template item.
+ *
+ */
+abstract class SmlTemplateNode {
+
+	/**
+	 * Read next item and test.
+	 *
+	 * @param c the cursor, before item-header
+	 * @return {@code true} if matched
+	 */
+	abstract boolean match(SmlTemplateCursor c);
+
+	private static String symbol(Secs2Item item, int size) {
+		if ( size < 0 ) {
+			return item.symbol();
+		} else {
+			return item.symbol() + "[" + size + "]";
+		}
+	}
+
+	/**
+	 * {@code <*>}.
+	 *
+	 */
+	static final class Any extends SmlTemplateNode {
+
+		@Override
+		boolean match(SmlTemplateCursor c) {
+			return c.next() && c.skipBody();
+		}
+	}
+
+	/**
+	 * {@code <L>}, children or repeat.
+	 *
+	 */
+	static final class ListNode extends SmlTemplateNode {
+
+		private final int size;
+		private final SmlTemplateNode[] children;
+		private final SmlTemplateNode repeat;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param size the items count, -1 is any
+		 * @param children the children, null is any
+		 * @param repeat the template of each item, null is any
+		 */
+		ListNode(int size, SmlTemplateNode[] children, SmlTemplateNode repeat) {
+			this.size = size;
+			this.children = children;
+			this.repeat = repeat;
+		}
+
+		@Override
+		boolean match(SmlTemplateCursor c) {
+
+			if ( ! c.next() ) {
+				return false;
+			}
+
+			if ( c.item() != Secs2Item.LIST ) {
+				return c.fail("expected " + symbol(Secs2Item.LIST, this.size) + " but " + c.item().symbol());
+			}
+
+			final int n = c.length();
+
+			if ( this.size >= 0 && n != this.size ) {
+				return c.fail("expected " + symbol(Secs2Item.LIST, this.size) + " but " + symbol(Secs2Item.LIST, n));
+			}
+
+			for ( int i = 0; i < n; ++i ) {
+
+				final SmlTemplateNode x = (this.children == null) ? this.repeat : this.children[i];
+
+				c.push(i);
+
+				if ( x == null ) {
+
+					if ( ! (c.next() && c.skipBody()) ) {
+						return false;
+					}
+
+				} else {
+
+					if ( ! x.match(c) ) {
+						return false;
+					}
+				}
+
+				c.pop();
+			}
+
+			return true;
+		}
+	}
+
+	/**
+	 * Not LIST item.
+	 *
+	 */
+	static final class ValueNode extends SmlTemplateNode {
+
+		private final Secs2Item item;
+		private final int size;
+		private final byte[] expected;
+		private final boolean[] wildcards;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param item the Secs2Item
+		 * @param size the values count (ASCII is bytes length), -1 is any
+		 * @param expected the expected body bytes, null is any
+		 * @param wildcards the any value flags of each value, null is none
+		 */
+		ValueNode(Secs2Item item, int size, byte[] expected, boolean[] wildcards) {
+			this.item = item;
+			this.size = size;
+			this.expected = expected;
+			this.wildcards = wildcards;
+		}
+
+		@Override
+		boolean match(SmlTemplateCursor c) {
+
+			if ( ! c.next() ) {
+				return false;
+			}
+
+			if ( c.item() != this.item ) {
+				return c.fail("expected " + this.item.symbol() + " but " + c.item().symbol());
+			}
+
+			final int itemSize = this.item.size();
+			final int len = c.length();
+
+			if ( this.size >= 0 && len != (this.size * itemSize) ) {
+				return c.fail("expected " + symbol(this.item, this.size) + " but " + symbol(this.item, (len / itemSize)));
+			}
+
+			if ( this.expected == null ) {
+				return c.skipBody();
+			}
+
+			for ( int i = 0; i < len; ++i ) {
+
+				final int b = c.get();
+
+				if ( b < 0 ) {
+					return c.fail("reach end bytes");
+				}
+
+				final int v = i / itemSize;
+
+				if ( this.wildcards != null && this.wildcards[v] ) {
+					continue;
+				}
+
+				final int e = (int)(this.expected[i]) & 0xFF;
+
+				if ( this.item == Secs2Item.BOOLEAN ? ((b == 0) != (e == 0)) : (b != e) ) {
+					return c.fail(this.item.symbol() + " value mismatch at " + v);
+				}
+			}
+
+			return true;
+		}
+	}
+
+}
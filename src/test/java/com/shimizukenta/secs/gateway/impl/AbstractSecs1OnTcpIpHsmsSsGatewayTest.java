@@ -0,0 +1,101 @@
+package com.shimizukenta.secs.gateway.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.shimizukenta.secs.hsms.HsmsMessage;
+import com.shimizukenta.secs.secs1.Secs1Message;
+import com.shimizukenta.secs.secs1.Secs1MessageBlock;
+import com.shimizukenta.secs.secs2.Secs2;
+
+class AbstractSecs1OnTcpIpHsmsSsGatewayTest {
+
+	private static final Secs2 BODY = Secs2.list(
+			Secs2.ascii("MDLN"),
+			Secs2.binary(new byte[600]));
+
+	@Test
+	@DisplayName("SECS-I to HSMS clears R-Bit, E-Bit and block number")
+	void testToHsms() {
+
+		final byte[] header = new byte[] {
+				(byte)0x80, (byte)0x0A,
+				(byte)0x86, (byte)0x0B,
+				(byte)0x00, (byte)0x00,
+				(byte)0x00, (byte)0x00, (byte)0x01, (byte)0x02
+		};
+
+		/* as received, header of last block */
+		final Secs1Message msg = Secs1Message.of(Secs1Message.of(header, BODY).toBlocks());
+
+		assertEquals(msg.rbit(), true);
+		assertEquals(msg.header10Bytes()[4], (byte)0x80);
+		assertEquals(msg.header10Bytes()[5], (byte)0x03);
+
+		final AbstractSecs1OnTcpIpHsmsSsGateway.Converted conv = AbstractSecs1OnTcpIpHsmsSsGateway.toHsms(msg);
+
+		assertArrayEquals(new byte[] {
+				(byte)0x00, (byte)0x0A,
+				(byte)0x86, (byte)0x0B,
+				(byte)0x00, (byte)0x00,
+				(byte)0x00, (byte)0x00, (byte)0x01, (byte)0x02
+		}, conv.header);
+
+		assertEquals(conv.body, BODY);
+		assertEquals(conv.bodyBytes, 611L);
+
+		final HsmsMessage hsmsMsg = HsmsMessage.of(conv.header, conv.body);
+
+		assertEquals(hsmsMsg.isDataMessage(), true);
+		assertEquals(hsmsMsg.wbit(), true);
+		assertEquals(hsmsMsg.getFunction(), 11);
+	}
+
+	@Test
+	@DisplayName("HSMS to SECS-I sets R-Bit by equip and clears PType and SType")
+	void testToSecs1() {
+
+		final byte[] header = new byte[] {
+				(byte)0x80, (byte)0x0A,
+				(byte)0x06, (byte)0x0C,
+				(byte)0x00, (byte)0x00,
+				(byte)0x00, (byte)0x00, (byte)0x03, (byte)0x04
+		};
+
+		final HsmsMessage msg = HsmsMessage.of(header, BODY);
+
+		final AbstractSecs1OnTcpIpHsmsSsGateway.Converted host = AbstractSecs1OnTcpIpHsmsSsGateway.toSecs1(msg, false);
+
+		assertArrayEquals(new byte[] {
+				(byte)0x00, (byte)0x0A,
+				(byte)0x06, (byte)0x0C,
+				(byte)0x00, (byte)0x00,
+				(byte)0x00, (byte)0x00, (byte)0x03, (byte)0x04
+		}, host.header);
+
+		assertEquals(host.body, BODY);
+		assertEquals(host.bodyBytes, 611L);
+
+		final AbstractSecs1OnTcpIpHsmsSsGateway.Converted equip = AbstractSecs1OnTcpIpHsmsSsGateway.toSecs1(msg, true);
+
+		assertEquals(equip.header[0], (byte)0x80);
+
+		final Secs1Message secs1Msg = Secs1Message.of(equip.header, equip.body);
+		final List<Secs1MessageBlock> blocks = secs1Msg.toBlocks();
+
+		assertEquals(secs1Msg.rbit(), true);
+		assertEquals(secs1Msg.deviceId(), 10);
+		assertEquals(blocks.size(), 3);
+		assertEquals(blocks.get(0).blockNumber(), 1);
+		assertEquals(blocks.get(0).ebit(), false);
+		assertEquals(blocks.get(2).blockNumber(), 3);
+		assertEquals(blocks.get(2).ebit(), true);
+		assertEquals(Secs1Message.of(blocks).secs2(), BODY);
+	}
+
+}
@@ -1,8 +1,16 @@
 package com.shimizukenta.secs.hsms.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -10,9 +18,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import com.shimizukenta.secs.hsms.HsmsMessage;
+import com.shimizukenta.secs.hsmsss.HsmsSsCommunicatorConfig;
 import com.shimizukenta.secs.secs2.Secs2;
 import com.shimizukenta.secs.secs2.Secs2BytesParseException;
 import com.shimizukenta.secs.secs2.Secs2Item;
+import com.shimizukenta.secs.secs2.impl.Secs2BytesParser;
+import com.shimizukenta.secs.secs2.impl.Secs2BytesParsers;
+import com.shimizukenta.secs.secs2.impl.Secs2EncodedBytes;
 
 class HsmsMessageBuilderTest {
 	
@@ -85,4 +97,89 @@ class HsmsMessageBuilderTest {
 		}
 	}
 	
+	@Test
+	@DisplayName("HsmsMessage serialize and deserialize")
+	void testSerialize() {
+		
+		byte[] header10Bytes = new byte[] {
+				(byte)0x00, (byte)0x0A,
+				(byte)0x81, (byte)0x01,
+				(byte)0x00, (byte)0x00,
+				(byte)0x00, (byte)0x00, (byte)0x00, (byte)0x03
+		};
+		
+		Secs2 body = Secs2.list(
+				Secs2.ascii("MDLN"),
+				Secs2.uint4(1L, 2L),
+				Secs2.binary(new byte[1000])
+				);
+		
+		HsmsMessage msg = HsmsMessageBuilder.buildMessage(header10Bytes, body);
+		
+		try (
+				ByteArrayOutputStream baos = new ByteArrayOutputStream();
+				) {
+			
+			try (
+					ObjectOutputStream oos = new ObjectOutputStream(baos);
+					) {
+				oos.writeObject(msg);
+			}
+			
+			try (
+					ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+					) {
+				
+				HsmsMessage r = (HsmsMessage)(ois.readObject());
+				
+				assertEquals(Arrays.equals(r.header10Bytes(), header10Bytes), true);
+				assertEquals(r.secs2() instanceof Secs2EncodedBytes, true);
+				assertEquals(r.secs2(), body);
+				assertEquals(r.toString(), msg.toString());
+			}
+		}
+		catch (IOException | ClassNotFoundException e) {
+			fail(e);
+		}
+	}
+	
+	@Test
+	@DisplayName("HsmsMessageBuilder#buildFromBytes by parallel parser of config")
+	void testBuildFromBytesParallel() {
+		
+		byte[] header10Bytes = new byte[] {
+				(byte)0x00, (byte)0x0A,
+				(byte)0x86, (byte)0x0B,
+				(byte)0x00, (byte)0x00,
+				(byte)0x00, (byte)0x00, (byte)0x00, (byte)0x04
+		};
+		
+		final List<Secs2> ll = new ArrayList<>();
+		for (int i = 0; i < 100; ++i) {
+			ll.add(Secs2.list(Secs2.uint4(i), Secs2.ascii("V" + i)));
+		}
+		
+		final Secs2 body = Secs2.list(ll);
+		
+		final HsmsSsCommunicatorConfig config = new HsmsSsCommunicatorConfig();
+		config.secs2ParallelParseThreshold(10);
+		
+		final Secs2BytesParser parser = Secs2BytesParsers.of(
+				config.secs2ParallelParsePool().get(),
+				config.secs2ParallelParseThreshold().intValue());
+		
+		assertNotSame(Secs2BytesParsers.getInstance(), parser);
+		
+		try {
+			AbstractHsmsMessage msg = AbstractHsmsMessageBuilder.buildFromBytes(header10Bytes, body.getBytesList(1024), parser);
+			assertEquals(msg.secs2(), body);
+			assertEquals(msg.getFunction(), 11);
+		}
+		catch (Secs2BytesParseException e) {
+			fail(e);
+		}
+		
+		assertSame(Secs2BytesParsers.getInstance(), Secs2BytesParsers.of(config.secs2ParallelParsePool().get(), 0));
+	}
+	
 }
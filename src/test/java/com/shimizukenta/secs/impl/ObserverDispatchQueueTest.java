@@ -0,0 +1,199 @@
+package com.shimizukenta.secs.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EventListener;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.shimizukenta.secs.SecsObserverOverflowPolicy;
+import com.shimizukenta.secs.hsmsss.HsmsSsCommunicatorConfig;
+
+class ObserverDispatchQueueTest {
+
+	/* holds drain task until run */
+	private static final class HoldExecutor implements Executor {
+
+		private final List<Runnable> tasks = new ArrayList<>();
+
+		@Override
+		public void execute(Runnable command) {
+			this.tasks.add(command);
+		}
+
+		public void runAll() {
+			while ( ! this.tasks.isEmpty() ) {
+				this.tasks.remove(0).run();
+			}
+		}
+	}
+
+	private interface IntListener extends EventListener {
+		void received(Integer value);
+	}
+
+	@Test
+	@DisplayName("DROP_OLDEST keeps newest values")
+	void testDropOldest() {
+
+		final HoldExecutor executor = new HoldExecutor();
+		final List<Integer> received = new ArrayList<>();
+		final ObserverDispatchQueue<Integer> q = new ObserverDispatchQueue<>(executor, 3, SecsObserverOverflowPolicy.DROP_OLDEST, received::add);
+
+		for ( int i = 0; i < 5; ++i ) {
+			assertTrue(q.offer(Integer.valueOf(i)));
+		}
+
+		executor.runAll();
+
+		assertEquals(Arrays.asList(2, 3, 4), received);
+		assertEquals(2L, q.droppedCount());
+	}
+
+	@Test
+	@DisplayName("DROP_NEWEST keeps oldest values, and drain is scheduled once")
+	void testDropNewest() {
+
+		final HoldExecutor executor = new HoldExecutor();
+		final List<Integer> received = new ArrayList<>();
+		final ObserverDispatchQueue<Integer> q = new ObserverDispatchQueue<>(executor, 3, SecsObserverOverflowPolicy.DROP_NEWEST, received::add);
+
+		for ( int i = 0; i < 3; ++i ) {
+			assertTrue(q.offer(Integer.valueOf(i)));
+		}
+		assertFalse(q.offer(Integer.valueOf(3)));
+
+		assertEquals(1, executor.tasks.size());
+
+		executor.runAll();
+
+		assertEquals(Arrays.asList(0, 1, 2), received);
+		assertEquals(1L, q.droppedCount());
+
+		assertTrue(q.offer(Integer.valueOf(4)));
+		executor.runAll();
+
+		assertEquals(Arrays.asList(0, 1, 2, 4), received);
+		assertEquals(0, q.size());
+	}
+
+	@Test
+	@DisplayName("Values in drain batch are pending until notified")
+	void testPendingInBatch() {
+
+		final HoldExecutor executor = new HoldExecutor();
+		final List<Integer> sizes = new ArrayList<>();
+		final List<Integer> oldests = new ArrayList<>();
+		final List<ObserverDispatchQueue<Integer>> ref = new ArrayList<>();
+
+		final ObserverDispatchQueue<Integer> q = new ObserverDispatchQueue<>(executor, 8, SecsObserverOverflowPolicy.DROP_NEWEST, v -> {
+			sizes.add(ref.get(0).size());
+			oldests.add(ref.get(0).oldest());
+		});
+
+		ref.add(q);
+
+		for ( int i = 0; i < 3; ++i ) {
+			assertTrue(q.offer(Integer.valueOf(i)));
+		}
+
+		assertEquals(3, q.size());
+		assertEquals(Integer.valueOf(0), q.oldest());
+
+		executor.runAll();
+
+		assertEquals(Arrays.asList(3, 2, 1), sizes);
+		assertEquals(Arrays.asList(0, 1, 2), oldests);
+		assertEquals(0, q.size());
+		assertEquals(null, q.oldest());
+	}
+
+	@Test
+	@DisplayName("Dropped values are passed to dropped consumer")
+	void testDroppedConsumer() {
+
+		final HoldExecutor executor = new HoldExecutor();
+		final List<Integer> droppedNewest = new ArrayList<>();
+		final List<Integer> droppedOldest = new ArrayList<>();
+
+		final ObserverDispatchQueue<Integer> qn = new ObserverDispatchQueue<>(executor, 2, SecsObserverOverflowPolicy.DROP_NEWEST, v -> { /* Nothing */ }, droppedNewest::add);
+		final ObserverDispatchQueue<Integer> qo = new ObserverDispatchQueue<>(executor, 2, SecsObserverOverflowPolicy.DROP_OLDEST, v -> { /* Nothing */ }, droppedOldest::add);
+
+		try {
+			for ( int i = 0; i < 4; ++i ) {
+				qn.put(Integer.valueOf(i));
+				qo.put(Integer.valueOf(i));
+			}
+		}
+		catch ( InterruptedException e ) {
+			fail(e);
+		}
+
+		assertEquals(Arrays.asList(2, 3), droppedNewest);
+		assertEquals(Arrays.asList(0, 1), droppedOldest);
+		assertEquals(2L, qn.droppedCount());
+		assertEquals(2L, qo.droppedCount());
+	}
+
+	@Test
+	@DisplayName("Default policy is BLOCK, and offer does not block")
+	void testDefaultPolicyBlock() {
+
+		final HsmsSsCommunicatorConfig config = new HsmsSsCommunicatorConfig();
+		config.observerQueueCapacity(2);
+
+		assertEquals(SecsObserverOverflowPolicy.BLOCK, config.observerOverflowPolicy().get());
+
+		final HoldExecutor executor = new HoldExecutor();
+		final List<Integer> received = new ArrayList<>();
+		final List<Integer> dropped = new ArrayList<>();
+
+		final AbstractQueueObserver<IntListener, Integer> observer = new AbstractQueueObserver<IntListener, Integer>(executor, config) {
+
+			@Override
+			protected void notifyValueToListener(IntListener listener, Integer value) {
+				listener.received(value);
+			}
+
+			@Override
+			protected void notifyDropped(Integer value) {
+				dropped.add(value);
+			}
+		};
+
+		observer.addListener(received::add);
+
+		for ( int i = 0; i < 5; ++i ) {
+			observer.offer(Integer.valueOf(i));
+		}
+
+		executor.runAll();
+
+		assertEquals(Arrays.asList(0, 1), received);
+		assertEquals(Arrays.asList(2, 3, 4), dropped);
+		assertEquals(3L, observer.droppedCount());
+
+		try {
+			for ( int i = 5; i < 7; ++i ) {
+				observer.put(Integer.valueOf(i));
+			}
+		}
+		catch ( InterruptedException e ) {
+			fail(e);
+		}
+
+		executor.runAll();
+
+		assertEquals(Arrays.asList(0, 1, 5, 6), received);
+		assertEquals(3L, observer.droppedCount());
+	}
+
+}
@@ -0,0 +1,129 @@
+package com.shimizukenta.secs.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EventListener;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.shimizukenta.secs.AbstractSecsCommunicatorConfig;
+import com.shimizukenta.secs.SecsGemAccessor;
+import com.shimizukenta.secs.SecsListenerLaneStatus;
+import com.shimizukenta.secs.SecsObserverDispatchMode;
+import com.shimizukenta.secs.SecsObserverOverflowPolicy;
+
+class QueueBiObserverLaneTest {
+
+	private static interface TestListener extends EventListener {
+		public void received(Integer value);
+	}
+
+	private static interface TestBiListener extends EventListener {
+		public void received(Integer value, SecsGemAccessor accessor);
+	}
+
+	private static AbstractQueueBiObserver<SecsGemAccessor, TestListener, TestBiListener, Integer> buildObserver(ExecutorService execServ) {
+
+		final AbstractSecsCommunicatorConfig config = new AbstractSecsCommunicatorConfig() {
+
+			private static final long serialVersionUID = 1L;
+		};
+
+		config.observerDispatchMode(SecsObserverDispatchMode.PER_LISTENER);
+		config.observerQueueCapacity(10);
+
+		/* lanes must not block even if BLOCK */
+		config.observerOverflowPolicy(SecsObserverOverflowPolicy.BLOCK);
+
+		return new AbstractQueueBiObserver<SecsGemAccessor, TestListener, TestBiListener, Integer>(execServ, config, null) {
+
+			@Override
+			protected void notifyValueToListener(TestListener listener, Integer value) {
+				listener.received(value);
+			}
+
+			@Override
+			protected void notifyValueToBiListener(TestBiListener biListener, Integer value, SecsGemAccessor accessor) {
+				biListener.received(value, accessor);
+			}
+		};
+	}
+
+	@Test
+	@DisplayName("Slow listener backs up own lane only")
+	void testSlowListener() throws InterruptedException {
+
+		final ExecutorService execServ = Executors.newCachedThreadPool();
+		final CountDownLatch release = new CountDownLatch(1);
+
+		try {
+
+			final AbstractQueueBiObserver<SecsGemAccessor, TestListener, TestBiListener, Integer> observer = buildObserver(execServ);
+
+			final CountDownLatch slowDone = new CountDownLatch(1);
+			final CountDownLatch fastDone = new CountDownLatch(10);
+			final CountDownLatch fastAllDone = new CountDownLatch(15);
+
+			final TestListener slow = v -> {
+				try {
+					release.await();
+				}
+				catch ( InterruptedException ignore ) {
+				}
+				slowDone.countDown();
+			};
+
+			observer.addListener(slow);
+			observer.addBiListener((v, a) -> {
+				fastDone.countDown();
+				fastAllDone.countDown();
+			});
+
+			for ( int i = 0; i < 10; ++i ) {
+				observer.put(Integer.valueOf(i));
+			}
+
+			assertTrue(fastDone.await(5L, TimeUnit.SECONDS));
+
+			/* slow lane holds all, value in notifying and values in drain batch are counted */
+			final List<SecsListenerLaneStatus> ss = observer.laneStatuses();
+			assertEquals(2, ss.size());
+			assertTrue(ss.get(0).listener() == slow);
+			assertEquals(10, ss.get(0).depth());
+			assertTrue(ss.get(0).lagNanos() > 0L);
+			assertEquals(10L, ss.get(1).deliveredCount());
+
+			/* full slow lane drops, put is not blocked, fast lane still receives */
+			for ( int i = 10; i < 15; ++i ) {
+				observer.put(Integer.valueOf(i));
+			}
+
+			assertTrue(fastAllDone.await(5L, TimeUnit.SECONDS));
+
+			final SecsListenerLaneStatus s = observer.laneStatuses().get(0);
+			assertTrue(s.droppedCount() >= 4L);
+			assertEquals(15L, s.depth() + s.droppedCount());
+			assertEquals(0L, observer.laneStatuses().get(1).droppedCount());
+
+			release.countDown();
+
+			assertTrue(slowDone.await(5L, TimeUnit.SECONDS));
+
+			observer.removeListener(slow);
+			assertEquals(1, observer.laneStatuses().size());
+		}
+		finally {
+			/* blocked listener must not keep pool thread */
+			release.countDown();
+			execServ.shutdownNow();
+		}
+	}
+
+}
@@ -0,0 +1,550 @@
+package com.shimizukenta.secs.secs1.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.shimizukenta.secs.secs1.Secs1Message;
+import com.shimizukenta.secs.secs1.Secs1MessageBlock;
+import com.shimizukenta.secs.secs1.Secs1NotReceiveAckException;
+import com.shimizukenta.secs.secs1.Secs1RetryOverException;
+import com.shimizukenta.secs.secs1.Secs1SendMessageException;
+import com.shimizukenta.secs.secs1.Secs1SendOrderPolicy;
+import com.shimizukenta.secs.secs1.Secs1TimeoutT2Exception;
+import com.shimizukenta.secs.secs1.Secs1TimeoutT3Exception;
+import com.shimizukenta.secs.secs1.Secs1TimeoutT4Exception;
+import com.shimizukenta.secs.secs1ontcpip.Secs1OnTcpIpCommunicatorConfig;
+import com.shimizukenta.secs.secs2.Secs2;
+
+class AbstractSecs1EventDrivenCircuitTest {
+
+	private static final byte ENQ = (byte)0x05;
+	private static final byte EOT = (byte)0x04;
+	private static final byte ACK = (byte)0x06;
+	private static final byte NAK = (byte)0x15;
+
+	private static final long WAIT_MILLIS = 2000L;
+
+	/**
+	 * Circuit of test, keeps sent bytes, received messages and throwables.
+	 *
+	 */
+	private static final class TestCircuit extends AbstractSecs1EventDrivenCircuit {
+
+		private final BlockingQueue<byte[]> sent = new LinkedBlockingQueue<>();
+		private final BlockingQueue<Secs1Message> received = new LinkedBlockingQueue<>();
+		private final BlockingQueue<Throwable> throwables = new LinkedBlockingQueue<>();
+
+		public TestCircuit(Secs1OnTcpIpCommunicatorConfig config, ScheduledExecutorService loop) {
+			super(config, loop);
+		}
+
+		@Override
+		protected void sendBytes(byte[] bs) {
+			this.sent.add(bs);
+		}
+
+		@Override
+		protected void notifyReceiveMessage(Secs1Message message) {
+			this.received.add(message);
+		}
+
+		@Override
+		protected void notifyThrowable(Throwable t) {
+			this.throwables.add(t);
+		}
+
+		@Override
+		protected Throwable notConnectedException(Secs1Message message) {
+			return new IllegalStateException("not connected");
+		}
+
+		public void put(byte... bs) {
+			this.putBytes(bs, bs.length);
+		}
+
+		public byte[] next() throws InterruptedException {
+			final byte[] bs = this.sent.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+			assertNotNull(bs);
+			return bs;
+		}
+
+		public void expect(byte b) throws InterruptedException {
+			assertArrayEquals(new byte[] {b}, this.next());
+		}
+
+		public void expectNothing(long millis) throws InterruptedException {
+			assertNull(this.sent.poll(millis, TimeUnit.MILLISECONDS));
+		}
+
+		public void expectThrown(Class<? extends Throwable> type) throws InterruptedException {
+
+			final long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+
+			for ( ;; ) {
+
+				final long remaining = deadline - System.currentTimeMillis();
+				final Throwable t = this.throwables.poll(Math.max(remaining, 0L), TimeUnit.MILLISECONDS);
+
+				if (t == null) {
+					fail(type.getSimpleName() + " not thrown");
+				}
+
+				if (type.isInstance(t)) {
+					return;
+				}
+			}
+		}
+	}
+
+	private static Secs1OnTcpIpCommunicatorConfig newConfig() {
+
+		final Secs1OnTcpIpCommunicatorConfig config = new Secs1OnTcpIpCommunicatorConfig();
+		config.deviceId(10);
+		config.isMaster(true);
+		config.retry(3);
+		config.timeout().t1(0.5F);
+		config.timeout().t2(0.5F);
+		config.timeout().t3(1.0F);
+		config.timeout().t4(0.5F);
+		return config;
+	}
+
+	private static Secs1Message message(boolean rbit, int func, boolean wbit, int systemByte, Secs2 body) {
+
+		final byte[] header = new byte[] {
+				(byte)(rbit ? 0x80 : 0x00), (byte)0x0A,
+				(byte)(wbit ? 0x81 : 0x01), (byte)func,
+				(byte)0x00, (byte)0x00,
+				(byte)0x00, (byte)0x00, (byte)0x00, (byte)systemByte
+		};
+
+		return Secs1MessageBuilder.buildDataMessage(header, body);
+	}
+
+	private static Secs2 bigBody() {
+		return Secs2.list(Secs2.ascii("MDLN"), Secs2.binary(new byte[600]));
+	}
+
+	/* send blocks as receiver is waiting ENQ */
+	private static void sendBlocksAsSender(TestCircuit c, Secs1Message msg) throws InterruptedException {
+
+		for (Secs1MessageBlock block : msg.toBlocks()) {
+			assertArrayEquals(new byte[] {ENQ}, c.next());
+			c.put(EOT);
+			assertArrayEquals(block.getBytes(), c.next());
+			c.put(ACK);
+		}
+	}
+
+	/* receive blocks from peer */
+	private static void putBlocksAsPeer(TestCircuit c, Secs1Message msg) throws InterruptedException {
+
+		for (Secs1MessageBlock block : msg.toBlocks()) {
+
+			c.put(ENQ);
+			c.expect(EOT);
+
+			/* length byte and rest separately */
+			final byte[] bs = block.getBytes();
+			c.put(bs[0]);
+			c.put(Arrays.copyOfRange(bs, 1, bs.length));
+
+			c.expect(ACK);
+		}
+	}
+
+	private static Throwable cause(CompletableFuture<Optional<Secs1Message>> f) throws InterruptedException {
+
+		try {
+			f.get(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+		}
+		catch (ExecutionException e) {
+			return e.getCause();
+		}
+		catch (TimeoutException e) {
+			fail(e);
+		}
+
+		fail("not failed");
+		return null;
+	}
+
+	@Test
+	@DisplayName("Send single-block and multi-block message")
+	void testSend() {
+
+		final ScheduledExecutorService loop = Executors.newSingleThreadScheduledExecutor();
+
+		try {
+			final TestCircuit c = new TestCircuit(newConfig(), loop);
+			c.connected();
+
+			final Secs1Message single = message(false, 1, false, 1, Secs2.ascii("A"));
+			final CompletableFuture<Optional<Secs1Message>> f1 = c.send(single);
+
+			sendBlocksAsSender(c, single);
+			assertEquals(Optional.empty(), f1.get(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+
+			final Secs1Message multi = message(false, 3, false, 2, bigBody());
+			assertEquals(3, multi.toBlocks().size());
+
+			final CompletableFuture<Optional<Secs1Message>> f2 = c.send(multi);
+
+			sendBlocksAsSender(c, multi);
+			assertEquals(Optional.empty(), f2.get(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+
+			c.expectNothing(100L);
+		}
+		catch (InterruptedException | ExecutionException | TimeoutException e) {
+			fail(e);
+		}
+		finally {
+			loop.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("Send by Send-Order-Policy REPLY_FIRST")
+	void testSendReplyFirst() {
+
+		final ScheduledExecutorService loop = Executors.newSingleThreadScheduledExecutor();
+
+		try {
+			final Secs1OnTcpIpCommunicatorConfig config = newConfig();
+			config.sendOrderPolicy(Secs1SendOrderPolicy.REPLY_FIRST);
+			config.replyFirstFairness(1);
+
+			final TestCircuit c = new TestCircuit(config, loop);
+			c.connected();
+
+			final Secs1Message first = message(false, 1, false, 1, Secs2.ascii("A"));
+			final Secs1Message primary = message(false, 3, false, 2, bigBody());
+			final Secs1Message reply1 = message(false, 4, false, 3, Secs2.ascii("B"));
+			final Secs1Message reply2 = message(false, 6, false, 4, Secs2.ascii("C"));
+
+			/* primary and replies are queued while first is sending */
+			c.send(first);
+			assertArrayEquals(new byte[] {ENQ}, c.next());
+
+			c.send(primary);
+			c.send(reply1);
+			c.send(reply2);
+
+			c.put(EOT);
+			assertArrayEquals(first.toBlocks().get(0).getBytes(), c.next());
+			c.put(ACK);
+
+			/* reply passes primary up to fairness */
+			sendBlocksAsSender(c, reply1);
+			sendBlocksAsSender(c, primary);
+			sendBlocksAsSender(c, reply2);
+
+			c.expectNothing(100L);
+		}
+		catch (InterruptedException e) {
+			fail(e);
+		}
+		finally {
+			loop.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("Receive single-block and multi-block message")
+	void testReceive() {
+
+		final ScheduledExecutorService loop = Executors.newSingleThreadScheduledExecutor();
+
+		try {
+			final TestCircuit c = new TestCircuit(newConfig(), loop);
+			c.connected();
+
+			final Secs1Message single = message(true, 1, false, 1, Secs2.uint4(100L));
+			putBlocksAsPeer(c, single);
+
+			final Secs1Message r1 = c.received.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+			assertNotNull(r1);
+			assertTrue(r1.isValidBlocks());
+			assertEquals(single.secs2(), r1.secs2());
+
+			final Secs1Message multi = message(true, 3, false, 2, bigBody());
+			putBlocksAsPeer(c, multi);
+
+			final Secs1Message r2 = c.received.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+			assertNotNull(r2);
+			assertTrue(r2.isValidBlocks());
+			assertEquals(3, r2.toBlocks().size());
+			assertEquals(multi.secs2(), r2.secs2());
+			assertEquals(3, r2.getFunction());
+		}
+		catch (InterruptedException e) {
+			fail(e);
+		}
+		finally {
+			loop.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("NAK and retry-over")
+	void testNakRetryOver() {
+
+		final ScheduledExecutorService loop = Executors.newSingleThreadScheduledExecutor();
+
+		try {
+			final Secs1OnTcpIpCommunicatorConfig config = newConfig();
+			config.retry(1);
+
+			final TestCircuit c = new TestCircuit(config, loop);
+			c.connected();
+
+			final Secs1Message msg = message(false, 1, false, 1, Secs2.ascii("A"));
+			final byte[] block = msg.toBlocks().get(0).getBytes();
+			final CompletableFuture<Optional<Secs1Message>> f = c.send(msg);
+
+			for (int i = 0; i < 2; ++i) {
+				c.expect(ENQ);
+				c.put(EOT);
+				assertArrayEquals(block, c.next());
+				c.put(NAK);
+			}
+
+			final Throwable t = cause(f);
+			assertTrue(t instanceof Secs1SendMessageException);
+			assertTrue(t.getCause() instanceof Secs1RetryOverException);
+
+			c.expectThrown(Secs1NotReceiveAckException.class);
+
+			/* next message is sent */
+			final Secs1Message next = message(false, 1, false, 2, Secs2.ascii("B"));
+			final CompletableFuture<Optional<Secs1Message>> fn = c.send(next);
+			sendBlocksAsSender(c, next);
+			assertEquals(Optional.empty(), fn.get(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+		}
+		catch (InterruptedException | ExecutionException | TimeoutException e) {
+			fail(e);
+		}
+		finally {
+			loop.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("Contention, slave receives first")
+	void testContentionSlave() {
+
+		final ScheduledExecutorService loop = Executors.newSingleThreadScheduledExecutor();
+
+		try {
+			final Secs1OnTcpIpCommunicatorConfig config = newConfig();
+			config.isMaster(false);
+
+			final TestCircuit c = new TestCircuit(config, loop);
+			c.connected();
+
+			final Secs1Message own = message(false, 1, false, 1, Secs2.ascii("OWN"));
+			final CompletableFuture<Optional<Secs1Message>> f = c.send(own);
+
+			c.expect(ENQ);
+
+			/* ENQ from master */
+			final Secs1Message peer = message(true, 5, false, 9, Secs2.ascii("PEER"));
+			final byte[] bs = peer.toBlocks().get(0).getBytes();
+
+			c.put(ENQ);
+			c.expect(EOT);
+			c.put(bs);
+			c.expect(ACK);
+
+			final Secs1Message r = c.received.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+			assertNotNull(r);
+			assertEquals(peer.secs2(), r.secs2());
+
+			/* own message is sent after */
+			sendBlocksAsSender(c, own);
+			assertEquals(Optional.empty(), f.get(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+			assertEquals(1L, c.linkMetrics().contentionLosses());
+		}
+		catch (InterruptedException | ExecutionException | TimeoutException e) {
+			fail(e);
+		}
+		finally {
+			loop.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("Contention, master ignores ENQ")
+	void testContentionMaster() {
+
+		final ScheduledExecutorService loop = Executors.newSingleThreadScheduledExecutor();
+
+		try {
+			final TestCircuit c = new TestCircuit(newConfig(), loop);
+			c.connected();
+
+			final Secs1Message own = message(false, 1, false, 1, Secs2.ascii("OWN"));
+			final CompletableFuture<Optional<Secs1Message>> f = c.send(own);
+
+			c.expect(ENQ);
+
+			c.put(ENQ);
+			c.expectNothing(100L);
+
+			c.put(EOT);
+			assertArrayEquals(own.toBlocks().get(0).getBytes(), c.next());
+			c.put(ACK);
+
+			assertEquals(Optional.empty(), f.get(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+			assertEquals(1L, c.linkMetrics().contentions());
+			assertEquals(0L, c.linkMetrics().contentionLosses());
+		}
+		catch (InterruptedException | ExecutionException | TimeoutException e) {
+			fail(e);
+		}
+		finally {
+			loop.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("T2-Timeout of sending and receiving")
+	void testT2Timeout() {
+
+		final ScheduledExecutorService loop = Executors.newSingleThreadScheduledExecutor();
+
+		try {
+			final Secs1OnTcpIpCommunicatorConfig config = newConfig();
+			config.retry(1);
+			config.timeout().t2(0.2F);
+
+			final TestCircuit c = new TestCircuit(config, loop);
+			c.connected();
+
+			/* EOT not received, ENQ is retried */
+			final CompletableFuture<Optional<Secs1Message>> f = c.send(message(false, 1, false, 1, Secs2.ascii("A")));
+
+			c.expect(ENQ);
+			c.expect(ENQ);
+
+			final Throwable t = cause(f);
+			assertTrue(t.getCause() instanceof Secs1RetryOverException);
+
+			/* length byte not received, NAK is sent */
+			c.put(ENQ);
+			c.expect(EOT);
+			c.expect(NAK);
+			c.expectThrown(Secs1TimeoutT2Exception.class);
+		}
+		catch (InterruptedException e) {
+			fail(e);
+		}
+		finally {
+			loop.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("T4-Timeout of next block")
+	void testT4Timeout() {
+
+		final ScheduledExecutorService loop = Executors.newSingleThreadScheduledExecutor();
+
+		try {
+			final Secs1OnTcpIpCommunicatorConfig config = newConfig();
+			config.timeout().t4(0.2F);
+
+			final TestCircuit c = new TestCircuit(config, loop);
+			c.connected();
+
+			final List<Secs1MessageBlock> blocks = message(true, 3, false, 1, bigBody()).toBlocks();
+
+			c.put(ENQ);
+			c.expect(EOT);
+			c.put(blocks.get(0).getBytes());
+			c.expect(ACK);
+
+			c.expectThrown(Secs1TimeoutT4Exception.class);
+			assertNull(c.received.poll(100L, TimeUnit.MILLISECONDS));
+
+			/* idle after T4 */
+			final Secs1Message single = message(true, 1, false, 2, Secs2.ascii("A"));
+			putBlocksAsPeer(c, single);
+			assertEquals(single.secs2(), c.received.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS).secs2());
+		}
+		catch (InterruptedException e) {
+			fail(e);
+		}
+		finally {
+			loop.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("Reply matched by system-bytes, and T3-Timeout")
+	void testReplyAndT3() {
+
+		final ScheduledExecutorService loop = Executors.newSingleThreadScheduledExecutor();
+
+		try {
+			final Secs1OnTcpIpCommunicatorConfig config = newConfig();
+			config.timeout().t3(0.3F);
+
+			final TestCircuit c = new TestCircuit(config, loop);
+			c.connected();
+
+			final Secs1Message primary = message(false, 1, true, 1, Secs2.empty());
+			final CompletableFuture<Optional<Secs1Message>> f = c.send(primary);
+
+			sendBlocksAsSender(c, primary);
+			assertEquals(false, f.isDone());
+
+			final Secs1Message reply = message(true, 2, false, 1, bigBody());
+			putBlocksAsPeer(c, reply);
+
+			final Optional<Secs1Message> r = f.get(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+			assertTrue(r.isPresent());
+			assertEquals(2, r.get().getFunction());
+			assertEquals(reply.secs2(), r.get().secs2());
+			assertNull(c.received.poll(100L, TimeUnit.MILLISECONDS));
+
+			/* reply not received */
+			final Secs1Message noReply = message(false, 1, true, 2, Secs2.empty());
+			final CompletableFuture<Optional<Secs1Message>> ft = c.send(noReply);
+
+			sendBlocksAsSender(c, noReply);
+			assertTrue(cause(ft) instanceof Secs1TimeoutT3Exception);
+
+			/* late reply is notified as received message */
+			final Secs1Message late = message(true, 2, false, 2, Secs2.empty());
+			putBlocksAsPeer(c, late);
+			assertNotNull(c.received.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+		}
+		catch (InterruptedException | ExecutionException | TimeoutException e) {
+			fail(e);
+		}
+		finally {
+			loop.shutdownNow();
+		}
+	}
+
+}
@@ -0,0 +1,121 @@
+package com.shimizukenta.secs.secs1.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class Secs1ByteRingBufferTest {
+
+	private static byte[] seq(int from, int len) {
+		final byte[] bs = new byte[len];
+		for (int i = 0; i < len; ++i) {
+			bs[i] = (byte)(from + i);
+		}
+		return bs;
+	}
+
+	private static byte[] readAll(Secs1ByteRingBuffer buf) {
+		final byte[] bs = new byte[buf.size()];
+		assertEquals(bs.length, buf.read(bs, 0, bs.length));
+		return bs;
+	}
+
+	@Test
+	@DisplayName("Bytes are read in put order")
+	void testFifo() {
+
+		final Secs1ByteRingBuffer buf = new Secs1ByteRingBuffer(8);
+
+		assertTrue(buf.isEmpty());
+		assertEquals(-1, buf.poll());
+
+		buf.put(seq(1, 5), 0, 5);
+		buf.put(seq(100, 4), 1, 2);
+
+		assertEquals(7, buf.size());
+		assertEquals(1, buf.poll());
+		assertArrayEquals(new byte[] {2, 3, 4, 5, 101, 102}, readAll(buf));
+		assertTrue(buf.isEmpty());
+		assertEquals(-1, buf.poll());
+	}
+
+	@Test
+	@DisplayName("Put and read wrap around end of ring")
+	void testWrapAround() {
+
+		final Secs1ByteRingBuffer buf = new Secs1ByteRingBuffer(8);
+
+		buf.put(seq(0, 6), 0, 6);
+
+		/* partial read, head moves to 4 */
+		final byte[] bs = new byte[4];
+		assertEquals(4, buf.read(bs, 0, 4));
+		assertArrayEquals(seq(0, 4), bs);
+
+		/* tail wraps, 2 + 6 bytes in 8 capacity */
+		buf.put(seq(6, 6), 0, 6);
+		assertEquals(8, buf.size());
+		assertEquals(8, buf.capacity());
+
+		assertEquals(4, buf.poll());
+
+		/* read wraps */
+		final byte[] rs = new byte[10];
+		assertEquals(7, buf.read(rs, 2, 8));
+		assertArrayEquals(seq(5, 7), Arrays.copyOfRange(rs, 2, 9));
+		assertTrue(buf.isEmpty());
+	}
+
+	@Test
+	@DisplayName("Grows keeping order when wrapped")
+	void testGrow() {
+
+		final Secs1ByteRingBuffer buf = new Secs1ByteRingBuffer(8);
+
+		buf.put(seq(0, 7), 0, 7);
+		assertEquals(0, buf.poll());
+		assertEquals(1, buf.poll());
+		assertEquals(2, buf.poll());
+
+		/* wrapped: 3..6 at end, 7..9 at start */
+		buf.put(seq(7, 3), 0, 3);
+		assertEquals(8, buf.capacity());
+
+		/* grows from wrapped state */
+		buf.put(seq(10, 20), 0, 20);
+		assertEquals(32, buf.capacity());
+		assertEquals(27, buf.size());
+
+		assertArrayEquals(seq(3, 27), readAll(buf));
+	}
+
+	@Test
+	@DisplayName("Poll after partial read, and unsigned byte value")
+	void testPollAfterPartialRead() {
+
+		final Secs1ByteRingBuffer buf = new Secs1ByteRingBuffer(4);
+
+		buf.put(new byte[] {(byte)0x05, (byte)0x80, (byte)0xFF}, 0, 3);
+
+		final byte[] bs = new byte[1];
+		assertEquals(1, buf.read(bs, 0, 1));
+		assertEquals((byte)0x05, bs[0]);
+
+		assertEquals(0x80, buf.poll());
+		assertEquals(0xFF, buf.poll());
+		assertEquals(-1, buf.poll());
+
+		assertEquals(0, buf.read(bs, 0, 1));
+
+		buf.put(seq(1, 3), 0, 3);
+		buf.clear();
+		assertTrue(buf.isEmpty());
+		assertEquals(0, buf.read(bs, 0, 1));
+	}
+
+}
@@ -0,0 +1,152 @@
+package com.shimizukenta.secs.secs1.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.shimizukenta.secs.secs1.Secs1LineDirection;
+import com.shimizukenta.secs.secs1.Secs1LineEvent;
+import com.shimizukenta.secs.secs1.Secs1LineEventType;
+import com.shimizukenta.secs.secs1.Secs1Message;
+import com.shimizukenta.secs.secs1.Secs1MessageBlock;
+import com.shimizukenta.secs.secs2.Secs2;
+
+class Secs1LineDecoderTest {
+
+	private static final byte[] ENQ = new byte[] {(byte)0x05};
+	private static final byte[] EOT = new byte[] {(byte)0x04};
+	private static final byte[] ACK = new byte[] {(byte)0x06};
+	private static final byte[] NAK = new byte[] {(byte)0x15};
+
+	private static final Secs1LineDirection H = Secs1LineDirection.HOST_TO_EQUIP;
+	private static final Secs1LineDirection E = Secs1LineDirection.EQUIP_TO_HOST;
+
+	private static AbstractSecs1LineDecoder buildDecoder(List<Secs1LineEvent> events) {
+		return new AbstractSecs1LineDecoder("LINE-1") {
+
+			@Override
+			protected void notifyEvent(Secs1LineEvent event) {
+				events.add(event);
+			}
+		};
+	}
+
+	private static void put(AbstractSecs1LineDecoder decoder, Secs1LineDirection direction, byte[] bs) {
+		decoder.put(direction, bs, 0, bs.length, LocalDateTime.now());
+	}
+
+	@Test
+	@DisplayName("Decode multi-block message with NAK and retry")
+	void testMultiBlock() {
+
+		final List<Secs2> ll = new ArrayList<>();
+		for (int i = 0; i < 100; ++i) {
+			ll.add(Secs2.ascii("ITEM" + i));
+		}
+		final Secs2 body = Secs2.list(ll);
+
+		final Secs1Message msg = Secs1MessageBuilder.buildDataMessage(
+				new byte[] {(byte)0x80, 0x0A, (byte)0x86, 0x0B, 0, 0, 0, 0, 0, 1},
+				body);
+
+		final List<Secs1MessageBlock> blocks = msg.toBlocks();
+		final List<Secs1LineEvent> events = new ArrayList<>();
+		final AbstractSecs1LineDecoder decoder = buildDecoder(events);
+
+		for (int i = 0, m = blocks.size(); i < m; ++i) {
+
+			final byte[] bs = blocks.get(i).getBytes();
+
+			if (i == 1) {
+
+				/* broken block, and NAK */
+				final byte[] broken = bs.clone();
+				broken[20] ^= 0x01;
+
+				put(decoder, E, ENQ);
+				put(decoder, H, EOT);
+				put(decoder, E, broken);
+				put(decoder, H, NAK);
+			}
+
+			if (i == 2) {
+
+				/* ACK lost, and retried same block */
+				final byte[] prev = blocks.get(i - 1).getBytes();
+				put(decoder, E, ENQ);
+				put(decoder, H, EOT);
+				put(decoder, E, prev);
+				put(decoder, H, ACK);
+			}
+
+			/* split bytes */
+			put(decoder, E, ENQ);
+			put(decoder, H, EOT);
+			decoder.put(E, bs, 0, 7, LocalDateTime.now());
+			decoder.put(E, bs, 7, bs.length - 7, LocalDateTime.now());
+			put(decoder, H, ACK);
+		}
+
+		final List<Secs1Message> msgs = new ArrayList<>();
+		int sumCheckErrors = 0;
+		int naks = 0;
+
+		for (Secs1LineEvent ev : events) {
+			if (ev.type() == Secs1LineEventType.MESSAGE) {
+				assertEquals(E, ev.direction());
+				msgs.add(ev.message().get());
+			} else if (ev.type() == Secs1LineEventType.SUM_CHECK_ERROR) {
+				++ sumCheckErrors;
+			} else if (ev.type() == Secs1LineEventType.NAK) {
+				++ naks;
+			}
+		}
+
+		assertEquals(1, msgs.size());
+		assertEquals(1, sumCheckErrors);
+		assertEquals(1, naks);
+		assertEquals(6, msgs.get(0).getStream());
+		assertEquals(11, msgs.get(0).getFunction());
+		assertEquals(body, msgs.get(0).secs2());
+	}
+
+	@Test
+	@DisplayName("Decode contention and illegal length byte")
+	void testContention() {
+
+		final Secs1Message msg = Secs1MessageBuilder.buildDataMessage(
+				new byte[] {0, 0x0A, (byte)0x81, 0x01, (byte)0x80, 0, 0, 0, 0, 2});
+
+		final byte[] bs = msg.toBlocks().get(0).getBytes();
+		final List<Secs1LineEvent> events = new ArrayList<>();
+		final AbstractSecs1LineDecoder decoder = buildDecoder(events);
+
+		/* both ENQ, EQUIP yields */
+		put(decoder, H, ENQ);
+		put(decoder, E, ENQ);
+		put(decoder, E, EOT);
+		put(decoder, H, new byte[] {(byte)0x02, 0x01, 0x02});
+		put(decoder, E, NAK);
+
+		put(decoder, H, ENQ);
+		put(decoder, E, EOT);
+		put(decoder, H, bs);
+		put(decoder, E, ACK);
+
+		final List<Secs1LineEventType> types = new ArrayList<>();
+		for (Secs1LineEvent ev : events) {
+			types.add(ev.type());
+		}
+
+		assertEquals(Secs1LineEventType.ILLEGAL_LENGTH_BYTE, types.get(3));
+		assertEquals(Secs1LineEventType.MESSAGE, types.get(types.size() - 1));
+		assertEquals(H, events.get(events.size() - 1).direction());
+		assertEquals(1, events.get(events.size() - 1).message().get().getFunction());
+	}
+
+}
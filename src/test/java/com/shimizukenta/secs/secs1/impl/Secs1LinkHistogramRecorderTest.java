@@ -0,0 +1,47 @@
+package com.shimizukenta.secs.secs1.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.shimizukenta.secs.secs1.Secs1LinkHistogram;
+
+class Secs1LinkHistogramRecorderTest {
+
+	@Test
+	@DisplayName("Empty histogram")
+	void testEmpty() {
+
+		final Secs1LinkHistogram h = new Secs1LinkHistogramRecorder().snapshot();
+
+		assertEquals(0L, h.count());
+		assertEquals(0L, h.min());
+		assertEquals(0L, h.max());
+		assertEquals(0L, h.valueAtPercentile(99.0D));
+	}
+
+	@Test
+	@DisplayName("Percentile is upper bound of bucket")
+	void testPercentile() {
+
+		final Secs1LinkHistogramRecorder r = new Secs1LinkHistogramRecorder();
+
+		for (int i = 0; i < 99; ++i) {
+			r.record(100L);
+		}
+		r.record(5000L);
+
+		final Secs1LinkHistogram h = r.snapshot();
+
+		assertEquals(100L, h.count());
+		assertEquals(99L * 100L + 5000L, h.sum());
+		assertEquals(100L, h.min());
+		assertEquals(5000L, h.max());
+		assertEquals(99L, h.bucketCount(7));
+		assertEquals(127L, h.valueAtPercentile(50.0D));
+		assertEquals(127L, h.valueAtPercentile(99.0D));
+		assertEquals(5000L, h.valueAtPercentile(100.0D));
+	}
+
+}
@@ -1,8 +1,16 @@
 package com.shimizukenta.secs.secs1.impl;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -16,6 +24,8 @@ import com.shimizukenta.secs.secs1ontcpip.Secs1OnTcpIpCommunicatorConfig;
 import com.shimizukenta.secs.secs1ontcpip.impl.AbstractSecs1OnTcpIpCommunicator;
 import com.shimizukenta.secs.secs2.Secs2;
 import com.shimizukenta.secs.secs2.Secs2Item;
+import com.shimizukenta.secs.secs2.impl.Secs2BytesParser;
+import com.shimizukenta.secs.secs2.impl.Secs2EncodedBytes;
 
 class Secs1MessageBuilderTest {
 	
@@ -308,7 +318,7 @@ class Secs1MessageBuilderTest {
 		
 		assertEquals(block.isValid(), true);
 		
-		Secs1Message msg = Secs1MessageBuilder.buildFromBlocks(Arrays.asList(block));
+		Secs1Message msg = AbstractSecs1MessageBuilder.buildFromBlocks(Arrays.asList(block));
 		
 		int strm = msg.getStream();
 		int func = msg.getFunction();
@@ -363,7 +373,7 @@ class Secs1MessageBuilderTest {
 		assertEquals(block2.ebit(), true);
 		assertEquals(block2.isFirstBlock(), false);
 		
-		Secs1Message msg = Secs1MessageBuilder.buildFromBlocks(Arrays.asList(block1, block2));
+		Secs1Message msg = AbstractSecs1MessageBuilder.buildFromBlocks(Arrays.asList(block1, block2));
 		
 		int strm = msg.getStream();
 		int func = msg.getFunction();
@@ -391,4 +401,301 @@ class Secs1MessageBuilderTest {
 		assertEquals(msg.toBlocks().size(), 2);
 	}
 	
+	private static byte[] joinBody(List<Secs1MessageBlock> blocks, int extra) {
+		
+		int n = 0;
+		for (Secs1MessageBlock block : blocks) {
+			n += block.length() - 10;
+		}
+		
+		final byte[] body = new byte[n + extra];
+		int pos = 0;
+		
+		for (Secs1MessageBlock block : blocks) {
+			byte[] bs = block.getBytes();
+			int m = bs.length - 13;
+			System.arraycopy(bs, 11, body, pos, m);
+			pos += m;
+		}
+		
+		return body;
+	}
+	
+	@Test
+	@DisplayName("Secs1MessageBuilder#fromBlocks with joined body")
+	void testStaticFromBlocksWithBody() {
+		
+		byte[] header = new byte[] {
+				(byte)0x00, (byte)0x0A,
+				(byte)0x86, (byte)0x0B,
+				(byte)0x00, (byte)0x00,
+				(byte)0x00, (byte)0x00, (byte)0x00, (byte)0x05
+		};
+		
+		Secs2 body = Secs2.list(
+				Secs2.uint4(1L),
+				Secs2.binary(new byte[600]),
+				Secs2.ascii("END")
+				);
+		
+		List<Secs1MessageBlock> blocks = Secs1MessageBuilder.buildDataMessage(header, body).toBlocks();
+		
+		assertEquals(blocks.size(), 3);
+		
+		/* body buffer has unused tail */
+		byte[] joined = joinBody(blocks, 100);
+		int bodyLength = joined.length - 100;
+		
+		Secs1Message msg = AbstractSecs1MessageBuilder.buildFromBlocks(blocks, joined, bodyLength);
+		
+		assertEquals(msg.isValidBlocks(), true);
+		assertEquals(msg.getStream(), 6);
+		assertEquals(msg.getFunction(), 11);
+		assertEquals(msg.wbit(), true);
+		assertEquals(msg.secs2(), body);
+		assertEquals(msg.toBlocks().size(), 3);
+		
+		/* without last block */
+		Secs1Message broken = AbstractSecs1MessageBuilder.buildFromBlocks(blocks.subList(0, 2), joined, bodyLength);
+		assertEquals(broken.isValidBlocks(), false);
+		
+		/* body shorter than item length */
+		Secs1Message shorter = AbstractSecs1MessageBuilder.buildFromBlocks(blocks, joined, (bodyLength - 1));
+		assertEquals(shorter.isValidBlocks(), false);
+		
+		/* body longer than blocks */
+		Secs1Message longer = AbstractSecs1MessageBuilder.buildFromBlocks(blocks, joined, (bodyLength + 1));
+		assertEquals(longer.isValidBlocks(), false);
+		
+		/* bodyLength over buffer */
+		Secs1Message over = AbstractSecs1MessageBuilder.buildFromBlocks(blocks, joined, (joined.length + 1));
+		assertEquals(over.isValidBlocks(), false);
+	}
+	
+	@Test
+	@DisplayName("Secs1MessageBuilder#fromBlockHeads builds same blocks")
+	void testFromBlockHeads() {
+		
+		byte[] header = new byte[] {
+				(byte)0x80, (byte)0x0A,
+				(byte)0x06, (byte)0x0C,
+				(byte)0x00, (byte)0x00,
+				(byte)0x00, (byte)0x00, (byte)0x00, (byte)0x06
+		};
+		
+		Secs2 body = Secs2.list(
+				Secs2.ascii("RPT"),
+				Secs2.binary(new byte[500])
+				);
+		
+		List<Secs1MessageBlock> blocks = Secs1MessageBuilder.buildDataMessage(header, body).toBlocks();
+		
+		final int m = blocks.size();
+		
+		/* buffers are larger than used */
+		final byte[] heads = new byte[(m + 2) * 10];
+		final int[] offsets = new int[m + 3];
+		
+		for (int i = 0; i < m; ++i) {
+			byte[] bs = blocks.get(i).getBytes();
+			System.arraycopy(bs, 1, heads, (i * 10), 10);
+			offsets[i + 1] = offsets[i] + (bs.length - 13);
+		}
+		
+		byte[] joined = joinBody(blocks, 100);
+		
+		AbstractSecs1Message msg = AbstractSecs1MessageBuilder.buildFromBlockHeads(heads, m, joined, offsets, Secs2BytesParser.getInstance());
+		
+		assertEquals(msg.isValidBlocks(), true);
+		assertEquals(msg.secs2(), body);
+		assertEquals(msg.rbit(), true);
+		assertEquals(msg.getFunction(), 12);
+		assertEquals(msg.toBlocks().size(), m);
+		
+		for (int i = 0; i < m; ++i) {
+			assertArrayEquals(blocks.get(i).getBytes(), msg.toBlocks().get(i).getBytes());
+		}
+		
+		/* changed stream of second block, buffers are owned by message */
+		byte[] changed = heads.clone();
+		changed[12] = (byte)0x07;
+		
+		AbstractSecs1Message invalid = AbstractSecs1MessageBuilder.buildFromBlockHeads(changed, m, joined.clone(), offsets.clone(), Secs2BytesParser.getInstance());
+		
+		assertEquals(invalid.isValidBlocks(), false);
+		assertEquals(invalid.toBlocks().size(), m);
+		assertEquals(invalid.toBlocks().get(1).getBytes()[3], (byte)0x07);
+		assertEquals(invalid.toBlocks().get(1).isValid(), true);
+	}
+	
+	private static byte[] filled(int size) {
+		byte[] bs = new byte[size];
+		for (int i = 0; i < size; ++i) {
+			bs[i] = (byte)(i * 7 + 1);
+		}
+		return bs;
+	}
+	
+	/* blocks built as before on-demand block list */
+	private static List<Secs1MessageBlock> buildBlocksEagerly(byte[] header, Secs2 body) {
+		
+		final List<Secs1MessageBlock> blocks = new ArrayList<>();
+		final List<byte[]> ll = body.getBytesList(244);
+		final int m = ll.size();
+		
+		for (int i = 0; i < m; ++i) {
+			
+			byte[] bb = ll.get(i);
+			int len = header.length + bb.length;
+			int blockNumber = i + 1;
+			
+			byte[] bs = new byte[len + 3];
+			
+			bs[0] = (byte)len;
+			bs[1] = header[0];
+			bs[2] = header[1];
+			bs[3] = header[2];
+			bs[4] = header[3];
+			bs[5] = (byte)(blockNumber >> 8);
+			if (i == (m - 1)) {
+				bs[5] |= (byte)0x80;
+			}
+			bs[6] = (byte)blockNumber;
+			bs[7] = header[6];
+			bs[8] = header[7];
+			bs[9] = header[8];
+			bs[10] = header[9];
+			
+			System.arraycopy(bb, 0, bs, 11, bb.length);
+			
+			int sum = 0;
+			for (int j = 1; j <= len; ++j) {
+				sum += (int)(bs[j]) & 0xFF;
+			}
+			
+			bs[len + 1] = (byte)(sum >> 8);
+			bs[len + 2] = (byte)sum;
+			
+			blocks.add(Secs1MessageBlock.of(bs));
+		}
+		
+		return blocks;
+	}
+	
+	@Test
+	@DisplayName("Secs1MessageBuilder#build blocks same as eager build")
+	void testBlocksSameAsEager() {
+		
+		byte[] header = new byte[] {
+				(byte)0x80, (byte)0x0A,
+				(byte)0x86, (byte)0x0B,
+				(byte)0x00, (byte)0x00,
+				(byte)0x12, (byte)0x34, (byte)0x56, (byte)0x78
+		};
+		
+		/* encoded body 0, 243, 244, 245, 488, 489 and 490 bytes */
+		List<Secs2> bodies = Arrays.asList(
+				Secs2.empty(),
+				Secs2.binary(filled(241)),
+				Secs2.binary(filled(242)),
+				Secs2.binary(filled(243)),
+				Secs2.binary(filled(485)),
+				Secs2.binary(filled(486)),
+				Secs2.list(Secs2.binary(filled(484)), Secs2.list()));
+		
+		for (Secs2 body : bodies) {
+			
+			List<Secs1MessageBlock> expected = buildBlocksEagerly(header, body);
+			List<Secs1MessageBlock> blocks = Secs1MessageBuilder.buildDataMessage(header, body).toBlocks();
+			
+			assertEquals(expected.size(), blocks.size());
+			
+			for (int i = 0, m = blocks.size(); i < m; ++i) {
+				
+				Secs1MessageBlock block = blocks.get(i);
+				
+				assertArrayEquals(expected.get(i).getBytes(), block.getBytes());
+				assertEquals(block.isValid(), true);
+				assertEquals(block.blockNumber(), (i + 1));
+				assertEquals(block.ebit(), (i == (m - 1)));
+			}
+		}
+		
+		/* blocks read out of order */
+		Secs2 large = Secs2.list(Secs2.binary(filled(1000)), Secs2.ascii("END"));
+		List<Secs1MessageBlock> expected = buildBlocksEagerly(header, large);
+		List<Secs1MessageBlock> blocks = Secs1MessageBuilder.buildDataMessage(header, large).toBlocks();
+		
+		assertEquals(expected.size(), blocks.size());
+		
+		for (int i : new int[] {0, 0, 2, 1, 4, 4, 3, 0}) {
+			assertArrayEquals(expected.get(i).getBytes(), blocks.get(i).getBytes());
+		}
+		
+		Secs1Message msg = Secs1MessageBuilder.buildDataMessage(header, Secs2.binary(new byte[600]));
+		Secs1MessageBlockPack pack = new Secs1MessageBlockPack(msg);
+		
+		assertEquals(pack.present().blockNumber(), 1);
+		assertEquals(pack.ebit(), false);
+		
+		pack.next();
+		pack.next();
+		
+		assertEquals(pack.present().blockNumber(), 3);
+		assertEquals(pack.ebit(), true);
+		
+		/* retry restarts from block 1 */
+		pack.reset();
+		
+		assertEquals(pack.present().blockNumber(), 1);
+		assertArrayEquals(msg.toBlocks().get(0).getBytes(), pack.present().getBytes());
+	}
+	
+	@Test
+	@DisplayName("Secs1Message serialize and deserialize")
+	void testSerialize() {
+		
+		byte[] header = new byte[] {
+				(byte)0x00, (byte)0x0A,
+				(byte)0x81, (byte)0x01,
+				(byte)0x00, (byte)0x00,
+				(byte)0x00, (byte)0x00, (byte)0x00, (byte)0x01
+		};
+		
+		Secs2 body = Secs2.list(
+				Secs2.ascii("MDLN"),
+				Secs2.binary(new byte[500])
+				);
+		
+		Secs1Message msg = Secs1MessageBuilder.buildDataMessage(header, body);
+		
+		try (
+				ByteArrayOutputStream baos = new ByteArrayOutputStream();
+				) {
+			
+			try (
+					ObjectOutputStream oos = new ObjectOutputStream(baos);
+					) {
+				oos.writeObject(msg);
+			}
+			
+			try (
+					ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+					) {
+				
+				Secs1Message r = (Secs1Message)(ois.readObject());
+				
+				assertEquals(r.isValidBlocks(), true);
+				assertEquals(r.secs2() instanceof Secs2EncodedBytes, true);
+				assertEquals(r.toBlocks().size(), msg.toBlocks().size());
+				assertEquals(r.deviceId(), 10);
+				assertEquals(r.secs2(), body);
+				assertEquals(r.toString(), msg.toString());
+			}
+		}
+		catch (IOException | ClassNotFoundException e) {
+			fail(e);
+		}
+	}
+	
 }
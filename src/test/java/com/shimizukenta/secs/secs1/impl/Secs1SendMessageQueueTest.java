@@ -0,0 +1,106 @@
+package com.shimizukenta.secs.secs1.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.shimizukenta.secs.secs1.Secs1Message;
+import com.shimizukenta.secs.secs1.Secs1SendOrderPolicy;
+import com.shimizukenta.secs.secs2.Secs2;
+
+class Secs1SendMessageQueueTest {
+
+	private static Secs1MessageBlockPack pack(int func, int bodySize, int systemByte) {
+
+		final byte[] header = new byte[] {
+				(byte)0x00, (byte)0x0A,
+				(byte)0x06, (byte)func,
+				(byte)0x00, (byte)0x00,
+				(byte)0x00, (byte)0x00, (byte)0x00, (byte)systemByte
+		};
+
+		final Secs1Message msg = Secs1MessageBuilder.buildDataMessage(header, Secs2.binary(new byte[bodySize]));
+		return new Secs1MessageBlockPack(msg);
+	}
+
+	private static int poll(Secs1SendMessageQueue<Secs1MessageBlockPack> q, int fairness) {
+		return (int)(q.poll(fairness).message.header10Bytes()[9]);
+	}
+
+	private static void addAll(Secs1SendMessageQueue<Secs1MessageBlockPack> q, Secs1SendOrderPolicy policy) {
+
+		/* multi-block primary */
+		q.add(pack(11, 600, 1), policy);
+		q.add(pack(11, 600, 2), policy);
+
+		/* reply */
+		q.add(pack(12, 600, 3), policy);
+		q.add(pack(12, 10, 4), policy);
+		q.add(pack(12, 10, 5), policy);
+		q.add(pack(12, 10, 6), policy);
+		q.add(pack(12, 10, 7), policy);
+
+		/* single-block primary */
+		q.add(pack(11, 10, 8), policy);
+	}
+
+	@Test
+	@DisplayName("FIFO polls in order of put")
+	void testFifo() {
+
+		final Secs1SendMessageQueue<Secs1MessageBlockPack> q = new Secs1SendMessageQueue<>(p -> p.message);
+		addAll(q, Secs1SendOrderPolicy.FIFO);
+
+		for (int i = 1; i <= 8; ++i) {
+			assertEquals(i, poll(q, 2));
+		}
+
+		assertNull(q.poll(2));
+	}
+
+	@Test
+	@DisplayName("REPLY_FIRST passes multi-block primary up to fairness")
+	void testReplyFirstFairness() {
+
+		final Secs1SendMessageQueue<Secs1MessageBlockPack> q = new Secs1SendMessageQueue<>(p -> p.message);
+		addAll(q, Secs1SendOrderPolicy.REPLY_FIRST);
+
+		assertEquals(3, poll(q, 2));
+		assertEquals(4, poll(q, 2));
+		assertEquals(1, poll(q, 2));
+		assertEquals(5, poll(q, 2));
+		assertEquals(6, poll(q, 2));
+		assertEquals(2, poll(q, 2));
+
+		/* no waiting primary */
+		assertEquals(7, poll(q, 2));
+		assertEquals(8, poll(q, 2));
+
+		assertNull(q.poll(2));
+	}
+
+	@Test
+	@DisplayName("REPLY_FIRST fairness count restarts after waiting primary sent")
+	void testReplyFirstRestart() {
+
+		final Secs1SendMessageQueue<Secs1MessageBlockPack> q = new Secs1SendMessageQueue<>(p -> p.message);
+		final Secs1SendOrderPolicy policy = Secs1SendOrderPolicy.REPLY_FIRST;
+
+		q.add(pack(12, 10, 1), policy);
+		assertEquals(1, poll(q, 1));
+
+		/* fairness count is reset when only replies or primaries wait */
+		q.add(pack(11, 600, 2), policy);
+		q.add(pack(12, 10, 3), policy);
+		q.add(pack(12, 10, 4), policy);
+
+		assertEquals(3, poll(q, 1));
+		assertEquals(2, poll(q, 1));
+		assertEquals(4, poll(q, 1));
+
+		assertNull(q.poll(1));
+	}
+
+}
@@ -1,6 +1,7 @@
 package com.shimizukenta.secs.secs1ontcpip;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
@@ -10,6 +11,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import com.shimizukenta.secs.local.property.TimeoutAndUnit;
+import com.shimizukenta.secs.secs1.ReplyFirstFairnessIllegalArgumentException;
+import com.shimizukenta.secs.secs1.Secs1SendOrderPolicy;
 
 class Secs1OnTcpIpCommunicatorConfigTest {
 	
@@ -44,6 +47,10 @@ class Secs1OnTcpIpCommunicatorConfigTest {
 		
 		// isCheckMessageBlockDeviceId
 		assertEquals(config.isCheckMessageBlockDeviceId().booleanValue(), true);
+		
+		// sendOrderPolicy
+		assertEquals(config.sendOrderPolicy().get(), Secs1SendOrderPolicy.FIFO);
+		assertEquals(config.replyFirstFairness().intValue(), 4);
 	}
 	
 	@Test
@@ -92,6 +99,13 @@ class Secs1OnTcpIpCommunicatorConfigTest {
 		// isCheckMessageBlockDeviceId
 		config.isCheckMessageBlockDeviceId(false);
 		assertEquals(config.isCheckMessageBlockDeviceId().booleanValue(), false);
+		
+		// sendOrderPolicy
+		config.sendOrderPolicy(Secs1SendOrderPolicy.REPLY_FIRST);
+		assertEquals(config.sendOrderPolicy().get(), Secs1SendOrderPolicy.REPLY_FIRST);
+		config.replyFirstFairness(2);
+		assertEquals(config.replyFirstFairness().intValue(), 2);
+		assertThrows(ReplyFirstFairnessIllegalArgumentException.class, () -> config.replyFirstFairness(0));
 	}
 	
 	private static void assertEqualsTimeoutAndUnit(TimeoutAndUnit t, long timeout, TimeUnit unit) {
@@ -0,0 +1,63 @@
+package com.shimizukenta.secs.secs2;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class Secs2DiffTest {
+
+	/* S1F4 */
+	private static Secs2 buildSvs(int m, int changedIndex) {
+		final List<Secs2> ll = new ArrayList<>();
+		for (int i = 0; i < m; ++i) {
+			ll.add(Secs2.list(Secs2.uint4(i), (i == changedIndex ? Secs2.ascii("CHANGED") : Secs2.ascii("SV" + i))));
+		}
+		return Secs2.list(ll);
+	}
+
+	@Test
+	@DisplayName("Secs2Diff equal trees")
+	void testEqual() {
+		assertTrue(Secs2Diff.diff(buildSvs(10000, -1), buildSvs(10000, -1)).isEmpty());
+		assertTrue(Secs2Diff.diff(Secs2.empty(), Secs2.empty()).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Secs2Diff changed, added, removed")
+	void testChanged() {
+
+		final List<Secs2Diff> changed = Secs2Diff.diff(buildSvs(10000, -1), buildSvs(10000, 1234));
+
+		assertEquals(1, changed.size());
+		assertEquals(Secs2DiffType.CHANGED, changed.get(0).type());
+		assertArrayEquals(new int[] {1234, 1}, changed.get(0).path().indices());
+		assertEquals(Secs2.ascii("SV1234"), changed.get(0).before().get());
+		assertEquals(Secs2.ascii("CHANGED"), changed.get(0).after().get());
+
+		final List<Secs2Diff> added = Secs2Diff.diff(buildSvs(2, -1), buildSvs(3, -1));
+
+		assertEquals(1, added.size());
+		assertEquals(Secs2DiffType.ADDED, added.get(0).type());
+		assertArrayEquals(new int[] {2}, added.get(0).path().indices());
+		assertFalse(added.get(0).before().isPresent());
+
+		final List<Secs2Diff> removed = Secs2Diff.diff(buildSvs(3, -1), buildSvs(2, -1));
+
+		assertEquals(1, removed.size());
+		assertEquals(Secs2DiffType.REMOVED, removed.get(0).type());
+
+		final List<Secs2Diff> typed = Secs2Diff.diff(Secs2.uint4(1), Secs2.int4(1));
+
+		assertEquals(1, typed.size());
+		assertEquals(Secs2DiffType.CHANGED, typed.get(0).type());
+		assertEquals(0, typed.get(0).path().indices().length);
+	}
+
+}
@@ -3,6 +3,10 @@ package com.shimizukenta.secs.secs2;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import com.shimizukenta.secs.secs2.impl.Secs2BytesParsers;
+
+import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigInteger;
 import java.util.*;
 import java.util.function.Function;
@@ -155,6 +159,70 @@ class Secs2Test {
         }
     }
 
+    /* ASCII encode, decode and escape, same output as Charset encoding */
+    @Test
+    @DisplayName("Ascii encode, decode and JSON escape")
+    public void testAsciiEncodeDecodeEscape() {
+
+        final Function<Secs2, byte[]> body = s2 -> {
+            final byte[] bs = s2.getBytesList(1024).get(0);
+            return Arrays.copyOfRange(bs, 2, bs.length);
+        };
+
+        try {
+
+            /* pure US-ASCII */
+            {
+                final Secs2 s2 = Secs2.ascii("ABC 123");
+                assertArrayEquals(new byte[]{0x41, 0x42, 0x43, 0x20, 0x31, 0x32, 0x33}, body.apply(s2));
+                assertEquals("<A [7] \"ABC 123\">", s2.toString());
+                assertEquals("{\"f\":\"A\",\"v\":\"ABC 123\"}", s2.toJson());
+
+                final Secs2 r = Secs2BytesParsers.parse(s2.getBytesList(1024));
+                assertEquals("ABC 123", r.getAscii());
+                assertEquals(s2, r);
+            }
+
+            /* escape chars */
+            {
+                final Secs2 s2 = Secs2.ascii("a\"b/c\\d\be\tf\ng\fh\ri");
+                assertEquals(17, body.apply(s2).length);
+                assertEquals("{\"f\":\"A\",\"v\":\"a\\\"b\\/c\\\\d\\be\\tf\\ng\\fh\\ri\"}", s2.toJson());
+
+                final Secs2 r = Secs2BytesParsers.parse(s2.getBytesList(1024));
+                assertEquals(s2.toJson(), r.toJson());
+            }
+
+            /* not US-ASCII char is encoded to '?' */
+            {
+                final Secs2 s2 = Secs2.ascii("a\u00E9b");
+                assertArrayEquals(new byte[]{0x61, 0x3F, 0x62}, body.apply(s2));
+                assertEquals(3, s2.size());
+                assertEquals("<A [3] \"a\u00E9b\">", s2.toString());
+                assertEquals("{\"f\":\"A\",\"v\":\"a?b\"}", s2.toJson());
+            }
+
+            /* surrogate pair is encoded to one '?' */
+            {
+                final Secs2 s2 = Secs2.ascii("a\uD83D\uDE00b");
+                assertArrayEquals(new byte[]{0x61, 0x3F, 0x62}, body.apply(s2));
+                assertEquals(4, s2.size());
+                assertEquals("{\"f\":\"A\",\"v\":\"a?b\"}", s2.toJson());
+            }
+
+            /* not US-ASCII byte is decoded to replacement char */
+            {
+                final Secs2 r = Secs2BytesParsers.parse(Arrays.asList(new byte[]{0x41, 0x03, 0x41, (byte) 0x80, 0x42}));
+                assertEquals("A\uFFFDB", r.getAscii());
+                assertEquals(3, r.size());
+                assertEquals("<A [3] \"A\uFFFDB\">", r.toString());
+                assertEquals("{\"f\":\"A\",\"v\":\"A?B\"}", r.toJson());
+            }
+        } catch (Secs2Exception e) {
+            fail(e);
+        }
+    }
+
     /* I1 */
     @Test
     @DisplayName("Build I1")
@@ -354,6 +422,239 @@ class Secs2Test {
     }
 
 
+    /* equals and hashCode */
+    @Test
+    @DisplayName("equals and hashCode")
+    public void testEqualsAndHashCode() {
+
+        final Secs2 a = Secs2.list(
+                Secs2.uint4(1L, 2L),
+                Secs2.list(Secs2.ascii("A"), Secs2.bool(true)),
+                Secs2.float4(floatValues)
+        );
+        final Secs2 b = Secs2.list(
+                Secs2.uint4(listNumbers.subList(0, 2)),
+                Secs2.list(Secs2.ascii("A"), Secs2.bool(listBooleans.subList(1, 2))),
+                Secs2.float4(listFloats)
+        );
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+
+        assertNotEquals(Secs2.uint4(1), Secs2.int4(1));
+        assertNotEquals(Secs2.uint4(1), Secs2.uint4(2));
+        assertNotEquals(Secs2.list(Secs2.ascii("A")), Secs2.list(Secs2.ascii("B")));
+        assertNotEquals(Secs2.list(), Secs2.list(Secs2.list()));
+
+        final Set<Secs2> set = new HashSet<>();
+        set.add(Secs2.uint4(100));
+        set.add(Secs2.uint4(100L));
+        set.add(Secs2.ascii("100"));
+
+        assertEquals(set.size(), 2);
+        assertTrue(set.contains(Secs2.uint4(BigInteger.valueOf(100))));
+
+        try {
+            final Secs2 parsed = Secs2BytesParsers.parse(a.getBytesList(5));
+            assertEquals(parsed, a);
+            assertEquals(parsed.hashCode(), a.hashCode());
+        } catch (Secs2BytesParseException e) {
+            fail(e);
+        }
+    }
+
+    /* appendTo */
+    @Test
+    @DisplayName("appendTo and appendJsonTo")
+    public void testAppendTo() {
+
+        final Secs2 s2 = Secs2.list(
+                Secs2.list(),
+                Secs2.ascii("ABC"),
+                Secs2.list(
+                        Secs2.binary(byteValues),
+                        Secs2.bool(booleanValues),
+                        Secs2.float8(doubleValues)
+                ),
+                Secs2.uint2(intValues)
+        );
+
+        final String br = System.lineSeparator();
+
+        final String sml = "<L [4]" + br
+                + "  <L [0]" + br
+                + "  >" + br
+                + "  <A [3] \"ABC\">" + br
+                + "  <L [3]" + br
+                + "    <B [3] 0x01 0x02 0x03>" + br
+                + "    <BOOLEAN [2] FALSE TRUE>" + br
+                + "    <F8 [3] 100.0 200.0 300.0>" + br
+                + "  >" + br
+                + "  <U2 [3] 1 2 3>" + br
+                + ">";
+
+        final String json = "{\"f\":\"L\",\"v\":["
+                + "{\"f\":\"L\",\"v\":[]},"
+                + "{\"f\":\"A\",\"v\":\"ABC\"},"
+                + "{\"f\":\"L\",\"v\":["
+                + "{\"f\":\"B\",\"v\":[1,2,3]},"
+                + "{\"f\":\"BOOLEAN\",\"v\":[false,true]},"
+                + "{\"f\":\"F8\",\"v\":[100.0,200.0,300.0]}]},"
+                + "{\"f\":\"U2\",\"v\":[1,2,3]}]}";
+
+        try {
+            final StringBuilder sb = new StringBuilder();
+            s2.appendTo(sb);
+            assertEquals(sml, sb.toString());
+            assertEquals(sml, s2.toString());
+
+            final StringWriter sw = new StringWriter();
+            s2.appendJsonTo(sw);
+            assertEquals(json, sw.toString());
+            assertEquals(json, s2.toJson());
+
+            /* cached */
+            final StringBuilder sb2 = new StringBuilder();
+            s2.appendTo(sb2);
+            assertEquals(sb2.toString(), sb.toString());
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /* Secs2Path */
+    @Test
+    @DisplayName("Secs2Path")
+    public void testSecs2Path() {
+
+        final Secs2 s2 = Secs2.list(
+                Secs2.ascii("ID"),
+                Secs2.list(
+                        Secs2.uint4(10L, 20L),
+                        Secs2.bool(true),
+                        Secs2.binary((byte) 0x80)
+                )
+        );
+
+        final Secs2Path list = Secs2Path.of(1);
+
+        assertEquals(assertSecs2GetSuccess(Secs2Path.of(0)::getAscii, s2), "ID");
+        assertEquals(assertSecs2GetSuccess(list.append(0, 0)::getInt, s2), Integer.valueOf(10));
+        assertEquals(assertSecs2GetSuccess(list.append(0, 1)::getLong, s2), Long.valueOf(20L));
+        assertEquals(assertSecs2GetSuccess(list.append(1, 0)::getBoolean, s2), Boolean.TRUE);
+        assertEquals(assertSecs2GetSuccess(list.append(2, 0)::getByte, s2), Byte.valueOf((byte) 0x80));
+        assertEquals(assertSecs2GetSuccess(Secs2Path.of()::get, s2), s2);
+
+        assertSecs2GetFail(Secs2Path.of(2)::get, s2);
+        assertSecs2GetFail(Secs2Path.of(0, 0)::getInt, s2);
+        assertSecs2GetFail(Secs2Path.of()::getInt, s2);
+
+        assertEquals(list.append(0, 1).optionalInt(s2).getAsInt(), 20);
+        assertFalse(list.append(0, 2).optionalInt(s2).isPresent());
+        assertFalse(Secs2Path.of(3).optional(s2).isPresent());
+        assertFalse(Secs2Path.of().optionalNumber(s2).isPresent());
+        assertEquals(Secs2Path.of(0).optionalAscii(s2).orElse(null), "ID");
+
+        assertEquals(Secs2Path.of(1, 0, 1), list.append(0, 1));
+    }
+
+    /* content hash and interner */
+    @Test
+    @DisplayName("Secs2#contentHash and Secs2Interner")
+    public void testContentHashAndIntern() {
+
+        final Secs2 a = Secs2.list(Secs2.uint4(1L), Secs2.list(Secs2.ascii("RPT"), Secs2.float4(1.5F)));
+        final Secs2 b = Secs2.list(Secs2.uint4(1L), Secs2.list(Secs2.ascii("RPT"), Secs2.float4(1.5F)));
+        final Secs2 c = Secs2.list(Secs2.uint4(1L), Secs2.list(Secs2.ascii("RPT"), Secs2.float4(2.5F)));
+
+        assertEquals(a.contentHash(), b.contentHash());
+        assertNotEquals(a.contentHash(), c.contentHash());
+        assertNotEquals(Secs2.int4(1).contentHash(), Secs2.uint4(1).contentHash());
+
+        try {
+            final Secs2 r = Secs2BytesParsers.parse(a.getBytesList(1024));
+            assertEquals(a.contentHash(), r.contentHash());
+            assertEquals(a.get(1).contentHash(), r.get(1).contentHash());
+        } catch (Secs2Exception e) {
+            fail(e);
+        }
+
+        final Secs2Interner interner = Secs2Interner.newInstance();
+
+        final Secs2 ia = interner.intern(a);
+        assertSame(ia, interner.intern(b));
+        assertEquals(a, ia);
+
+        final Secs2 ic = interner.intern(c);
+        assertNotSame(ia, ic);
+
+        try {
+            assertSame(ia.get(0), ic.get(0));
+            assertSame(ia.get(1, 0), ic.get(1, 0));
+        } catch (Secs2Exception e) {
+            fail(e);
+        }
+    }
+
+    /* shared instances */
+    @Test
+    @DisplayName("Shared small Secs2")
+    public void testSharedInstances() {
+
+        assertSame(Secs2.list(), Secs2.list(new ArrayList<>()));
+        assertSame(Secs2.ascii(""), Secs2.ascii(""));
+        assertSame(Secs2.binary((byte) 0x80), Secs2.binary((byte) 0x80));
+        assertSame(Secs2.bool(true), Secs2.bool(true));
+        assertSame(Secs2.int1(-1), Secs2.int1(-1L));
+        assertSame(Secs2.uint1(255), Secs2.uint1(255L));
+        assertNotSame(Secs2.uint1(255), Secs2.uint1(256));
+        assertEquals(Secs2.uint1(256), Secs2.uint1(256));
+        assertEquals(assertSecs2GetSuccess(Secs2.int1(-1)::getInt, 0), Integer.valueOf(-1));
+
+        final Secs2 s2 = Secs2.list(
+                Secs2.list(),
+                Secs2.binary((byte) 0x00),
+                Secs2.bool(false),
+                Secs2.uint1(1),
+                Secs2.uint4()
+        );
+
+        try {
+            final Secs2 r = Secs2BytesParsers.parse(s2.getBytesList(1024));
+            assertEquals(r, s2);
+
+            for (int i = 0, m = s2.size(); i < m; ++i) {
+                assertSame(r.get(i), s2.get(i));
+            }
+        } catch (Secs2Exception e) {
+            fail(e);
+        }
+    }
+
+    private static interface Secs2PathFunction<T> {
+        public T get(Secs2 root) throws Secs2Exception;
+    }
+
+    private <T> T assertSecs2GetSuccess(Secs2PathFunction<T> getter, Secs2 root) {
+        try {
+            return getter.get(root);
+            /* success */
+        } catch (Secs2Exception e) {
+            fail(e);
+        }
+        return null;
+    }
+
+    private <T> T assertSecs2GetFail(Secs2PathFunction<T> getter, Secs2 root) {
+        try {
+            T v = getter.get(root);
+            fail(Objects.toString(v));
+        } catch (Secs2Exception e) {
+            /* success */
+        }
+        return null;
+    }
+
     private static interface Secs2Supplier<T> {
         public T get() throws Secs2Exception;
     }
@@ -0,0 +1,133 @@
+package com.shimizukenta.secs.secs2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.shimizukenta.secs.secs2.impl.Secs2BytesParser;
+
+class Secs2WriterTest {
+
+	@Test
+	@DisplayName("Secs2Writer equals Secs2Builder")
+	void testEqualsBuilder() {
+
+		final int m = 2000;
+
+		final Secs2Writer w = Secs2Writer.newInstance();
+		final List<Secs2> ll = new ArrayList<>();
+
+		w.beginList(m);
+
+		for (int i = 0; i < m; ++i) {
+
+			w.beginList(4)
+				.uint4(i)
+				.ascii("ID" + i)
+				.float8(i * 0.5D, -1.0D)
+				.secs2(Secs2.list(Secs2.bool(true), Secs2.int2(-1)))
+				.endList();
+
+			ll.add(Secs2.list(
+					Secs2.uint4(i),
+					Secs2.ascii("ID" + i),
+					Secs2.float8(i * 0.5D, -1.0D),
+					Secs2.list(Secs2.bool(true), Secs2.int2(-1))));
+		}
+
+		final Secs2 s = w.endList().toSecs2();
+		final Secs2 expected = Secs2.list(ll);
+
+		assertEquals(expected, s);
+		assertEquals(m, s.size());
+		assertEquals(Secs2Item.LIST, s.secs2Item());
+		assertEquals(expected.toString(), s.toString());
+
+		try {
+			assertEquals("ID10", s.getAscii(10, 1));
+			assertEquals(expected, Secs2BytesParser.getInstance().parse(s.getBytesList(244)));
+			assertEquals(expected, Secs2BytesParser.getInstance().parse(s.getBytesList(1024)));
+		}
+		catch (Secs2Exception e) {
+			fail(e);
+		}
+	}
+
+	@Test
+	@DisplayName("Secs2Writer nesting check")
+	void testNesting() {
+
+		assertThrows(IllegalStateException.class, () -> Secs2Writer.newInstance().beginList(1).endList());
+		assertThrows(IllegalStateException.class, () -> Secs2Writer.newInstance().beginList(0).uint1(1));
+		assertThrows(IllegalStateException.class, () -> Secs2Writer.newInstance().uint1(1).uint1(2));
+		assertThrows(IllegalStateException.class, () -> Secs2Writer.newInstance().beginList(1).toSecs2());
+		assertThrows(IllegalStateException.class, () -> Secs2Writer.newInstance().toSecs2());
+		assertThrows(IllegalArgumentException.class, () -> Secs2Writer.newInstance().secs2(Secs2.empty()));
+
+		assertEquals(Secs2.list(), Secs2Writer.newInstance().beginList(0).endList().toSecs2());
+	}
+
+	@Test
+	@DisplayName("Secs2Writer to channel")
+	void testChannel() {
+
+		final int m = 1000;
+
+		final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		final Secs2Writer w = Secs2Writer.newInstance(Channels.newChannel(baos));
+		final List<Secs2> ll = new ArrayList<>();
+
+		w.beginList(m);
+
+		for (int i = 0; i < m; ++i) {
+			w.beginList(2).uint4(i).binary(new byte[30]).endList();
+			ll.add(Secs2.list(Secs2.uint4(i), Secs2.binary(new byte[30])));
+		}
+
+		w.endList();
+
+		final Secs2 expected = Secs2.list(ll);
+
+		try {
+			final long n = w.finish();
+
+			assertEquals(baos.size(), n);
+			assertEquals(expected, Secs2BytesParser.getInstance().parse(baos.toByteArray(), 0, baos.size()));
+		}
+		catch (IOException | Secs2Exception e) {
+			fail(e);
+		}
+
+		assertThrows(IllegalStateException.class, () -> w.finish());
+		assertThrows(IllegalStateException.class, () -> Secs2Writer.newInstance(Channels.newChannel(baos)).uint1(1).toSecs2());
+		assertThrows(IllegalStateException.class, () -> Secs2Writer.newInstance().uint1(1).finish());
+	}
+
+	@Test
+	@DisplayName("Secs2Writer parsed tree is kept")
+	void testParsedKept() {
+
+		final Secs2 s = Secs2Writer.newInstance().beginList(2).ascii("A").uint2(1, 2).endList().toSecs2();
+
+		try {
+			final Secs2 a = s.get(1);
+
+			assertEquals(Secs2.uint2(1, 2), a);
+			assertEquals(true, a == s.get(1));
+			assertEquals(2, s.getInt(1, 1));
+		}
+		catch (Secs2Exception e) {
+			fail(e);
+		}
+	}
+
+}
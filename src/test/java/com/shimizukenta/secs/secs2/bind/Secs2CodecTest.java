@@ -0,0 +1,232 @@
+package com.shimizukenta.secs.secs2.bind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2Item;
+
+class Secs2CodecTest {
+	
+	@Secs2Structure
+	static class Report {
+		
+		@Secs2Field(index = 0, item = Secs2Item.UINT4)
+		long rptId;
+		
+		@Secs2Field(index = 1)
+		List<Variable> variables;
+	}
+	
+	@Secs2Structure
+	static class Variable {
+		
+		@Secs2Field(index = 0, item = Secs2Item.UINT2)
+		int vid;
+		
+		@Secs2Field(index = 1)
+		String name;
+		
+		@Secs2Field(index = 2)
+		float[] values;
+		
+		@Secs2Field(index = 3)
+		boolean enabled;
+		
+		@Secs2Field(index = 4)
+		byte[] raw;
+		
+		@Secs2Field(index = 5)
+		Secs2 extra;
+		
+		private Variable() {
+			/* Nothing */
+		}
+		
+		Variable(int vid, String name) {
+			this.vid = vid;
+			this.name = name;
+			this.values = new float[] {1.5F, 2.0F};
+			this.enabled = true;
+			this.raw = new byte[] {(byte)0x01};
+			this.extra = Secs2.list(Secs2.int2(-1));
+		}
+	}
+	
+	@Secs2Structure
+	static class Narrow {
+		
+		@Secs2Field(index = 0, item = Secs2Item.UINT4)
+		int count;
+		
+		@Secs2Field(index = 1)
+		float ratio;
+	}
+	
+	static class NotStructure {
+		/* Nothing */
+	}
+	
+	private static Report buildReport() {
+		Report r = new Report();
+		r.rptId = 4000000000L;
+		r.variables = Arrays.asList(new Variable(1, "TEMP"), new Variable(65535, "PRES"));
+		return r;
+	}
+	
+	private static final Secs2 expected = Secs2.list(
+			Secs2.uint4(4000000000L),
+			Secs2.list(
+					Secs2.list(
+							Secs2.uint2(1),
+							Secs2.ascii("TEMP"),
+							Secs2.float4(1.5F, 2.0F),
+							Secs2.bool(true),
+							Secs2.binary((byte)0x01),
+							Secs2.list(Secs2.int2(-1))
+							),
+					Secs2.list(
+							Secs2.uint2(65535),
+							Secs2.ascii("PRES"),
+							Secs2.float4(1.5F, 2.0F),
+							Secs2.bool(true),
+							Secs2.binary((byte)0x01),
+							Secs2.list(Secs2.int2(-1))
+							)
+					)
+			);
+	
+	private static void assertReport(Report r) {
+		assertEquals(r.rptId, 4000000000L);
+		assertEquals(r.variables.size(), 2);
+		assertEquals(r.variables.get(1).vid, 65535);
+		assertEquals(r.variables.get(1).name, "PRES");
+		assertEquals(r.variables.get(0).values[1], 2.0F);
+		assertEquals(r.variables.get(0).enabled, true);
+		assertEquals(r.variables.get(0).raw[0], (byte)0x01);
+		assertEquals(r.variables.get(0).extra, Secs2.list(Secs2.int2(-1)));
+	}
+	
+	@Test
+	@DisplayName("Secs2Codec#toSecs2")
+	void testToSecs2() {
+		try {
+			assertEquals(Secs2Codec.of(Report.class).toSecs2(buildReport()), expected);
+		}
+		catch ( Secs2BindException e ) {
+			fail(e);
+		}
+	}
+	
+	@Test
+	@DisplayName("Secs2Codec#fromSecs2 and fromBytes")
+	void testFromSecs2AndBytes() {
+		
+		final Secs2Codec<Report> codec = Secs2Codec.of(Report.class);
+		
+		try {
+			assertReport(codec.fromSecs2(expected));
+			assertReport(codec.fromBytes(expected.getBytesList(7)));
+		}
+		catch ( Secs2BindException e ) {
+			fail(e);
+		}
+		
+		assertSame(Secs2Codec.of(Report.class), codec);
+	}
+	
+	@Test
+	@DisplayName("Secs2Codec failed")
+	void testFailed() {
+		
+		final Secs2Codec<Variable> codec = Secs2Codec.of(Variable.class);
+		
+		assertThrows(Secs2BindException.class, () -> codec.fromSecs2(Secs2.list(Secs2.uint2(1))));
+		assertThrows(Secs2BindException.class, () -> codec.fromBytes(Secs2.ascii("A").getBytesList(244)));
+		assertThrows(Secs2BindException.class, () -> codec.toSecs2(new Variable(1, null)));
+		assertThrows(IllegalArgumentException.class, () -> Secs2Codec.of(NotStructure.class));
+	}
+	
+	@Test
+	@DisplayName("Secs2Codec value out of range")
+	void testOutOfRange() {
+		
+		final Secs2Codec<Narrow> codec = Secs2Codec.of(Narrow.class);
+		
+		final Secs2 overInt = Secs2.list(Secs2.uint4(4000000000L), Secs2.float4(0.5F));
+		final Secs2 overFloat = Secs2.list(Secs2.uint4(1L), Secs2.float8(1.0E300D));
+		final Secs2 overLong = Secs2.list(Secs2.uint8(-1L), Secs2.float4(0.5F));
+		
+		assertThrows(Secs2BindException.class, () -> codec.fromSecs2(overInt));
+		assertThrows(Secs2BindException.class, () -> codec.fromBytes(overInt.getBytesList(3)));
+		assertThrows(Secs2BindException.class, () -> codec.fromSecs2(overFloat));
+		assertThrows(Secs2BindException.class, () -> codec.fromBytes(overFloat.getBytesList(3)));
+		assertThrows(Secs2BindException.class, () -> codec.fromBytes(overLong.getBytesList(3)));
+		assertThrows(Secs2BindException.class, () -> Secs2Codec.of(Report.class).fromBytes(
+				Secs2.list(Secs2.uint8(-1L), Secs2.list()).getBytesList(244)));
+		
+		try {
+			final Narrow n = codec.fromBytes(Secs2.list(Secs2.uint4(2147483647L), Secs2.float8(0.5D)).getBytesList(3));
+			assertEquals(n.count, 2147483647);
+			assertEquals(n.ratio, 0.5F);
+		}
+		catch ( Secs2BindException e ) {
+			fail(e);
+		}
+	}
+	
+	@Secs2Structure
+	static class Narrowing {
+		
+		@Secs2Field(index = 0, item = Secs2Item.INT4)
+		double count;
+		
+		@Secs2Field(index = 1, item = Secs2Item.UINT1)
+		int code;
+		
+		@Secs2Field(index = 2, item = Secs2Item.FLOAT4)
+		double[] values;
+		
+		Narrowing(double count, int code, double[] values) {
+			this.count = count;
+			this.code = code;
+			this.values = values;
+		}
+		
+		private Narrowing() {
+			/* Nothing */
+		}
+	}
+	
+	@Test
+	@DisplayName("Secs2Codec encode value out of range")
+	void testEncodeOutOfRange() {
+		
+		final Secs2Codec<Narrowing> codec = Secs2Codec.of(Narrowing.class);
+		
+		assertThrows(Secs2BindException.class, () -> codec.toSecs2(new Narrowing(1.5D, 1, new double[0])));
+		assertThrows(Secs2BindException.class, () -> codec.toSecs2(new Narrowing(3.0E9D, 1, new double[0])));
+		assertThrows(Secs2BindException.class, () -> codec.toSecs2(new Narrowing(Double.NaN, 1, new double[0])));
+		assertThrows(Secs2BindException.class, () -> codec.toSecs2(new Narrowing(1.0D, 256, new double[0])));
+		assertThrows(Secs2BindException.class, () -> codec.toSecs2(new Narrowing(1.0D, -1, new double[0])));
+		assertThrows(Secs2BindException.class, () -> codec.toSecs2(new Narrowing(1.0D, 1, new double[] {1.0E300D})));
+		
+		try {
+			assertEquals(
+					codec.toSecs2(new Narrowing(-2147483648.0D, 255, new double[] {0.5D})),
+					Secs2.list(Secs2.int4(-2147483648), Secs2.uint1(255), Secs2.float4(0.5F)));
+		}
+		catch ( Secs2BindException e ) {
+			fail(e);
+		}
+	}
+	
+}
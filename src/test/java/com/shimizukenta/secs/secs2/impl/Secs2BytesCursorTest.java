@@ -0,0 +1,96 @@
+package com.shimizukenta.secs.secs2.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2BytesParseException;
+
+class Secs2BytesCursorTest {
+
+	private static byte[] joined(Secs2 secs2) {
+		final ByteArrayOutputStream strm = new ByteArrayOutputStream();
+		for (byte[] bs : secs2.getBytesList(1024)) {
+			strm.write(bs, 0, bs.length);
+		}
+		return strm.toByteArray();
+	}
+
+	private static byte[] readAll(Secs2BytesCursor cursor, int step) {
+		final ByteArrayOutputStream strm = new ByteArrayOutputStream();
+		final byte[] bs = new byte[step];
+		for ( ;; ) {
+			int r = cursor.read(bs, 0, step);
+			strm.write(bs, 0, r);
+			if (r < step) {
+				return strm.toByteArray();
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Cursor reads same bytes as getBytesList")
+	void testSameAsBytesList() {
+
+		try {
+			final Secs2 encoded = Secs2EncodedBytes.of(Secs2.list(Secs2.ascii("ENC"), Secs2.uint2(1, 2)).getBytesList(3));
+
+			final List<Secs2> ss = Arrays.asList(
+					Secs2.empty(),
+					Secs2.list(),
+					Secs2.binary(new byte[300]),
+					Secs2.ascii("ABC"),
+					Secs2.list(
+							Secs2.uint4(1L, 2L),
+							Secs2.list(Secs2.bool(true), Secs2.list()),
+							encoded,
+							Secs2.float8(1.5D),
+							Secs2.binary(new byte[70000])));
+
+			for (Secs2 s : ss) {
+
+				final byte[] expected = joined(s);
+
+				assertEquals(expected.length, Secs2BytesCursor.encodedLength(s));
+
+				for (int step : new int[] {1, 7, 244, 100000}) {
+					assertArrayEquals(expected, readAll(new Secs2BytesCursor(s), step));
+				}
+			}
+		}
+		catch (Secs2BytesParseException e) {
+			fail(e);
+		}
+	}
+
+	@Test
+	@DisplayName("Cursor skip and rewind")
+	void testSkipAndRewind() {
+
+		final Secs2 s = Secs2.list(Secs2.ascii("ABCDEFG"), Secs2.binary(new byte[] {1, 2, 3}));
+		final byte[] expected = joined(s);
+
+		final Secs2BytesCursor cursor = new Secs2BytesCursor(s);
+
+		assertEquals(5, cursor.skip(5));
+
+		final byte[] bs = new byte[4];
+		assertEquals(4, cursor.read(bs, 0, 4));
+		assertArrayEquals(Arrays.copyOfRange(expected, 5, 9), bs);
+
+		assertEquals(expected.length - 9, cursor.skip(1000));
+		assertEquals(0, cursor.read(bs, 0, 4));
+
+		cursor.rewind();
+		assertArrayEquals(expected, readAll(cursor, 3));
+	}
+
+}
@@ -0,0 +1,333 @@
+package com.shimizukenta.secs.secs2.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2BytesParseException;
+import com.shimizukenta.secs.secs2.Secs2Exception;
+import com.shimizukenta.secs.secs2.Secs2Item;
+
+class Secs2BytesParserTest {
+
+	private static Secs2 buildSecs2() {
+		return Secs2.list(
+				Secs2.list(),
+				Secs2.ascii("ABC"),
+				Secs2.list(
+						Secs2.float4(1.5F, 2.0F),
+						Secs2.uint1(255, 1),
+						Secs2.uint8(-1L)
+						),
+				Secs2.bool(true, false),
+				Secs2.int2(-3)
+				);
+	}
+
+	private static final String expected = "L5(L0()A[ABC]L3(F4[1.5, 2.0]U1[255, 1]U8[18446744073709551615])BOOLEAN[true, false]I2[-3])";
+
+	private static class StringVisitor implements Secs2BytesVisitor {
+
+		private final StringBuilder sb = new StringBuilder();
+
+		@Override
+		public void onEmpty() {
+			sb.append("EMPTY");
+		}
+
+		@Override
+		public void onListStart(int size) {
+			sb.append("L").append(size).append("(");
+		}
+
+		@Override
+		public void onListEnd() {
+			sb.append(")");
+		}
+
+		@Override
+		public void onAscii(String ascii) {
+			sb.append("A[").append(ascii).append("]");
+		}
+
+		@Override
+		public void onBoolean(boolean[] values) {
+			sb.append("BOOLEAN").append(Arrays.toString(values));
+		}
+
+		@Override
+		public void onInt2(short[] values) {
+			sb.append("I2").append(Arrays.toString(values));
+		}
+
+		@Override
+		public void onUint1(int[] values) {
+			sb.append("U1").append(Arrays.toString(values));
+		}
+
+		@Override
+		public void onUint8(long[] values) {
+			sb.append("U8[").append(Long.toUnsignedString(values[0])).append("]");
+		}
+
+		@Override
+		public void onFloat4(float[] values) {
+			sb.append("F4").append(Arrays.toString(values));
+		}
+
+		@Override
+		public String toString() {
+			return sb.toString();
+		}
+	}
+
+	private static byte[] concat(List<byte[]> bss) {
+		try (
+				ByteArrayOutputStream strm = new ByteArrayOutputStream();
+				) {
+			for (byte[] bs : bss) {
+				strm.write(bs);
+			}
+			return strm.toByteArray();
+		}
+		catch (IOException e) {
+			fail(e);
+			return null;
+		}
+	}
+
+	@Test
+	@DisplayName("Visit List of bytes")
+	void testVisitBytesList() {
+
+		final List<byte[]> bss = buildSecs2().getBytesList(5);
+		final StringVisitor v = new StringVisitor();
+
+		try {
+			Secs2BytesParser.getInstance().parse(bss, v);
+		}
+		catch (Secs2BytesParseException e) {
+			fail(e);
+		}
+
+		assertEquals(v.toString(), expected);
+	}
+
+	@Test
+	@DisplayName("Visit ByteBuffer and InputStream")
+	void testVisitBufferAndStream() {
+
+		final byte[] bs = concat(buildSecs2().getBytesList(1024));
+
+		try {
+			StringVisitor v = new StringVisitor();
+			Secs2BytesParser.getInstance().parse(ByteBuffer.wrap(bs), v);
+			assertEquals(v.toString(), expected);
+		}
+		catch (Secs2BytesParseException e) {
+			fail(e);
+		}
+
+		try {
+			StringVisitor v = new StringVisitor();
+			Secs2BytesParser.getInstance().parse(new ByteArrayInputStream(bs), v);
+			assertEquals(v.toString(), expected);
+		}
+		catch (Secs2BytesParseException | IOException e) {
+			fail(e);
+		}
+	}
+
+	@Test
+	@DisplayName("Visit empty and broken bytes")
+	void testVisitEmptyAndBroken() {
+
+		try {
+			StringVisitor v = new StringVisitor();
+			Secs2BytesParser.getInstance().parse(Secs2.empty().getBytesList(244), v);
+			assertEquals(v.toString(), "EMPTY");
+		}
+		catch (Secs2BytesParseException e) {
+			fail(e);
+		}
+
+		final byte[] bs = concat(buildSecs2().getBytesList(1024));
+
+		try {
+			Secs2BytesParser.getInstance().parse(ByteBuffer.wrap(bs, 0, 10), new StringVisitor());
+			fail("not reach");
+		}
+		catch (Secs2BytesParseException expectedFailure) {
+			/* Nothing */
+		}
+	}
+
+	@Test
+	@DisplayName("Visit large values in bounded chunks")
+	void testVisitChunked() {
+
+		final byte[] bin = new byte[20000];
+		for (int i = 0; i < bin.length; ++i) {
+			bin[i] = (byte)i;
+		}
+
+		final long[] u4 = new long[5000];
+		for (int i = 0; i < u4.length; ++i) {
+			u4[i] = 0xFFFFFFF0L + (i % 16);
+		}
+
+		final Secs2 s = Secs2.list(Secs2.binary(bin), Secs2.uint4(u4), Secs2.binary());
+
+		final ByteArrayOutputStream value = new ByteArrayOutputStream();
+		final List<Integer> chunks = new ArrayList<>();
+		final List<Boolean> lasts = new ArrayList<>();
+
+		final Secs2BytesVisitor chunked = new Secs2BytesVisitor() {
+
+			@Override
+			public boolean isChunked() {
+				return true;
+			}
+
+			@Override
+			public void onValueChunk(byte[] bs, int offset, int length, boolean last) {
+				value.write(bs, offset, length);
+				chunks.add(length);
+				lasts.add(last);
+			}
+		};
+
+		final List<long[]> typed = new ArrayList<>();
+
+		final Secs2BytesVisitor typedVisitor = new Secs2BytesVisitor() {
+
+			@Override
+			public void onUint4(long[] values) {
+				typed.add(values);
+			}
+		};
+
+		try {
+			Secs2BytesParser.getInstance().parse(s.getBytesList(244), chunked);
+			Secs2BytesParser.getInstance().parse(s.getBytesList(244), typedVisitor);
+		}
+		catch (Secs2BytesParseException e) {
+			fail(e);
+		}
+
+		assertEquals(Arrays.asList(8192, 8192, 3616, 8192, 8192, 3616, 0), chunks);
+		assertEquals(Arrays.asList(false, false, true, false, false, true, true), lasts);
+		assertEquals(40000, value.size());
+		assertArrayEquals(bin, Arrays.copyOf(value.toByteArray(), bin.length));
+
+		assertEquals(1, typed.size());
+		assertArrayEquals(u4, typed.get(0));
+	}
+
+	@Test
+	@DisplayName("Pull reader over chunks")
+	void testReader() {
+
+		final Secs2BytesReader r = Secs2BytesParser.getInstance().reader(buildSecs2().getBytesList(3));
+
+		try {
+			assertEquals(Secs2Item.LIST, r.next());
+			assertEquals(5, r.length());
+
+			assertEquals(Secs2Item.LIST, r.next());
+			r.skip();
+
+			assertEquals(Secs2Item.ASCII, r.next());
+			final StringVisitor v = new StringVisitor();
+			r.visit(v);
+			assertEquals("A[ABC]", v.toString());
+
+			assertEquals(Secs2Item.LIST, r.next());
+			assertEquals(buildSecs2().get(2), r.readSecs2());
+
+			assertEquals(Secs2Item.BOOLEAN, r.next());
+			r.skip();
+
+			assertEquals(Secs2Item.INT2, r.next());
+			assertEquals(Secs2.int2(-3), r.readSecs2());
+
+			assertEquals(false, r.hasRemaining());
+		}
+		catch ( Secs2Exception e ) {
+			fail(e);
+		}
+	}
+
+	@Test
+	@DisplayName("Parse range of byte array")
+	void testParseRange() {
+
+		final Secs2 s = buildSecs2();
+		final byte[] bs = concat(s.getBytesList(244));
+
+		final byte[] padded = new byte[bs.length + 20];
+		Arrays.fill(padded, (byte)0xFF);
+		System.arraycopy(bs, 0, padded, 7, bs.length);
+
+		final Secs2BytesParser p = Secs2BytesParser.getInstance();
+
+		try {
+			assertEquals(s, p.parse(bs, 0, bs.length));
+			assertEquals(s, p.parse(padded, 7, (7 + bs.length)));
+			assertEquals(s, Secs2BytesParser.newParallelInstance(2).parse(padded, 7, (7 + bs.length)));
+
+			assertEquals(Secs2Item.UNDEFINED, p.parse(padded, 7, 7).secs2Item());
+		}
+		catch (Secs2BytesParseException e) {
+			fail(e);
+		}
+
+		/* end is not item boundary */
+		assertThrows(Secs2BytesParseException.class, () -> p.parse(padded, 7, (6 + bs.length)));
+		assertThrows(Secs2BytesParseException.class, () -> p.parse(padded, 7, (8 + bs.length)));
+	}
+
+	@Test
+	@DisplayName("Parallel parse equals sequential parse")
+	void testParallelParse() {
+
+		final List<Secs2> ll = new ArrayList<>();
+		for (int i = 0; i < 1000; ++i) {
+			ll.add(Secs2.list(Secs2.uint4(i), buildSecs2(), Secs2.binary((byte)i)));
+		}
+
+		final Secs2 s = Secs2.list(ll);
+		final Secs2BytesParser p = Secs2BytesParser.newParallelInstance(100);
+
+		try {
+			final Secs2 r = p.parse(s.getBytesList(244));
+			assertEquals(Secs2BytesParser.getInstance().parse(s.getBytesList(244)), r);
+			assertEquals(s, r);
+
+			assertEquals(buildSecs2(), p.parse(buildSecs2().getBytesList(244)));
+		}
+		catch (Secs2BytesParseException e) {
+			fail(e);
+		}
+
+		final byte[] bs = concat(s.getBytesList(1024));
+
+		assertThrows(Secs2BytesParseException.class, () -> p.parse(Collections.singletonList(Arrays.copyOf(bs, bs.length - 1))));
+		assertThrows(Secs2BytesParseException.class, () -> p.parse(Collections.singletonList(Arrays.copyOf(bs, bs.length + 1))));
+	}
+
+}
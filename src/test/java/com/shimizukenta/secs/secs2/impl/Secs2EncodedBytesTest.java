@@ -0,0 +1,63 @@
+package com.shimizukenta.secs.secs2.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2BytesParseException;
+import com.shimizukenta.secs.secs2.Secs2Exception;
+import com.shimizukenta.secs.secs2.Secs2Item;
+
+class Secs2EncodedBytesTest {
+
+	@Test
+	@DisplayName("Secs2EncodedBytes of chunks")
+	void testOf() {
+
+		final Secs2 expected = Secs2.list(Secs2.uint4(1, 2, 3), Secs2.ascii("ABCDEFG"), Secs2.list());
+
+		try {
+			final Secs2 s = Secs2EncodedBytes.of(expected.getBytesList(5));
+
+			assertEquals(expected, s);
+			assertEquals(3, s.size());
+			assertEquals(Secs2Item.LIST, s.secs2Item());
+			assertEquals(expected, Secs2BytesParser.getInstance().parse(s.getBytesList(1024)));
+
+			assertEquals(Secs2Item.UNDEFINED, Secs2EncodedBytes.of(new ArrayList<>()).secs2Item());
+		}
+		catch (Secs2Exception e) {
+			fail(e);
+		}
+	}
+
+	@Test
+	@DisplayName("Secs2EncodedBytes returns same chunks if same size")
+	void testSameChunks() {
+
+		final Secs2 expected = Secs2.binary(new byte[600]);
+		final List<byte[]> bss = expected.getBytesList(244);
+
+		try {
+			final Secs2 s = Secs2EncodedBytes.of(bss);
+
+			assertSame(bss, s.getBytesList(244));
+			assertEquals(expected.getBytesList(100).size(), s.getBytesList(100).size());
+		}
+		catch (Secs2BytesParseException e) {
+			fail(e);
+		}
+
+		assertThrows(Secs2BytesParseException.class, () -> Secs2EncodedBytes.of(Collections.singletonList(new byte[] {(byte)0x00, (byte)0x01})));
+	}
+
+}
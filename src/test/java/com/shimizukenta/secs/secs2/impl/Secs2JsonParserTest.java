@@ -0,0 +1,129 @@
+package com.shimizukenta.secs.secs2.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.shimizukenta.secs.secs2.Secs2;
+import com.shimizukenta.secs.secs2.Secs2JsonParseException;
+
+class Secs2JsonParserTest {
+
+	private static Secs2 buildSecs2() {
+		return Secs2.list(
+				Secs2.list(),
+				Secs2.ascii("A\"B\\C/\t\r\n"),
+				Secs2.binary((byte)1, (byte)0xFF),
+				Secs2.bool(true, false),
+				Secs2.list(
+						Secs2.int1(-128, 127),
+						Secs2.int2(-3),
+						Secs2.int4(Integer.MIN_VALUE),
+						Secs2.int8(Long.MIN_VALUE, Long.MAX_VALUE),
+						Secs2.uint1(255),
+						Secs2.uint2(65535),
+						Secs2.uint4(4294967295L),
+						Secs2.uint8(-1L)
+						),
+				Secs2.float4(1.5F, -2.0F),
+				Secs2.float8(Double.NaN, Double.NEGATIVE_INFINITY, 0.1D),
+				Secs2.uint4()
+				);
+	}
+
+	@Test
+	@DisplayName("Secs2JsonParser#parse CharSequence")
+	void testCharSequence() {
+
+		final Secs2 s = buildSecs2();
+
+		try {
+			Secs2 r = Secs2JsonParser.getInstance().parse(s.toJson());
+			assertEquals(s, r);
+			assertEquals(r, Secs2JsonParser.getInstance().parse(r.toJson()));
+		}
+		catch ( Secs2JsonParseException e ) {
+			fail(e);
+		}
+	}
+
+	@Test
+	@DisplayName("Secs2JsonParser#parse Reader")
+	void testReader() {
+
+		final Secs2 s = buildSecs2();
+
+		try {
+			Secs2 r = Secs2JsonParser.getInstance().parse(new StringReader(" " + s.toJson() + "\n"));
+			assertEquals(s, r);
+
+			assertEquals(Secs2.empty(), Secs2JsonParser.getInstance().parse(new StringReader("{}")));
+		}
+		catch ( Secs2JsonParseException | IOException e ) {
+			fail(e);
+		}
+	}
+
+	@Test
+	@DisplayName("Secs2JsonValueReader#next")
+	void testValueReader() {
+
+		final Secs2 s = buildSecs2();
+
+		/* longer than read buffer, values are split at buffer boundary */
+		final StringBuilder sb = new StringBuilder();
+		for ( int i = 0; i < 100; ++i ) {
+			sb.append(s.toJson()).append("\n").append("{}").append(" ");
+		}
+
+		try {
+			final Secs2JsonValueReader r = Secs2JsonParser.getInstance().newValueReader(new StringReader(sb.toString()));
+
+			for ( int i = 0; i < 100; ++i ) {
+				assertEquals(s, r.next());
+				assertEquals(Secs2.empty(), r.next());
+			}
+
+			assertNull(r.next());
+			assertNull(r.next());
+
+			assertNull(Secs2JsonParser.getInstance().newValueReader(new StringReader(" \n")).next());
+		}
+		catch ( Secs2JsonParseException | IOException e ) {
+			fail(e);
+		}
+
+		final Secs2JsonValueReader broken = Secs2JsonParser.getInstance().newValueReader(new StringReader("{} {\"f\":"));
+
+		try {
+			assertEquals(Secs2.empty(), broken.next());
+		}
+		catch ( Secs2JsonParseException | IOException e ) {
+			fail(e);
+		}
+
+		assertThrows(Secs2JsonParseException.class, () -> broken.next());
+	}
+
+	@Test
+	@DisplayName("Secs2JsonParser#parse failed")
+	void testFailed() {
+
+		final Secs2JsonParser p = Secs2JsonParser.getInstance();
+
+		assertThrows(Secs2JsonParseException.class, () -> p.parse(""));
+		assertThrows(Secs2JsonParseException.class, () -> p.parse("{\"f\":\"U4\",\"v\":[1,]}"));
+		assertThrows(Secs2JsonParseException.class, () -> p.parse("{\"f\":\"BOOLEAN\",\"v\":[1]}"));
+		assertThrows(Secs2JsonParseException.class, () -> p.parse("{\"f\":\"JIS8\",\"v\":false}"));
+		assertThrows(Secs2JsonParseException.class, () -> p.parse("{\"v\":[],\"f\":\"L\"}"));
+		assertThrows(Secs2JsonParseException.class, () -> p.parse("{\"f\":\"L\",\"v\":[]} {}"));
+	}
+
+}
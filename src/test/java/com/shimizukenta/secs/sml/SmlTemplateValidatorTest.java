@@ -0,0 +1,107 @@
+package com.shimizukenta.secs.sml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.shimizukenta.secs.secs2.Secs2;
+
+class SmlTemplateValidatorTest {
+	
+	/* S6F11 */
+	private static final String s6f11 = "<L[3]" +
+										"  <U4>" +
+										"  <U4 *>" +
+										"  <L[*]" +
+										"    <L" +
+										"      <U4>" +
+										"      <L[*]>" +
+										"    >" +
+										"  >" +
+										">";
+	
+	private static Secs2 buildS6F11(Secs2 rptId) {
+		return Secs2.list(
+				Secs2.uint4(1L),
+				Secs2.uint4(4000L),
+				Secs2.list(
+						Secs2.list(
+								rptId,
+								Secs2.list(Secs2.ascii("A"), Secs2.float4(1.0F))
+								),
+						Secs2.list(
+								Secs2.uint4(2L),
+								Secs2.list()
+								)
+						)
+				);
+	}
+	
+	private static SmlTemplateValidator compile(String template) {
+		try {
+			return SmlTemplateValidator.compile(template);
+		}
+		catch ( SmlDataItemParseException e ) {
+			fail(e);
+			return null;
+		}
+	}
+	
+	@Test
+	@DisplayName("SmlTemplateValidator matched")
+	void testMatched() {
+		
+		final SmlTemplateValidator v = compile(s6f11);
+		
+		assertEquals(v.validate(buildS6F11(Secs2.uint4(1L))).isPresent(), false);
+		assertEquals(v.matches(buildS6F11(Secs2.uint4(1L)).getBytesList(3)), true);
+		
+		assertEquals(compile("<A \"OK\">").validate(Secs2.ascii("OK")).isPresent(), false);
+		assertEquals(compile("<A[2]>").validate(Secs2.ascii("NG")).isPresent(), false);
+		assertEquals(compile("<BOOLEAN T>").validate(Secs2.bool(true)).isPresent(), false);
+		assertEquals(compile("<U2 1 * 3>").validate(Secs2.uint2(1, 100, 3)).isPresent(), false);
+		assertEquals(compile("<*>").validate(Secs2.list(Secs2.list())).isPresent(), false);
+		assertEquals(compile("").validate(Secs2.empty()).isPresent(), false);
+	}
+	
+	@Test
+	@DisplayName("SmlTemplateValidator first mismatch")
+	void testMismatch() {
+		
+		final SmlTemplateValidator v = compile(s6f11);
+		
+		{
+			Optional<SmlTemplateMismatch> r = v.validate(buildS6F11(Secs2.uint2(1)));
+			assertEquals(r.isPresent(), true);
+			assertEquals(Arrays.toString(r.get().path()), "[2, 0, 0]");
+		}
+		{
+			Optional<SmlTemplateMismatch> r = v.validate(Secs2.list(Secs2.uint4(1L)));
+			assertEquals(r.isPresent(), true);
+			assertEquals(r.get().path().length, 0);
+		}
+		
+		assertEquals(compile("<A \"OK\">").validate(Secs2.ascii("NG")).isPresent(), true);
+		assertEquals(compile("<U2 1 * 3>").validate(Secs2.uint2(1, 100, 4)).isPresent(), true);
+		assertEquals(compile("<U2[2]>").validate(Secs2.uint2(1)).isPresent(), true);
+		assertEquals(compile("<L>").validate(Secs2.list(Secs2.uint2(1))).isPresent(), true);
+		assertEquals(compile("<L <U1>>").validate(Secs2.list(Secs2.uint1(1), Secs2.uint1(2))).isPresent(), true);
+		assertEquals(compile("").validate(Secs2.list()).isPresent(), true);
+	}
+	
+	@Test
+	@DisplayName("SmlTemplateValidator compile failed")
+	void testCompileFailed() {
+		assertThrows(SmlDataItemParseException.class, () -> SmlTemplateValidator.compile("<L[*] <U4> <U4>>"));
+		assertThrows(SmlDataItemParseException.class, () -> SmlTemplateValidator.compile("<X>"));
+		assertThrows(SmlDataItemParseException.class, () -> SmlTemplateValidator.compile("<U4[2] 1>"));
+		assertThrows(SmlDataItemParseException.class, () -> SmlTemplateValidator.compile("<L"));
+	}
+	
+}